@@ -0,0 +1,34 @@
+package ch.framedev.simplejsonutils.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/*
+ * ch.framedev.simplejsonutils.benchmarks
+ * =============================================
+ * This File was Created by FrameDev
+ * Please do not change anything without my consent!
+ * =============================================
+ * This Class was created at 17.10.2026 06:20
+ */
+
+/**
+ * Runs the suite (or the benchmarks matching the first argument) with the GC profiler,
+ * so every result carries its allocation rate next to the throughput.
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(args.length > 0 ? args[0] : "ch\\.framedev\\.simplejsonutils\\.benchmarks\\..*")
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,71 @@
+package ch.framedev.simplejsonutils.benchmarks;
+
+import ch.framedev.simplejsonutils.JsonParser;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * ch.framedev.simplejsonutils.benchmarks
+ * =============================================
+ * This File was Created by FrameDev
+ * Please do not change anything without my consent!
+ * =============================================
+ * This Class was created at 17.10.2026 08:00
+ */
+
+/**
+ * CBOR against compact UTF-8 JSON for the same payloads. The encoded sizes are printed
+ * once per trial.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CborBenchmark {
+
+    @Param({"FLAT_DTO", "NESTED_MAPS", "LARGE_LIST", "STRINGS", "NUMBERS"})
+    public Fixtures.Shape shape;
+
+    @Param({"SMALL", "MEDIUM", "LARGE"})
+    public Fixtures.Size size;
+
+    private JsonParser parser;
+    private Class<?> type;
+    private Object payload;
+    private byte[] json;
+    private byte[] cbor;
+
+    @Setup
+    public void setup() {
+        parser = new JsonParser();
+        type = Fixtures.type(shape);
+        payload = Fixtures.payload(shape, size);
+        json = parser.serializeObject(payload).getBytes(StandardCharsets.UTF_8);
+        cbor = parser.serializeCbor(payload);
+        System.out.printf("%n%s/%s: JSON %,d bytes, CBOR %,d bytes%n", shape, size, json.length, cbor.length);
+    }
+
+    @Benchmark
+    public byte[] serializeJson() {
+        return parser.serializeObject(payload).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public byte[] serializeCbor() {
+        return parser.serializeCbor(payload);
+    }
+
+    @Benchmark
+    public Object deserializeJson() {
+        return parser.deserializeObject(json, type);
+    }
+
+    @Benchmark
+    public Object deserializeCbor() {
+        return parser.deserializeCbor(cbor, type);
+    }
+}
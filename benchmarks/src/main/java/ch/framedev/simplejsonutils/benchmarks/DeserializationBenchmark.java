@@ -0,0 +1,60 @@
+package ch.framedev.simplejsonutils.benchmarks;
+
+import ch.framedev.simplejsonutils.Flag;
+import ch.framedev.simplejsonutils.JsonParser;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * ch.framedev.simplejsonutils.benchmarks
+ * =============================================
+ * This File was Created by FrameDev
+ * Please do not change anything without my consent!
+ * =============================================
+ * This Class was created at 17.10.2026 06:00
+ */
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DeserializationBenchmark {
+
+    @Param({"FLAT_DTO", "NESTED_MAPS", "LARGE_LIST", "STRINGS", "NUMBERS"})
+    public Fixtures.Shape shape;
+
+    @Param({"SMALL", "MEDIUM", "LARGE"})
+    public Fixtures.Size size;
+
+    @Param({"false", "true"})
+    public boolean pretty;
+
+    private JsonParser parser;
+    private Class<?> type;
+    private String json;
+    private byte[] bytes;
+
+    @Setup
+    public void setup() {
+        parser = new JsonParser();
+        type = Fixtures.type(shape);
+        JsonParser writer = pretty ? new JsonParser(Flag.PRETTY_PRINT) : parser;
+        json = writer.serializeObject(Fixtures.payload(shape, size));
+        bytes = json.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public Object deserializeObject() {
+        return parser.deserializeObject(json, type);
+    }
+
+    // ✅ UTF-8 input through the SWAR structural index
+    @Benchmark
+    public Object deserializeBytes() {
+        return parser.deserializeObject(bytes, type);
+    }
+}
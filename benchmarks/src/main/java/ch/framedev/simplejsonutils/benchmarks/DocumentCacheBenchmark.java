@@ -0,0 +1,82 @@
+package ch.framedev.simplejsonutils.benchmarks;
+
+import ch.framedev.simplejsonutils.DocumentCache;
+import ch.framedev.simplejsonutils.JsonParser;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/*
+ * ch.framedev.simplejsonutils.benchmarks
+ * =============================================
+ * This File was Created by FrameDev
+ * Please do not change anything without my consent!
+ * =============================================
+ * This Class was created at 17.10.2026 12:40
+ */
+
+/**
+ * Repeated loadFromFile of the same unchanged file, without a cache and with a
+ * {@link DocumentCache} in each copy mode and with stat or watch invalidation.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DocumentCacheBenchmark {
+
+    @Param({"FLAT_DTO", "NESTED_MAPS"})
+    public Fixtures.Shape shape;
+
+    @Param({"SMALL", "MEDIUM"})
+    public Fixtures.Size size;
+
+    @Param({"NONE", "SHARED", "COPY", "READ_ONLY", "SHARED_WATCH"})
+    public String cache;
+
+    private DocumentCache documentCache;
+    private JsonParser parser;
+    private Class<?> type;
+    private Path directory;
+    private Path file;
+
+    @Setup
+    public void setup() throws IOException {
+        JsonParser.Builder builder = JsonParser.builder();
+        if (!cache.equals("NONE")) {
+            boolean watch = cache.endsWith("_WATCH");
+            String mode = watch ? cache.substring(0, cache.length() - "_WATCH".length()) : cache;
+            documentCache = DocumentCache.builder().copyMode(DocumentCache.CopyMode.valueOf(mode)).watch(watch).build();
+            builder.documentCache(documentCache);
+        }
+        parser = builder.build();
+        type = Fixtures.type(shape);
+        directory = Files.createTempDirectory("simplejsonutils-bench");
+        file = directory.resolve("document.json");
+        parser.saveToFile(file, Fixtures.payload(shape, size));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        if (documentCache != null) {
+            System.out.println();
+            System.out.println(documentCache);
+            documentCache.close();
+        }
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public Object loadFromFile() throws IOException {
+        return parser.loadFromFile(file, type);
+    }
+}
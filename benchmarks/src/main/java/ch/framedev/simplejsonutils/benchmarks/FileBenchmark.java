@@ -0,0 +1,74 @@
+package ch.framedev.simplejsonutils.benchmarks;
+
+import ch.framedev.simplejsonutils.Flag;
+import ch.framedev.simplejsonutils.JsonParser;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/*
+ * ch.framedev.simplejsonutils.benchmarks
+ * =============================================
+ * This File was Created by FrameDev
+ * Please do not change anything without my consent!
+ * =============================================
+ * This Class was created at 17.10.2026 06:05
+ */
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FileBenchmark {
+
+    @Param({"FLAT_DTO", "LARGE_LIST", "STRINGS"})
+    public Fixtures.Shape shape;
+
+    @Param({"SMALL", "MEDIUM", "LARGE"})
+    public Fixtures.Size size;
+
+    @Param({"false", "true"})
+    public boolean atomic;
+
+    private JsonParser parser;
+    private Object payload;
+    private Class<?> type;
+    private Path directory;
+    private Path saved;
+    private Path loaded;
+
+    @Setup
+    public void setup() throws IOException {
+        parser = atomic ? new JsonParser(Flag.ATOMIC_WRITE) : new JsonParser();
+        payload = Fixtures.payload(shape, size);
+        type = Fixtures.type(shape);
+        directory = Files.createTempDirectory("simplejsonutils-bench");
+        saved = directory.resolve("saved.json");
+        loaded = directory.resolve("loaded.json");
+        parser.saveToFile(loaded, payload);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public void saveToFile() throws IOException {
+        parser.saveToFile(saved, payload);
+    }
+
+    @Benchmark
+    public Object loadFromFile() throws IOException {
+        return parser.loadFromFile(loaded, type);
+    }
+}
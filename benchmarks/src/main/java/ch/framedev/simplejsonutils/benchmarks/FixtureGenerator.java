@@ -0,0 +1,40 @@
+package ch.framedev.simplejsonutils.benchmarks;
+
+import ch.framedev.simplejsonutils.JsonParser;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/*
+ * ch.framedev.simplejsonutils.benchmarks
+ * =============================================
+ * This File was Created by FrameDev
+ * Please do not change anything without my consent!
+ * =============================================
+ * This Class was created at 17.10.2026 05:50
+ */
+
+/**
+ * Writes every fixture as a JSON file, e.g. to inspect them or feed them to other tools.
+ * Usage: {@code java -cp target/benchmarks.jar ch.framedev.simplejsonutils.benchmarks.FixtureGenerator [directory]}
+ */
+public final class FixtureGenerator {
+
+    private FixtureGenerator() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path directory = Paths.get(args.length > 0 ? args[0] : "fixtures");
+        Files.createDirectories(directory);
+        JsonParser parser = new JsonParser();
+        for (Fixtures.Shape shape : Fixtures.Shape.values()) {
+            for (Fixtures.Size size : Fixtures.Size.values()) {
+                Path file = directory.resolve(shape.name().toLowerCase() + "-" + size.name().toLowerCase() + ".json");
+                parser.saveToFile(file, Fixtures.payload(shape, size));
+                System.out.println(file + " (" + Files.size(file) + " bytes)");
+            }
+        }
+    }
+}
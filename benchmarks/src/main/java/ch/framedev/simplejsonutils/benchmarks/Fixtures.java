@@ -0,0 +1,162 @@
+package ch.framedev.simplejsonutils.benchmarks;
+
+import java.util.*;
+
+/*
+ * ch.framedev.simplejsonutils.benchmarks
+ * =============================================
+ * This File was Created by FrameDev
+ * Please do not change anything without my consent!
+ * =============================================
+ * This Class was created at 17.10.2026 05:45
+ */
+
+/**
+ * Deterministic payload generators, every run on every machine benchmarks the same documents.
+ */
+public final class Fixtures {
+
+    static final long SEED = 0x5EED_2026L;
+
+    /**
+     * Payload shapes.
+     */
+    public enum Shape {
+        FLAT_DTO, NESTED_MAPS, LARGE_LIST, STRINGS, NUMBERS
+    }
+
+    /**
+     * Payload sizes, roughly 1 KB, 100 KB and 5 MB of compact JSON. {@link Shape#FLAT_DTO} is
+     * a single order with that many tags and stays smaller.
+     */
+    public enum Size {
+        SMALL(8), MEDIUM(800), LARGE(40_000);
+
+        final int records;
+
+        Size(int records) {
+            this.records = records;
+        }
+    }
+
+    private Fixtures() {
+    }
+
+    // ✅ The object graph for a shape and size
+    public static Object payload(Shape shape, Size size) {
+        Random random = new Random(SEED);
+        switch (shape) {
+            case FLAT_DTO:
+                return order(random, size.records);
+            case NESTED_MAPS:
+                return nested(random, depthFor(size), 4);
+            case LARGE_LIST: {
+                List<Object> list = new ArrayList<>(size.records);
+                for (int i = 0; i < size.records; i++) list.add(record(random, i));
+                return list;
+            }
+            case STRINGS: {
+                Map<String, Object> map = new LinkedHashMap<>();
+                for (int i = 0; i < size.records * 4; i++) map.put("text" + i, text(random, 8 + random.nextInt(48)));
+                return map;
+            }
+            case NUMBERS: {
+                Map<String, Object> map = new LinkedHashMap<>();
+                for (int i = 0; i < size.records * 4; i++) {
+                    map.put("n" + i, random.nextBoolean() ? (Object) random.nextLong() : (Object) (random.nextDouble() * 1e6));
+                }
+                return map;
+            }
+            default:
+                throw new IllegalArgumentException(shape.name());
+        }
+    }
+
+    // ✅ The type to deserialize a shape into
+    public static Class<?> type(Shape shape) {
+        switch (shape) {
+            case FLAT_DTO:
+                return Order.class;
+            case LARGE_LIST:
+                return List.class;
+            default:
+                return Map.class;
+        }
+    }
+
+    private static int depthFor(Size size) {
+        switch (size) {
+            case SMALL:
+                return 2;
+            case MEDIUM:
+                return 5;
+            default:
+                return 8;
+        }
+    }
+
+    private static Order order(Random random, int lines) {
+        Order order = new Order();
+        order.id = random.nextLong();
+        order.customer = text(random, 16);
+        order.total = random.nextDouble() * 1000;
+        order.paid = random.nextBoolean();
+        order.quantity = random.nextInt(100);
+        order.tags = new ArrayList<>();
+        for (int i = 0; i < lines; i++) order.tags.add(text(random, 12));
+        order.address = new Address();
+        order.address.street = text(random, 20);
+        order.address.city = text(random, 10);
+        order.address.zip = 1000 + random.nextInt(9000);
+        return order;
+    }
+
+    private static Map<String, Object> nested(Random random, int depth, int width) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("id", random.nextInt());
+        map.put("name", text(random, 10));
+        if (depth > 0) {
+            for (int i = 0; i < width; i++) map.put("child" + i, nested(random, depth - 1, width));
+        }
+        return map;
+    }
+
+    private static Map<String, Object> record(Random random, int id) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("id", id);
+        map.put("name", text(random, 12));
+        map.put("score", random.nextDouble());
+        map.put("active", random.nextBoolean());
+        map.put("values", Arrays.asList(random.nextInt(1000), random.nextInt(1000), random.nextInt(1000)));
+        return map;
+    }
+
+    // ✅ Mostly ASCII with the occasional character that needs escaping or is multi-byte in UTF-8
+    private static String text(Random random, int length) {
+        StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            int k = random.nextInt(64);
+            if (k == 0) sb.append('"');
+            else if (k == 1) sb.append('\n');
+            else if (k == 2) sb.append('é');
+            else sb.append((char) ('a' + random.nextInt(26)));
+        }
+        return sb.toString();
+    }
+
+    public static class Order {
+        public long id;
+        public String customer;
+        public double total;
+        public boolean paid;
+        public int quantity;
+        public List<String> tags;
+        public Address address;
+    }
+
+    public static class Address {
+        public String street;
+        public String city;
+        public int zip;
+    }
+}
@@ -0,0 +1,46 @@
+package ch.framedev.simplejsonutils.benchmarks;
+
+import ch.framedev.simplejsonutils.JsonParser;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * ch.framedev.simplejsonutils.benchmarks
+ * =============================================
+ * This File was Created by FrameDev
+ * Please do not change anything without my consent!
+ * =============================================
+ * This Class was created at 17.10.2026 06:10
+ */
+
+/**
+ * Scaling of {@link JsonParser#deserializeList(String, Class, int)} on a large top-level array.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParallelListBenchmark {
+
+    @Param({"1", "2", "4", "8", "16"})
+    public int parallelism;
+
+    private JsonParser parser;
+    private String json;
+
+    @Setup
+    public void setup() {
+        parser = new JsonParser();
+        json = parser.serializeObject(Fixtures.payload(Fixtures.Shape.LARGE_LIST, Fixtures.Size.LARGE));
+    }
+
+    @Benchmark
+    public List<Map> deserializeList() {
+        return parser.deserializeList(json, Map.class, parallelism);
+    }
+}
@@ -0,0 +1,95 @@
+package ch.framedev.simplejsonutils.benchmarks;
+
+import ch.framedev.simplejsonutils.JsonParser;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * ch.framedev.simplejsonutils.benchmarks
+ * =============================================
+ * This File was Created by FrameDev
+ * Please do not change anything without my consent!
+ * =============================================
+ * This Class was created at 17.10.2026 09:40
+ */
+
+/**
+ * The same numeric series as a double[] field and as a List&lt;Double&gt; field. Run with
+ * {@code -prof gc} to see the allocations saved by not boxing.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PrimitiveArrayBenchmark {
+
+    public static class ArraySeries {
+        public String sensor;
+        public long[] timestamps;
+        public double[] samples;
+    }
+
+    public static class BoxedSeries {
+        public String sensor;
+        public List<Long> timestamps;
+        public List<Double> samples;
+    }
+
+    @Param({"1000", "100000"})
+    public int samples;
+
+    private JsonParser parser;
+    private ArraySeries arraySeries;
+    private BoxedSeries boxedSeries;
+    private String json;
+
+    @Setup
+    public void setup() {
+        parser = new JsonParser();
+        Random random = new Random(Fixtures.SEED);
+        arraySeries = new ArraySeries();
+        arraySeries.sensor = "sensor-1";
+        arraySeries.timestamps = new long[samples];
+        arraySeries.samples = new double[samples];
+        boxedSeries = new BoxedSeries();
+        boxedSeries.sensor = "sensor-1";
+        boxedSeries.timestamps = new ArrayList<>(samples);
+        boxedSeries.samples = new ArrayList<>(samples);
+        long time = 1_700_000_000_000L;
+        for (int i = 0; i < samples; i++) {
+            time += 100 + random.nextInt(10);
+            double sample = Math.round(random.nextGaussian() * 1_000_000) / 1000.0;
+            arraySeries.timestamps[i] = time;
+            arraySeries.samples[i] = sample;
+            boxedSeries.timestamps.add(time);
+            boxedSeries.samples.add(sample);
+        }
+        json = parser.serializeObject(arraySeries);
+    }
+
+    @Benchmark
+    public String serializeArrays() {
+        return parser.serializeObject(arraySeries);
+    }
+
+    @Benchmark
+    public String serializeBoxed() {
+        return parser.serializeObject(boxedSeries);
+    }
+
+    @Benchmark
+    public Object deserializeArrays() {
+        return parser.deserializeObject(json, ArraySeries.class);
+    }
+
+    @Benchmark
+    public Object deserializeBoxed() {
+        return parser.deserializeObject(json, BoxedSeries.class);
+    }
+}
@@ -0,0 +1,68 @@
+package ch.framedev.simplejsonutils.benchmarks;
+
+import ch.framedev.simplejsonutils.JsonParser;
+import ch.framedev.simplejsonutils.JsonPushParser;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * ch.framedev.simplejsonutils.benchmarks
+ * =============================================
+ * This File was Created by FrameDev
+ * Please do not change anything without my consent!
+ * =============================================
+ * This Class was created at 17.10.2026 11:20
+ */
+
+/**
+ * A large array request body that arrives in chunks: fed to a push parser chunk by chunk,
+ * against collecting the whole body, decoding it to a String and parsing that.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PushParserBenchmark {
+
+    @Param({"1024", "16384"})
+    public int chunkSize;
+
+    private JsonParser parser;
+    private List<byte[]> chunks;
+
+    @Setup
+    public void setup() {
+        parser = new JsonParser();
+        byte[] body = parser.serializeObject(Fixtures.payload(Fixtures.Shape.LARGE_LIST, Fixtures.Size.LARGE)).getBytes(StandardCharsets.UTF_8);
+        chunks = new ArrayList<>();
+        for (int i = 0; i < body.length; i += chunkSize) {
+            byte[] chunk = new byte[Math.min(chunkSize, body.length - i)];
+            System.arraycopy(body, i, chunk, 0, chunk.length);
+            chunks.add(chunk);
+        }
+    }
+
+    @Benchmark
+    public void pushElements(Blackhole blackhole) {
+        JsonPushParser<Map> push = parser.pushArrayParser(Map.class, blackhole::consume);
+        for (byte[] chunk : chunks) push.feed(ByteBuffer.wrap(chunk));
+        push.endOfInput();
+    }
+
+    @Benchmark
+    public List<Map> collectThenParse() {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        for (byte[] chunk : chunks) body.write(chunk, 0, chunk.length);
+        return parser.deserializeList(new String(body.toByteArray(), StandardCharsets.UTF_8), Map.class);
+    }
+}
@@ -0,0 +1,48 @@
+package ch.framedev.simplejsonutils.benchmarks;
+
+import ch.framedev.simplejsonutils.Flag;
+import ch.framedev.simplejsonutils.JsonParser;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/*
+ * ch.framedev.simplejsonutils.benchmarks
+ * =============================================
+ * This File was Created by FrameDev
+ * Please do not change anything without my consent!
+ * =============================================
+ * This Class was created at 17.10.2026 05:55
+ */
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SerializationBenchmark {
+
+    @Param({"FLAT_DTO", "NESTED_MAPS", "LARGE_LIST", "STRINGS", "NUMBERS"})
+    public Fixtures.Shape shape;
+
+    @Param({"SMALL", "MEDIUM", "LARGE"})
+    public Fixtures.Size size;
+
+    @Param({"false", "true"})
+    public boolean pretty;
+
+    private JsonParser parser;
+    private Object payload;
+
+    @Setup
+    public void setup() {
+        parser = pretty ? new JsonParser(Flag.PRETTY_PRINT) : new JsonParser();
+        payload = Fixtures.payload(shape, size);
+    }
+
+    @Benchmark
+    public String serializeObject() {
+        return parser.serializeObject(payload);
+    }
+}
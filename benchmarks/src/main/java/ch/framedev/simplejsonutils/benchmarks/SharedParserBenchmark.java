@@ -0,0 +1,53 @@
+package ch.framedev.simplejsonutils.benchmarks;
+
+import ch.framedev.simplejsonutils.JsonParser;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/*
+ * ch.framedev.simplejsonutils.benchmarks
+ * =============================================
+ * This File was Created by FrameDev
+ * Please do not change anything without my consent!
+ * =============================================
+ * This Class was created at 17.10.2026 06:15
+ */
+
+/**
+ * 64 request threads sharing one parser versus a parser per request, compare the
+ * gc.alloc.rate.norm of both with {@code -prof gc}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(64)
+@State(Scope.Benchmark)
+public class SharedParserBenchmark {
+
+    private JsonParser shared;
+    private Object payload;
+    private String json;
+
+    @Setup
+    public void setup() {
+        shared = new JsonParser();
+        payload = Fixtures.payload(Fixtures.Shape.FLAT_DTO, Fixtures.Size.MEDIUM);
+        json = shared.serializeObject(payload);
+    }
+
+    @Benchmark
+    public Object sharedInstance() {
+        String out = shared.serializeObject(payload);
+        return shared.deserializeObject(out, Fixtures.Order.class);
+    }
+
+    @Benchmark
+    public Object instancePerRequest() {
+        JsonParser parser = new JsonParser();
+        String out = parser.serializeObject(payload);
+        return parser.deserializeObject(out, Fixtures.Order.class);
+    }
+}
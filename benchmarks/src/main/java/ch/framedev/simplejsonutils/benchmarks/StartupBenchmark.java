@@ -0,0 +1,100 @@
+package ch.framedev.simplejsonutils.benchmarks;
+
+import ch.framedev.simplejsonutils.JsonParser;
+import ch.framedev.simplejsonutils.JsonSerializable;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * ch.framedev.simplejsonutils.benchmarks
+ * =============================================
+ * This File was Created by FrameDev
+ * Please do not change anything without my consent!
+ * =============================================
+ * This Class was created at 17.10.2026 09:30
+ */
+
+/**
+ * Time to the first serialize and deserialize in a fresh JVM, once through reflection and
+ * once through the codecs the annotation processor generated for identical classes. Every
+ * fork measures a single cold call, so run with enough forks to average out the noise.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(10)
+@State(Scope.Benchmark)
+public class StartupBenchmark {
+
+    @Benchmark
+    public Object reflective() {
+        JsonParser parser = new JsonParser();
+        ReflectiveOrder order = new ReflectiveOrder();
+        order.id = 42;
+        order.customer = "customer-42";
+        order.total = 99.5;
+        order.paid = true;
+        order.quantity = 3;
+        order.tags = Arrays.asList("express", "gift");
+        order.address = new ReflectiveAddress();
+        order.address.street = "Main Street 1";
+        order.address.city = "Bern";
+        order.address.zip = 3000;
+        return parser.deserializeObject(parser.serializeObject(order), ReflectiveOrder.class);
+    }
+
+    @Benchmark
+    public Object generated() {
+        JsonParser parser = new JsonParser();
+        GeneratedOrder order = new GeneratedOrder();
+        order.id = 42;
+        order.customer = "customer-42";
+        order.total = 99.5;
+        order.paid = true;
+        order.quantity = 3;
+        order.tags = Arrays.asList("express", "gift");
+        order.address = new GeneratedAddress();
+        order.address.street = "Main Street 1";
+        order.address.city = "Bern";
+        order.address.zip = 3000;
+        return parser.deserializeObject(parser.serializeObject(order), GeneratedOrder.class);
+    }
+
+    public static class ReflectiveOrder {
+        public long id;
+        public String customer;
+        public double total;
+        public boolean paid;
+        public int quantity;
+        public List<String> tags;
+        public ReflectiveAddress address;
+    }
+
+    public static class ReflectiveAddress {
+        public String street;
+        public String city;
+        public int zip;
+    }
+
+    @JsonSerializable
+    public static class GeneratedOrder {
+        public long id;
+        public String customer;
+        public double total;
+        public boolean paid;
+        public int quantity;
+        public List<String> tags;
+        public GeneratedAddress address;
+    }
+
+    @JsonSerializable
+    public static class GeneratedAddress {
+        public String street;
+        public String city;
+        public int zip;
+    }
+}
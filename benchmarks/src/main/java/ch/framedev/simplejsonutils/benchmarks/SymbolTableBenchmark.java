@@ -0,0 +1,118 @@
+package ch.framedev.simplejsonutils.benchmarks;
+
+import ch.framedev.simplejsonutils.JsonParser;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * ch.framedev.simplejsonutils.benchmarks
+ * =============================================
+ * This File was Created by FrameDev
+ * Please do not change anything without my consent!
+ * =============================================
+ * This Class was created at 17.10.2026 08:30
+ */
+
+/**
+ * Parses an array of event records with the symbol table off, for keys only and for keys
+ * plus short values. {@link #main(String[])} prints the heap retained by the parsed result
+ * for each mode instead of the throughput.
+ * Usage: {@code java -cp target/benchmarks.jar ch.framedev.simplejsonutils.benchmarks.SymbolTableBenchmark [rows]}
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SymbolTableBenchmark {
+
+    private static final String[] STATUSES = {"NEW", "PENDING", "PAID", "SHIPPED", "CANCELLED"};
+    private static final String[] REGIONS = {"eu-west", "eu-central", "us-east", "us-west", "ap-south", "ap-east", "sa-east", "af-south"};
+
+    /**
+     * Symbol table configurations.
+     */
+    public enum Mode {
+        OFF, KEYS, KEYS_AND_VALUES;
+
+        JsonParser parser() {
+            return JsonParser.builder()
+                    .canonicalKeys(this != OFF)
+                    .canonicalValues(this == KEYS_AND_VALUES ? 16 : 0)
+                    .build();
+        }
+    }
+
+    @Param({"OFF", "KEYS", "KEYS_AND_VALUES"})
+    public Mode mode;
+
+    private JsonParser parser;
+    private String json;
+    private byte[] bytes;
+
+    @Setup
+    public void setup() {
+        parser = mode.parser();
+        json = events(40_000);
+        bytes = json.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public Object deserializeString() {
+        return parser.deserializeObject(json, List.class);
+    }
+
+    @Benchmark
+    public Object deserializeBytes() {
+        return parser.deserializeObject(bytes, List.class);
+    }
+
+    // ✅ Records with a dozen keys and a few enum-like string values, from a fixed seed
+    static String events(int rows) {
+        Random random = new Random(Fixtures.SEED);
+        List<Object> list = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("eventId", i);
+            map.put("customerId", random.nextInt(100_000));
+            map.put("status", STATUSES[random.nextInt(STATUSES.length)]);
+            map.put("region", REGIONS[random.nextInt(REGIONS.length)]);
+            map.put("currency", random.nextBoolean() ? "EUR" : "USD");
+            map.put("amount", random.nextInt(100_000) / 100.0);
+            map.put("quantity", 1 + random.nextInt(10));
+            map.put("express", random.nextBoolean());
+            map.put("createdAt", 1_700_000_000_000L + random.nextInt(1_000_000_000));
+            map.put("channel", random.nextBoolean() ? "web" : "app");
+            map.put("couponCode", random.nextInt(4) == 0 ? "SPRING" + random.nextInt(10) : null);
+            map.put("note", "order " + i);
+            list.add(map);
+        }
+        return new JsonParser().serializeObject(list);
+    }
+
+    public static void main(String[] args) {
+        int rows = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        String json = events(rows);
+        System.out.printf("%,d rows, %,d chars of JSON%n", rows, json.length());
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        for (Mode mode : Mode.values()) {
+            JsonParser parser = mode.parser();
+            long before = usedHeap(memory);
+            Object result = parser.deserializeObject(json, List.class);
+            long after = usedHeap(memory);
+            System.out.printf("%-16s %,6d MB retained%n", mode, (after - before) / (1024 * 1024));
+            if (((List<?>) result).size() != rows) throw new IllegalStateException("Unexpected row count");
+        }
+    }
+
+    private static long usedHeap(MemoryMXBean memory) {
+        for (int i = 0; i < 3; i++) System.gc();
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
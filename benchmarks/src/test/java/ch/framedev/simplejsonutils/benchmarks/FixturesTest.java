@@ -0,0 +1,65 @@
+package ch.framedev.simplejsonutils.benchmarks;
+
+import ch.framedev.simplejsonutils.JsonParser;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/*
+ * ch.framedev.simplejsonutils.benchmarks
+ * =============================================
+ * This File was Created by FrameDev
+ * Please do not change anything without my consent!
+ * =============================================
+ * This Class was created at 17.10.2026 19:00
+ */
+
+/**
+ * The benchmarks only compare runs if every run measures the same documents, and only
+ * measure something useful if those documents survive the round trips they time.
+ */
+class FixturesTest {
+
+    private final JsonParser parser = new JsonParser();
+
+    @Test
+    void payloadsAreTheSameOnEveryCall() {
+        for (Fixtures.Shape shape : Fixtures.Shape.values()) {
+            for (Fixtures.Size size : Fixtures.Size.values()) {
+                assertEquals(parser.serializeObject(Fixtures.payload(shape, size)), parser.serializeObject(Fixtures.payload(shape, size)),
+                        shape + " " + size);
+            }
+        }
+    }
+
+    @Test
+    void payloadsSurviveTheJsonAndCborRoundTrips() {
+        for (Fixtures.Shape shape : Fixtures.Shape.values()) {
+            for (Fixtures.Size size : Fixtures.Size.values()) {
+                Object payload = Fixtures.payload(shape, size);
+                String json = parser.serializeObject(payload);
+                assertEquals(json, parser.serializeObject(parser.deserializeObject(json, Fixtures.type(shape))), shape + " " + size);
+                assertEquals(json, parser.serializeObject(parser.deserializeCbor(parser.serializeCbor(payload), Fixtures.type(shape))),
+                        shape + " " + size + " as CBOR");
+            }
+        }
+    }
+
+    // ✅ Within a factor of three of the documented 1 KB, 100 KB and 5 MB
+    @Test
+    void payloadsHaveTheDocumentedSizes() {
+        long[] documented = {1_000, 100_000, 5_000_000};
+        for (Fixtures.Shape shape : Fixtures.Shape.values()) {
+            long previous = 0;
+            for (Fixtures.Size size : Fixtures.Size.values()) {
+                long length = parser.serializeObject(Fixtures.payload(shape, size)).length();
+                assertTrue(length > previous, shape + " " + size);
+                previous = length;
+                if (shape == Fixtures.Shape.FLAT_DTO) continue;
+                long expected = documented[size.ordinal()];
+                assertTrue(length > expected / 3 && length < expected * 3, shape + " " + size + ": " + length + " characters");
+            }
+        }
+    }
+}
@@ -0,0 +1,328 @@
+package ch.framedev.simplejsonutils.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.*;
+
+/*
+ * ch.framedev.simplejsonutils.processor
+ * =============================================
+ * This File was Created by FrameDev
+ * Please do not change anything without my consent!
+ * =============================================
+ * This Class was created at 17.10.2026 09:15
+ */
+
+/**
+ * Generates a {@code JsonCodec} for every class annotated with {@code @JsonSerializable}
+ * and registers it in {@code META-INF/services}. The codec reads and writes the same
+ * fields as the reflective path (the non-static fields declared by the class itself, in
+ * declaration order) with plain field accesses, getters and setters.
+ */
+@SupportedAnnotationTypes(JsonCodecProcessor.ANNOTATION)
+public class JsonCodecProcessor extends AbstractProcessor {
+
+    static final String ANNOTATION = "ch.framedev.simplejsonutils.JsonSerializable";
+    private static final String CODEC = "ch.framedev.simplejsonutils.JsonCodec";
+    private static final String SERVICE_FILE = "META-INF/services/" + CODEC;
+
+    private Elements elements;
+    private Types types;
+    private Filer filer;
+    private Messager messager;
+    private final Set<String> generated = new LinkedHashSet<>();
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        elements = processingEnv.getElementUtils();
+        types = processingEnv.getTypeUtils();
+        filer = processingEnv.getFiler();
+        messager = processingEnv.getMessager();
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            writeServiceFile();
+            return false;
+        }
+        TypeElement annotation = elements.getTypeElement(ANNOTATION);
+        if (annotation == null) return false;
+        for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+            if (element.getKind() != ElementKind.CLASS) {
+                error(element, "@JsonSerializable is only supported on classes");
+                continue;
+            }
+            TypeElement type = (TypeElement) element;
+            try {
+                generate(type);
+            } catch (IOException e) {
+                error(type, "Could not write the codec: " + e.getMessage());
+            }
+        }
+        return true;
+    }
+
+    private void generate(TypeElement type) throws IOException {
+        if (!validate(type)) return;
+        List<FieldModel> fields = new ArrayList<>();
+        for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            if (field.getModifiers().contains(Modifier.STATIC)) continue;
+            FieldModel model = model(type, field);
+            if (model == null) return; // Reported already
+            fields.add(model);
+        }
+
+        String packageName = elements.getPackageOf(type).getQualifiedName().toString();
+        String codecName = codecName(type);
+        String typeName = types.erasure(type.asType()).toString();
+        String qualifiedCodecName = packageName.isEmpty() ? codecName : packageName + "." + codecName;
+
+        StringBuilder src = new StringBuilder();
+        if (!packageName.isEmpty()) src.append("package ").append(packageName).append(";\n\n");
+        src.append("/**\n * Generated by SimpleJsonUtils-processor for {@link ").append(typeName).append("}, do not edit.\n */\n");
+        if (elements.getTypeElement("javax.annotation.processing.Generated") != null) {
+            src.append("@javax.annotation.processing.Generated(\"").append(getClass().getName()).append("\")\n");
+        }
+        src.append("@SuppressWarnings({\"unchecked\", \"rawtypes\"})\n");
+        src.append("public final class ").append(codecName).append(" implements ").append(CODEC).append("<").append(typeName).append("> {\n\n");
+
+        src.append("    private static final java.util.List<String> FIELD_NAMES = java.util.Collections.unmodifiableList(java.util.Arrays.asList(");
+        for (int i = 0; i < fields.size(); i++) {
+            if (i > 0) src.append(", ");
+            src.append(elements.getConstantExpression(fields.get(i).name));
+        }
+        src.append("));\n");
+        src.append("    private static final Class<?>[] FIELD_TYPES = {");
+        for (int i = 0; i < fields.size(); i++) src.append(i > 0 ? ", " : "").append(fields.get(i).typeLiteral);
+        src.append("};\n");
+        src.append("    private static final Class<?>[] ELEMENT_TYPES = {");
+        for (int i = 0; i < fields.size(); i++) src.append(i > 0 ? ", " : "").append(fields.get(i).elementTypeLiteral);
+        src.append("};\n\n");
+
+        src.append("    @Override\n    public Class<").append(typeName).append("> type() {\n        return ").append(typeName).append(".class;\n    }\n\n");
+        src.append("    @Override\n    public java.util.List<String> fieldNames() {\n        return FIELD_NAMES;\n    }\n\n");
+        src.append("    @Override\n    public Class<?> fieldType(int index) {\n        return FIELD_TYPES[index];\n    }\n\n");
+        src.append("    @Override\n    public Class<?> elementType(int index) {\n        return ELEMENT_TYPES[index];\n    }\n\n");
+        src.append("    @Override\n    public ").append(typeName).append(" newInstance() {\n        return new ").append(typeName).append("();\n    }\n\n");
+
+        src.append("    @Override\n    public void write(").append(typeName).append(" value, ").append(CODEC).append(".Output out) throws java.io.IOException {\n");
+        for (int i = 0; i < fields.size(); i++) {
+            FieldModel field = fields.get(i);
+            src.append("        out.field(").append(i).append(", ");
+            if (field.accessor == null) src.append("(Object) ");
+            src.append("value.").append(field.getter).append(");\n");
+        }
+        src.append("    }\n\n");
+
+        src.append("    @Override\n    public void read(").append(typeName).append(" target, ").append(CODEC).append(".Input in) {\n");
+        src.append("        while (in.next()) {\n            switch (in.field()) {\n");
+        for (int i = 0; i < fields.size(); i++) {
+            FieldModel field = fields.get(i);
+            String value = field.accessor != null ? "in." + field.accessor + "()" : "(" + field.castType + ") checked(" + i + ", " + field.castType + ".class, in.value())";
+            src.append("                case ").append(i).append(":\n");
+            src.append("                    target.").append(field.setter.replace("$", value)).append(";\n");
+            src.append("                    break;\n");
+        }
+        src.append("                default:\n                    break;\n            }\n        }\n    }\n\n");
+
+        // ✅ A value of the wrong type fails like a reflective set of the field, not with a ClassCastException
+        src.append("    private static Object checked(int index, Class<?> type, Object value) {\n");
+        src.append("        if (type.isInstance(value) || (value == null && !FIELD_TYPES[index].isPrimitive())) return value;\n");
+        src.append("        throw new IllegalArgumentException(\"Can not set \" + FIELD_TYPES[index].getName() + \" field \" + ")
+                .append(typeName).append(".class.getName() + \".\" + FIELD_NAMES.get(index)\n");
+        src.append("                + \" to \" + (value == null ? \"null value\" : value.getClass().getName()));\n");
+        src.append("    }\n}\n");
+
+        JavaFileObject file = filer.createSourceFile(qualifiedCodecName, type);
+        try (Writer writer = file.openWriter()) {
+            writer.write(src.toString());
+        }
+        generated.add(qualifiedCodecName);
+    }
+
+    private boolean validate(TypeElement type) {
+        boolean valid = true;
+        if (type.getModifiers().contains(Modifier.ABSTRACT)) {
+            error(type, "@JsonSerializable classes must not be abstract");
+            valid = false;
+        }
+        for (Element e = type; e instanceof TypeElement; e = e.getEnclosingElement()) {
+            if (e.getModifiers().contains(Modifier.PRIVATE)) {
+                error(type, "@JsonSerializable classes must not be private");
+                return false;
+            }
+            if (e.getEnclosingElement() instanceof TypeElement && !e.getModifiers().contains(Modifier.STATIC)) {
+                error(type, "@JsonSerializable classes must be top-level or static nested classes");
+                return false;
+            }
+        }
+        boolean hasNoArgConstructor = false;
+        for (ExecutableElement constructor : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+            if (constructor.getParameters().isEmpty() && !constructor.getModifiers().contains(Modifier.PRIVATE)) {
+                hasNoArgConstructor = true;
+            }
+        }
+        if (!hasNoArgConstructor) {
+            error(type, "@JsonSerializable classes need a non-private no-arg constructor");
+            valid = false;
+        }
+        return valid;
+    }
+
+    private FieldModel model(TypeElement owner, VariableElement field) {
+        FieldModel model = new FieldModel();
+        model.name = field.getSimpleName().toString();
+        TypeMirror type = field.asType();
+        TypeMirror erasure = types.erasure(type);
+        model.typeLiteral = erasure + ".class";
+        model.elementTypeLiteral = elementTypeLiteral(type);
+        model.castType = erasure.getKind().isPrimitive() ? types.boxedClass((javax.lang.model.type.PrimitiveType) erasure).getQualifiedName().toString() : erasure.toString();
+        switch (type.getKind()) {
+            case INT:
+                model.accessor = "intValue";
+                break;
+            case LONG:
+                model.accessor = "longValue";
+                break;
+            case DOUBLE:
+                model.accessor = "doubleValue";
+                break;
+            case BOOLEAN:
+                model.accessor = "booleanValue";
+                break;
+            default:
+                break;
+        }
+
+        if (field.getModifiers().contains(Modifier.FINAL)) {
+            error(field, "Final fields are not supported by @JsonSerializable");
+            return null;
+        }
+        if (!field.getModifiers().contains(Modifier.PRIVATE)) {
+            model.getter = model.name;
+            model.setter = model.name + " = $";
+            return model;
+        }
+
+        // ✅ Private fields go through their getter and setter
+        String capitalized = Character.toUpperCase(model.name.charAt(0)) + model.name.substring(1);
+        ExecutableElement getter = findMethod(owner, "get" + capitalized, 0, type);
+        if (getter == null && type.getKind() == TypeKind.BOOLEAN) getter = findMethod(owner, "is" + capitalized, 0, type);
+        ExecutableElement setter = findMethod(owner, "set" + capitalized, 1, type);
+        if (getter == null || setter == null) {
+            error(field, "Private field '" + model.name + "' needs a non-private getter and setter for @JsonSerializable");
+            return null;
+        }
+        model.getter = getter.getSimpleName() + "()";
+        model.setter = setter.getSimpleName() + "($)";
+        return model;
+    }
+
+    private ExecutableElement findMethod(TypeElement owner, String name, int parameters, TypeMirror type) {
+        for (ExecutableElement method : ElementFilter.methodsIn(elements.getAllMembers(owner))) {
+            if (!method.getSimpleName().contentEquals(name) || method.getParameters().size() != parameters) continue;
+            if (method.getModifiers().contains(Modifier.PRIVATE) || method.getModifiers().contains(Modifier.STATIC)) continue;
+            TypeMirror actual = parameters == 0 ? method.getReturnType() : method.getParameters().get(0).asType();
+            if (types.isSameType(types.erasure(actual), types.erasure(type))) return method;
+        }
+        return null;
+    }
+
+    // ✅ Mirrors ClassDescriptor: first type argument, its raw type, Object for wildcards and type variables
+    private String elementTypeLiteral(TypeMirror type) {
+        if (!(type instanceof DeclaredType)) return "null";
+        List<? extends TypeMirror> arguments = ((DeclaredType) type).getTypeArguments();
+        if (arguments.isEmpty()) return "null";
+        TypeMirror argument = arguments.get(0);
+        if (argument.getKind() == TypeKind.DECLARED) return types.erasure(argument) + ".class";
+        if (argument.getKind() == TypeKind.ARRAY && isReifiable((ArrayType) argument)) return types.erasure(argument) + ".class";
+        return "java.lang.Object.class";
+    }
+
+    private static boolean isReifiable(ArrayType type) {
+        TypeMirror component = type.getComponentType();
+        if (component.getKind() == TypeKind.ARRAY) return isReifiable((ArrayType) component);
+        if (component.getKind().isPrimitive()) return true;
+        return component.getKind() == TypeKind.DECLARED && ((DeclaredType) component).getTypeArguments().isEmpty();
+    }
+
+    // ✅ Outer_InnerJsonCodec for nested classes
+    private static String codecName(TypeElement type) {
+        StringBuilder name = new StringBuilder(type.getSimpleName());
+        for (Element e = type.getEnclosingElement(); e instanceof TypeElement; e = e.getEnclosingElement()) {
+            name.insert(0, e.getSimpleName() + "_");
+        }
+        return name.append("JsonCodec").toString();
+    }
+
+    // ✅ Merged with the entries of an earlier (incremental) compilation
+    private void writeServiceFile() {
+        if (generated.isEmpty()) return;
+        Set<String> entries = new TreeSet<>(generated);
+        try {
+            FileObject existing = filer.getResource(StandardLocation.CLASS_OUTPUT, "", SERVICE_FILE);
+            try (Reader reader = existing.openReader(true); BufferedReader lines = new BufferedReader(reader)) {
+                String line;
+                while ((line = lines.readLine()) != null) {
+                    line = line.trim();
+                    if (!line.isEmpty() && !line.startsWith("#")) entries.add(line);
+                }
+            }
+        } catch (IOException | IllegalArgumentException ignored) {
+            // No earlier file
+        }
+        try {
+            FileObject file = filer.createResource(StandardLocation.CLASS_OUTPUT, "", SERVICE_FILE);
+            try (Writer writer = file.openWriter()) {
+                for (String entry : entries) writer.write(entry + "\n");
+            }
+        } catch (IOException e) {
+            messager.printMessage(Diagnostic.Kind.ERROR, "Could not write " + SERVICE_FILE + ": " + e.getMessage());
+        }
+    }
+
+    private void error(Element element, String message) {
+        messager.printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+
+    /**
+     * What the generated code needs to know about one field.
+     */
+    private static final class FieldModel {
+        String name;
+        String typeLiteral;
+        String elementTypeLiteral;
+        String castType;
+        String accessor; // Input method for int/long/double/boolean fields, null for all others
+        String getter; // Expression after "value."
+        String setter; // Statement after "target.", $ is replaced by the value
+    }
+}
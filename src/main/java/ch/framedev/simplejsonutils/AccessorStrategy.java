@@ -0,0 +1,30 @@
+package ch.framedev.simplejsonutils;
+
+
+
+/*
+ * ch.framedev.simplejsonutils
+ * =============================================
+ * This File was Created by FrameDev
+ * Please do not change anything without my consent!
+ * =============================================
+ * This Class was created at 16.10.2026 21:30
+ */
+
+/**
+ * How {@link JsonParser} reads and writes the fields of custom classes.
+ */
+public enum AccessorStrategy {
+
+    /**
+     * Plain {@code java.lang.reflect.Field} access.
+     */
+    REFLECTION,
+
+    /**
+     * Typed {@code MethodHandle} getters/setters created once per field, primitive
+     * fields are read and written without boxing. Falls back to {@link #REFLECTION}
+     * when the lookup is denied.
+     */
+    METHOD_HANDLE;
+}
@@ -0,0 +1,95 @@
+package ch.framedev.simplejsonutils;
+
+import java.util.Arrays;
+
+/*
+ * ch.framedev.simplejsonutils
+ * =============================================
+ * This File was Created by FrameDev
+ * Please do not change anything without my consent!
+ * =============================================
+ * This Class was created at 17.10.2026 01:30
+ */
+
+/**
+ * Structural pre-scan of a top-level JSON array. Only strings, escapes and the nesting
+ * depth are tracked, so the element boundaries are found without decoding any values.
+ */
+final class ArrayScanner {
+
+    private ArrayScanner() {
+    }
+
+    /**
+     * Finds the elements of the array in {@code json}.
+     *
+     * @return start and end offset (exclusive, whitespace trimmed) of every element, two ints per element
+     */
+    static int[] elementBounds(String json) {
+        int length = json.length();
+        int pos = skipWhitespace(json, 0, length);
+        if (pos >= length || json.charAt(pos) != '[') {
+            throw new IllegalArgumentException("Invalid JSON array format at offset " + pos);
+        }
+        pos++;
+
+        int[] bounds = new int[64];
+        int count = 0;
+        int depth = 0;
+        int elementStart = -1;
+        int lastSignificant = -1; // Index of the last non-whitespace character of the current element
+        for (; pos < length; pos++) {
+            char c = json.charAt(pos);
+            if (c == '"') {
+                if (elementStart < 0) elementStart = pos;
+                pos = skipString(json, pos + 1, length);
+                lastSignificant = pos;
+                continue;
+            }
+            if (c <= ' ') continue; // Whitespace, same rule as JsonCursor
+            if (depth == 0 && (c == ',' || c == ']')) {
+                if (elementStart < 0) {
+                    // ✅ Only an empty array may close without an element
+                    if (c == ']' && count == 0) return expectEnd(json, pos + 1, length, new int[0]);
+                    throw new IllegalArgumentException("Missing array element at offset " + pos);
+                }
+                if (count * 2 == bounds.length) bounds = Arrays.copyOf(bounds, bounds.length * 2);
+                bounds[count * 2] = elementStart;
+                bounds[count * 2 + 1] = lastSignificant + 1;
+                count++;
+                elementStart = -1;
+                if (c == ']') return expectEnd(json, pos + 1, length, Arrays.copyOf(bounds, count * 2));
+                continue;
+            }
+            if (elementStart < 0) elementStart = pos;
+            lastSignificant = pos;
+            if (c == '{' || c == '[') {
+                depth++;
+            } else if (c == '}' || c == ']') {
+                if (--depth < 0) throw new IllegalArgumentException("Unexpected '" + c + "' at offset " + pos);
+            }
+        }
+        throw new IllegalArgumentException("Unterminated JSON array at offset " + length);
+    }
+
+    // ✅ Index of the closing quote of a string whose content starts at pos
+    private static int skipString(String json, int pos, int length) {
+        for (; pos < length; pos++) {
+            char c = json.charAt(pos);
+            if (c == '"') return pos;
+            if (c == '\\') pos++;
+        }
+        throw new IllegalArgumentException("Unterminated string at offset " + length);
+    }
+
+    private static int skipWhitespace(String json, int pos, int length) {
+        while (pos < length && json.charAt(pos) <= ' ') pos++;
+        return pos;
+    }
+
+    private static int[] expectEnd(String json, int pos, int length, int[] bounds) {
+        pos = skipWhitespace(json, pos, length);
+        if (pos < length) throw new IllegalArgumentException("Unexpected trailing content at offset " + pos);
+        return bounds;
+    }
+}
@@ -0,0 +1,70 @@
+package ch.framedev.simplejsonutils;
+
+import java.nio.ByteBuffer;
+
+/*
+ * ch.framedev.simplejsonutils
+ * =============================================
+ * This File was Created by FrameDev
+ * Please do not change anything without my consent!
+ * =============================================
+ * This Class was created at 17.10.2026 05:00
+ */
+
+/**
+ * Lock-free per-thread pool of scratch buffers. A buffer is taken out of the thread's slot
+ * while in use, so nested users on the same thread simply get a fresh one, and put back
+ * when done. Buffers that grew very large are dropped instead of being kept alive.
+ */
+final class Buffers {
+
+    static final int CHAR_BUFFER_SIZE = 8192;
+    static final int BYTE_BUFFER_SIZE = 64 * 1024;
+
+    private static final int MAX_RETAINED_CHARS = 64 * 1024;
+
+    private static final ThreadLocal<StringBuilder> STRING_BUILDERS = new ThreadLocal<>();
+    private static final ThreadLocal<char[]> CHAR_BUFFERS = new ThreadLocal<>();
+    private static final ThreadLocal<ByteBuffer> BYTE_BUFFERS = new ThreadLocal<>();
+
+    private Buffers() {
+    }
+
+    // ✅ Empty StringBuilder, give it back with release(StringBuilder) after calling toString()
+    static StringBuilder takeStringBuilder() {
+        StringBuilder sb = STRING_BUILDERS.get();
+        if (sb == null) return new StringBuilder(256);
+        STRING_BUILDERS.set(null);
+        sb.setLength(0);
+        return sb;
+    }
+
+    static void release(StringBuilder sb) {
+        if (sb.capacity() <= MAX_RETAINED_CHARS) STRING_BUILDERS.set(sb);
+    }
+
+    // ✅ char[CHAR_BUFFER_SIZE] with undefined content
+    static char[] takeChars() {
+        char[] chars = CHAR_BUFFERS.get();
+        if (chars == null) return new char[CHAR_BUFFER_SIZE];
+        CHAR_BUFFERS.set(null);
+        return chars;
+    }
+
+    static void release(char[] chars) {
+        CHAR_BUFFERS.set(chars);
+    }
+
+    // ✅ Cleared direct ByteBuffer of BYTE_BUFFER_SIZE bytes
+    static ByteBuffer takeByteBuffer() {
+        ByteBuffer buffer = BYTE_BUFFERS.get();
+        if (buffer == null) return ByteBuffer.allocateDirect(BYTE_BUFFER_SIZE);
+        BYTE_BUFFERS.set(null);
+        buffer.clear();
+        return buffer;
+    }
+
+    static void release(ByteBuffer buffer) {
+        BYTE_BUFFERS.set(buffer);
+    }
+}
@@ -0,0 +1,409 @@
+package ch.framedev.simplejsonutils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static ch.framedev.simplejsonutils.CborWriter.*;
+
+/*
+ * ch.framedev.simplejsonutils
+ * =============================================
+ * This File was Created by FrameDev
+ * Please do not change anything without my consent!
+ * =============================================
+ * This Class was created at 17.10.2026 07:45
+ */
+
+/**
+ * Decodes a CBOR data item into the same value tree the JSON cursors produce: Map, List,
+ * String, Integer/Long/BigInteger, Double, BigDecimal, Boolean and null, plus byte[] for
+ * byte strings. Unknown tags are dropped and their content is kept.
+ * <p>
+ * Over a stream, bytes are only read as far as the item goes, so several items can be
+ * read one after another from the same stream.
+ */
+final class CborReader {
+
+    // Stack slot kinds
+    private static final byte ARRAY = 0;
+    private static final byte MAP = 1;
+    private static final byte TAG = 2;
+
+    private static final Object OPENED = new Object(); // readItem pushed a container instead of returning a value
+
+    private final InputStream in; // null when the whole input is in the buffer
+    private final SymbolTable symbols; // Canonical keys and short strings, or null
+    private final JsonLimits limits;
+    private byte[] buffer;
+    private int pos;
+    private int limit;
+    private final int start;
+    private long consumed; // Bytes discarded before buffer[0] when streaming
+    private long elements;
+
+    // Open arrays, maps and tags, one slot per level, so nesting never grows the thread stack
+    private byte[] kinds = new byte[16];
+    private Object[] containers = new Object[16]; // List or Map
+    private int[] remaining = new int[16]; // Items still to read, -1 up to a break
+    private String[] keys = new String[16]; // Key of the map value being read, null while the key is read
+    private long[] tags = new long[16];
+    private long[] offsets = new long[16]; // Key or tag content, for error messages
+    private int depth;
+
+    CborReader(byte[] data, int off, int len, SymbolTable symbols, JsonLimits limits) {
+        limits.checkDocumentLength(len);
+        this.in = null;
+        this.symbols = symbols;
+        this.limits = limits;
+        this.buffer = data;
+        this.pos = off;
+        this.start = off;
+        this.limit = off + len;
+    }
+
+    CborReader(InputStream in, SymbolTable symbols, JsonLimits limits) {
+        this.in = in;
+        this.symbols = symbols;
+        this.limits = limits;
+        this.buffer = new byte[512];
+        this.start = 0;
+    }
+
+    // ✅ True when the input has no further item
+    boolean atEnd() throws IOException {
+        return pos == limit && (in == null || !fill(1));
+    }
+
+    /**
+     * Reads the next data item. Arrays, maps and tags are kept on an explicit stack
+     * instead of recursing into them.
+     */
+    Object readValue() throws IOException {
+        while (true) {
+            Object value = readItem();
+            // ✅ Store the value in its container and close every container that is complete with it
+            while (true) {
+                if (value != OPENED) {
+                    if (depth == 0) return value;
+                    value = store(depth - 1, value);
+                    if (value != OPENED) continue; // A tag was applied to its content
+                }
+                if (nextItem(depth - 1)) break;
+                value = containers[--depth];
+                containers[depth] = null;
+            }
+        }
+    }
+
+    // ✅ A scalar, or OPENED after an array, map or tag was pushed
+    private Object readItem() throws IOException {
+        long offset = position();
+        int initial = readByte();
+        int major = initial >>> 5;
+        int info = initial & 0x1F;
+        switch (major) {
+            case MAJOR_UNSIGNED:
+                return integer(argument(info), false);
+            case MAJOR_NEGATIVE:
+                return integer(argument(info), true);
+            case MAJOR_BYTES:
+                return info == 31 ? readChunks(MAJOR_BYTES) : readBytes(stringLength(info));
+            case MAJOR_TEXT:
+                if (info == 31) return new String(readChunks(MAJOR_TEXT), StandardCharsets.UTF_8);
+                return readText(stringLength(info), false);
+            case MAJOR_ARRAY:
+                if (info == 31) {
+                    push(ARRAY, new ArrayList<>(), -1, offset);
+                } else {
+                    int size = length(info);
+                    push(ARRAY, new ArrayList<>(Math.min(size, 1024)), size, offset); // A corrupt size must not allocate gigabytes
+                }
+                return OPENED;
+            case MAJOR_MAP:
+                push(MAP, new LinkedHashMap<String, Object>(), info == 31 ? -1 : length(info), offset);
+                return OPENED;
+            case MAJOR_TAG:
+                long tag = argument(info);
+                push(TAG, null, 1, offset); // Tags can wrap tags, so they nest like containers
+                tags[depth - 1] = tag;
+                offsets[depth - 1] = position();
+                return OPENED;
+            default:
+                return readSimple(initial, info);
+        }
+    }
+
+    private void push(byte kind, Object container, int size, long offset) {
+        if (depth >= limits.maxDepth) throw limits.tooDeep(offset);
+        if (depth == kinds.length) {
+            int capacity = depth * 2;
+            kinds = Arrays.copyOf(kinds, capacity);
+            containers = Arrays.copyOf(containers, capacity);
+            remaining = Arrays.copyOf(remaining, capacity);
+            keys = Arrays.copyOf(keys, capacity);
+            tags = Arrays.copyOf(tags, capacity);
+            offsets = Arrays.copyOf(offsets, capacity);
+        }
+        kinds[depth] = kind;
+        containers[depth] = container;
+        remaining[depth] = size;
+        keys[depth] = null;
+        depth++;
+    }
+
+    // ✅ Store a completed item, returns OPENED or the value of a tag that is complete with it
+    @SuppressWarnings("unchecked")
+    private Object store(int top, Object value) {
+        switch (kinds[top]) {
+            case ARRAY:
+                ((List<Object>) containers[top]).add(value);
+                return OPENED;
+            case MAP:
+                if (keys[top] == null) {
+                    keys[top] = key(value, offsets[top]);
+                } else {
+                    ((Map<String, Object>) containers[top]).put(keys[top], value);
+                    keys[top] = null;
+                }
+                return OPENED;
+            default:
+                depth--;
+                return tagged(tags[top], value, offsets[top]);
+        }
+    }
+
+    // ✅ Prepare the next item of a container, false when it is complete
+    private boolean nextItem(int top) throws IOException {
+        if (kinds[top] == TAG || keys[top] != null) return true; // The content, or the value of a map entry
+        if (remaining[top] < 0) {
+            if (consumeBreak()) return false;
+        } else {
+            if (remaining[top] == 0) return false;
+            remaining[top]--;
+        }
+        if (++elements > limits.maxElements) throw limits.tooManyElements(position());
+        if (kinds[top] == MAP) {
+            // ✅ Text keys are decoded directly, other keys are read as an item first
+            require(1);
+            int initial = buffer[pos] & 0xFF;
+            offsets[top] = position();
+            if (initial >>> 5 == MAJOR_TEXT && (initial & 0x1F) != 31) {
+                pos++;
+                keys[top] = readText(stringLength(initial & 0x1F), true);
+            }
+        }
+        return true;
+    }
+
+    // ✅ Other keys (numbers, ...) use their string form like JSON would
+    private static String key(Object key, long offset) {
+        if (key == null || key instanceof Map || key instanceof List) {
+            throw new IllegalArgumentException("Unsupported CBOR map key at offset " + offset);
+        }
+        return key instanceof byte[] ? new String((byte[]) key, StandardCharsets.UTF_8) : key.toString();
+    }
+
+    private static Object tagged(long tag, Object content, long offset) {
+        if (tag == TAG_POSITIVE_BIGNUM || tag == TAG_NEGATIVE_BIGNUM) {
+            if (!(content instanceof byte[])) throw error("Bignum must be a byte string", offset);
+            BigInteger value = new BigInteger(1, (byte[]) content);
+            return narrow(tag == TAG_NEGATIVE_BIGNUM ? value.not() : value);
+        }
+        if (tag == TAG_DECIMAL_FRACTION) {
+            if (!(content instanceof List) || ((List<?>) content).size() != 2) throw error("Decimal fraction must be an array of two integers", offset);
+            Object exponent = ((List<?>) content).get(0);
+            Object mantissa = ((List<?>) content).get(1);
+            if (!(exponent instanceof Integer) || !(mantissa instanceof Integer || mantissa instanceof Long || mantissa instanceof BigInteger)) {
+                throw error("Decimal fraction must be an array of two integers", offset);
+            }
+            BigInteger unscaled = mantissa instanceof BigInteger ? (BigInteger) mantissa : BigInteger.valueOf(((Number) mantissa).longValue());
+            return new BigDecimal(unscaled, -(Integer) exponent);
+        }
+        return content; // ✅ Dates, URIs, ... are kept as their plain content
+    }
+
+    private Object readSimple(int initial, int info) throws IOException {
+        switch (initial) {
+            case FALSE:
+                return Boolean.FALSE;
+            case TRUE:
+                return Boolean.TRUE;
+            case NULL:
+            case UNDEFINED:
+                return null;
+            case FLOAT16:
+                return (double) halfToFloat(readUnsigned(2));
+            case FLOAT32:
+                return (double) Float.intBitsToFloat((int) readUnsigned(4));
+            case FLOAT64:
+                return Double.longBitsToDouble(readUnsigned(8));
+            case BREAK:
+                throw error("Unexpected break", position() - 1);
+            default:
+                if (info == 24) readByte();
+                return null; // Unassigned simple values carry no data the object model could hold
+        }
+    }
+
+    private static float halfToFloat(long bits) {
+        int half = (int) bits;
+        int exponent = (half >> 10) & 0x1F;
+        int mantissa = half & 0x3FF;
+        float value;
+        if (exponent == 0) {
+            value = mantissa * 0x1p-24f;
+        } else if (exponent == 31) {
+            value = mantissa == 0 ? Float.POSITIVE_INFINITY : Float.NaN;
+        } else {
+            value = (mantissa + 1024) * (float) Math.pow(2, exponent - 25);
+        }
+        return (half & 0x8000) != 0 ? -value : value;
+    }
+
+    // ✅ Narrowest of Integer, Long and BigInteger, like JsonNumbers does for JSON integers
+    private static Object integer(long argument, boolean negative) {
+        if (argument < 0) {
+            // Above Long.MAX_VALUE as unsigned
+            BigInteger value = new BigInteger(Long.toUnsignedString(argument));
+            return negative ? value.not() : value;
+        }
+        long value = negative ? -1 - argument : argument;
+        if (value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE) return (int) value;
+        return value;
+    }
+
+    private static Object narrow(BigInteger value) {
+        if (value.bitLength() >= 64) return value;
+        long l = value.longValue();
+        if (l >= Integer.MIN_VALUE && l <= Integer.MAX_VALUE) return (int) l;
+        return l;
+    }
+
+    private String readText(int length, boolean key) throws IOException {
+        require(length);
+        String s;
+        if (symbols == null) {
+            s = new String(buffer, pos, length, StandardCharsets.UTF_8);
+        } else {
+            s = key ? symbols.key(buffer, pos, pos + length) : symbols.value(buffer, pos, pos + length);
+        }
+        pos += length;
+        return s;
+    }
+
+    private byte[] readBytes(int length) throws IOException {
+        require(length);
+        byte[] bytes = Arrays.copyOfRange(buffer, pos, pos + length);
+        pos += length;
+        return bytes;
+    }
+
+    // ✅ Indefinite-length string: definite chunks of the same major type up to a break
+    private byte[] readChunks(int major) throws IOException {
+        byte[] joined = new byte[0];
+        while (!consumeBreak()) {
+            long offset = position();
+            int initial = readByte();
+            if (initial >>> 5 != major || (initial & 0x1F) == 31) throw error("Invalid chunk in indefinite-length string", offset);
+            int chunkLength = length(initial & 0x1F);
+            int joinedLength = joined.length;
+            if ((long) joinedLength + chunkLength > limits.maxStringLength) throw limits.stringTooLong(offset);
+            byte[] chunk = readBytes(chunkLength);
+            joined = Arrays.copyOf(joined, joinedLength + chunk.length);
+            System.arraycopy(chunk, 0, joined, joinedLength, chunk.length);
+        }
+        return joined;
+    }
+
+    private boolean consumeBreak() throws IOException {
+        require(1);
+        if ((buffer[pos] & 0xFF) != BREAK) return false;
+        pos++;
+        return true;
+    }
+
+    private long argument(int info) throws IOException {
+        if (info < 24) return info;
+        switch (info) {
+            case 24:
+                return readUnsigned(1);
+            case 25:
+                return readUnsigned(2);
+            case 26:
+                return readUnsigned(4);
+            case 27:
+                return readUnsigned(8);
+            default:
+                throw error("Invalid additional information " + info, position() - 1);
+        }
+    }
+
+    // ✅ Length of a string, array or map, which has to fit into an int
+    private int length(int info) throws IOException {
+        long offset = position() - 1;
+        long length = argument(info);
+        if (length < 0 || length > Integer.MAX_VALUE - 8) throw error("Length " + Long.toUnsignedString(length) + " too large", offset);
+        return (int) length;
+    }
+
+    // ✅ Checked against the limit before a single byte of the string is read
+    private int stringLength(int info) throws IOException {
+        long offset = position() - 1;
+        int length = length(info);
+        if (length > limits.maxStringLength) throw limits.stringTooLong(offset);
+        return length;
+    }
+
+    private long readUnsigned(int bytes) throws IOException {
+        require(bytes);
+        long value = 0;
+        for (int i = 0; i < bytes; i++) value = (value << 8) | (buffer[pos++] & 0xFF);
+        return value;
+    }
+
+    private int readByte() throws IOException {
+        require(1);
+        return buffer[pos++] & 0xFF;
+    }
+
+    private void require(int n) throws IOException {
+        if (limit - pos >= n) return;
+        if (in == null || !fill(n)) throw error("Unexpected end of CBOR input", position());
+    }
+
+    // ✅ Read exactly the missing bytes, never past the end of the current item
+    private boolean fill(int n) throws IOException {
+        if (pos > 0) {
+            consumed += pos;
+            limit -= pos;
+            System.arraycopy(buffer, pos, buffer, 0, limit);
+            pos = 0;
+        }
+        while (limit < n) {
+            // Grows with the data actually read, a corrupt length fails at the end of the stream instead
+            if (limit == buffer.length) buffer = Arrays.copyOf(buffer, (int) Math.min(n, buffer.length * 2L));
+            int read = in.read(buffer, limit, Math.min(n, buffer.length) - limit);
+            if (read < 0) return false;
+            limit += read;
+            if (consumed + limit > limits.maxDocumentLength) throw limits.documentTooLong();
+        }
+        return true;
+    }
+
+    // Offset of the next unread byte in the input
+    long position() {
+        return consumed + pos - start;
+    }
+
+    private static IllegalArgumentException error(String message, long offset) {
+        return new IllegalArgumentException(message + " at offset " + offset);
+    }
+}
@@ -0,0 +1,312 @@
+package ch.framedev.simplejsonutils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/*
+ * ch.framedev.simplejsonutils
+ * =============================================
+ * This File was Created by FrameDev
+ * Please do not change anything without my consent!
+ * =============================================
+ * This Class was created at 17.10.2026 07:30
+ */
+
+/**
+ * Encodes values as CBOR (RFC 8949) using the preferred serialization: the shortest
+ * argument for every header and doubles as 32 bit floats whenever that is lossless.
+ * Output is collected in a growing array, or drained into a stream when it is full.
+ */
+final class CborWriter {
+
+    static final int MAJOR_UNSIGNED = 0;
+    static final int MAJOR_NEGATIVE = 1;
+    static final int MAJOR_BYTES = 2;
+    static final int MAJOR_TEXT = 3;
+    static final int MAJOR_ARRAY = 4;
+    static final int MAJOR_MAP = 5;
+    static final int MAJOR_TAG = 6;
+    static final int MAJOR_SIMPLE = 7;
+
+    static final int TAG_POSITIVE_BIGNUM = 2;
+    static final int TAG_NEGATIVE_BIGNUM = 3;
+    static final int TAG_DECIMAL_FRACTION = 4;
+
+    static final int FALSE = 0xF4;
+    static final int TRUE = 0xF5;
+    static final int NULL = 0xF6;
+    static final int UNDEFINED = 0xF7;
+    static final int FLOAT16 = 0xF9;
+    static final int FLOAT32 = 0xFA;
+    static final int FLOAT64 = 0xFB;
+    static final int BREAK = 0xFF;
+
+    private static final int INDEFINITE = 31;
+    private static final int BUFFER_SIZE = 8192;
+
+    private final OutputStream out; // null when collecting into the buffer
+    private byte[] buffer;
+    private int pos;
+    private long drained; // Bytes already written to the stream
+
+    CborWriter() {
+        this(null);
+    }
+
+    CborWriter(OutputStream out) {
+        this.out = out;
+        this.buffer = new byte[BUFFER_SIZE];
+    }
+
+    // ✅ Encoded text string header and UTF-8 bytes, used to pre-encode field names
+    static byte[] encodeText(String s) {
+        CborWriter writer = new CborWriter();
+        try {
+            writer.text(s);
+        } catch (IOException e) {
+            throw new IllegalStateException(e); // No stream attached, never thrown
+        }
+        return writer.toByteArray();
+    }
+
+    void nullValue() throws IOException {
+        ensure(1);
+        buffer[pos++] = (byte) NULL;
+    }
+
+    void bool(boolean value) throws IOException {
+        ensure(1);
+        buffer[pos++] = (byte) (value ? TRUE : FALSE);
+    }
+
+    void number(long value) throws IOException {
+        if (value >= 0) {
+            header(MAJOR_UNSIGNED, value);
+        } else {
+            header(MAJOR_NEGATIVE, -1 - value);
+        }
+    }
+
+    void number(double value) throws IOException {
+        float narrow = (float) value;
+        if (narrow == value || Double.isNaN(value)) {
+            number(narrow);
+            return;
+        }
+        ensure(9);
+        buffer[pos++] = (byte) FLOAT64;
+        putLong(Double.doubleToRawLongBits(value));
+    }
+
+    void number(float value) throws IOException {
+        ensure(5);
+        buffer[pos++] = (byte) FLOAT32;
+        putInt(Float.floatToIntBits(value));
+    }
+
+    // ✅ Any Number of the object model, integers that do not fit into a long become bignums
+    void number(Number value) throws IOException {
+        if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            number(value.longValue());
+        } else if (value instanceof Double) {
+            number(value.doubleValue());
+        } else if (value instanceof Float) {
+            number(value.floatValue());
+        } else if (value instanceof BigInteger) {
+            bigInteger((BigInteger) value);
+        } else if (value instanceof BigDecimal) {
+            BigDecimal decimal = (BigDecimal) value;
+            header(MAJOR_TAG, TAG_DECIMAL_FRACTION);
+            header(MAJOR_ARRAY, 2);
+            number(-(long) decimal.scale());
+            bigInteger(decimal.unscaledValue());
+        } else {
+            number(value.doubleValue()); // AtomicLong, DoubleAdder, ... keep their numeric value
+        }
+    }
+
+    private void bigInteger(BigInteger value) throws IOException {
+        if (value.bitLength() < 64) {
+            number(value.longValue());
+            return;
+        }
+        boolean negative = value.signum() < 0;
+        byte[] magnitude = (negative ? value.not() : value).toByteArray();
+        int skip = magnitude[0] == 0 ? 1 : 0; // Sign byte of the two's complement form
+        header(MAJOR_TAG, negative ? TAG_NEGATIVE_BIGNUM : TAG_POSITIVE_BIGNUM);
+        header(MAJOR_BYTES, magnitude.length - skip);
+        raw(magnitude, skip, magnitude.length - skip);
+    }
+
+    void bytes(byte[] value) throws IOException {
+        header(MAJOR_BYTES, value.length);
+        raw(value, 0, value.length);
+    }
+
+    // ✅ UTF-8 text string, unpaired surrogates are written as '?' like the file writer does
+    void text(String s) throws IOException {
+        int length = s.length();
+        int utf8Length = utf8Length(s);
+        header(MAJOR_TEXT, utf8Length);
+        if (utf8Length > BUFFER_SIZE && out != null) {
+            byte[] encoded = s.getBytes(StandardCharsets.UTF_8);
+            raw(encoded, 0, encoded.length);
+            return;
+        }
+        ensure(utf8Length);
+        byte[] b = buffer;
+        int p = pos;
+        if (utf8Length == length) {
+            // ✅ ASCII fast path
+            for (int i = 0; i < length; i++) b[p++] = (byte) s.charAt(i);
+            pos = p;
+            return;
+        }
+        for (int i = 0; i < length; i++) {
+            char c = s.charAt(i);
+            if (c < 0x80) {
+                b[p++] = (byte) c;
+            } else if (c < 0x800) {
+                b[p++] = (byte) (0xC0 | (c >> 6));
+                b[p++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(s.charAt(i + 1))) {
+                int cp = Character.toCodePoint(c, s.charAt(++i));
+                b[p++] = (byte) (0xF0 | (cp >> 18));
+                b[p++] = (byte) (0x80 | ((cp >> 12) & 0x3F));
+                b[p++] = (byte) (0x80 | ((cp >> 6) & 0x3F));
+                b[p++] = (byte) (0x80 | (cp & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                b[p++] = '?';
+            } else {
+                b[p++] = (byte) (0xE0 | (c >> 12));
+                b[p++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                b[p++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        pos = p;
+    }
+
+    private static int utf8Length(String s) {
+        int length = s.length();
+        int utf8Length = length;
+        for (int i = 0; i < length; i++) {
+            char c = s.charAt(i);
+            if (c < 0x80) continue;
+            if (c < 0x800) {
+                utf8Length++;
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(s.charAt(i + 1))) {
+                utf8Length += 2; // Four bytes for the two chars of the pair
+                i++;
+            } else if (!Character.isSurrogate(c)) {
+                utf8Length += 2;
+            }
+        }
+        return utf8Length;
+    }
+
+    void beginArray(int size) throws IOException {
+        header(MAJOR_ARRAY, size);
+    }
+
+    void beginMap(int size) throws IOException {
+        header(MAJOR_MAP, size);
+    }
+
+    // ✅ Map whose size is not known up front, closed by end()
+    void beginMap() throws IOException {
+        ensure(1);
+        buffer[pos++] = (byte) (MAJOR_MAP << 5 | INDEFINITE);
+    }
+
+    void end() throws IOException {
+        ensure(1);
+        buffer[pos++] = (byte) BREAK;
+    }
+
+    // ✅ Pre-encoded item, e.g. a field name from encodeText
+    void raw(byte[] encoded) throws IOException {
+        raw(encoded, 0, encoded.length);
+    }
+
+    private void raw(byte[] bytes, int off, int len) throws IOException {
+        if (len > BUFFER_SIZE && out != null) {
+            drain();
+            out.write(bytes, off, len);
+            drained += len;
+            return;
+        }
+        ensure(len);
+        System.arraycopy(bytes, off, buffer, pos, len);
+        pos += len;
+    }
+
+    private void header(int major, long argument) throws IOException {
+        ensure(9);
+        int type = major << 5;
+        if (argument < 24) {
+            buffer[pos++] = (byte) (type | argument);
+        } else if (argument < 0x100) {
+            buffer[pos++] = (byte) (type | 24);
+            buffer[pos++] = (byte) argument;
+        } else if (argument < 0x10000) {
+            buffer[pos++] = (byte) (type | 25);
+            buffer[pos++] = (byte) (argument >> 8);
+            buffer[pos++] = (byte) argument;
+        } else if (argument < 0x100000000L) {
+            buffer[pos++] = (byte) (type | 26);
+            putInt((int) argument);
+        } else {
+            buffer[pos++] = (byte) (type | 27);
+            putLong(argument);
+        }
+    }
+
+    private void putInt(int v) {
+        byte[] b = buffer;
+        int p = pos;
+        b[p] = (byte) (v >> 24);
+        b[p + 1] = (byte) (v >> 16);
+        b[p + 2] = (byte) (v >> 8);
+        b[p + 3] = (byte) v;
+        pos = p + 4;
+    }
+
+    private void putLong(long v) {
+        putInt((int) (v >> 32));
+        putInt((int) v);
+    }
+
+    private void ensure(int n) throws IOException {
+        if (buffer.length - pos >= n) return;
+        if (out != null && n <= BUFFER_SIZE) {
+            drain();
+        } else {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, pos + n));
+        }
+    }
+
+    private void drain() throws IOException {
+        out.write(buffer, 0, pos);
+        drained += pos;
+        pos = 0;
+    }
+
+    // ✅ Bytes written so far
+    long size() {
+        return drained + pos;
+    }
+
+    void flush() throws IOException {
+        if (out == null) return;
+        drain();
+        out.flush();
+    }
+
+    byte[] toByteArray() {
+        return Arrays.copyOf(buffer, pos);
+    }
+}
@@ -0,0 +1,232 @@
+package ch.framedev.simplejsonutils;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * ch.framedev.simplejsonutils
+ * =============================================
+ * This File was Created by FrameDev
+ * Please do not change anything without my consent!
+ * =============================================
+ * This Class was created at 16.10.2026 21:05
+ */
+
+/**
+ * Reflection metadata of a class, built once per class and shared by all threads.
+ * Holds the no-arg constructor, the non-static fields in declaration order and a
+ * lookup from JSON key to field. Classes with a generated {@link JsonCodec} are described
+ * by the codec instead, without any reflection.
+ */
+final class ClassDescriptor {
+
+    private static final ClassValue<ClassDescriptor> CACHE = new ClassValue<ClassDescriptor>() {
+        @Override
+        protected ClassDescriptor computeValue(Class<?> type) {
+            return new ClassDescriptor(type);
+        }
+    };
+
+    private final Class<?> type;
+    private final JsonCodec<Object> codec; // null for reflective access
+    private final Constructor<?> constructor;
+    private final boolean hasDeclaredFields;
+    private final List<FieldDescriptor> fields;
+    private final Map<String, FieldDescriptor> fieldsByName;
+
+    @SuppressWarnings("unchecked")
+    private ClassDescriptor(Class<?> type) {
+        this.type = type;
+        this.codec = (JsonCodec<Object>) Codecs.find(type);
+        if (codec != null) {
+            this.constructor = null;
+            List<String> names = codec.fieldNames();
+            this.hasDeclaredFields = !names.isEmpty();
+            List<FieldDescriptor> fields = new ArrayList<>(names.size());
+            Map<String, FieldDescriptor> fieldsByName = new HashMap<>();
+            for (int i = 0; i < names.size(); i++) {
+                FieldDescriptor descriptor = new FieldDescriptor(i, names.get(i), codec.fieldType(i), codec.elementType(i));
+                fields.add(descriptor);
+                fieldsByName.put(descriptor.getName(), descriptor);
+            }
+            this.fields = Collections.unmodifiableList(fields);
+            this.fieldsByName = fieldsByName;
+            return;
+        }
+        this.constructor = findConstructor(type);
+
+        Field[] declared = type.getDeclaredFields();
+        this.hasDeclaredFields = declared.length > 0;
+        List<FieldDescriptor> fields = new ArrayList<>(declared.length);
+        Map<String, FieldDescriptor> fieldsByName = new HashMap<>();
+        for (Field field : declared) {
+            if (Modifier.isStatic(field.getModifiers())) continue;
+            if (!field.trySetAccessible()) continue; // ✅ Skip non-accessible fields (Java 9+)
+            FieldDescriptor descriptor = new FieldDescriptor(fields.size(), field);
+            fields.add(descriptor);
+            fieldsByName.put(descriptor.getName(), descriptor);
+        }
+        this.fields = Collections.unmodifiableList(fields);
+        this.fieldsByName = fieldsByName;
+    }
+
+    static ClassDescriptor of(Class<?> type) {
+        return CACHE.get(type);
+    }
+
+    private static Constructor<?> findConstructor(Class<?> type) {
+        try {
+            Constructor<?> constructor = type.getDeclaredConstructor();
+            return constructor.trySetAccessible() ? constructor : null;
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    Class<?> getType() {
+        return type;
+    }
+
+    // ✅ Generated codec of the class, or null when its fields are accessed through reflection
+    JsonCodec<Object> getCodec() {
+        return codec;
+    }
+
+    // ✅ Classes without any declared field (even static ones) are written as "{}"
+    boolean hasDeclaredFields() {
+        return hasDeclaredFields;
+    }
+
+    List<FieldDescriptor> getFields() {
+        return fields;
+    }
+
+    FieldDescriptor getField(String name) {
+        return fieldsByName.get(name);
+    }
+
+    Object newInstance() throws ReflectiveOperationException {
+        if (codec != null) return codec.newInstance();
+        if (constructor == null) {
+            throw new NoSuchMethodException("No accessible no-arg constructor in " + type.getName());
+        }
+        return constructor.newInstance();
+    }
+
+    /**
+     * A single non-static field with its pre-built JSON and CBOR name tokens, resolved element type
+     * and lazily created accessors.
+     */
+    static final class FieldDescriptor {
+
+        /**
+         * Primitive field types that are read and written without boxing.
+         */
+        enum Kind {
+            OBJECT, INT, LONG, DOUBLE, BOOLEAN
+        }
+
+        private final int index;
+        private final Field field; // null when described by a codec
+        private final String name;
+        private final Class<?> type;
+        private final String nameToken;
+        private final byte[] cborName;
+        private final Class<?> elementType;
+        private final Kind kind;
+        private final FieldAccessor reflectiveAccessor;
+        private volatile FieldAccessor methodHandleAccessor;
+
+        private FieldDescriptor(int index, Field field) {
+            this.index = index;
+            this.field = field;
+            this.name = field.getName();
+            this.type = field.getType();
+            this.nameToken = "\"" + JsonStrings.escape(name) + "\": ";
+            this.cborName = CborWriter.encodeText(name);
+            this.elementType = resolveElementType(field.getGenericType());
+            this.kind = resolveKind(type);
+            this.reflectiveAccessor = FieldAccessor.create(field, AccessorStrategy.REFLECTION);
+        }
+
+        // ✅ Field of a codec class, it has no accessors
+        private FieldDescriptor(int index, String name, Class<?> type, Class<?> elementType) {
+            this.index = index;
+            this.field = null;
+            this.name = name;
+            this.type = type;
+            this.nameToken = "\"" + JsonStrings.escape(name) + "\": ";
+            this.cborName = CborWriter.encodeText(name);
+            this.elementType = elementType;
+            this.kind = resolveKind(type);
+            this.reflectiveAccessor = null;
+        }
+
+        private static Kind resolveKind(Class<?> type) {
+            if (type == int.class) return Kind.INT;
+            if (type == long.class) return Kind.LONG;
+            if (type == double.class) return Kind.DOUBLE;
+            if (type == boolean.class) return Kind.BOOLEAN;
+            return Kind.OBJECT;
+        }
+
+        private static Class<?> resolveElementType(Type genericType) {
+            if (!(genericType instanceof ParameterizedType)) return null;
+            Type argument = ((ParameterizedType) genericType).getActualTypeArguments()[0];
+            if (argument instanceof Class) return (Class<?>) argument;
+            if (argument instanceof ParameterizedType) return (Class<?>) ((ParameterizedType) argument).getRawType();
+            return Object.class;
+        }
+
+        // Position in ClassDescriptor.getFields()
+        int getIndex() {
+            return index;
+        }
+
+        String getName() {
+            return name;
+        }
+
+        // ✅ Quoted and escaped field name including the separator, e.g. "name":
+        String getNameToken() {
+            return nameToken;
+        }
+
+        // ✅ Field name encoded as a CBOR text string, header included
+        byte[] getCborName() {
+            return cborName;
+        }
+
+        Class<?> getType() {
+            return type;
+        }
+
+        // First type argument of a generic field (e.g. List<String> -> String), null for raw types
+        Class<?> getElementType() {
+            return elementType;
+        }
+
+        Kind getKind() {
+            return kind;
+        }
+
+        FieldAccessor getAccessor(AccessorStrategy strategy) {
+            if (strategy == AccessorStrategy.REFLECTION) return reflectiveAccessor;
+            FieldAccessor accessor = methodHandleAccessor;
+            if (accessor == null) {
+                // Racy but idempotent, at worst two threads create the same accessor
+                accessor = FieldAccessor.create(field, strategy);
+                methodHandleAccessor = accessor;
+            }
+            return accessor;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package ch.framedev.simplejsonutils;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.WeakHashMap;
+
+/*
+ * ch.framedev.simplejsonutils
+ * =============================================
+ * This File was Created by FrameDev
+ * Please do not change anything without my consent!
+ * =============================================
+ * This Class was created at 17.10.2026 09:00
+ */
+
+/**
+ * Generated {@link JsonCodec}s by class. Each class loader is searched once through
+ * {@link ServiceLoader}, so codecs in plugin or child class loaders are found for the
+ * classes they were loaded with.
+ */
+final class Codecs {
+
+    private static final Map<ClassLoader, Map<Class<?>, JsonCodec<?>>> BY_LOADER = new WeakHashMap<>();
+
+    private Codecs() {
+    }
+
+    // ✅ The codec for type, or null to fall back to reflection
+    static JsonCodec<?> find(Class<?> type) {
+        ClassLoader loader = type.getClassLoader();
+        if (loader == null) return null; // JDK classes
+        Map<Class<?>, JsonCodec<?>> codecs;
+        synchronized (BY_LOADER) {
+            codecs = BY_LOADER.computeIfAbsent(loader, Codecs::load);
+        }
+        return codecs.get(type);
+    }
+
+    private static Map<Class<?>, JsonCodec<?>> load(ClassLoader loader) {
+        Map<Class<?>, JsonCodec<?>> codecs = new HashMap<>();
+        ServiceLoader<?> services = ServiceLoader.load(JsonCodec.class, loader);
+        services.stream().forEach(provider -> {
+            try {
+                JsonCodec<?> codec = (JsonCodec<?>) provider.get();
+                codecs.putIfAbsent(codec.type(), codec);
+            } catch (ServiceConfigurationError | LinkageError ignored) {
+                // A broken provider only costs its own class the fast path
+            }
+        });
+        return codecs;
+    }
+}
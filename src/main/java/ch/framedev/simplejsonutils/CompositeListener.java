@@ -0,0 +1,85 @@
+package ch.framedev.simplejsonutils;
+
+import java.util.Map;
+
+/*
+ * ch.framedev.simplejsonutils
+ * =============================================
+ * This File was Created by FrameDev
+ * Please do not change anything without my consent!
+ * =============================================
+ * This Class was created at 17.10.2026 06:50
+ */
+
+/**
+ * Forwards every callback to several listeners, see {@link JsonListener#compose}.
+ */
+final class CompositeListener implements JsonListener {
+
+    private final JsonListener[] listeners;
+    private final boolean tracing;
+
+    CompositeListener(JsonListener[] listeners) {
+        this.listeners = listeners;
+        boolean anyTracing = false;
+        for (JsonListener listener : listeners) anyTracing |= listener.isTracing();
+        this.tracing = anyTracing;
+    }
+
+    @Override
+    public void onParsed(Class<?> type, long size, long nanos) {
+        for (JsonListener listener : listeners) listener.onParsed(type, size, nanos);
+    }
+
+    @Override
+    public void onBound(Class<?> type, long nanos) {
+        for (JsonListener listener : listeners) listener.onBound(type, nanos);
+    }
+
+    @Override
+    public void onSerialized(Class<?> type, long size, long nanos) {
+        for (JsonListener listener : listeners) listener.onSerialized(type, size, nanos);
+    }
+
+    @Override
+    public void onFieldBound(Class<?> type, String field) {
+        for (JsonListener listener : listeners) listener.onFieldBound(type, field);
+    }
+
+    @Override
+    public void onMissingField(Class<?> type, String field) {
+        for (JsonListener listener : listeners) listener.onMissingField(type, field);
+    }
+
+    @Override
+    public void onUnknownField(Class<?> type, String key) {
+        for (JsonListener listener : listeners) listener.onUnknownField(type, key);
+    }
+
+    @Override
+    public void onNullKey(Map<?, ?> map) {
+        for (JsonListener listener : listeners) listener.onNullKey(map);
+    }
+
+    @Override
+    public void onInaccessibleField(Class<?> type, String field, Exception cause) {
+        for (JsonListener listener : listeners) listener.onInaccessibleField(type, field, cause);
+    }
+
+    @Override
+    public void onError(Throwable error) {
+        for (JsonListener listener : listeners) listener.onError(error);
+    }
+
+    @Override
+    public boolean isTracing() {
+        return tracing;
+    }
+
+    @Override
+    public void onEntry(String key, CharSequence value) {
+        for (JsonListener listener : listeners) {
+            if (listener.isTracing()) listener.onEntry(key, value);
+        }
+    }
+}
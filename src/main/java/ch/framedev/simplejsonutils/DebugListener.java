@@ -0,0 +1,72 @@
+package ch.framedev.simplejsonutils;
+
+import java.util.Map;
+
+/*
+ * ch.framedev.simplejsonutils
+ * =============================================
+ * This File was Created by FrameDev
+ * Please do not change anything without my consent!
+ * =============================================
+ * This Class was created at 17.10.2026 06:55
+ */
+
+/**
+ * Console output of {@link Flag#DEBUG}.
+ */
+final class DebugListener implements JsonListener {
+
+    static final DebugListener INSTANCE = new DebugListener();
+
+    private DebugListener() {
+    }
+
+    @Override
+    public void onParsed(Class<?> type, long size, long nanos) {
+        System.out.println("🔍 Parsed " + type.getSimpleName() + sizeText(size) + " in " + nanos / 1000 + " µs");
+    }
+
+    @Override
+    public void onSerialized(Class<?> type, long size, long nanos) {
+        System.out.println("🔍 Serialized " + type.getSimpleName() + sizeText(size) + " in " + nanos / 1000 + " µs");
+    }
+
+    @Override
+    public void onMissingField(Class<?> type, String field) {
+        System.out.println("⚠️ WARNING: No matching key found in JSON for field: " + field);
+    }
+
+    @Override
+    public void onUnknownField(Class<?> type, String key) {
+        System.out.println("⚠️ WARNING: No field found for key: " + key);
+    }
+
+    @Override
+    public void onNullKey(Map<?, ?> map) {
+        System.err.println("❌ Warning: Null key detected. Skipping entry.");
+    }
+
+    @Override
+    public void onInaccessibleField(Class<?> type, String field, Exception cause) {
+        System.err.println("⚠️ Warning: Could not access field '" + field + "' in " + type.getSimpleName());
+    }
+
+    @Override
+    public void onError(Throwable error) {
+        System.err.println("❌ Error: " + error);
+    }
+
+    @Override
+    public boolean isTracing() {
+        return true;
+    }
+
+    @Override
+    public void onEntry(String key, CharSequence value) {
+        System.out.println("📌 Key: " + key + " | Value: " + value);
+    }
+
+    private static String sizeText(long size) {
+        return size < 0 ? "" : " (" + size + " chars)";
+    }
+}
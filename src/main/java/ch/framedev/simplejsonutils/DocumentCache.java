@@ -0,0 +1,422 @@
+package ch.framedev.simplejsonutils;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+/*
+ * ch.framedev.simplejsonutils
+ * =============================================
+ * This File was Created by FrameDev
+ * Please do not change anything without my consent!
+ * =============================================
+ * This Class was created at 17.10.2026 12:00
+ */
+
+/**
+ * Bounded LRU cache of loaded documents for {@link JsonParser#loadFromFile(Path, Class)},
+ * keyed by canonical path and target class. Register it with
+ * {@link JsonParser.Builder#documentCache(DocumentCache)}.
+ * <pre>{@code
+ * DocumentCache cache = DocumentCache.builder().maxEntries(512).maxBytes(64 << 20).build();
+ * JsonParser parser = JsonParser.builder().documentCache(cache).build();
+ * Config config = (Config) parser.loadFromFile(path, Config.class); // Parsed once, until the file changes
+ * }</pre>
+ * By default every lookup compares the file's last-modified time and size with the cached
+ * ones (a single stat call). With {@link Builder#watch(boolean)} a {@link WatchService}
+ * invalidates changed files instead and lookups do not touch the file at all.
+ * <p>
+ * Entries are weighed with an estimate of four bytes of heap per byte of file. The cache is
+ * thread-safe; two threads missing the same file at once may both load it.
+ */
+public final class DocumentCache implements Closeable {
+
+    private static final int BYTES_PER_FILE_BYTE = 4;
+    private static final int ENTRY_OVERHEAD = 256;
+
+    /**
+     * What a cache hit returns.
+     */
+    public enum CopyMode {
+
+        /**
+         * The cached instance itself. Callers must not modify it.
+         */
+        SHARED,
+
+        /**
+         * A fresh deep copy per call, bound from the cached parse tree without reading the file.
+         */
+        COPY,
+
+        /**
+         * Maps and lists are returned as shared unmodifiable views (nested ones included).
+         * Objects of custom classes cannot be protected and are copied like {@link #COPY}.
+         */
+        READ_ONLY
+    }
+
+    private final int maxEntries;
+    private final long maxBytes;
+    private final CopyMode copyMode;
+
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true); // Guarded by this
+    private long retainedBytes; // Guarded by this
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    private final WatchService watchService; // null in stat mode
+    private final Set<Path> watchedDirectories = ConcurrentHashMap.newKeySet();
+    private final AtomicLong watchGeneration = new AtomicLong(); // Bumped by every watch event
+
+    private DocumentCache(Builder builder) {
+        this.maxEntries = builder.maxEntries;
+        this.maxBytes = builder.maxBytes;
+        this.copyMode = builder.copyMode;
+        if (builder.watch) {
+            try {
+                this.watchService = FileSystems.getDefault().newWatchService();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            Thread watcher = new Thread(this::watch, "DocumentCache-watcher");
+            watcher.setDaemon(true);
+            watcher.start();
+        } else {
+            this.watchService = null;
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Configuration of a {@link DocumentCache}.
+     */
+    public static final class Builder {
+
+        private int maxEntries = 256;
+        private long maxBytes = 64L * 1024 * 1024;
+        private CopyMode copyMode = CopyMode.SHARED;
+        private boolean watch;
+
+        private Builder() {
+        }
+
+        // ✅ At most this many documents are kept (default: 256)
+        public Builder maxEntries(int maxEntries) {
+            if (maxEntries < 1) throw new IllegalArgumentException("maxEntries must be at least 1");
+            this.maxEntries = maxEntries;
+            return this;
+        }
+
+        // ✅ Estimated heap of all kept documents (default: 64 MB), larger documents are not cached at all
+        public Builder maxBytes(long maxBytes) {
+            if (maxBytes < 1) throw new IllegalArgumentException("maxBytes must be at least 1");
+            this.maxBytes = maxBytes;
+            return this;
+        }
+
+        // ✅ What a hit returns (default: SHARED)
+        public Builder copyMode(CopyMode copyMode) {
+            this.copyMode = Objects.requireNonNull(copyMode, "copyMode");
+            return this;
+        }
+
+        /**
+         * Invalidate entries from file system events instead of checking the file on every
+         * lookup. Events arrive with the delay of the platform's watch service, which polls
+         * on some systems. Close the cache to stop the watcher thread (default: off).
+         */
+        public Builder watch(boolean watch) {
+            this.watch = watch;
+            return this;
+        }
+
+        public DocumentCache build() {
+            return new DocumentCache(this);
+        }
+    }
+
+    // ✅ Cached document, or the file loaded through the parser; null if the file does not exist
+    Object load(Path path, Class<?> clazz, JsonParser parser) throws IOException {
+        Path canonical;
+        BasicFileAttributes attributes = null;
+        try {
+            canonical = path.toRealPath();
+            if (watchService == null) attributes = Files.readAttributes(canonical, BasicFileAttributes.class);
+        } catch (NoSuchFileException e) {
+            invalidate(path);
+            return null;
+        }
+        Key key = new Key(canonical, clazz);
+
+        Entry entry;
+        synchronized (this) {
+            entry = entries.get(key);
+        }
+        if (entry != null && (attributes == null || entry.matches(attributes))) {
+            hits.increment();
+            return hit(entry, clazz, parser);
+        }
+
+        misses.increment();
+        if (entry != null) removeIf(key.path::equals);
+        long generation = watchGeneration.get();
+        if (watchService != null) {
+            watchDirectory(canonical.getParent());
+            try {
+                attributes = Files.readAttributes(canonical, BasicFileAttributes.class);
+            } catch (NoSuchFileException e) {
+                return null;
+            }
+        }
+        // The attributes are read before the file, so a change while reading is noticed next time
+        Object value;
+        Object cached;
+        if (copyMode == CopyMode.SHARED) {
+            value = parser.readFile(canonical, clazz);
+            cached = value;
+        } else if (copyMode == CopyMode.READ_ONLY && bindsToTree(clazz)) {
+            value = readOnly(parser.bindFileTree(parser.readFileTree(canonical, clazz), clazz, attributes.size()));
+            cached = value;
+        } else {
+            Object tree = parser.readFileTree(canonical, clazz);
+            value = parser.bindFileTree(copy(tree), clazz, attributes.size());
+            cached = tree;
+        }
+        if (value != null) put(key, new Entry(cached, attributes), generation);
+        return value;
+    }
+
+    // ✅ Maps, lists and untyped documents are the parse tree itself
+    private static boolean bindsToTree(Class<?> clazz) {
+        return !JsonParser.isCustomClass(clazz) || Map.class.isAssignableFrom(clazz) || List.class.isAssignableFrom(clazz);
+    }
+
+    private Object hit(Entry entry, Class<?> clazz, JsonParser parser) {
+        switch (copyMode) {
+            case SHARED:
+                return entry.value;
+            case READ_ONLY:
+                if (bindsToTree(clazz)) return entry.value;
+                return parser.bindFileTree(copy(entry.value), clazz, entry.size); // Objects of custom classes can only be copied
+            default:
+                return parser.bindFileTree(copy(entry.value), clazz, entry.size);
+        }
+    }
+
+    private void put(Key key, Entry entry, long generation) {
+        if (entry.weight > maxBytes) return; // Would evict everything else
+        synchronized (this) {
+            if (watchGeneration.get() != generation) return; // The file may have changed while it was read
+            Entry previous = entries.put(key, entry);
+            if (previous != null) retainedBytes -= previous.weight;
+            retainedBytes += entry.weight;
+            Iterator<Entry> eldest = entries.values().iterator();
+            while (entries.size() > maxEntries || retainedBytes > maxBytes) {
+                Entry evicted = eldest.next();
+                eldest.remove();
+                retainedBytes -= evicted.weight;
+                evictions.increment();
+            }
+        }
+    }
+
+    // ✅ Drop the documents loaded from this file, for every target class
+    public void invalidate(Path path) {
+        Path absolute = path.toAbsolutePath().normalize();
+        Path canonical;
+        try {
+            canonical = path.toRealPath();
+        } catch (IOException e) {
+            canonical = absolute; // Deleted files can not be resolved any more
+        }
+        Path resolved = canonical;
+        removeIf(cached -> cached.equals(resolved) || cached.equals(absolute));
+    }
+
+    public synchronized void invalidateAll() {
+        invalidations.add(entries.size());
+        entries.clear();
+        retainedBytes = 0;
+    }
+
+    private synchronized void removeIf(Predicate<Path> stale) {
+        Iterator<Map.Entry<Key, Entry>> it = entries.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<Key, Entry> entry = it.next();
+            if (stale.test(entry.getKey().path)) {
+                it.remove();
+                retainedBytes -= entry.getValue().weight;
+                invalidations.increment();
+            }
+        }
+    }
+
+    private void watchDirectory(Path directory) throws IOException {
+        if (directory == null || watchedDirectories.contains(directory)) return;
+        synchronized (watchedDirectories) {
+            if (watchedDirectories.contains(directory)) return;
+            directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+            watchedDirectories.add(directory);
+        }
+    }
+
+    private void watch() {
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                Path directory = (Path) key.watchable();
+                watchGeneration.incrementAndGet();
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                        removeIf(path -> directory.equals(path.getParent())); // Events were lost
+                    } else {
+                        Path changed = directory.resolve((Path) event.context());
+                        removeIf(changed::equals);
+                    }
+                }
+                if (!key.reset()) { // The directory is gone
+                    watchedDirectories.remove(directory);
+                    removeIf(path -> directory.equals(path.getParent()));
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // Closed
+        }
+    }
+
+    // ✅ Deep copy of a parse tree, scalars are immutable and shared
+    private static Object copy(Object value) {
+        if (value instanceof Map) {
+            Map<?, ?> map = (Map<?, ?>) value;
+            Map<Object, Object> copy = new LinkedHashMap<>(Math.max(16, map.size() * 4 / 3 + 1));
+            for (Map.Entry<?, ?> entry : map.entrySet()) copy.put(entry.getKey(), copy(entry.getValue()));
+            return copy;
+        }
+        if (value instanceof List) {
+            List<?> list = (List<?>) value;
+            List<Object> copy = new ArrayList<>(list.size());
+            for (Object item : list) copy.add(copy(item));
+            return copy;
+        }
+        return value;
+    }
+
+    // ✅ Unmodifiable deep copy of a parse tree
+    private static Object readOnly(Object value) {
+        if (value instanceof Map) {
+            Map<?, ?> map = (Map<?, ?>) value;
+            Map<Object, Object> copy = new LinkedHashMap<>(Math.max(16, map.size() * 4 / 3 + 1));
+            for (Map.Entry<?, ?> entry : map.entrySet()) copy.put(entry.getKey(), readOnly(entry.getValue()));
+            return Collections.unmodifiableMap(copy);
+        }
+        if (value instanceof List) {
+            List<?> list = (List<?>) value;
+            List<Object> copy = new ArrayList<>(list.size());
+            for (Object item : list) copy.add(readOnly(item));
+            return Collections.unmodifiableList(copy);
+        }
+        return value;
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    // ✅ Entries dropped to stay within maxEntries and maxBytes
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    // ✅ Entries dropped because their file changed, was deleted or invalidate*() was called
+    public long getInvalidations() {
+        return invalidations.sum();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    // ✅ Estimated heap held by the cached documents
+    public synchronized long getRetainedBytes() {
+        return retainedBytes;
+    }
+
+    // ✅ Stops the watcher thread (if any) and drops all entries, the cache must not be used afterwards
+    @Override
+    public void close() throws IOException {
+        if (watchService != null) watchService.close();
+        invalidateAll();
+    }
+
+    @Override
+    public String toString() {
+        return "DocumentCache{size=" + size()
+                + ", retainedBytes=" + getRetainedBytes()
+                + ", hits=" + getHits()
+                + ", misses=" + getMisses()
+                + ", evictions=" + getEvictions()
+                + ", invalidations=" + getInvalidations() + '}';
+    }
+
+    private static final class Key {
+
+        private final Path path;
+        private final Class<?> type;
+
+        private Key(Path path, Class<?> type) {
+            this.path = path;
+            this.type = type;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key)) return false;
+            Key other = (Key) o;
+            return path.equals(other.path) && type == other.type;
+        }
+
+        @Override
+        public int hashCode() {
+            return path.hashCode() * 31 + type.hashCode();
+        }
+    }
+
+    private static final class Entry {
+
+        private final Object value; // Bound document (SHARED) or parse tree
+        private final FileTime modified; // Full precision, a rewrite within the same millisecond must not be missed
+        private final long size;
+        private final long weight;
+
+        private Entry(Object value, BasicFileAttributes attributes) {
+            this.value = value;
+            this.modified = attributes.lastModifiedTime();
+            this.size = attributes.size();
+            this.weight = ENTRY_OVERHEAD + size * BYTES_PER_FILE_BYTE;
+        }
+
+        private boolean matches(BasicFileAttributes attributes) {
+            return attributes.lastModifiedTime().equals(modified) && attributes.size() == size;
+        }
+    }
+}
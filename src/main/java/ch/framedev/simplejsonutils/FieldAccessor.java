@@ -0,0 +1,232 @@
+package ch.framedev.simplejsonutils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+
+/*
+ * ch.framedev.simplejsonutils
+ * =============================================
+ * This File was Created by FrameDev
+ * Please do not change anything without my consent!
+ * =============================================
+ * This Class was created at 16.10.2026 21:30
+ */
+
+/**
+ * Reads and writes a single field. The typed methods let primitive fields be
+ * accessed without boxing.
+ */
+abstract class FieldAccessor {
+
+    static FieldAccessor create(Field field, AccessorStrategy strategy) {
+        if (strategy == AccessorStrategy.METHOD_HANDLE) {
+            try {
+                return new MethodHandleAccessor(field);
+            } catch (IllegalAccessException | SecurityException e) {
+                // ✅ Access denied, fall back to plain reflection
+            }
+        }
+        return new ReflectiveAccessor(field);
+    }
+
+    abstract Object get(Object target) throws Exception;
+
+    abstract void set(Object target, Object value) throws Exception;
+
+    abstract int getInt(Object target) throws Exception;
+
+    abstract long getLong(Object target) throws Exception;
+
+    abstract double getDouble(Object target) throws Exception;
+
+    abstract boolean getBoolean(Object target) throws Exception;
+
+    abstract void setInt(Object target, int value) throws Exception;
+
+    abstract void setLong(Object target, long value) throws Exception;
+
+    abstract void setDouble(Object target, double value) throws Exception;
+
+    abstract void setBoolean(Object target, boolean value) throws Exception;
+
+    private static final class ReflectiveAccessor extends FieldAccessor {
+
+        private final Field field;
+
+        private ReflectiveAccessor(Field field) {
+            this.field = field;
+        }
+
+        @Override
+        Object get(Object target) throws IllegalAccessException {
+            return field.get(target);
+        }
+
+        @Override
+        void set(Object target, Object value) throws IllegalAccessException {
+            field.set(target, value);
+        }
+
+        @Override
+        int getInt(Object target) throws IllegalAccessException {
+            return field.getInt(target);
+        }
+
+        @Override
+        long getLong(Object target) throws IllegalAccessException {
+            return field.getLong(target);
+        }
+
+        @Override
+        double getDouble(Object target) throws IllegalAccessException {
+            return field.getDouble(target);
+        }
+
+        @Override
+        boolean getBoolean(Object target) throws IllegalAccessException {
+            return field.getBoolean(target);
+        }
+
+        @Override
+        void setInt(Object target, int value) throws IllegalAccessException {
+            field.setInt(target, value);
+        }
+
+        @Override
+        void setLong(Object target, long value) throws IllegalAccessException {
+            field.setLong(target, value);
+        }
+
+        @Override
+        void setDouble(Object target, double value) throws IllegalAccessException {
+            field.setDouble(target, value);
+        }
+
+        @Override
+        void setBoolean(Object target, boolean value) throws IllegalAccessException {
+            field.setBoolean(target, value);
+        }
+    }
+
+    /**
+     * Getter and setter handles adapted once to (Object)T / (Object,T)void, so
+     * {@code invokeExact} runs without boxing or per-call access checks.
+     */
+    private static final class MethodHandleAccessor extends FieldAccessor {
+
+        private final MethodHandle getter;
+        private final MethodHandle setter;
+        private final MethodHandle typedGetter;
+        private final MethodHandle typedSetter;
+
+        private MethodHandleAccessor(Field field) throws IllegalAccessException {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(field.getDeclaringClass(), MethodHandles.lookup());
+            MethodHandle rawGetter = lookup.unreflectGetter(field);
+            MethodHandle rawSetter = lookup.unreflectSetter(field);
+            Class<?> type = field.getType();
+
+            this.getter = rawGetter.asType(MethodType.methodType(Object.class, Object.class));
+            this.setter = rawSetter.asType(MethodType.methodType(void.class, Object.class, Object.class));
+            this.typedGetter = rawGetter.asType(MethodType.methodType(type, Object.class));
+            this.typedSetter = rawSetter.asType(MethodType.methodType(void.class, Object.class, type));
+        }
+
+        @Override
+        Object get(Object target) {
+            try {
+                return (Object) getter.invokeExact(target);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+
+        @Override
+        void set(Object target, Object value) {
+            try {
+                setter.invokeExact(target, value);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+
+        @Override
+        int getInt(Object target) {
+            try {
+                return (int) typedGetter.invokeExact(target);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+
+        @Override
+        long getLong(Object target) {
+            try {
+                return (long) typedGetter.invokeExact(target);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+
+        @Override
+        double getDouble(Object target) {
+            try {
+                return (double) typedGetter.invokeExact(target);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+
+        @Override
+        boolean getBoolean(Object target) {
+            try {
+                return (boolean) typedGetter.invokeExact(target);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+
+        @Override
+        void setInt(Object target, int value) {
+            try {
+                typedSetter.invokeExact(target, value);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+
+        @Override
+        void setLong(Object target, long value) {
+            try {
+                typedSetter.invokeExact(target, value);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+
+        @Override
+        void setDouble(Object target, double value) {
+            try {
+                typedSetter.invokeExact(target, value);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+
+        @Override
+        void setBoolean(Object target, boolean value) {
+            try {
+                typedSetter.invokeExact(target, value);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+
+        private static RuntimeException rethrow(Throwable t) {
+            if (t instanceof RuntimeException) return (RuntimeException) t;
+            if (t instanceof Error) throw (Error) t;
+            return new IllegalStateException(t);
+        }
+    }
+}
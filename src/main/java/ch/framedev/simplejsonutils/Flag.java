@@ -27,7 +27,18 @@ public enum Flag {
     USE_INDENT,
 
     /**
-     * Enables debugging logs during serialization/deserialization.
+     * Enables debugging logs during serialization/deserialization: timings, every parsed
+     * entry and warnings about missing or unknown fields are printed to the console.
      */
-    DEBUG;
+    DEBUG,
+
+    /**
+     * Saves files atomically (temporary file, fsync and rename).
+     */
+    ATOMIC_WRITE,
+
+    /**
+     * Writes byte[] values as base64 strings instead of arrays of numbers.
+     */
+    BASE64_BYTES;
 }
\ No newline at end of file
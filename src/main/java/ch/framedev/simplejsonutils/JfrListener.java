@@ -0,0 +1,113 @@
+package ch.framedev.simplejsonutils;
+
+import jdk.jfr.*;
+
+/*
+ * ch.framedev.simplejsonutils
+ * =============================================
+ * This File was Created by FrameDev
+ * Please do not change anything without my consent!
+ * =============================================
+ * This Class was created at 17.10.2026 07:15
+ */
+
+/**
+ * Emits JDK Flight Recorder events for every parsed and serialized document and for
+ * errors. The events are only built while a recording has them enabled. This class is the
+ * only one that needs the {@code jdk.jfr} module, parsers without it never load it.
+ * <p>
+ * The events are committed once the work is done, its duration is carried in the
+ * {@code elapsed} field.
+ */
+public final class JfrListener implements JsonListener {
+
+    @Override
+    public void onParsed(Class<?> type, long size, long nanos) {
+        ParseEvent event = new ParseEvent();
+        if (!event.isEnabled()) return;
+        event.type = type.getName();
+        event.size = size;
+        event.elapsed = nanos;
+        event.commit();
+    }
+
+    @Override
+    public void onBound(Class<?> type, long nanos) {
+        BindEvent event = new BindEvent();
+        if (!event.isEnabled()) return;
+        event.type = type.getName();
+        event.elapsed = nanos;
+        event.commit();
+    }
+
+    @Override
+    public void onSerialized(Class<?> type, long size, long nanos) {
+        SerializeEvent event = new SerializeEvent();
+        if (!event.isEnabled()) return;
+        event.type = type.getName();
+        event.size = size;
+        event.elapsed = nanos;
+        event.commit();
+    }
+
+    @Override
+    public void onError(Throwable error) {
+        ErrorEvent event = new ErrorEvent();
+        if (!event.isEnabled()) return;
+        event.error = error.getClass().getName();
+        event.message = error.getMessage();
+        event.commit();
+    }
+
+    @Name("ch.framedev.simplejsonutils.Parse")
+    @Label("JSON Parse")
+    @Category("SimpleJsonUtils")
+    @Description("A document was deserialized")
+    static final class ParseEvent extends Event {
+        @Label("Type")
+        String type;
+        @Label("Size")
+        @Description("Chars or bytes of input, -1 if unknown")
+        long size;
+        @Label("Elapsed")
+        @Timespan(Timespan.NANOSECONDS)
+        long elapsed;
+    }
+
+    @Name("ch.framedev.simplejsonutils.Bind")
+    @Label("JSON Bind")
+    @Category("SimpleJsonUtils")
+    @Description("The fields of a deserialized root object were bound")
+    static final class BindEvent extends Event {
+        @Label("Type")
+        String type;
+        @Label("Elapsed")
+        @Timespan(Timespan.NANOSECONDS)
+        long elapsed;
+    }
+
+    @Name("ch.framedev.simplejsonutils.Serialize")
+    @Label("JSON Serialize")
+    @Category("SimpleJsonUtils")
+    @Description("A value was serialized")
+    static final class SerializeEvent extends Event {
+        @Label("Type")
+        String type;
+        @Label("Size")
+        @Description("Chars of output, -1 if unknown")
+        long size;
+        @Label("Elapsed")
+        @Timespan(Timespan.NANOSECONDS)
+        long elapsed;
+    }
+
+    @Name("ch.framedev.simplejsonutils.Error")
+    @Label("JSON Error")
+    @Category("SimpleJsonUtils")
+    static final class ErrorEvent extends Event {
+        @Label("Error")
+        String error;
+        @Label("Message")
+        String message;
+    }
+}
@@ -0,0 +1,85 @@
+package ch.framedev.simplejsonutils;
+
+import java.io.IOException;
+import java.util.List;
+
+/*
+ * ch.framedev.simplejsonutils
+ * =============================================
+ * This File was Created by FrameDev
+ * Please do not change anything without my consent!
+ * =============================================
+ * This Class was created at 17.10.2026 08:50
+ */
+
+/**
+ * Reads and writes the fields of one class without reflection. Implementations are
+ * generated for classes annotated with {@link JsonSerializable} and found through
+ * {@link java.util.ServiceLoader}. {@link JsonParser} then uses them instead of reflection
+ * for that class, in every format, with the same output.
+ * <p>
+ * Fields are addressed by their index in {@link #fieldNames()}, which lists the non-static
+ * fields in declaration order.
+ *
+ * @param <T> the class handled by this codec
+ */
+public interface JsonCodec<T> {
+
+    Class<T> type();
+
+    List<String> fieldNames();
+
+    // ✅ Declared type of a field, numbers are decoded straight into it while parsing
+    Class<?> fieldType(int index);
+
+    // ✅ First type argument of a generic field (e.g. List<Address> -> Address), null for raw types
+    Class<?> elementType(int index);
+
+    T newInstance();
+
+    // ✅ Pass every field to out, in declaration order
+    void write(T value, Output out) throws IOException;
+
+    // ✅ Assign every value that in returns, until in.next() is false
+    void read(T target, Input in);
+
+    /**
+     * Receives the fields of an object while it is serialized.
+     */
+    interface Output {
+
+        void field(int index, int value) throws IOException;
+
+        void field(int index, long value) throws IOException;
+
+        void field(int index, double value) throws IOException;
+
+        void field(int index, boolean value) throws IOException;
+
+        // ✅ Any other value, written like a value of a Map or List
+        void field(int index, Object value) throws IOException;
+    }
+
+    /**
+     * Hands out the parsed values of an object's fields, converted to the field types.
+     */
+    interface Input {
+
+        // ✅ Advance to the next field that has a value, false when there is none
+        boolean next();
+
+        // ✅ Index of the current field
+        int field();
+
+        int intValue();
+
+        long longValue();
+
+        double doubleValue();
+
+        boolean booleanValue();
+
+        // ✅ The value converted to the field type, including nested objects and lists
+        Object value();
+    }
+}
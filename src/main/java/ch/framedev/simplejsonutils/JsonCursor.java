@@ -0,0 +1,399 @@
+package ch.framedev.simplejsonutils;
+
+import ch.framedev.simplejsonutils.ClassDescriptor.FieldDescriptor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * ch.framedev.simplejsonutils
+ * =============================================
+ * This File was Created by FrameDev
+ * Please do not change anything without my consent!
+ * =============================================
+ * This Class was created at 16.10.2026 20:10
+ */
+
+/**
+ * Single-pass JSON reader. The input is walked exactly once with one cursor and
+ * maps, lists and scalars are built while reading, so nested values are never
+ * cut out and scanned again.
+ */
+final class JsonCursor {
+
+    private static final int INITIAL_DEPTH = 16;
+
+    private final String json;
+    private final int start;
+    private final int length; // End of the parsed range
+    private final int outerDepth; // Containers around the parsed range, counted against the depth limit
+    private final JsonListener trace; // Receives every parsed entry, or null
+    private final SymbolTable symbols; // Canonical keys and short values, or null
+    private final JsonLimits limits;
+    private int pos;
+    private long elements;
+
+    // Open objects and arrays, one slot per level, so nesting never grows the thread stack
+    private Object[] containers = new Object[INITIAL_DEPTH]; // Map or List
+    private ClassDescriptor[] descriptors = new ClassDescriptor[INITIAL_DEPTH];
+    private Class<?>[] elementTypes = new Class<?>[INITIAL_DEPTH];
+    private String[] keys = new String[INITIAL_DEPTH];
+    private Object[] nested = new Object[INITIAL_DEPTH]; // Nested objects are added after the other entries, like the previous parser did
+    private int[] valueStarts = new int[INITIAL_DEPTH];
+    private int depth;
+
+    // Types of the value read next, set when a container moves on to its next entry
+    private Class<?> nextTarget;
+    private Class<?> nextElementType;
+
+    JsonCursor(String json, JsonListener trace, SymbolTable symbols, JsonLimits limits) {
+        this(json, 0, json.length(), 0, trace, symbols, limits);
+    }
+
+    // ✅ Parse only json[start, end), e.g. a single element of a larger array that is outerDepth levels deep
+    JsonCursor(String json, int start, int end, int outerDepth, JsonListener trace, SymbolTable symbols, JsonLimits limits) {
+        limits.checkDocumentLength(end - start);
+        this.json = json;
+        this.start = start;
+        this.length = end;
+        this.outerDepth = outerDepth;
+        this.trace = trace;
+        this.symbols = symbols;
+        this.limits = limits;
+        this.pos = start;
+    }
+
+    // ✅ Read a complete document whose root must be an object, numbers are decoded into the field types of the descriptor (if any)
+    @SuppressWarnings("unchecked")
+    Map<String, Object> readRootObject(ClassDescriptor descriptor) {
+        skipWhitespace();
+        if (pos >= length || json.charAt(pos) != '{') {
+            throw new IllegalArgumentException("Invalid JSON object format: " + text());
+        }
+        Map<String, Object> map = (Map<String, Object>) readValue(descriptor != null ? descriptor.getType() : null, null);
+        expectEnd();
+        return map;
+    }
+
+    // ✅ Read a complete document holding a single scalar, unquoted text is returned as it is
+    Object readRootValue(Class<?> target) {
+        skipWhitespace();
+        int start = pos;
+        if (pos < length && json.charAt(pos) == '"') {
+            String value = readString(false);
+            expectEnd();
+            return value;
+        }
+        int end = length;
+        while (end > start && json.charAt(end - 1) <= ' ') end--;
+        if (start == end) throw error("Unexpected end of JSON input");
+        pos = length;
+        return decodeScalar(start, end, target);
+    }
+
+    // ✅ Read a complete document whose root must be an array, elements are decoded towards elementType (if any)
+    @SuppressWarnings("unchecked")
+    List<Object> readRootList(Class<?> elementType) {
+        skipWhitespace();
+        if (pos >= length || json.charAt(pos) != '[') {
+            throw new IllegalArgumentException("Invalid JSON array format: " + text());
+        }
+        List<Object> list = (List<Object>) readValue(null, elementType);
+        expectEnd();
+        return list;
+    }
+
+    // ✅ Read a complete document holding any single value
+    Object readRoot(Class<?> target) {
+        Object value = readValue(target, null);
+        expectEnd();
+        return value;
+    }
+
+    private String text() {
+        return start == 0 && length == json.length() ? json : json.substring(start, length);
+    }
+
+    /**
+     * Reads the next value. {@code target} is the type the value will be bound to and
+     * {@code elementType} the element type for lists, both may be {@code null}. Objects
+     * and arrays are kept on an explicit stack instead of recursing into them.
+     */
+    private Object readValue(Class<?> target, Class<?> elementType) {
+        while (true) {
+            skipWhitespace();
+            Object value;
+            char c = peek();
+            if (c == '{') {
+                boolean bindable = target != null && !Map.class.isAssignableFrom(target) && JsonParser.isCustomClass(target);
+                push(new LinkedHashMap<String, Object>(), bindable ? ClassDescriptor.of(target) : null, null);
+                pos++;
+                skipWhitespace();
+                if (peek() != '}') {
+                    nextKey();
+                    target = nextTarget;
+                    elementType = nextElementType;
+                    continue;
+                }
+                pos++;
+                value = pop();
+            } else if (c == '[') {
+                if (target != null && PrimitiveArrays.isPrimitiveArray(target) && target != char[].class) {
+                    value = readPrimitiveArray(target.getComponentType());
+                } else {
+                    push(new ArrayList<>(), null, target != null && target.isArray() ? target.getComponentType() : elementType);
+                    pos++;
+                    skipWhitespace();
+                    if (peek() != ']') {
+                        nextElement();
+                        target = nextTarget;
+                        elementType = nextElementType;
+                        continue;
+                    }
+                    pos++;
+                    value = pop();
+                }
+            } else if (c == '"') {
+                value = readString(false);
+            } else {
+                value = readScalar(target);
+            }
+
+            // ✅ Store the value in its container and close every container that ends with it
+            while (depth > 0) {
+                int top = depth - 1;
+                boolean object = containers[top] instanceof Map;
+                add(top, value);
+                skipWhitespace();
+                c = peek();
+                pos++;
+                if (c == ',') {
+                    if (object) nextKey();
+                    else nextElement();
+                    break;
+                }
+                if (object && c != '}') throw error("Expected ',' or '}'", pos - 1);
+                if (!object && c != ']') throw error("Expected ',' or ']'", pos - 1);
+                value = pop();
+            }
+            if (depth == 0) return value;
+            target = nextTarget;
+            elementType = nextElementType;
+        }
+    }
+
+    // ✅ Read the next field name of the innermost object up to its value
+    private void nextKey() {
+        int top = depth - 1;
+        skipWhitespace();
+        countElement();
+        if (peek() != '"') throw error("Expected field name");
+        String key = readString(true);
+        skipWhitespace();
+        if (peek() != ':') throw error("Expected ':' after field name");
+        pos++;
+        skipWhitespace();
+
+        keys[top] = key;
+        valueStarts[top] = pos;
+        FieldDescriptor field = descriptors[top] != null ? descriptors[top].getField(key) : null;
+        nextTarget = field != null ? field.getType() : null;
+        nextElementType = field != null ? field.getElementType() : null;
+    }
+
+    private void nextElement() {
+        skipWhitespace();
+        countElement();
+        nextTarget = elementTypes[depth - 1];
+        nextElementType = null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void add(int top, Object value) {
+        if (!(containers[top] instanceof Map)) {
+            ((List<Object>) containers[top]).add(value);
+            return;
+        }
+        if (trace != null) trace.onEntry(keys[top], json.subSequence(valueStarts[top], pos));
+        if (value instanceof Map) {
+            List<Object> entries = (List<Object>) nested[top];
+            if (entries == null) nested[top] = entries = new ArrayList<>();
+            entries.add(keys[top]);
+            entries.add(value);
+        } else {
+            ((Map<String, Object>) containers[top]).put(keys[top], value);
+        }
+    }
+
+    private void push(Object container, ClassDescriptor descriptor, Class<?> elementType) {
+        checkDepth();
+        if (depth == containers.length) {
+            int capacity = depth * 2;
+            containers = Arrays.copyOf(containers, capacity);
+            descriptors = Arrays.copyOf(descriptors, capacity);
+            elementTypes = Arrays.copyOf(elementTypes, capacity);
+            keys = Arrays.copyOf(keys, capacity);
+            nested = Arrays.copyOf(nested, capacity);
+            valueStarts = Arrays.copyOf(valueStarts, capacity);
+        }
+        containers[depth] = container;
+        descriptors[depth] = descriptor;
+        elementTypes[depth] = elementType;
+        depth++;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object pop() {
+        int top = --depth;
+        Object container = containers[top];
+        List<Object> entries = (List<Object>) nested[top];
+        if (entries != null) {
+            Map<String, Object> map = (Map<String, Object>) container;
+            for (int i = 0; i < entries.size(); i += 2) {
+                map.put((String) entries.get(i), entries.get(i + 1));
+            }
+        }
+        containers[top] = null;
+        descriptors[top] = null;
+        elementTypes[top] = null;
+        keys[top] = null;
+        nested[top] = null;
+        return container;
+    }
+
+    private void checkDepth() {
+        if (outerDepth + depth >= limits.maxDepth) throw limits.tooDeep(pos);
+    }
+
+    private void countElement() {
+        if (++elements > limits.maxElements) throw limits.tooManyElements(pos);
+    }
+
+    // ✅ Elements are decoded straight into a primitive buffer, nothing is boxed
+    private Object readPrimitiveArray(Class<?> component) {
+        checkDepth();
+        pos++; // Skip '['
+        PrimitiveArrays.Buffer buffer = PrimitiveArrays.buffer(component);
+        skipWhitespace();
+        if (peek() == ']') {
+            pos++;
+            return buffer.toArray();
+        }
+
+        while (true) {
+            skipWhitespace();
+            countElement();
+            int start = pos;
+            while (pos < length) {
+                char c = json.charAt(pos);
+                if (c == ',' || c == ']' || c <= ' ') break;
+                pos++;
+            }
+            if (!buffer.add(json, start, pos)) {
+                throw error("Invalid " + component.getName() + "[] element", start);
+            }
+            skipWhitespace();
+            char c = peek();
+            pos++;
+            if (c == ']') return buffer.toArray();
+            if (c != ',') throw error("Expected ',' or ']'", pos - 1);
+        }
+    }
+
+    private String readString(boolean key) {
+        pos++; // Skip opening quote
+        int start = pos;
+
+        // ✅ Fast path: no escapes, the result is the only allocation (none for a known symbol)
+        while (pos < length) {
+            char c = json.charAt(pos);
+            if (c == '"') {
+                if (pos - start > limits.maxStringLength) throw limits.stringTooLong(start - 1);
+                return symbol(json, start, pos++, key);
+            }
+            if (c == '\\') break;
+            if (c < ' ') throw JsonStrings.controlCharacter(c, pos);
+            pos++;
+        }
+
+        StringBuilder sb = Buffers.takeStringBuilder();
+        try {
+            sb.append(json, start, pos);
+            while (pos < length) {
+                char c = json.charAt(pos);
+                if (c == '"') {
+                    if (sb.length() > limits.maxStringLength) throw limits.stringTooLong(start - 1);
+                    pos++;
+                    return symbol(sb, 0, sb.length(), key);
+                }
+                if (c == '\\') {
+                    pos = JsonStrings.unescape(json, pos + 1, length, sb);
+                } else if (c < ' ') {
+                    throw JsonStrings.controlCharacter(c, pos);
+                } else {
+                    sb.append(c);
+                    pos++;
+                }
+            }
+            throw error("Unterminated string");
+        } finally {
+            Buffers.release(sb);
+        }
+    }
+
+    private String symbol(CharSequence src, int from, int to, boolean key) {
+        if (symbols == null) return src.subSequence(from, to).toString();
+        return key ? symbols.key(src, from, to) : symbols.value(src, from, to);
+    }
+
+    private Object readScalar(Class<?> target) {
+        int start = pos;
+        while (pos < length) {
+            char c = json.charAt(pos);
+            if (c == ',' || c == '}' || c == ']' || c <= ' ') break;
+            pos++;
+        }
+        if (start == pos || json.charAt(start) == ':') throw error("Unexpected character '" + json.charAt(start) + "'", start);
+        return decodeScalar(start, pos, target);
+    }
+
+    private Object decodeScalar(int start, int end, Class<?> target) {
+        int len = end - start;
+        if (len == 4 && json.startsWith("null", start)) return null;
+        if (len == 4 && json.startsWith("true", start)) return Boolean.TRUE;
+        if (len == 5 && json.startsWith("false", start)) return Boolean.FALSE;
+
+        // ✅ Numbers are decoded in place, into the target type when it is a number type
+        if (target != null) {
+            Object typed = JsonNumbers.decode(json, start, end, target);
+            if (typed != null) return typed;
+        }
+        Object number = JsonNumbers.decode(json, start, end, null);
+        return number != null ? number : json.substring(start, end);
+    }
+
+    private void expectEnd() {
+        skipWhitespace();
+        if (pos < length) throw error("Unexpected trailing content");
+    }
+
+    private void skipWhitespace() {
+        while (pos < length && json.charAt(pos) <= ' ') pos++;
+    }
+
+    private char peek() {
+        if (pos >= length) throw error("Unexpected end of JSON input");
+        return json.charAt(pos);
+    }
+
+    private IllegalArgumentException error(String message) {
+        return error(message, pos);
+    }
+
+    private IllegalArgumentException error(String message, int offset) {
+        return new IllegalArgumentException(message + " at offset " + offset);
+    }
+}
@@ -0,0 +1,412 @@
+package ch.framedev.simplejsonutils;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFileAttributes;
+import java.util.concurrent.ThreadLocalRandom;
+
+/*
+ * ch.framedev.simplejsonutils
+ * =============================================
+ * This File was Created by FrameDev
+ * Please do not change anything without my consent!
+ * =============================================
+ * This Class was created at 17.10.2026 00:10
+ */
+
+/**
+ * NIO file layer for {@link JsonParser}. Files are always UTF-8, decoded and encoded
+ * byte by byte straight from/to a {@link FileChannel}.
+ */
+final class JsonFiles {
+
+    private JsonFiles() {
+    }
+
+    /**
+     * Writes the output of {@code action} to {@code path} as UTF-8.
+     *
+     * @param atomic write to a temporary file in the same directory, fsync it and rename it over the target,
+     *               so a crash never leaves a half-written file behind
+     */
+    static void write(Path path, boolean atomic, WriteAction action) throws IOException {
+        Path target = path.toAbsolutePath();
+        if (!atomic) {
+            try (FileChannel channel = FileChannel.open(target, StandardOpenOption.WRITE,
+                    StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
+                 Utf8ChannelWriter writer = new Utf8ChannelWriter(channel)) {
+                action.write(writer);
+            }
+            return;
+        }
+
+        Path temp = writeTemp(target, action);
+        try {
+            replace(temp, target);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    // ✅ Writes a temporary file next to path and fsyncs it, replace() moves it over path later
+    static Path writeTemp(Path path, WriteAction action) throws IOException {
+        Path target = path.toAbsolutePath();
+        Path temp = createTemp(target);
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE);
+                 Utf8ChannelWriter writer = new Utf8ChannelWriter(channel)) {
+                action.write(writer);
+                writer.flush();
+                channel.force(true);
+            }
+            copyPosixAttributes(target, temp);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        return temp;
+    }
+
+    // ✅ Empty file next to target with the default permissions of a new file, unlike createTempFile's 0600
+    private static Path createTemp(Path target) throws IOException {
+        while (true) {
+            Path temp = target.resolveSibling(target.getFileName() + "." + Long.toUnsignedString(ThreadLocalRandom.current().nextLong(), 36) + ".tmp");
+            try {
+                Files.newByteChannel(temp, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE).close();
+                return temp;
+            } catch (FileAlreadyExistsException e) {
+                // Taken, try another name
+            }
+        }
+    }
+
+    /**
+     * Gives a written temporary file the POSIX permissions, owner and group of the file it
+     * replaces, so replacing a file never changes who can read it. Called after writing,
+     * the permissions of a read-only target would not allow it before.
+     */
+    private static void copyPosixAttributes(Path source, Path target) throws IOException {
+        PosixFileAttributeView view = Files.getFileAttributeView(target, PosixFileAttributeView.class);
+        if (view == null || !Files.exists(source)) return; // Not POSIX, or nothing to preserve
+        PosixFileAttributes attributes = Files.readAttributes(source, PosixFileAttributes.class);
+        view.setPermissions(attributes.permissions());
+        try {
+            view.setOwner(attributes.owner());
+            view.setGroup(attributes.group());
+        } catch (FileSystemException ignored) {
+            // Only allowed for privileged users, the file then belongs to whoever saves it
+        }
+    }
+
+    static void replace(Path temp, Path path) throws IOException {
+        Path target = path.toAbsolutePath();
+        try {
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+        syncDirectory(target.getParent());
+    }
+
+    // ✅ Appends bytes at the end of the file, creating it if needed
+    static void append(Path path, byte[] bytes, boolean sync) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            while (buffer.hasRemaining()) channel.write(buffer);
+            if (sync) channel.force(false);
+        }
+    }
+
+    static void truncate(Path path, long size) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.truncate(size);
+            channel.force(false);
+        }
+    }
+
+    // ✅ Atomically replaces the file with everything after its first offset bytes
+    static void dropPrefix(Path path, long offset) throws IOException {
+        Path target = path.toAbsolutePath();
+        Path temp = createTemp(target);
+        try {
+            try (FileChannel in = FileChannel.open(target, StandardOpenOption.READ);
+                 FileChannel out = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                long position = offset;
+                long size = in.size();
+                while (position < size) position += in.transferTo(position, size - position, out);
+                out.force(true);
+            }
+            copyPosixAttributes(target, temp);
+            replace(temp, target);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    // ✅ Best effort, makes the rename itself durable where the platform allows opening directories
+    private static void syncDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException | UnsupportedOperationException ignored) {
+            // Not supported on this platform
+        }
+    }
+
+    /**
+     * Opens a UTF-8 reader on {@code path}. Files of at least {@code mmapThreshold} bytes are
+     * memory-mapped window by window, smaller ones are read through a pooled buffer.
+     */
+    static Reader newReader(Path path, long mmapThreshold) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            return new Utf8ChannelReader(channel, mmapThreshold);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    interface WriteAction {
+        void write(Writer writer) throws IOException;
+    }
+
+    /**
+     * Decodes UTF-8 bytes from a channel, with an ASCII fast path.
+     */
+    private static final class Utf8ChannelReader extends Reader {
+
+        private static final long MAP_WINDOW = 256L * 1024 * 1024;
+
+        private final FileChannel channel;
+        private final long size;
+        private final boolean mapped;
+        private ByteBuffer bytes; // In read mode
+        private long windowStart; // File offset of bytes[0] when mapped
+        private long bytesBeforeBuffer; // File offset of bytes[0] when buffered
+        private char pendingLow; // Second half of a surrogate pair that did not fit into the last read
+        private boolean eof;
+
+        private Utf8ChannelReader(FileChannel channel, long mmapThreshold) throws IOException {
+            this.channel = channel;
+            this.size = channel.size();
+            this.mapped = size > 0 && size >= mmapThreshold;
+            if (mapped) {
+                bytes = channel.map(FileChannel.MapMode.READ_ONLY, 0, Math.min(MAP_WINDOW, size));
+            } else {
+                bytes = Buffers.takeByteBuffer();
+                bytes.flip(); // Empty until the first refill
+            }
+        }
+
+        @Override
+        public int read(char[] cbuf, int off, int len) throws IOException {
+            if (len == 0) return 0;
+            int o = off;
+            int end = off + len;
+            if (pendingLow != 0) {
+                cbuf[o++] = pendingLow;
+                pendingLow = 0;
+            }
+            while (o < end) {
+                o = decode(cbuf, o, end);
+                if (o == end) break;
+                if (!refill()) {
+                    if (bytes.hasRemaining()) throw malformed(bytes.position());
+                    break;
+                }
+            }
+            return o == off ? -1 : o - off;
+        }
+
+        private int decode(char[] cbuf, int o, int end) throws IOException {
+            ByteBuffer in = bytes;
+            int p = in.position();
+            int limit = in.limit();
+            while (o < end && p < limit) {
+                int b = in.get(p);
+                if (b >= 0) {
+                    // ✅ ASCII fast path
+                    cbuf[o++] = (char) b;
+                    p++;
+                } else if ((b & 0xE0) == 0xC0) {
+                    if (p + 1 >= limit) break;
+                    int cp = ((b & 0x1F) << 6) | continuation(in, p + 1);
+                    if (cp < 0x80) throw malformed(p);
+                    cbuf[o++] = (char) cp;
+                    p += 2;
+                } else if ((b & 0xF0) == 0xE0) {
+                    if (p + 2 >= limit) break;
+                    int cp = ((b & 0x0F) << 12) | (continuation(in, p + 1) << 6) | continuation(in, p + 2);
+                    if (cp < 0x800 || Character.isSurrogate((char) cp)) throw malformed(p);
+                    cbuf[o++] = (char) cp;
+                    p += 3;
+                } else if ((b & 0xF8) == 0xF0) {
+                    if (p + 3 >= limit) break;
+                    int cp = ((b & 0x07) << 18) | (continuation(in, p + 1) << 12)
+                            | (continuation(in, p + 2) << 6) | continuation(in, p + 3);
+                    if (cp < 0x10000 || cp > Character.MAX_CODE_POINT) throw malformed(p);
+                    cbuf[o++] = Character.highSurrogate(cp);
+                    if (o < end) {
+                        cbuf[o++] = Character.lowSurrogate(cp);
+                    } else {
+                        pendingLow = Character.lowSurrogate(cp);
+                    }
+                    p += 4;
+                } else {
+                    throw malformed(p);
+                }
+            }
+            in.position(p);
+            return o;
+        }
+
+        private int continuation(ByteBuffer in, int index) throws IOException {
+            int b = in.get(index);
+            if ((b & 0xC0) != 0x80) throw malformed(index);
+            return b & 0x3F;
+        }
+
+        // ✅ Next window / next chunk, unconsumed bytes of an incomplete sequence are kept
+        private boolean refill() throws IOException {
+            if (eof) return false;
+            if (mapped) {
+                long next = windowStart + bytes.position();
+                if (windowStart + bytes.limit() >= size) {
+                    eof = true;
+                    return false;
+                }
+                windowStart = next;
+                bytes = channel.map(FileChannel.MapMode.READ_ONLY, windowStart, Math.min(MAP_WINDOW, size - windowStart));
+                return true;
+            }
+            bytesBeforeBuffer += bytes.position();
+            bytes.compact();
+            int read = channel.read(bytes);
+            bytes.flip();
+            if (read < 0) {
+                eof = true;
+                return false;
+            }
+            return true;
+        }
+
+        private IOException malformed(int index) {
+            long offset = (mapped ? windowStart : bytesBeforeBuffer) + index;
+            return new IOException("Malformed UTF-8 input at byte " + offset);
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!mapped && bytes != null) Buffers.release(bytes);
+            bytes = null;
+            channel.close();
+        }
+    }
+
+    /**
+     * Encodes chars as UTF-8 into a pooled buffer that is drained into the channel when full.
+     */
+    private static final class Utf8ChannelWriter extends Writer {
+
+        private final FileChannel channel;
+        private ByteBuffer bytes; // In write mode
+        private char pendingHigh; // High surrogate waiting for its low half
+
+        private Utf8ChannelWriter(FileChannel channel) {
+            this.channel = channel;
+            this.bytes = Buffers.takeByteBuffer();
+        }
+
+        @Override
+        public void write(int c) throws IOException {
+            encode((char) c);
+        }
+
+        @Override
+        public void write(char[] cbuf, int off, int len) throws IOException {
+            for (int i = off, end = off + len; i < end; i++) encode(cbuf[i]);
+        }
+
+        @Override
+        public void write(String str, int off, int len) throws IOException {
+            for (int i = off, end = off + len; i < end; i++) encode(str.charAt(i));
+        }
+
+        @Override
+        public Writer append(CharSequence csq) throws IOException {
+            if (csq == null) csq = "null";
+            return append(csq, 0, csq.length());
+        }
+
+        @Override
+        public Writer append(CharSequence csq, int start, int end) throws IOException {
+            if (csq == null) csq = "null";
+            for (int i = start; i < end; i++) encode(csq.charAt(i));
+            return this;
+        }
+
+        private void encode(char c) throws IOException {
+            ByteBuffer out = bytes;
+            if (out.remaining() < 4) {
+                drain();
+            }
+            if (pendingHigh != 0) {
+                char high = pendingHigh;
+                pendingHigh = 0;
+                if (Character.isLowSurrogate(c)) {
+                    int cp = Character.toCodePoint(high, c);
+                    out.put((byte) (0xF0 | (cp >> 18)));
+                    out.put((byte) (0x80 | ((cp >> 12) & 0x3F)));
+                    out.put((byte) (0x80 | ((cp >> 6) & 0x3F)));
+                    out.put((byte) (0x80 | (cp & 0x3F)));
+                    return;
+                }
+                out.put((byte) '?'); // Unpaired surrogate
+                if (out.remaining() < 3) drain();
+            }
+            if (c < 0x80) {
+                out.put((byte) c);
+            } else if (c < 0x800) {
+                out.put((byte) (0xC0 | (c >> 6)));
+                out.put((byte) (0x80 | (c & 0x3F)));
+            } else if (Character.isHighSurrogate(c)) {
+                pendingHigh = c;
+            } else if (Character.isLowSurrogate(c)) {
+                out.put((byte) '?'); // Unpaired surrogate
+            } else {
+                out.put((byte) (0xE0 | (c >> 12)));
+                out.put((byte) (0x80 | ((c >> 6) & 0x3F)));
+                out.put((byte) (0x80 | (c & 0x3F)));
+            }
+        }
+
+        private void drain() throws IOException {
+            bytes.flip();
+            while (bytes.hasRemaining()) channel.write(bytes);
+            bytes.clear();
+        }
+
+        @Override
+        public void flush() throws IOException {
+            drain();
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (bytes == null) return;
+            if (pendingHigh != 0) {
+                pendingHigh = 0;
+                encode('?');
+            }
+            drain();
+            Buffers.release(bytes);
+            bytes = null;
+        }
+    }
+}
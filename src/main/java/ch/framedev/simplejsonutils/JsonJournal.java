@@ -0,0 +1,325 @@
+package ch.framedev.simplejsonutils;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+ * ch.framedev.simplejsonutils
+ * =============================================
+ * This File was Created by FrameDev
+ * Please do not change anything without my consent!
+ * =============================================
+ * This Class was created at 17.10.2026 13:10
+ */
+
+/**
+ * Incremental persistence for {@link JsonParser#saveToFile(Path, Object)}. Register it
+ * with {@link JsonParser.Builder#journal(JsonJournal)}.
+ * <pre>{@code
+ * JsonJournal journal = JsonJournal.builder().compactAfterBytes(4 << 20).build();
+ * JsonParser parser = JsonParser.builder().journal(journal).atomicWrite(true).build();
+ * parser.saveToFile(path, state); // Only the changes since the last save are written
+ * State state = (State) parser.loadFromFile(path, State.class); // Snapshot plus journal
+ * }</pre>
+ * The first save of a file writes it completely (the snapshot). Every later save compares
+ * the object with the last saved state and appends the difference as one line of JSON
+ * Merge Patch (RFC 7386) to {@code <file>.journal}; nothing is written when nothing
+ * changed. Once the journal has grown by {@link Builder#compactAfterBytes(long)}, a
+ * background thread writes a fresh snapshot and removes the records it contains.
+ * {@link JsonParser#loadFromFile(Path, Class)} replays the journal on top of the snapshot.
+ * <p>
+ * A merge patch can not set a member to null, so null fields and null map values are left
+ * out of everything the journal writes; they are read back as missing. Appended records
+ * are fsynced when the parser writes atomically. The journal must be the only writer of
+ * its files.
+ */
+public final class JsonJournal implements Closeable {
+
+    static final String SUFFIX = ".journal";
+
+    private static final Object UNCHANGED = new Object();
+
+    private final long compactAfterBytes;
+    private final Map<Path, Entry> entries = new ConcurrentHashMap<>();
+    private final ExecutorService compactor = Executors.newSingleThreadExecutor(task -> {
+        Thread thread = new Thread(task, "JsonJournal-compactor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final LongAdder records = new LongAdder();
+    private final LongAdder recordBytes = new LongAdder();
+    private final LongAdder snapshots = new LongAdder();
+    private final LongAdder compactions = new LongAdder();
+
+    private JsonJournal(Builder builder) {
+        this.compactAfterBytes = builder.compactAfterBytes;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Configuration of a {@link JsonJournal}.
+     */
+    public static final class Builder {
+
+        private long compactAfterBytes = 1024 * 1024;
+
+        private Builder() {
+        }
+
+        // ✅ Journal size of a file that triggers a compaction into a fresh snapshot (default: 1 MB)
+        public Builder compactAfterBytes(long compactAfterBytes) {
+            if (compactAfterBytes < 1) throw new IllegalArgumentException("compactAfterBytes must be at least 1");
+            this.compactAfterBytes = compactAfterBytes;
+            return this;
+        }
+
+        public JsonJournal build() {
+            return new JsonJournal(this);
+        }
+    }
+
+    static Path journalOf(Path path) {
+        return path.resolveSibling(path.getFileName() + SUFFIX);
+    }
+
+    // ✅ Whether loading the file has to replay a journal
+    boolean hasRecords(Path path) {
+        return Files.exists(journalOf(path));
+    }
+
+    void save(Path path, Object object, JsonParser parser) throws IOException {
+        Object tree = parser.toTree(object);
+        Entry entry = entry(path);
+        synchronized (entry) {
+            if (!entry.known) adopt(entry, parser);
+            if (!entry.known) {
+                // ✅ Nothing to diff against yet, write the snapshot
+                Files.deleteIfExists(entry.journal); // Without a snapshot it has nothing to apply to
+                JsonFiles.write(entry.path, parser.isAtomicWrite(), writer -> parser.serializeObject(tree, writer));
+                entry.saved = tree;
+                entry.journalLength = 0;
+                entry.known = true;
+                snapshots.increment();
+                return;
+            }
+            Object patch = diff(entry.saved, tree);
+            if (patch == UNCHANGED) return;
+            byte[] record = parser.writeRecord(patch);
+            JsonFiles.append(entry.journal, record, parser.isAtomicWrite());
+            entry.saved = tree;
+            entry.journalLength += record.length;
+            records.increment();
+            recordBytes.add(record.length);
+            if (entry.journalLength >= compactAfterBytes && !entry.compacting) {
+                entry.compacting = true;
+                compactor.execute(() -> compact(entry, parser));
+            }
+        }
+    }
+
+    // ✅ Continue the journal left behind by an earlier process, the saved state is snapshot plus records
+    private void adopt(Entry entry, JsonParser parser) throws IOException {
+        if (!Files.exists(entry.journal) || !Files.exists(entry.path)) return;
+        byte[] journal = Files.readAllBytes(entry.journal);
+        int end = recordsEnd(journal);
+        Object tree = replay(parser.readFileTree(entry.path, Object.class), journal, end, parser);
+        if (end < journal.length) JsonFiles.truncate(entry.journal, end); // A record torn by a crash, the next one takes its place
+        entry.saved = tree;
+        entry.journalLength = end;
+        entry.known = true;
+    }
+
+    // ✅ Snapshot with the journal replayed on top, bound to clazz; null if the file does not exist
+    Object load(Path path, Class<?> clazz, JsonParser parser) throws IOException {
+        Entry entry = entry(path);
+        synchronized (entry) {
+            if (!Files.exists(entry.path)) return null;
+            Object tree = parser.readFileTree(entry.path, clazz);
+            if (Files.exists(entry.journal)) {
+                byte[] journal = Files.readAllBytes(entry.journal);
+                tree = replay(tree, journal, recordsEnd(journal), parser);
+            }
+            return parser.bindFileTree(tree, clazz, Files.size(entry.path));
+        }
+    }
+
+    private Entry entry(Path path) {
+        return entries.computeIfAbsent(path.toAbsolutePath().normalize(), Entry::new);
+    }
+
+    // ✅ Only complete lines count, a crash may have cut off the last one
+    private static int recordsEnd(byte[] journal) {
+        int end = journal.length;
+        while (end > 0 && journal[end - 1] != '\n') end--;
+        return end;
+    }
+
+    private static Object replay(Object tree, byte[] journal, int end, JsonParser parser) {
+        int start = 0;
+        while (start < end) {
+            int lineEnd = start;
+            while (journal[lineEnd] != '\n') lineEnd++;
+            if (lineEnd > start) {
+                Object patch;
+                try {
+                    patch = parser.readRecord(journal, start, lineEnd - start);
+                } catch (IllegalArgumentException e) {
+                    throw new IllegalArgumentException("Invalid journal record at offset " + start, e);
+                }
+                tree = merge(tree, patch);
+            }
+            start = lineEnd + 1;
+        }
+        return tree;
+    }
+
+    private void compact(Entry entry, JsonParser parser) {
+        try {
+            Object tree;
+            long length;
+            synchronized (entry) {
+                tree = entry.saved;
+                length = entry.journalLength;
+            }
+            // ✅ Saves keep appending while the snapshot is written, only the swap holds the lock
+            Path temp = JsonFiles.writeTemp(entry.path, writer -> parser.serializeObject(tree, writer));
+            try {
+                synchronized (entry) {
+                    JsonFiles.replace(temp, entry.path);
+                    // A crash right here replays records the snapshot already contains, patches
+                    // applied in the same order again do not change it
+                    if (entry.journalLength == length) {
+                        Files.deleteIfExists(entry.journal);
+                    } else {
+                        JsonFiles.dropPrefix(entry.journal, length);
+                    }
+                    entry.journalLength -= length;
+                }
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+            compactions.increment();
+        } catch (IOException | RuntimeException e) {
+            parser.reportError(e); // The journal stays as it is, the next save tries again
+        } finally {
+            synchronized (entry) {
+                entry.compacting = false;
+            }
+        }
+    }
+
+    // ✅ Merge patch that turns source into target, UNCHANGED when both are the same JSON
+    @SuppressWarnings("unchecked")
+    static Object diff(Object source, Object target) {
+        if (!(source instanceof Map) || !(target instanceof Map)) return same(source, target) ? UNCHANGED : target;
+        Map<String, Object> from = (Map<String, Object>) source;
+        Map<String, Object> to = (Map<String, Object>) target;
+        Map<String, Object> patch = new LinkedHashMap<>();
+        for (String key : from.keySet()) {
+            if (!to.containsKey(key)) patch.put(key, null); // ✅ Removed member
+        }
+        for (Map.Entry<String, Object> member : to.entrySet()) {
+            String key = member.getKey();
+            Object change = from.containsKey(key) ? diff(from.get(key), member.getValue()) : member.getValue();
+            if (change != UNCHANGED) patch.put(key, change);
+        }
+        return patch.isEmpty() ? UNCHANGED : patch;
+    }
+
+    // ✅ Numbers compare by their JSON text, a parsed Integer and a written Long are the same value
+    private static boolean same(Object a, Object b) {
+        if (a instanceof Number && b instanceof Number) return a.toString().equals(b.toString());
+        if (a instanceof List && b instanceof List) {
+            List<?> left = (List<?>) a;
+            List<?> right = (List<?>) b;
+            if (left.size() != right.size()) return false;
+            for (int i = 0; i < left.size(); i++) {
+                if (!same(left.get(i), right.get(i))) return false;
+            }
+            return true;
+        }
+        if (a instanceof Map && b instanceof Map) return diff(a, b) == UNCHANGED;
+        return Objects.equals(a, b);
+    }
+
+    // ✅ RFC 7386 MergePatch, maps of target are updated in place
+    @SuppressWarnings("unchecked")
+    static Object merge(Object target, Object patch) {
+        if (!(patch instanceof Map)) return patch;
+        Map<String, Object> result = target instanceof Map ? (Map<String, Object>) target : new LinkedHashMap<>();
+        for (Map.Entry<String, Object> member : ((Map<String, Object>) patch).entrySet()) {
+            if (member.getValue() == null) {
+                result.remove(member.getKey());
+            } else {
+                result.put(member.getKey(), merge(result.get(member.getKey()), member.getValue()));
+            }
+        }
+        return result;
+    }
+
+    // ✅ Records appended to any journal
+    public long getRecords() {
+        return records.sum();
+    }
+
+    public long getRecordBytes() {
+        return recordBytes.sum();
+    }
+
+    // ✅ Files written completely because there was no saved state to diff against
+    public long getSnapshots() {
+        return snapshots.sum();
+    }
+
+    public long getCompactions() {
+        return compactions.sum();
+    }
+
+    // ✅ Waits for running compactions, the journal must not be used afterwards
+    @Override
+    public void close() throws IOException {
+        compactor.shutdown();
+        try {
+            compactor.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        entries.clear();
+    }
+
+    @Override
+    public String toString() {
+        return "JsonJournal{records=" + getRecords()
+                + ", recordBytes=" + getRecordBytes()
+                + ", snapshots=" + getSnapshots()
+                + ", compactions=" + getCompactions() + '}';
+    }
+
+    // Saved state of one file, guarded by itself
+    private static final class Entry {
+
+        private final Path path;
+        private final Path journal;
+        private boolean known; // saved holds what the files contain
+        private Object saved; // Tree of the last saved object, never modified
+        private long journalLength;
+        private boolean compacting;
+
+        private Entry(Path path) {
+            this.path = path;
+            this.journal = journalOf(path);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package ch.framedev.simplejsonutils;
+
+/*
+ * ch.framedev.simplejsonutils
+ * =============================================
+ * This File was Created by FrameDev
+ * Please do not change anything without my consent!
+ * =============================================
+ * This Class was created at 17.10.2026 11:50
+ */
+
+/**
+ * Bounds for untrusted input, checked while a document is read so an oversized payload
+ * fails at the offset where it crosses the limit. Lengths are counted in the unit of the
+ * input: characters for a String or Reader, bytes for byte[], ByteBuffer, push and CBOR
+ * input.
+ */
+final class JsonLimits {
+
+    static final int DEFAULT_MAX_DEPTH = 1000;
+
+    // ✅ Only the depth is bounded by default, nothing else changes for existing callers
+    static final JsonLimits DEFAULT = new JsonLimits(DEFAULT_MAX_DEPTH, Long.MAX_VALUE, Integer.MAX_VALUE, Long.MAX_VALUE);
+
+    final int maxDepth; // Objects and arrays open at the same time, the root container is depth 1
+    final long maxDocumentLength;
+    final int maxStringLength; // Strings and field names, and unquoted tokens of streamed input
+    final long maxElements; // Array elements and object entries of a whole document
+
+    JsonLimits(int maxDepth, long maxDocumentLength, int maxStringLength, long maxElements) {
+        this.maxDepth = maxDepth;
+        this.maxDocumentLength = maxDocumentLength;
+        this.maxStringLength = maxStringLength;
+        this.maxElements = maxElements;
+    }
+
+    // ✅ Checked before anything is parsed when the length is known up front
+    void checkDocumentLength(long length) {
+        if (length > maxDocumentLength) throw documentTooLong();
+    }
+
+    IllegalArgumentException tooDeep(long offset) {
+        return new IllegalArgumentException("Maximum nesting depth of " + maxDepth + " exceeded at offset " + offset);
+    }
+
+    IllegalArgumentException tooDeep(Class<?> type) {
+        return new IllegalArgumentException("Maximum nesting depth of " + maxDepth + " exceeded while serializing " + type.getName());
+    }
+
+    IllegalArgumentException documentTooLong() {
+        return new IllegalArgumentException("Document longer than the maximum length of " + maxDocumentLength + " at offset " + maxDocumentLength);
+    }
+
+    IllegalArgumentException stringTooLong(long offset) {
+        return new IllegalArgumentException("String longer than the maximum length of " + maxStringLength + " at offset " + offset);
+    }
+
+    IllegalArgumentException tooManyElements(long offset) {
+        return new IllegalArgumentException("More than the maximum of " + maxElements + " elements at offset " + offset);
+    }
+}
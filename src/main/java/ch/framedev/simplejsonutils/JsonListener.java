@@ -0,0 +1,95 @@
+package ch.framedev.simplejsonutils;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+
+/*
+ * ch.framedev.simplejsonutils
+ * =============================================
+ * This File was Created by FrameDev
+ * Please do not change anything without my consent!
+ * =============================================
+ * This Class was created at 17.10.2026 06:40
+ */
+
+/**
+ * Receives diagnostics from a {@link JsonParser}, register it with
+ * {@link JsonParser.Builder#listener(JsonListener)}. Every method has an empty default,
+ * and a parser without a listener does not measure or report anything.
+ * <p>
+ * Listeners are called from every thread that uses the parser and must be thread-safe.
+ *
+ * @see JsonMetrics
+ * @see JfrListener
+ */
+public interface JsonListener {
+
+    /**
+     * A document was deserialized.
+     *
+     * @param type  the requested type
+     * @param size  length of the input in chars (bytes for byte[] input), -1 if unknown
+     * @param nanos time spent, binding included
+     */
+    default void onParsed(Class<?> type, long size, long nanos) {
+    }
+
+    /**
+     * The fields of a deserialized document's root object were bound, {@code nanos} is
+     * part of the time reported to {@link #onParsed}.
+     */
+    default void onBound(Class<?> type, long nanos) {
+    }
+
+    /**
+     * A value was serialized.
+     *
+     * @param size length of the output in chars, -1 if unknown
+     */
+    default void onSerialized(Class<?> type, long size, long nanos) {
+    }
+
+    // ✅ A field of a custom class received a value
+    default void onFieldBound(Class<?> type, String field) {
+    }
+
+    // ✅ A field of a custom class has no key in the JSON
+    default void onMissingField(Class<?> type, String field) {
+    }
+
+    // ✅ A key in the JSON has no field in the custom class
+    default void onUnknownField(Class<?> type, String key) {
+    }
+
+    // ✅ A map entry with a null key was left out while serializing
+    default void onNullKey(Map<?, ?> map) {
+    }
+
+    // ✅ A field could not be read while serializing and was left out
+    default void onInaccessibleField(Class<?> type, String field, Exception cause) {
+    }
+
+    // ✅ Parsing, binding or serializing failed; rethrown to the caller unless noted otherwise
+    default void onError(Throwable error) {
+    }
+
+    /**
+     * True if the listener wants {@link #onEntry} calls. Tracing copies the source text
+     * of every value and is meant for debugging only.
+     */
+    default boolean isTracing() {
+        return false;
+    }
+
+    // ✅ An object entry was parsed, only called when isTracing() is true
+    default void onEntry(String key, CharSequence value) {
+    }
+
+    // ✅ One listener that forwards to all of the given ones
+    static JsonListener compose(JsonListener... listeners) {
+        JsonListener[] all = Arrays.stream(listeners).filter(Objects::nonNull).toArray(JsonListener[]::new);
+        if (all.length == 1) return all[0];
+        return new CompositeListener(all);
+    }
+}
@@ -0,0 +1,171 @@
+package ch.framedev.simplejsonutils;
+
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+ * ch.framedev.simplejsonutils
+ * =============================================
+ * This File was Created by FrameDev
+ * Please do not change anything without my consent!
+ * =============================================
+ * This Class was created at 17.10.2026 07:05
+ */
+
+/**
+ * Thread-safe counters fed by a {@link JsonParser}, cheap enough to keep enabled in production.
+ * <pre>{@code
+ * JsonMetrics metrics = new JsonMetrics();
+ * JsonParser parser = JsonParser.builder().listener(metrics).build();
+ * ...
+ * System.out.println(metrics);
+ * }</pre>
+ */
+public final class JsonMetrics implements JsonListener {
+
+    private final LongAdder documentsParsed = new LongAdder();
+    private final LongAdder documentsSerialized = new LongAdder();
+    private final LongAdder parsedSize = new LongAdder();
+    private final LongAdder serializedSize = new LongAdder();
+    private final LongAdder parseNanos = new LongAdder();
+    private final LongAdder bindNanos = new LongAdder();
+    private final LongAdder serializeNanos = new LongAdder();
+    private final LongAdder fieldsBound = new LongAdder();
+    private final LongAdder missingFields = new LongAdder();
+    private final LongAdder unknownFields = new LongAdder();
+    private final LongAdder skippedValues = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+
+    @Override
+    public void onParsed(Class<?> type, long size, long nanos) {
+        documentsParsed.increment();
+        if (size > 0) parsedSize.add(size);
+        parseNanos.add(nanos);
+    }
+
+    @Override
+    public void onBound(Class<?> type, long nanos) {
+        bindNanos.add(nanos);
+    }
+
+    @Override
+    public void onSerialized(Class<?> type, long size, long nanos) {
+        documentsSerialized.increment();
+        if (size > 0) serializedSize.add(size);
+        serializeNanos.add(nanos);
+    }
+
+    @Override
+    public void onFieldBound(Class<?> type, String field) {
+        fieldsBound.increment();
+    }
+
+    @Override
+    public void onMissingField(Class<?> type, String field) {
+        missingFields.increment();
+    }
+
+    @Override
+    public void onUnknownField(Class<?> type, String key) {
+        unknownFields.increment();
+    }
+
+    @Override
+    public void onNullKey(Map<?, ?> map) {
+        skippedValues.increment();
+    }
+
+    @Override
+    public void onInaccessibleField(Class<?> type, String field, Exception cause) {
+        skippedValues.increment();
+    }
+
+    @Override
+    public void onError(Throwable error) {
+        errors.increment();
+    }
+
+    public long getDocumentsParsed() {
+        return documentsParsed.sum();
+    }
+
+    public long getDocumentsSerialized() {
+        return documentsSerialized.sum();
+    }
+
+    // ✅ Chars (bytes for byte[] input) of all parsed documents of known size
+    public long getParsedSize() {
+        return parsedSize.sum();
+    }
+
+    // ✅ Chars of all serialized documents of known size
+    public long getSerializedSize() {
+        return serializedSize.sum();
+    }
+
+    // ✅ Total time spent deserializing, binding included
+    public long getParseNanos() {
+        return parseNanos.sum();
+    }
+
+    // ✅ Part of the parse time spent binding fields
+    public long getBindNanos() {
+        return bindNanos.sum();
+    }
+
+    public long getSerializeNanos() {
+        return serializeNanos.sum();
+    }
+
+    public long getFieldsBound() {
+        return fieldsBound.sum();
+    }
+
+    public long getMissingFields() {
+        return missingFields.sum();
+    }
+
+    public long getUnknownFields() {
+        return unknownFields.sum();
+    }
+
+    // ✅ Null map keys and unreadable fields left out while serializing
+    public long getSkippedValues() {
+        return skippedValues.sum();
+    }
+
+    public long getErrors() {
+        return errors.sum();
+    }
+
+    public void reset() {
+        documentsParsed.reset();
+        documentsSerialized.reset();
+        parsedSize.reset();
+        serializedSize.reset();
+        parseNanos.reset();
+        bindNanos.reset();
+        serializeNanos.reset();
+        fieldsBound.reset();
+        missingFields.reset();
+        unknownFields.reset();
+        skippedValues.reset();
+        errors.reset();
+    }
+
+    @Override
+    public String toString() {
+        return "JsonMetrics{documentsParsed=" + getDocumentsParsed()
+                + ", documentsSerialized=" + getDocumentsSerialized()
+                + ", parsedSize=" + getParsedSize()
+                + ", serializedSize=" + getSerializedSize()
+                + ", parseNanos=" + getParseNanos()
+                + ", bindNanos=" + getBindNanos()
+                + ", serializeNanos=" + getSerializeNanos()
+                + ", fieldsBound=" + getFieldsBound()
+                + ", missingFields=" + getMissingFields()
+                + ", unknownFields=" + getUnknownFields()
+                + ", skippedValues=" + getSkippedValues()
+                + ", errors=" + getErrors() + '}';
+    }
+}
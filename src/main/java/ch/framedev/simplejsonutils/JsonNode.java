@@ -0,0 +1,437 @@
+package ch.framedev.simplejsonutils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/*
+ * ch.framedev.simplejsonutils
+ * =============================================
+ * This File was Created by FrameDev
+ * Please do not change anything without my consent!
+ * =============================================
+ * This Class was created at 17.10.2026 03:20
+ */
+
+/**
+ * Lazy view of a JSON document. A node only knows where its value starts and ends in
+ * the source text. Objects and arrays find their direct children on demand, scanning
+ * no further than the requested child, and untouched subtrees are skipped by bracket
+ * counting without building anything. Strings and numbers are decoded on first access.
+ * <p>
+ * Missing children are returned as a node of type {@link Type#MISSING}, so lookups can
+ * be chained: {@code node.get("items").get(3).get("id").asLong()}.
+ * <p>
+ * Duplicate names resolve like the eager Map: the last value wins, and a name is listed
+ * once, at its first position. Looking up a name therefore locates every entry of its
+ * object, the values of the other entries are still only skipped.
+ * <p>
+ * The limits of the parser apply to everything that is read: the document length up
+ * front, and the depth, string lengths and element count of the values that are visited.
+ * <p>
+ * Nodes are not thread-safe.
+ */
+public final class JsonNode {
+
+    public enum Type {
+        OBJECT, ARRAY, STRING, NUMBER, BOOLEAN, NULL, MISSING
+    }
+
+    private static final JsonNode MISSING = new JsonNode(null, null, 0, 0, 0, Type.MISSING);
+
+    private final String json;
+    private final Scope scope;
+    private final int start;
+    private final int end;
+    private final int depth; // Containers around this value
+    private final Type type;
+
+    // Containers: offsets of the children found so far, objects store keyStart, keyEnd, valueStart, valueEnd
+    // per entry and arrays valueStart, valueEnd
+    private int[] offsets;
+    private JsonNode[] children;
+    private int count;
+    private int scanPos;
+    private boolean scanned;
+
+    private Object value; // Decoded string or number
+
+    private JsonNode(String json, Scope scope, int start, int end, int depth, Type type) {
+        this.json = json;
+        this.scope = scope;
+        this.start = start;
+        this.end = end;
+        this.depth = depth;
+        this.type = type;
+        this.scanPos = start + 1;
+        if ((type == Type.OBJECT || type == Type.ARRAY) && depth >= scope.limits.maxDepth) throw scope.limits.tooDeep(start);
+    }
+
+    // ✅ Only the first character is inspected, the document is validated as far as it is read
+    static JsonNode parse(String json, SymbolTable symbols, JsonLimits limits) {
+        limits.checkDocumentLength(json.length());
+        int start = 0;
+        int end = json.length();
+        while (start < end && json.charAt(start) <= ' ') start++;
+        while (end > start && json.charAt(end - 1) <= ' ') end--;
+        if (start == end) throw new IllegalArgumentException("Unexpected end of JSON input at offset " + start);
+        return new JsonNode(json, new Scope(symbols, limits), start, end, 0, typeAt(json, start));
+    }
+
+    private static Type typeAt(String json, int pos) {
+        switch (json.charAt(pos)) {
+            case '{':
+                return Type.OBJECT;
+            case '[':
+                return Type.ARRAY;
+            case '"':
+                return Type.STRING;
+            case 't':
+            case 'f':
+                return Type.BOOLEAN;
+            case 'n':
+                return Type.NULL;
+            default:
+                return Type.NUMBER;
+        }
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public boolean isObject() {
+        return type == Type.OBJECT;
+    }
+
+    public boolean isArray() {
+        return type == Type.ARRAY;
+    }
+
+    public boolean isString() {
+        return type == Type.STRING;
+    }
+
+    public boolean isNumber() {
+        return type == Type.NUMBER;
+    }
+
+    public boolean isBoolean() {
+        return type == Type.BOOLEAN;
+    }
+
+    public boolean isNull() {
+        return type == Type.NULL;
+    }
+
+    public boolean isMissing() {
+        return type == Type.MISSING;
+    }
+
+    // ✅ Child of an object, or a MISSING node, the last of duplicate names wins
+    public JsonNode get(String name) {
+        if (type != Type.OBJECT) return MISSING;
+        scanAll();
+        for (int i = count - 1; i >= 0; i--) {
+            if (keyEquals(i, name)) return child(i);
+        }
+        return MISSING;
+    }
+
+    // ✅ Element of an array, or a MISSING node
+    public JsonNode get(int index) {
+        if (type != Type.ARRAY || index < 0) return MISSING;
+        while (count <= index) {
+            if (!scanNext()) return MISSING;
+        }
+        return child(index);
+    }
+
+    public boolean has(String name) {
+        return !get(name).isMissing();
+    }
+
+    // ✅ Number of distinct names or elements, scans the whole container
+    public int size() {
+        if (type == Type.OBJECT) return distinctNames().size();
+        if (type != Type.ARRAY) return 0;
+        scanAll();
+        return count;
+    }
+
+    public List<String> fieldNames() {
+        if (type != Type.OBJECT) return new ArrayList<>();
+        return new ArrayList<>(distinctNames());
+    }
+
+    private Set<String> distinctNames() {
+        scanAll();
+        Set<String> names = new LinkedHashSet<>();
+        for (int i = 0; i < count; i++) {
+            names.add(decodeString(offsets[4 * i], offsets[4 * i + 1], true));
+        }
+        return names;
+    }
+
+    /**
+     * Looks up a node by JSON Pointer (RFC 6901), e.g. {@code "/items/3/id"}.
+     * The empty pointer is this node.
+     */
+    public JsonNode at(String pointer) {
+        if (pointer.isEmpty()) return this;
+        if (pointer.charAt(0) != '/') throw new IllegalArgumentException("Invalid JSON Pointer: " + pointer);
+        JsonNode node = this;
+        int pos = 1;
+        while (true) {
+            int slash = pointer.indexOf('/', pos);
+            String token = pointer.substring(pos, slash < 0 ? pointer.length() : slash);
+            if (token.indexOf('~') >= 0) token = token.replace("~1", "/").replace("~0", "~");
+            node = node.isArray() ? node.get(arrayIndex(token)) : node.get(token);
+            if (slash < 0 || node.isMissing()) return node;
+            pos = slash + 1;
+        }
+    }
+
+    private static int arrayIndex(String token) {
+        if (token.isEmpty() || token.length() > 9 || (token.length() > 1 && token.charAt(0) == '0')) return -1;
+        int index = 0;
+        for (int i = 0; i < token.length(); i++) {
+            char c = token.charAt(i);
+            if (c < '0' || c > '9') return -1;
+            index = index * 10 + (c - '0');
+        }
+        return index;
+    }
+
+    public String asText() {
+        if (type == Type.STRING) {
+            if (value == null) {
+                checkStringLength(start, end); // Children were checked when found, the root was not
+                value = decodeString(start, end, false);
+            }
+            return (String) value;
+        }
+        if (type == Type.MISSING) throw new IllegalStateException("Missing node has no value");
+        return json.substring(start, end);
+    }
+
+    public boolean asBoolean() {
+        if (type == Type.BOOLEAN) {
+            if (json.startsWith("true", start) && end - start == 4) return true;
+            if (json.startsWith("false", start) && end - start == 5) return false;
+        }
+        throw mismatch("boolean");
+    }
+
+    public int asInt() {
+        return (Integer) decodeNumber(int.class, "int");
+    }
+
+    public long asLong() {
+        return (Long) decodeNumber(long.class, "long");
+    }
+
+    public double asDouble() {
+        return (Double) decodeNumber(double.class, "double");
+    }
+
+    // ✅ Integer, Long, BigInteger or Double, whichever fits
+    public Number asNumber() {
+        if (value == null) value = decodeNumber(null, "number");
+        return (Number) value;
+    }
+
+    // ✅ Eagerly converts this subtree into Map/List/String/Number/Boolean values
+    public Object toValue() {
+        if (type == Type.MISSING) return null;
+        return new JsonCursor(json, start, end, depth, null, scope.symbols, scope.limits).readRoot(null);
+    }
+
+    // ✅ The source text of this value
+    public String toJson() {
+        return type == Type.MISSING ? "" : json.substring(start, end);
+    }
+
+    @Override
+    public String toString() {
+        return toJson();
+    }
+
+    private Object decodeNumber(Class<?> target, String name) {
+        if (type != Type.NUMBER) throw mismatch(name);
+        Object number = JsonNumbers.decode(json, start, end, target);
+        if (number == null) throw mismatch(name);
+        return number;
+    }
+
+    private IllegalArgumentException mismatch(String expected) {
+        return new IllegalArgumentException("Expected " + expected + " but found " + (type == Type.MISSING ? "missing node" : toJson())
+                + (type == Type.MISSING ? "" : " at offset " + start));
+    }
+
+    private JsonNode child(int i) {
+        if (children == null || children.length <= i) {
+            children = children == null ? new JsonNode[Math.max(8, i + 1)] : Arrays.copyOf(children, Math.max(children.length * 2, i + 1));
+        }
+        JsonNode node = children[i];
+        if (node == null) {
+            int valueStart = type == Type.OBJECT ? offsets[4 * i + 2] : offsets[2 * i];
+            int valueEnd = type == Type.OBJECT ? offsets[4 * i + 3] : offsets[2 * i + 1];
+            node = new JsonNode(json, scope, valueStart, valueEnd, depth + 1, typeAt(json, valueStart));
+            children[i] = node;
+        }
+        return node;
+    }
+
+    private boolean keyEquals(int i, String name) {
+        int keyStart = offsets[4 * i] + 1;
+        int keyEnd = offsets[4 * i + 1] - 1;
+        // ✅ Keys without escapes are compared in place
+        if (indexOfBackslash(keyStart, keyEnd) < 0) {
+            return keyEnd - keyStart == name.length() && json.startsWith(name, keyStart);
+        }
+        return decodeString(keyStart - 1, keyEnd + 1, true).equals(name);
+    }
+
+    private void scanAll() {
+        while (scanNext()) {
+            // Scan to the end
+        }
+    }
+
+    // ✅ Finds the next direct child, false once the container is closed
+    private boolean scanNext() {
+        if (scanned) return false;
+        char close = type == Type.OBJECT ? '}' : ']';
+        int pos = skipWhitespace(scanPos);
+        char c = peek(pos);
+        if (c == close) {
+            if (pos != end - 1) throw error("Unexpected trailing content", pos + 1);
+            scanned = true;
+            return false;
+        }
+        if (count > 0) {
+            if (c != ',') throw error("Expected ',' or '" + close + "'", pos);
+            pos = skipWhitespace(pos + 1);
+        }
+
+        int stride = type == Type.OBJECT ? 4 : 2;
+        if (offsets == null) {
+            offsets = new int[stride * 8];
+        } else if (offsets.length < (count + 1) * stride) {
+            offsets = Arrays.copyOf(offsets, offsets.length * 2);
+        }
+        if (++scope.elements > scope.limits.maxElements) throw scope.limits.tooManyElements(pos);
+        int o = count * stride;
+        if (type == Type.OBJECT) {
+            if (peek(pos) != '"') throw error("Expected field name", pos);
+            int keyEnd = skipString(pos);
+            checkStringLength(pos, keyEnd);
+            offsets[o++] = pos;
+            offsets[o++] = keyEnd;
+            pos = skipWhitespace(keyEnd);
+            if (peek(pos) != ':') throw error("Expected ':' after field name", pos);
+            pos = skipWhitespace(pos + 1);
+        }
+        int valueEnd = skipValue(pos);
+        if (peek(pos) == '"') checkStringLength(pos, valueEnd);
+        offsets[o++] = pos;
+        offsets[o] = valueEnd;
+        scanPos = valueEnd;
+        count++;
+        return true;
+    }
+
+    // ✅ End of the value at pos, containers are skipped by counting brackets
+    private int skipValue(int pos) {
+        char c = peek(pos);
+        if (c == '"') return skipString(pos);
+        if (c == '{' || c == '[') {
+            int depth = 0;
+            for (int i = pos; i < end; i++) {
+                c = json.charAt(i);
+                if (c == '"') {
+                    i = skipString(i) - 1;
+                } else if (c == '{' || c == '[') {
+                    depth++;
+                } else if ((c == '}' || c == ']') && --depth == 0) {
+                    return i + 1;
+                }
+            }
+            throw error("Unexpected end of JSON input", end);
+        }
+        int i = pos;
+        while (i < end) {
+            c = json.charAt(i);
+            if (c == ',' || c == '}' || c == ']' || c <= ' ') break;
+            i++;
+        }
+        if (i == pos) throw error("Unexpected character '" + c + "'", pos);
+        return i;
+    }
+
+    // ✅ Index after the closing quote of the string at pos
+    private int skipString(int pos) {
+        for (int i = pos + 1; i < end; i++) {
+            char c = json.charAt(i);
+            if (c == '"') return i + 1;
+            if (c == '\\') i++;
+        }
+        throw error("Unterminated string", end);
+    }
+
+    // ✅ Raw length between the quotes, like the cursors check it before unescaping
+    private void checkStringLength(int from, int to) {
+        if (to - from - 2 > scope.limits.maxStringLength) throw scope.limits.stringTooLong(from);
+    }
+
+    private String decodeString(int from, int to, boolean key) {
+        int bodyStart = from + 1;
+        int bodyEnd = to - 1;
+        if (indexOfBackslash(bodyStart, bodyEnd) < 0) {
+            SymbolTable symbols = scope.symbols;
+            if (symbols == null) return json.substring(bodyStart, bodyEnd);
+            return key ? symbols.key(json, bodyStart, bodyEnd) : symbols.value(json, bodyStart, bodyEnd);
+        }
+        return JsonStrings.decode(json, bodyStart, bodyEnd);
+    }
+
+    // ✅ Also rejects raw control characters, every string body passes here before it is used
+    private int indexOfBackslash(int from, int to) {
+        for (int i = from; i < to; i++) {
+            char c = json.charAt(i);
+            if (c == '\\') return i;
+            if (c < ' ') throw JsonStrings.controlCharacter(c, i);
+        }
+        return -1;
+    }
+
+    private int skipWhitespace(int pos) {
+        while (pos < end && json.charAt(pos) <= ' ') pos++;
+        return pos;
+    }
+
+    private char peek(int pos) {
+        if (pos >= end) throw error("Unexpected end of JSON input", pos);
+        return json.charAt(pos);
+    }
+
+    private static IllegalArgumentException error(String message, int offset) {
+        return new IllegalArgumentException(message + " at offset " + offset);
+    }
+
+    // Configuration and element count shared by all nodes of one document
+    private static final class Scope {
+
+        private final SymbolTable symbols;
+        private final JsonLimits limits;
+        private long elements; // Entries and elements found so far, checked against maxElements
+
+        private Scope(SymbolTable symbols, JsonLimits limits) {
+            this.symbols = symbols;
+            this.limits = limits;
+        }
+    }
+}
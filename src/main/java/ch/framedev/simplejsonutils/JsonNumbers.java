@@ -0,0 +1,291 @@
+package ch.framedev.simplejsonutils;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/*
+ * ch.framedev.simplejsonutils
+ * =============================================
+ * This File was Created by FrameDev
+ * Please do not change anything without my consent!
+ * =============================================
+ * This Class was created at 16.10.2026 22:00
+ */
+
+/**
+ * Hand-written JSON number scanner. Numbers are decoded directly from the source
+ * characters into the requested type, without regular expressions or temporary
+ * Strings in the common cases.
+ */
+final class JsonNumbers {
+
+    // Powers of ten that are exact doubles (10^22 is the largest)
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    private JsonNumbers() {
+    }
+
+    /**
+     * Decodes the JSON number in {@code s[start, end)} into {@code target}.
+     * A {@code null}, {@code Object} or {@code Number} target picks the narrowest of
+     * Integer, Long and BigInteger for integers and Double otherwise.
+     *
+     * @return the decoded value, or {@code null} if the characters are not a number
+     * or the target is not a number type that can hold it
+     * @throws NumberFormatException if an integer does not fit into an int/long target
+     */
+    static Object decode(CharSequence s, int start, int end, Class<?> target) {
+        if (target != null && target != Object.class && target != Number.class && !isNumberType(target)) return null;
+
+        int i = start;
+        boolean negative = false;
+        if (i < end && s.charAt(i) == '-') {
+            negative = true;
+            i++;
+        }
+
+        // ✅ Integer part, accumulated negatively so Long.MIN_VALUE fits
+        int integerStart = i;
+        long value = 0;
+        boolean overflow = false;
+        int significantDigits = 0;
+        while (i < end) {
+            int digit = s.charAt(i) - '0';
+            if (digit < 0 || digit > 9) break;
+            if (!overflow) {
+                if (value < (Long.MIN_VALUE + digit) / 10) {
+                    overflow = true;
+                } else {
+                    value = value * 10 - digit;
+                }
+            }
+            if (significantDigits > 0 || digit != 0) significantDigits++;
+            i++;
+        }
+        if (i == integerStart) return null;
+
+        if (i == end) {
+            if (!negative && value == Long.MIN_VALUE) overflow = true;
+            return decodeIntegral(s, start, end, negative ? value : -value, overflow, target);
+        }
+
+        // ✅ Fraction and exponent
+        int fractionDigits = 0;
+        if (s.charAt(i) == '.') {
+            i++;
+            int fractionStart = i;
+            while (i < end && isDigit(s.charAt(i))) {
+                if (!overflow) {
+                    int digit = s.charAt(i) - '0';
+                    if (value < (Long.MIN_VALUE + digit) / 10) {
+                        overflow = true;
+                    } else {
+                        value = value * 10 - digit;
+                        fractionDigits++;
+                    }
+                }
+                if (significantDigits > 0 || s.charAt(i) != '0') significantDigits++;
+                i++;
+            }
+            if (i == fractionStart) return null;
+        }
+        int exponent = 0;
+        if (i < end && (s.charAt(i) == 'e' || s.charAt(i) == 'E')) {
+            i++;
+            boolean negativeExponent = false;
+            if (i < end && (s.charAt(i) == '+' || s.charAt(i) == '-')) {
+                negativeExponent = s.charAt(i) == '-';
+                i++;
+            }
+            int exponentStart = i;
+            while (i < end && isDigit(s.charAt(i))) {
+                if (exponent < 100_000) exponent = exponent * 10 + (s.charAt(i) - '0');
+                i++;
+            }
+            if (i == exponentStart) return null;
+            if (negativeExponent) exponent = -exponent;
+        }
+        if (i != end) return null;
+
+        if (target == null || target == Object.class || target == Number.class || target == double.class || target == Double.class) {
+            return decodeDouble(s, start, end, negative, value, overflow, significantDigits, exponent - fractionDigits);
+        }
+        if (target == float.class || target == Float.class) return Float.parseFloat(s.subSequence(start, end).toString());
+        if (target == BigDecimal.class) return new BigDecimal(s.subSequence(start, end).toString());
+        return null; // Fractions do not fit into integer types
+    }
+
+    /**
+     * Decodes the JSON integer in {@code s[start, end)} without boxing, for primitive arrays.
+     *
+     * @throws NumberFormatException if the characters are not an integer or do not fit into a long
+     */
+    static long parseLong(CharSequence s, int start, int end) {
+        int i = start;
+        boolean negative = i < end && s.charAt(i) == '-';
+        if (negative) i++;
+        if (i == end) throw notANumber(s, start, end);
+        long value = 0;
+        while (i < end) {
+            int digit = s.charAt(i++) - '0';
+            if (digit < 0 || digit > 9) throw notANumber(s, start, end);
+            if (value < (Long.MIN_VALUE + digit) / 10) throw notANumber(s, start, end);
+            value = value * 10 - digit;
+        }
+        if (negative) return value;
+        if (value == Long.MIN_VALUE) throw notANumber(s, start, end);
+        return -value;
+    }
+
+    /**
+     * Decodes any JSON number in {@code s[start, end)} without boxing, for primitive arrays.
+     *
+     * @return the value, or {@code NaN} (which JSON cannot express) if the characters are not a number
+     */
+    static double parseDouble(CharSequence s, int start, int end) {
+        int i = start;
+        boolean negative = i < end && s.charAt(i) == '-';
+        if (negative) i++;
+
+        int integerStart = i;
+        long value = 0;
+        boolean overflow = false;
+        int significantDigits = 0;
+        int fractionDigits = 0;
+        boolean fraction = false;
+        while (i < end) {
+            char c = s.charAt(i);
+            if (c == '.' && !fraction && i > integerStart) {
+                fraction = true;
+                i++;
+                if (i == end || !isDigit(s.charAt(i))) return Double.NaN;
+                continue;
+            }
+            if (!isDigit(c)) break;
+            int digit = c - '0';
+            if (!overflow) {
+                if (value < (Long.MIN_VALUE + digit) / 10) {
+                    overflow = true;
+                } else {
+                    value = value * 10 - digit;
+                    if (fraction) fractionDigits++;
+                }
+            }
+            if (significantDigits > 0 || digit != 0) significantDigits++;
+            i++;
+        }
+        if (i == integerStart) return Double.NaN;
+
+        int exponent = 0;
+        if (i < end && (s.charAt(i) == 'e' || s.charAt(i) == 'E')) {
+            i++;
+            boolean negativeExponent = false;
+            if (i < end && (s.charAt(i) == '+' || s.charAt(i) == '-')) {
+                negativeExponent = s.charAt(i) == '-';
+                i++;
+            }
+            int exponentStart = i;
+            while (i < end && isDigit(s.charAt(i))) {
+                if (exponent < 100_000) exponent = exponent * 10 + (s.charAt(i) - '0');
+                i++;
+            }
+            if (i == exponentStart) return Double.NaN;
+            if (negativeExponent) exponent = -exponent;
+        }
+        if (i != end) return Double.NaN;
+        return decodeDouble(s, start, end, negative, value, overflow, significantDigits, exponent - fractionDigits);
+    }
+
+    private static Object decodeIntegral(CharSequence s, int start, int end, long value, boolean overflow, Class<?> target) {
+        if (target == null || target == Object.class || target == Number.class) {
+            if (overflow) return new BigInteger(s.subSequence(start, end).toString());
+            if (value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE) return (int) value;
+            return value;
+        }
+        if (overflow) {
+            if (target == BigInteger.class) return new BigInteger(s.subSequence(start, end).toString());
+            if (target == BigDecimal.class) return new BigDecimal(s.subSequence(start, end).toString());
+            if (target == double.class || target == Double.class) return Double.parseDouble(s.subSequence(start, end).toString());
+            if (target == float.class || target == Float.class) return Float.parseFloat(s.subSequence(start, end).toString());
+            throw new NumberFormatException("Value out of range for " + target.getSimpleName() + ": " + s.subSequence(start, end));
+        }
+        return fromLong(value, target);
+    }
+
+    private static double decodeDouble(CharSequence s, int start, int end, boolean negative, long value,
+                                       boolean overflow, int significantDigits, int exponent) {
+        // ✅ Fast path: mantissa and power of ten are both exact doubles, so one rounding step is exact
+        if (!overflow && significantDigits <= 15 && exponent >= -22 && exponent <= 22) {
+            double result = (double) -value;
+            result = exponent < 0 ? result / POWERS_OF_TEN[-exponent] : result * POWERS_OF_TEN[exponent];
+            return negative ? -result : result;
+        }
+        return Double.parseDouble(s.subSequence(start, end).toString());
+    }
+
+    /**
+     * Converts an already decoded number into {@code target}.
+     *
+     * @return the converted value, or {@code null} if the conversion would lose information
+     */
+    static Object convert(Number number, Class<?> target) {
+        if (target.isInstance(number)) return number;
+        if (number instanceof Integer || number instanceof Long || number instanceof Short || number instanceof Byte) {
+            return isNumberType(target) ? fromLong(number.longValue(), target) : null;
+        }
+        if (number instanceof BigInteger) {
+            BigInteger bigInteger = (BigInteger) number;
+            if (bigInteger.bitLength() < 64) return isNumberType(target) ? fromLong(bigInteger.longValue(), target) : null;
+            if (target == BigDecimal.class) return new BigDecimal(bigInteger);
+            if (target == double.class || target == Double.class) return bigInteger.doubleValue();
+            return null;
+        }
+        if (target == double.class || target == Double.class) return number.doubleValue();
+        if (target == float.class || target == Float.class) return number.floatValue();
+        if (target == BigDecimal.class && number instanceof Double) return BigDecimal.valueOf(number.doubleValue());
+        return null;
+    }
+
+    private static Object fromLong(long value, Class<?> target) {
+        if (target == int.class || target == Integer.class) {
+            if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) throw outOfRange(value, target);
+            return (int) value;
+        }
+        if (target == long.class || target == Long.class) return value;
+        if (target == double.class || target == Double.class) return (double) value;
+        if (target == float.class || target == Float.class) return (float) value;
+        if (target == short.class || target == Short.class) {
+            if (value < Short.MIN_VALUE || value > Short.MAX_VALUE) throw outOfRange(value, target);
+            return (short) value;
+        }
+        if (target == byte.class || target == Byte.class) {
+            if (value < Byte.MIN_VALUE || value > Byte.MAX_VALUE) throw outOfRange(value, target);
+            return (byte) value;
+        }
+        if (target == BigInteger.class) return BigInteger.valueOf(value);
+        if (target == BigDecimal.class) return BigDecimal.valueOf(value);
+        return null;
+    }
+
+    static boolean isNumberType(Class<?> type) {
+        return type == int.class || type == Integer.class || type == long.class || type == Long.class
+                || type == double.class || type == Double.class || type == float.class || type == Float.class
+                || type == short.class || type == Short.class || type == byte.class || type == Byte.class
+                || type == BigInteger.class || type == BigDecimal.class;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static NumberFormatException notANumber(CharSequence s, int start, int end) {
+        return new NumberFormatException("Not an integer in long range: " + s.subSequence(start, end));
+    }
+
+    private static NumberFormatException outOfRange(long value, Class<?> target) {
+        return new NumberFormatException("Value out of range for " + target.getSimpleName() + ": " + value);
+    }
+}
@@ -1,143 +1,443 @@
 package ch.framedev.simplejsonutils;
 
+import ch.framedev.simplejsonutils.ClassDescriptor.FieldDescriptor;
+
 import java.io.*;
-import java.lang.reflect.*;
+import java.lang.reflect.Array;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.*;
-
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Serializes and deserializes JSON. Instances are immutable and safe to share between
+ * threads (unless the deprecated setters are used), scratch buffers and the symbol table
+ * are pooled per thread. Configure them with {@link #builder()}.
+ */
 @SuppressWarnings({"CallToPrintStackTrace", "unchecked", "rawtypes", "unused"})
 public class JsonParser {
 
+    private static final int PARALLEL_LIST_THRESHOLD = 256 * 1024;
+
+    // Not final only for the deprecated setters
     private boolean indent;
     private boolean debug;
+    private final JsonListener userListener;
+    private JsonListener listener; // null when nothing listens, all diagnostics are skipped then
+    private JsonListener trace; // listener that wants every parsed entry, or null
+    private final AccessorStrategy accessorStrategy;
+    private final boolean atomicWrite;
+    private final long memoryMapThreshold;
+    private final boolean canonicalKeys;
+    private final int canonicalValueLength;
+    private final SymbolTable symbols; // Canonicalization settings, the table itself is per thread; null when disabled
+    private final boolean base64Bytes;
+    private final DocumentCache documentCache; // null when loadFromFile always reads the file
+    private final JsonJournal journal; // null when saveToFile always rewrites the file
+    private final JsonLimits limits;
+    private final ForkJoinPool pool; // Runs parallel list binding and NDJSON decoding, never shut down by the parser
 
     public JsonParser() {
-        this.indent = false;
-        this.debug = false;
+        this(new Builder());
     }
 
     public JsonParser(Flag... flags) {
-        // check for flags
-        for (Flag f : flags) {
-            if (f == Flag.USE_INDENT || f == Flag.PRETTY_PRINT) this.indent = true;
-            if (f == Flag.DEBUG) this.debug = true;
+        this(new Builder().flags(flags));
+    }
+
+    private JsonParser(Builder builder) {
+        this.indent = builder.indent;
+        this.userListener = builder.listener;
+        applyDebug(builder.debug);
+        this.accessorStrategy = builder.accessorStrategy;
+        this.atomicWrite = builder.atomicWrite;
+        this.memoryMapThreshold = builder.memoryMapThreshold;
+        this.canonicalKeys = builder.canonicalKeys;
+        this.canonicalValueLength = builder.canonicalValueLength;
+        this.symbols = SymbolTable.create(canonicalKeys, canonicalValueLength);
+        this.base64Bytes = builder.base64Bytes;
+        this.documentCache = builder.documentCache;
+        this.journal = builder.journal;
+        this.limits = new JsonLimits(builder.maxDepth, builder.maxDocumentLength, builder.maxStringLength, builder.maxElements);
+        this.pool = builder.pool;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    // ✅ Builder pre-filled with this parser's configuration
+    public Builder toBuilder() {
+        Builder builder = new Builder();
+        builder.indent = indent;
+        builder.debug = debug;
+        builder.listener = userListener;
+        builder.accessorStrategy = accessorStrategy;
+        builder.atomicWrite = atomicWrite;
+        builder.memoryMapThreshold = memoryMapThreshold;
+        builder.canonicalKeys = canonicalKeys;
+        builder.canonicalValueLength = canonicalValueLength;
+        builder.base64Bytes = base64Bytes;
+        builder.documentCache = documentCache;
+        builder.journal = journal;
+        builder.maxDepth = limits.maxDepth;
+        builder.maxDocumentLength = limits.maxDocumentLength;
+        builder.maxStringLength = limits.maxStringLength;
+        builder.maxElements = limits.maxElements;
+        builder.pool = pool;
+        return builder;
+    }
+
+    // ✅ The listener, with console output added when debugging
+    private void applyDebug(boolean debug) {
+        this.debug = debug;
+        if (debug && userListener != null) {
+            this.listener = JsonListener.compose(userListener, DebugListener.INSTANCE);
+        } else {
+            this.listener = debug ? DebugListener.INSTANCE : userListener;
         }
+        this.trace = listener != null && listener.isTracing() ? listener : null;
     }
 
+    /**
+     * @deprecated Makes the parser mutable, which is only safe before it is shared between
+     * threads. Use {@code builder().debug(debug)} or {@code toBuilder().debug(debug)}.
+     */
+    @Deprecated
     public void setDebug(boolean debug) {
-        this.debug = debug;
+        applyDebug(debug);
     }
 
+    /**
+     * @deprecated Makes the parser mutable, which is only safe before it is shared between
+     * threads. Use {@code builder().indent(indent)} or {@code toBuilder().indent(indent)}.
+     */
+    @Deprecated
     public void setIndent(boolean indent) {
         this.indent = indent;
     }
 
-    // ✅ Serialize Object to JSON
-    public String serializeObject(Object object) {
-        return serializeValue(object, 0);
+    public boolean isIndent() {
+        return indent;
     }
 
-    private String serializeValue(Object value, int indentLevel) {
-        if (value == null) return "null";
+    public boolean isDebug() {
+        return debug;
+    }
 
-        if (value instanceof Map) return serializeMap((Map<?, ?>) value, indentLevel);
-        if (value instanceof Number || value instanceof Boolean) return value.toString();
-        if (value instanceof List) return serializeList((List<?>) value, indentLevel);
-        if (isCustomClass(value.getClass())) return serializeObjectFields(value, indentLevel);
+    public boolean isAtomicWrite() {
+        return atomicWrite;
+    }
 
-        if (value instanceof String) {
-            String strValue = (String) value;
+    public long getMemoryMapThreshold() {
+        return memoryMapThreshold;
+    }
 
-            // ✅ Ensure we only add quotes if the string isn't already escaped properly
-            return "\"" + escapeJson(strValue) + "\"";
-        }
-        throw new IllegalArgumentException("Unsupported data type: " + value.getClass().getSimpleName());
+    public AccessorStrategy getAccessorStrategy() {
+        return accessorStrategy;
     }
 
-    private String serializeList(List<?> list, int indentLevel) {
-        StringBuilder sb = new StringBuilder("[");
-        String indent = this.indent ? "\n" + "  ".repeat(indentLevel + 1) : "";
-        for (Object item : list) {
-            sb.append(indent).append(serializeValue(item, indentLevel + 1)).append(",");
-        }
-        if (!list.isEmpty()) sb.setLength(sb.length() - 1);
-        return sb.append(this.indent ? "\n" + "  ".repeat(indentLevel) + "]" : "]").toString();
+    public boolean isCanonicalKeys() {
+        return canonicalKeys;
     }
 
-    private String serializeMap(Map<?, ?> map, int indentLevel) {
-        if (map.isEmpty()) return "{}"; // ✅ Handle empty maps safely
+    public int getCanonicalValueLength() {
+        return canonicalValueLength;
+    }
 
-        StringBuilder sb = new StringBuilder("{");
-        String indent = this.indent ? "\n" + "  ".repeat(indentLevel + 1) : "";
+    public boolean isBase64Bytes() {
+        return base64Bytes;
+    }
 
-        int count = 0; // Track number of elements to prevent trailing comma
-        for (Map.Entry<?, ?> entry : map.entrySet()) {
-            if (entry.getKey() == null) {
-                System.err.println("❌ Warning: Null key detected. Skipping entry.");
-                continue; // ✅ Skip the entry
-            }
-            String key = escapeJson(entry.getKey().toString());
-            Object value = entry.getValue();
+    // ✅ The cache in front of loadFromFile, or null
+    public DocumentCache getDocumentCache() {
+        return documentCache;
+    }
 
-            // ✅ Ensure the value is serialized correctly
-            String serializedValue = serializeValue(value, indentLevel + 1);
+    // ✅ The journal saveToFile appends to, or null
+    public JsonJournal getJournal() {
+        return journal;
+    }
 
-            sb.append(indent)
-                    .append("\"").append(key).append("\": ") // ✅ Properly quote the key
-                    .append(serializedValue);
+    public int getMaxDepth() {
+        return limits.maxDepth;
+    }
 
-            count++;
-            if (count < map.size()) sb.append(","); // ✅ Prevent trailing comma issue
-        }
+    public long getMaxDocumentLength() {
+        return limits.maxDocumentLength;
+    }
 
-        return sb.append(this.indent ? "\n" + "  ".repeat(indentLevel) + "}" : "}").toString();
+    public int getMaxStringLength() {
+        return limits.maxStringLength;
     }
 
-    private String serializeObjectFields(Object obj, int indentLevel) {
-        Field[] fields = obj.getClass().getDeclaredFields();
-        if (fields.length == 0) return "{}"; // ✅ Handle empty objects
+    public long getMaxElements() {
+        return limits.maxElements;
+    }
 
-        StringBuilder sb = new StringBuilder("{");
-        String indent = this.indent ? "\n" + "  ".repeat(indentLevel + 1) : "";
-        String closingIndent = this.indent ? "\n" + "  ".repeat(indentLevel) : ""; // ✅ Ensure proper alignment
-        boolean hasFields = false; // ✅ Track if any fields were added
+    public ForkJoinPool getPool() {
+        return pool;
+    }
 
-        for (Field field : fields) {
-            if (!Modifier.isStatic(field.getModifiers())) {
-                try {
-                    if (!field.trySetAccessible()) continue; // ✅ Skip non-accessible fields (Java 9+)
-                    Object fieldValue = field.get(obj);
-                    String serializedValue = serializeValue(fieldValue, indentLevel + 1);
+    // ✅ The listener registered with the builder, or null
+    public JsonListener getListener() {
+        return userListener;
+    }
 
-                    sb.append(indent) // ✅ Indent properly before each field
-                            .append("\"").append(escapeJson(field.getName())).append("\": ")
-                            .append(fieldValue != null ? serializedValue : "null")
-                            .append(",");
+    /**
+     * Configuration for an immutable {@link JsonParser}.
+     */
+    public static final class Builder {
+
+        private boolean indent;
+        private boolean debug;
+        private JsonListener listener;
+        private AccessorStrategy accessorStrategy = AccessorStrategy.METHOD_HANDLE;
+        private boolean atomicWrite;
+        private long memoryMapThreshold = 16L * 1024 * 1024;
+        private boolean canonicalKeys = true;
+        private int canonicalValueLength;
+        private boolean base64Bytes;
+        private DocumentCache documentCache;
+        private JsonJournal journal;
+        private int maxDepth = JsonLimits.DEFAULT_MAX_DEPTH;
+        private long maxDocumentLength = Long.MAX_VALUE;
+        private int maxStringLength = Integer.MAX_VALUE;
+        private long maxElements = Long.MAX_VALUE;
+        private ForkJoinPool pool = ForkJoinPool.commonPool();
+
+        private Builder() {
+        }
 
-                    hasFields = true;
-                } catch (Exception e) {
-                    System.err.println("⚠️ Warning: Could not access field '" + field.getName() + "' in " + obj.getClass().getSimpleName());
-                }
+        // ✅ Turns on the behaviour of each flag
+        public Builder flags(Flag... flags) {
+            for (Flag f : flags) {
+                if (f == Flag.USE_INDENT || f == Flag.PRETTY_PRINT) this.indent = true;
+                if (f == Flag.DEBUG) this.debug = true;
+                if (f == Flag.ATOMIC_WRITE) this.atomicWrite = true;
+                if (f == Flag.BASE64_BYTES) this.base64Bytes = true;
             }
+            return this;
+        }
+
+        public Builder indent(boolean indent) {
+            this.indent = indent;
+            return this;
+        }
+
+        // ✅ Print diagnostics to the console, in addition to the listener (if any)
+        public Builder debug(boolean debug) {
+            this.debug = debug;
+            return this;
+        }
+
+        // ✅ Receives counters, timings and warnings, see JsonMetrics and JfrListener
+        public Builder listener(JsonListener listener) {
+            this.listener = listener;
+            return this;
+        }
+
+        // ✅ Save files through a temporary file, fsync and rename
+        public Builder atomicWrite(boolean atomicWrite) {
+            this.atomicWrite = atomicWrite;
+            return this;
+        }
+
+        // ✅ Files of at least this many bytes are memory-mapped when loaded (default: 16 MB)
+        public Builder memoryMapThreshold(long memoryMapThreshold) {
+            if (memoryMapThreshold < 0) throw new IllegalArgumentException("memoryMapThreshold must not be negative");
+            this.memoryMapThreshold = memoryMapThreshold;
+            return this;
+        }
+
+        /**
+         * Pool that binds the elements of parallel lists and decodes NDJSON batches (default:
+         * the common pool). Calls use at most their {@code parallelism} threads of it, the
+         * parser never shuts it down.
+         */
+        public Builder pool(ForkJoinPool pool) {
+            this.pool = Objects.requireNonNull(pool, "pool");
+            return this;
+        }
+
+        // ✅ Choose how fields of custom classes are accessed (default: METHOD_HANDLE)
+        public Builder accessorStrategy(AccessorStrategy accessorStrategy) {
+            this.accessorStrategy = Objects.requireNonNull(accessorStrategy, "accessorStrategy");
+            return this;
+        }
+
+        /**
+         * Field names of parsed maps and objects are looked up in a bounded table, so equal
+         * names share one String instance instead of one copy per object (default: on).
+         */
+        public Builder canonicalKeys(boolean canonicalKeys) {
+            this.canonicalKeys = canonicalKeys;
+            return this;
+        }
+
+        /**
+         * Also share string values of up to {@code maxLength} characters, for enum-like
+         * fields such as a status (default: 0, off).
+         */
+        public Builder canonicalValues(int maxLength) {
+            if (maxLength < 0) throw new IllegalArgumentException("maxLength must not be negative");
+            this.canonicalValueLength = maxLength;
+            return this;
+        }
+
+        /**
+         * Write byte[] values as a base64 string instead of an array of numbers. Both forms
+         * are accepted when parsing, whatever this is set to (default: off).
+         */
+        public Builder base64Bytes(boolean base64Bytes) {
+            this.base64Bytes = base64Bytes;
+            return this;
+        }
+
+        /**
+         * Serve loadFromFile from a cache of parsed documents, until the file changes. The
+         * cache may be shared by several parsers (default: none).
+         */
+        public Builder documentCache(DocumentCache documentCache) {
+            this.documentCache = documentCache;
+            return this;
         }
 
-        // ✅ Ensure the last comma is removed only if fields were added
-        if (hasFields) {
-            sb.setLength(sb.length() - 1);
+        /**
+         * Save files incrementally: saveToFile appends the changes since the last save to a
+         * journal next to the file, loadFromFile replays it (default: none).
+         */
+        public Builder journal(JsonJournal journal) {
+            this.journal = journal;
+            return this;
+        }
+
+        /**
+         * Objects and arrays that may be open at the same time, when parsing and when
+         * serializing (default: 1000). Deeper input fails with the offset of the bracket
+         * that crosses the limit, a cyclic object graph fails instead of looping.
+         */
+        public Builder maxDepth(int maxDepth) {
+            if (maxDepth < 1) throw new IllegalArgumentException("maxDepth must be at least 1");
+            this.maxDepth = maxDepth;
+            return this;
+        }
+
+        // ✅ Longest accepted document, in characters for String and file input, in bytes for byte input (default: unlimited)
+        public Builder maxDocumentLength(long maxDocumentLength) {
+            if (maxDocumentLength < 1) throw new IllegalArgumentException("maxDocumentLength must be at least 1");
+            this.maxDocumentLength = maxDocumentLength;
+            return this;
+        }
+
+        // ✅ Longest accepted string or field name (default: unlimited)
+        public Builder maxStringLength(int maxStringLength) {
+            if (maxStringLength < 0) throw new IllegalArgumentException("maxStringLength must not be negative");
+            this.maxStringLength = maxStringLength;
+            return this;
+        }
+
+        // ✅ Most array elements plus object entries in one document (default: unlimited)
+        public Builder maxElements(long maxElements) {
+            if (maxElements < 0) throw new IllegalArgumentException("maxElements must not be negative");
+            this.maxElements = maxElements;
+            return this;
+        }
+
+        public JsonParser build() {
+            return new JsonParser(this);
+        }
+    }
+
+    // ✅ Serialize Object to JSON
+    public String serializeObject(Object object) {
+        StringBuilder sb = Buffers.takeStringBuilder();
+        long start = listener != null ? System.nanoTime() : 0;
+        try {
+            serializeValue(object, new JsonWriter(sb, indent), 0);
+            if (listener != null) listener.onSerialized(typeOf(object), sb.length(), System.nanoTime() - start);
+            return sb.toString();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // StringBuilder never throws
+        } catch (RuntimeException e) {
+            if (listener != null) listener.onError(e);
+            throw e;
+        } finally {
+            Buffers.release(sb);
+        }
+    }
+
+    // ✅ Serialize Object straight into a sink (Writer, StringBuilder, ...) without building the document in memory
+    public void serializeObject(Object object, Appendable out) throws IOException {
+        if (listener == null) {
+            serializeValue(object, new JsonWriter(out, indent), 0);
+            return;
         }
+        long start = System.nanoTime();
+        try {
+            serializeValue(object, new JsonWriter(out, indent), 0);
+        } catch (IOException | RuntimeException e) {
+            listener.onError(e);
+            throw e;
+        }
+        listener.onSerialized(typeOf(object), -1, System.nanoTime() - start);
+    }
+
+    private static Class<?> typeOf(Object value) {
+        return value == null ? Object.class : value.getClass();
+    }
 
-        return sb.append(closingIndent).append("}").toString();
+    // ✅ Serialize Object as UTF-8 into an OutputStream, the stream is flushed but not closed
+    public void serializeObject(Object object, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        serializeObject(object, writer);
+        writer.flush();
+    }
+
+    // ✅ Containers are walked with an explicit stack, so deep nesting can not overflow the thread stack
+    private void serializeValue(Object value, JsonWriter out, int indentLevel) throws IOException {
+        jsonWriter(out, indentLevel).write(value);
+    }
+
+    private ValueWriter jsonWriter(JsonWriter out, int indentLevel) {
+        return new ValueWriter.Json(out, indentLevel, base64Bytes, listener, accessorStrategy, limits);
     }
 
     // ✅ Deserialize JSON String to Java Object
     public Object deserializeObject(String json, Class<?> clazz) {
+        if (listener == null) return readDocument(json, clazz);
+        long start = System.nanoTime();
+        try {
+            Object value = readDocument(json, clazz);
+            listener.onParsed(clazz, json.length(), System.nanoTime() - start);
+            return value;
+        } catch (RuntimeException e) {
+            listener.onError(e);
+            throw e;
+        }
+    }
+
+    private Object readDocument(String json, Class<?> clazz) {
         json = json.trim();
 
         if (!isCustomClass(clazz)) {
-            return convertValue(clazz, json);
+            return convertValue(clazz, new JsonCursor(json, trace, symbols, limits).readRootValue(clazz));
+        }
+
+        if (clazz.isArray()) {
+            return convertArray(new JsonCursor(json, trace, symbols, limits).readRoot(clazz), clazz);
         }
 
         if (List.class.isAssignableFrom(clazz)) {
-            return parseJsonList(parseJsonRawList(json), Object.class);
+            return new JsonCursor(json, trace, symbols, limits).readRootList(null);
         }
 
         if (Map.class.isAssignableFrom(clazz)) {
@@ -151,55 +451,226 @@ public class JsonParser {
         throw new IllegalArgumentException("Invalid JSON format");
     }
 
-    @SuppressWarnings("unchecked")
-    private <T> T parseJsonObject(String json, Class<T> clazz) {
+    /**
+     * Opens a lazy {@link JsonNode} view of the document. Nothing is parsed up front,
+     * only the values that are looked up are located and decoded. The limits of this
+     * parser apply to the values that are read.
+     */
+    public JsonNode parseNode(String json) {
+        return JsonNode.parse(json, symbols, limits);
+    }
+
+    // ✅ Deserialize a top-level JSON array into a List<T>
+    public <T> List<T> deserializeList(String json, Class<T> clazz) {
+        return deserializeList(json, clazz, 1);
+    }
+
+    /**
+     * Deserializes a top-level JSON array into a List<T>, binding the elements on up to
+     * {@code parallelism} threads of the parser's {@link Builder#pool(ForkJoinPool) pool}.
+     * The element boundaries are found by a quick structural pre-scan, the order of the
+     * elements is kept. Documents below 256 KB, and all documents of a parser with
+     * {@link Builder#maxElements(long)}, are parsed on the calling thread.
+     */
+    public <T> List<T> deserializeList(String json, Class<T> clazz, int parallelism) {
+        if (parallelism < 1) throw new IllegalArgumentException("parallelism must be at least 1");
+        if (listener == null) return readList(json, clazz, parallelism);
+        long start = System.nanoTime();
         try {
-            Constructor<T> constructor = clazz.getDeclaredConstructor();
-            constructor.setAccessible(true);
-            T obj = constructor.newInstance();
-            Map<String, Object> map = parseJsonMap(json);
+            List<T> list = readList(json, clazz, parallelism);
+            listener.onParsed(List.class, json.length(), System.nanoTime() - start);
+            return list;
+        } catch (RuntimeException e) {
+            listener.onError(e);
+            throw e;
+        }
+    }
 
-            try {
+    private <T> List<T> readList(String json, Class<T> clazz, int parallelism) {
+        // ✅ maxElements counts the whole document, which only a single cursor can do exactly
+        if (parallelism == 1 || json.length() < PARALLEL_LIST_THRESHOLD || limits.maxElements != Long.MAX_VALUE) {
+            return parseJsonList(new JsonCursor(json, trace, symbols, limits).readRootList(clazz), clazz);
+        }
+
+        limits.checkDocumentLength(json.length());
+        int[] bounds = ArrayScanner.elementBounds(json);
+        int count = bounds.length / 2;
+        Object[] elements = new Object[count];
+        // ✅ parallelism workers share the chunks, so no more threads than that bind elements
+        int chunkSize = Math.max(1, count / (parallelism * 4));
+        AtomicInteger nextChunk = new AtomicInteger();
+        List<ElementTask<T>> workers = new ArrayList<>(parallelism);
+        for (int i = 0; i < parallelism; i++) workers.add(new ElementTask<>(json, bounds, elements, clazz, nextChunk, chunkSize));
+        pool.invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(workers)));
+        return (List<T>) Arrays.asList(elements);
+    }
+
+    public <T> List<T> deserializeList(Path path, Class<T> clazz, int parallelism) throws IOException {
+        StringBuilder json = new StringBuilder();
+        char[] buffer = Buffers.takeChars();
+        try (Reader reader = JsonFiles.newReader(path, memoryMapThreshold)) {
+            int read;
+            while ((read = reader.read(buffer)) != -1) json.append(buffer, 0, read);
+        } finally {
+            Buffers.release(buffer);
+        }
+        return deserializeList(json.toString(), clazz, parallelism);
+    }
+
+    // ✅ Binds chunks of array elements until none are left, a worker that starts late just gets fewer
+    private final class ElementTask<T> extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L; // Never serialized, RecursiveAction is Serializable
+
+        private final String json;
+        private final int[] bounds;
+        private final Object[] elements;
+        private final Class<T> clazz;
+        private final AtomicInteger nextChunk;
+        private final int chunkSize;
+
+        private ElementTask(String json, int[] bounds, Object[] elements, Class<T> clazz, AtomicInteger nextChunk, int chunkSize) {
+            this.json = json;
+            this.bounds = bounds;
+            this.elements = elements;
+            this.clazz = clazz;
+            this.nextChunk = nextChunk;
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        protected void compute() {
+            int from;
+            while ((from = nextChunk.getAndIncrement() * chunkSize) < elements.length) {
+                int to = Math.min(elements.length, from + chunkSize);
+                for (int i = from; i < to; i++) {
+                    JsonCursor cursor = new JsonCursor(json, bounds[2 * i], bounds[2 * i + 1], 1, trace, symbols, limits);
+                    elements[i] = convertListItem(cursor.readRoot(clazz), clazz);
+                }
+            }
+        }
+    }
+
+    // ✅ Deserialize the next value of a JsonReader, the reader is left open
+    public Object deserializeObject(JsonReader reader, Class<?> clazz) throws IOException {
+        if (listener == null) return bindTree(reader.readTree(clazz, null), clazz, reader.position());
+        long start = System.nanoTime();
+        long from = reader.position();
+        try {
+            Object value = bindTree(reader.readTree(clazz, null), clazz, reader.position());
+            listener.onParsed(clazz, reader.position() - from, System.nanoTime() - start);
+            return value;
+        } catch (IOException | RuntimeException e) {
+            listener.onError(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Deserializes a UTF-8 encoded document. The structural characters are located
+     * 64 bytes at a time up front and the parser only visits those positions.
+     */
+    public Object deserializeObject(byte[] json, Class<?> clazz) {
+        return deserializeObject(json, 0, json.length, clazz);
+    }
+
+    // ✅ Reads the remaining bytes of the buffer, its position is left unchanged
+    public Object deserializeObject(ByteBuffer json, Class<?> clazz) {
+        if (json.hasArray()) {
+            return deserializeObject(json.array(), json.arrayOffset() + json.position(), json.remaining(), clazz);
+        }
+        byte[] bytes = new byte[json.remaining()];
+        json.duplicate().get(bytes);
+        return deserializeObject(bytes, 0, bytes.length, clazz);
+    }
+
+    private Object deserializeObject(byte[] json, int off, int len, Class<?> clazz) {
+        if (listener == null) return bindTree(new TapeCursor(json, off, len, null, symbols, limits).readRoot(clazz), clazz, len);
+        long start = System.nanoTime();
+        try {
+            Object value = bindTree(new TapeCursor(json, off, len, trace, symbols, limits).readRoot(clazz), clazz, len);
+            listener.onParsed(clazz, len, System.nanoTime() - start);
+            return value;
+        } catch (RuntimeException e) {
+            listener.onError(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Push parser for UTF-8 input that arrives in chunks, e.g. from a non-blocking channel.
+     * Every top-level value is bound to {@code clazz} and handed to {@code consumer} as soon
+     * as its last byte has been fed. Several values may follow each other.
+     */
+    public <T> JsonPushParser<T> pushParser(Class<T> clazz, Consumer<? super T> consumer) {
+        return new JsonPushParser<>(clazz, false, symbols, pushBinder(clazz), consumer, listener, limits);
+    }
+
+    // ✅ Like pushParser, but the input is one JSON array and every element is bound and handed over on its own
+    public <T> JsonPushParser<T> pushArrayParser(Class<T> clazz, Consumer<? super T> consumer) {
+        return new JsonPushParser<>(clazz, true, symbols, pushBinder(clazz), consumer, listener, limits);
+    }
+
+    private <T> JsonPushParser.Binder<T> pushBinder(Class<T> clazz) {
+        return (tree, offset, size, nanos) -> {
+            if (listener == null) return (T) bindTree(tree, clazz, offset);
+            long start = System.nanoTime();
+            T value = (T) bindTree(tree, clazz, offset); // Errors are reported by the push parser
+            listener.onParsed(clazz, size, nanos + System.nanoTime() - start);
+            return value;
+        };
+    }
+
+    // ✅ Bind an already parsed value tree, offset is only used for error messages
+    private Object bindTree(Object value, Class<?> clazz, long offset) {
+        if (!isCustomClass(clazz)) {
+            return convertValue(clazz, value);
+        }
+        if (clazz.isArray()) {
+            return convertArray(value, clazz);
+        }
+        if (List.class.isAssignableFrom(clazz)) {
+            if (!(value instanceof List)) throw new IllegalArgumentException("Invalid JSON array format at offset " + offset);
+            return value;
+        }
+        if (!(value instanceof Map)) {
+            throw new IllegalArgumentException("Invalid JSON object format at offset " + offset);
+        }
+        if (Map.class.isAssignableFrom(clazz)) {
+            return value;
+        }
+        if (listener == null) return parseJsonObjectMap((Map<String, Object>) value, clazz);
+        long start = System.nanoTime();
+        Object bound = parseJsonObjectMap((Map<String, Object>) value, clazz);
+        listener.onBound(clazz, System.nanoTime() - start);
+        return bound;
+    }
 
-                // Iterate through all declared fields in the class
-                for (Field field : clazz.getDeclaredFields()) {
-                    field.setAccessible(true);
+    @SuppressWarnings("unchecked")
+    private <T> T parseJsonObject(String json, Class<T> clazz) {
+        try {
+            ClassDescriptor descriptor = ClassDescriptor.of(clazz);
+            T obj = (T) descriptor.newInstance();
+            // ✅ Numbers are decoded straight into the field types while parsing
+            Map<String, Object> map = new JsonCursor(json, trace, symbols, limits).readRootObject(descriptor);
+
+            long start = listener != null ? System.nanoTime() : 0;
+            // ✅ A field that fails to bind fails the whole call, deserializeObject reports it to the listener
+            if (descriptor.getCodec() != null) {
+                descriptor.getCodec().read(obj, new FieldInput(obj, descriptor, map, true));
+            } else {
+                // Iterate through all non-static fields in the class
+                for (FieldDescriptor field : descriptor.getFields()) {
                     String fieldName = field.getName();
 
                     if (map.containsKey(fieldName)) {
-                        Object value = map.get(fieldName);
-
-                        // ✅ If the field is a Map, assign it directly
-                        if (Map.class.isAssignableFrom(field.getType()) && value instanceof Map) {
-                            field.set(obj, value);
-                        }
-                        // ✅ If the field is a nested Object, parse it recursively
-                        else if (isCustomClass(field.getType()) && value instanceof Map) {
-                            field.set(obj, parseJsonObjectMap((Map<String, Object>) value, field.getType()));
-                        }
-                        // ✅ Assign Lists Properly
-                        else if (List.class.isAssignableFrom(field.getType()) && value instanceof List) {
-                            Type genericType = field.getGenericType();
-                            if (genericType instanceof ParameterizedType) {
-                                Class<?> listType = (Class<?>) ((ParameterizedType) genericType).getActualTypeArguments()[0];
-                                field.set(obj, parseJsonList((List<?>) value, listType));
-                            }
-                        }
-                        // ✅ Handle Primitive & Simple Type Conversion
-                        else {
-                            field.set(obj, convertValue(field.getType(), value));
-                        }
-
-                        // ✅ Remove processed field from map to avoid duplicate processing
-                        map.remove(fieldName);
-
-                    } else {
-                        System.out.println("⚠️ WARNING: No matching key found in JSON for field: " + fieldName);
+                        bindField(obj, field, map.get(fieldName));
+                    } else if (listener != null) {
+                        listener.onMissingField(clazz, fieldName);
                     }
                 }
-            } catch (Exception ex) {
-                ex.printStackTrace();
             }
+            if (listener != null) listener.onBound(clazz, System.nanoTime() - start);
             return obj;
         } catch (Exception e) {
             throw new RuntimeException("Error deserializing JSON into " + clazz.getName(), e);
@@ -209,39 +680,20 @@ public class JsonParser {
     // ✅ Convert Map<String, Object> directly into an Object
     private <T> T parseJsonObjectMap(Map<String, Object> map, Class<T> clazz) {
         try {
-            Constructor<T> constructor = clazz.getDeclaredConstructor();
-            constructor.setAccessible(true);
-            T obj = constructor.newInstance();
+            ClassDescriptor descriptor = ClassDescriptor.of(clazz);
+            T obj = (T) descriptor.newInstance();
+            if (descriptor.getCodec() != null) {
+                descriptor.getCodec().read(obj, new FieldInput(obj, descriptor, map, false));
+                return obj;
+            }
 
             for (Map.Entry<String, Object> entry : map.entrySet()) {
-                String fieldName = entry.getKey();
-                Object value = entry.getValue();
-
-                try {
-                    Field field = clazz.getDeclaredField(fieldName);
-                    field.setAccessible(true);
-
-                    // ✅ Convert Lists Properly
-                    if (List.class.isAssignableFrom(field.getType())) {
-                        Type genericType = field.getGenericType();
-                        if (genericType instanceof ParameterizedType) {
-                            Class<?> listType = (Class<?>) ((ParameterizedType) genericType).getActualTypeArguments()[0];
-                            value = parseJsonList((List<?>) value, listType);
-                        }
-                    }
-                    // ✅ Convert Nested Objects Properly
-                    else if (isCustomClass(field.getType()) && value instanceof Map) {
-                        value = parseJsonObjectMap((Map<String, Object>) value, field.getType());
-                    }
-                    // ✅ Convert Primitives and Simple Types
-                    else {
-                        value = convertValue(field.getType(), value);
-                    }
-
-                    field.set(obj, value);
-                } catch (NoSuchFieldException e) {
-                    System.out.println("⚠️ WARNING: No field found for key: " + fieldName);
+                FieldDescriptor field = descriptor.getField(entry.getKey());
+                if (field == null) {
+                    if (listener != null) listener.onUnknownField(clazz, entry.getKey());
+                    continue;
                 }
+                bindField(obj, field, entry.getValue());
             }
             return obj;
         } catch (Exception e) {
@@ -249,183 +701,219 @@ public class JsonParser {
         }
     }
 
-    private List<Object> parseJsonRawList(String json) {
-        json = json.trim();
-
-        if (!json.startsWith("[") || !json.endsWith("]")) {
-            throw new IllegalArgumentException("Invalid JSON array format: " + json);
+    // ✅ Assign a parsed JSON value to a field, primitive fields are set without boxing
+    private void bindField(Object obj, FieldDescriptor field, Object value) throws Exception {
+        if (listener != null) listener.onFieldBound(obj.getClass(), field.getName());
+        FieldAccessor accessor = field.getAccessor(accessorStrategy);
+        switch (field.getKind()) {
+            case INT:
+                if (value instanceof Integer) {
+                    accessor.setInt(obj, (Integer) value);
+                    return;
+                }
+                break;
+            case LONG:
+                if (value instanceof Integer || value instanceof Long) {
+                    accessor.setLong(obj, ((Number) value).longValue());
+                    return;
+                }
+                break;
+            case DOUBLE:
+                if (value instanceof Integer || value instanceof Long || value instanceof Double) {
+                    accessor.setDouble(obj, ((Number) value).doubleValue());
+                    return;
+                }
+                break;
+            case BOOLEAN:
+                if (value instanceof Boolean) {
+                    accessor.setBoolean(obj, (Boolean) value);
+                    return;
+                }
+                break;
+            default:
+                break;
         }
+        accessor.set(obj, convertFieldValue(field, value));
+    }
 
-        json = json.substring(1, json.length() - 1).trim(); // Remove "[" and "]"
-        List<Object> list = new ArrayList<>();
-        if (json.isEmpty()) {
-            return list; // Handle empty lists
+    /**
+     * Hands the parsed values to a generated codec with the same conversions and listener
+     * calls as bindField. With declarationOrder the fields are visited like parseJsonObject
+     * does, otherwise in the order of the map like parseJsonObjectMap does.
+     */
+    private final class FieldInput implements JsonCodec.Input {
+
+        private final Object target;
+        private final ClassDescriptor descriptor;
+        private final Map<String, Object> map;
+        private final boolean declarationOrder;
+        private Iterator<Map.Entry<String, Object>> entries;
+        private int next;
+        private FieldDescriptor field;
+        private Object value;
+
+        private FieldInput(Object target, ClassDescriptor descriptor, Map<String, Object> map, boolean declarationOrder) {
+            this.target = target;
+            this.descriptor = descriptor;
+            this.map = map;
+            this.declarationOrder = declarationOrder;
         }
 
-        boolean insideString = false;
-        StringBuilder item = new StringBuilder();
-
-        for (char c : json.toCharArray()) {
-            if (c == '"') {
-                insideString = !insideString; // Toggle string mode
+        @Override
+        public boolean next() {
+            if (declarationOrder) {
+                List<FieldDescriptor> fields = descriptor.getFields();
+                while (next < fields.size()) {
+                    FieldDescriptor candidate = fields.get(next++);
+                    if (map.containsKey(candidate.getName())) return select(candidate, map.get(candidate.getName()));
+                    if (listener != null) listener.onMissingField(descriptor.getType(), candidate.getName());
+                }
+                return false;
             }
-
-            if (c == ',' && !insideString) {
-                list.add(parseJsonValue(item.toString().trim()));
-                item.setLength(0);
-            } else {
-                item.append(c);
+            if (entries == null) entries = map.entrySet().iterator();
+            while (entries.hasNext()) {
+                Map.Entry<String, Object> entry = entries.next();
+                FieldDescriptor candidate = descriptor.getField(entry.getKey());
+                if (candidate != null) return select(candidate, entry.getValue());
+                if (listener != null) listener.onUnknownField(descriptor.getType(), entry.getKey());
             }
+            return false;
         }
 
-        if (item.length() > 0) {
-            list.add(parseJsonValue(item.toString().trim())); // Add last item
+        private boolean select(FieldDescriptor candidate, Object candidateValue) {
+            if (listener != null) listener.onFieldBound(target.getClass(), candidate.getName());
+            field = candidate;
+            value = candidateValue;
+            return true;
         }
 
-        return list;
-    }
-
-    private <T> List<T> parseJsonList(List<?> jsonList, Class<T> listType) {
-        List<T> list = new ArrayList<>();
-        for (Object item : jsonList) {
-            if (listType == null)
-                listType = (Class<T>) String.class;
-            if (item == null) {
-                list.add(null);
-            } else if (String.class.isAssignableFrom(listType)) {
-                list.add((T) item);
-            } else if (isCustomClass(listType)) {
-                list.add(parseJsonObject(item.toString(), listType));
-            } else {
-                list.add((T) convertValue(listType, item));
-            }
+        @Override
+        public int field() {
+            return field.getIndex();
         }
-        return list;
-    }
 
-    private Map<String, Object> parseJsonMap(String json) {
-        json = json.trim();
-        if (debug) System.out.println("🔍 Processing JSON Map: " + json);
-
-        if (!json.startsWith("{") || !json.endsWith("}")) {
-            throw new IllegalArgumentException("Invalid JSON object format: " + json);
+        @Override
+        public int intValue() {
+            if (value instanceof Integer) return (Integer) value;
+            return (Integer) converted(Integer.class);
         }
 
-        json = json.substring(1, json.length() - 1).trim(); // Remove `{}` brackets safely
-        Map<String, Object> map = new LinkedHashMap<>();
-        Map<String, String> deferredProcessing = new LinkedHashMap<>(); // Stores nested JSON for later
-
-        if (json.isEmpty()) {
-            return map; // Handle empty `{}` case
+        @Override
+        public long longValue() {
+            if (value instanceof Integer || value instanceof Long) return ((Number) value).longValue();
+            return (Long) converted(Long.class);
         }
 
-        boolean insideString = false;
-        boolean insideObject = false;
-        boolean insideList = false;
-        int nestedLevel = 0;
-
-        StringBuilder key = new StringBuilder();
-        StringBuilder value = new StringBuilder();
-        boolean readingValue = false;
-        boolean foundSeparator = false;
-
-        for (int i = 0; i < json.length(); i++) {
-            char c = json.charAt(i);
-
-            if (c == '"' && (i == 0 || json.charAt(i - 1) != '\\')) {
-                insideString = !insideString;
-            }
-
-            if (!insideString) {
-                if (c == '{') {
-                    insideObject = true;
-                    nestedLevel++;
-                } else if (c == '}') {
-                    nestedLevel--;
-                    if (nestedLevel == 0) insideObject = false;
-                } else if (c == '[') {
-                    insideList = true;
-                    nestedLevel++;
-                } else if (c == ']') {
-                    nestedLevel--;
-                    if (nestedLevel == 0) insideList = false;
-                }
-            }
+        @Override
+        public double doubleValue() {
+            if (value instanceof Integer || value instanceof Long || value instanceof Double) return ((Number) value).doubleValue();
+            return (Double) converted(Double.class);
+        }
 
-            if ((c == ':' && !insideString && !insideObject && !insideList)) {
-                readingValue = true;
-                foundSeparator = true;
-            } else if ((c == ',' || i == json.length() - 1) && !insideString && nestedLevel == 0) {
-                if (foundSeparator) {
-                    String keyStr = key.toString().trim().replace("\"", "");
-                    String valueStr = value.toString().trim();
+        @Override
+        public boolean booleanValue() {
+            if (value instanceof Boolean) return (Boolean) value;
+            return (Boolean) converted(Boolean.class);
+        }
 
-                    if (i == json.length() - 1 && c != ',') {
-                        valueStr += c; // Append last character if needed
-                    }
+        @Override
+        public Object value() {
+            return convertFieldValue(field, value);
+        }
 
-                    if (debug)
-                        System.out.println("📌 Key: " + keyStr + " | Value: " + (valueStr.isEmpty() ? "(missing)" : valueStr));
-
-                    if (!keyStr.isEmpty()) {
-                        // ✅ Check for nested objects/lists
-                        valueStr = valueStr.trim();
-                        if (valueStr.startsWith("{") && valueStr.endsWith("}")) {
-                            deferredProcessing.put(keyStr, valueStr); // ✅ Defer processing of nested JSON
-                        } else if (valueStr.startsWith("[") && valueStr.endsWith("]")) {
-                            map.put(keyStr, parseJsonList(parseJsonRawList(valueStr), Object.class));
-                        } else {
-                            map.put(keyStr, parseJsonValue(valueStr)); // ✅ Process immediately
-                        }
-                    }
-                }
+        // ✅ Same failure as a reflective set of a primitive field with a value that does not fit
+        private Object converted(Class<?> boxed) {
+            Object converted = convertFieldValue(field, value);
+            if (boxed.isInstance(converted)) return converted;
+            throw new IllegalArgumentException("Can not set " + field.getType().getName() + " field "
+                    + descriptor.getType().getName() + "." + field.getName() + " to "
+                    + (converted == null ? "null value" : converted.getClass().getName()));
+        }
+    }
 
-                String keyStr = key.toString().replace("\"", "").trim();
-                String valueStr;
-                if (!map.containsKey(keyStr) && !deferredProcessing.containsKey(keyStr)) {
-                    String[] pair = keyStr.split(":");
-                    keyStr = pair[0];
-                    valueStr = pair[1];
-                    if (i == json.length() - 1 && c != ',') {
-                        valueStr += c; // Append last character if needed
-                    }
-                    if (debug) System.out.println("Missing key added: " + keyStr + " Value: " + valueStr);
-                    if (valueStr.startsWith("{")) {
-                        deferredProcessing.put(keyStr, valueStr); // ✅ Defer processing of nested JSON
-                    }
-                    if (valueStr.startsWith("[")) {
-                        map.put(keyStr, parseJsonList(parseJsonRawList(valueStr), Object.class));
-                    } else
-                        map.put(keyStr, parseJsonValue(valueStr));
-                }
+    // ✅ Convert a parsed JSON value into the type of the given field
+    private Object convertFieldValue(FieldDescriptor field, Object value) {
+        Class<?> type = field.getType();
 
-                key.setLength(0);
-                value.setLength(0);
-                readingValue = false;
-                foundSeparator = false;
-            } else {
-                if (readingValue) {
-                    value.append(c);
-                } else {
-                    key.append(c);
-                }
-            }
+        // ✅ If the field is a Map, assign it directly
+        if (Map.class.isAssignableFrom(type) && value instanceof Map) {
+            return value;
+        }
+        // ✅ Assign Lists Properly
+        if (List.class.isAssignableFrom(type) && value instanceof List) {
+            Class<?> listType = field.getElementType();
+            return listType != null ? parseJsonList((List<?>) value, listType) : value;
+        }
+        // ✅ Arrays, primitive ones are usually decoded by the cursor already
+        if (type.isArray()) {
+            return convertArray(value, type);
+        }
+        // ✅ If the field is a nested Object, parse it recursively
+        if (isCustomClass(type) && value instanceof Map) {
+            return parseJsonObjectMap((Map<String, Object>) value, type);
         }
+        // ✅ Handle Primitive & Simple Type Conversion
+        return convertValue(type, value);
+    }
 
-        // ✅ Process deferred nested structures
-        for (Map.Entry<String, String> entry : deferredProcessing.entrySet()) {
-            String keyStr = entry.getKey();
-            String valueStr = entry.getValue();
+    private <T> List<T> parseJsonList(List<?> jsonList, Class<T> listType) {
+        List<T> list = new ArrayList<>(jsonList.size());
+        for (Object item : jsonList) {
+            list.add(convertListItem(item, listType));
+        }
+        return list;
+    }
 
-            if (debug) System.out.println("⏳ Processing deferred: " + keyStr + " → " + valueStr);
+    private <T> T convertListItem(Object item, Class<T> listType) {
+        if (listType == null)
+            listType = (Class<T>) String.class;
+        if (item == null) {
+            return null;
+        } else if (listType.isInstance(item)) {
+            return (T) item; // Already bound by the cursor
+        } else if (String.class.isAssignableFrom(listType)) {
+            return (T) item;
+        } else if ((Map.class.isAssignableFrom(listType) && item instanceof Map) || (List.class.isAssignableFrom(listType) && item instanceof List)) {
+            return (T) item;
+        } else if (listType.isArray()) {
+            return (T) convertArray(item, listType);
+        } else if (isCustomClass(listType) && item instanceof Map) {
+            return parseJsonObjectMap((Map<String, Object>) item, listType);
+        } else if (isCustomClass(listType)) {
+            return parseJsonObject(item.toString(), listType);
+        } else {
+            return (T) convertValue(listType, item);
+        }
+    }
 
-            if (valueStr.startsWith("{")) {
-                map.put(keyStr, parseJsonMap(valueStr));
-            } else if (valueStr.startsWith("[")) {
-                map.put(keyStr, parseJsonList(parseJsonRawList(valueStr), Object.class));
-            }
+    // ✅ Convert a parsed JSON array (or a base64 string for byte[], a string for char[]) into arrayType
+    private Object convertArray(Object value, Class<?> arrayType) {
+        if (value == null || arrayType.isInstance(value)) return value; // Already decoded by the cursor
+        Class<?> component = arrayType.getComponentType();
+        if (value instanceof String) {
+            if (component == byte.class) return Base64.getDecoder().decode((String) value);
+            if (component == char.class) return ((String) value).toCharArray();
+        }
+        if (!(value instanceof List)) {
+            throw new IllegalArgumentException("Can not convert " + value.getClass().getSimpleName() + " to " + arrayType.getSimpleName());
+        }
+        List<?> list = (List<?>) value;
+        if (component == char.class) {
+            char[] chars = new char[list.size()];
+            for (int i = 0; i < chars.length; i++) chars[i] = list.get(i).toString().charAt(0);
+            return chars;
         }
-        return map;
+        if (component.isPrimitive()) return PrimitiveArrays.fromList(list, component);
+        Object array = Array.newInstance(component, list.size());
+        for (int i = 0; i < list.size(); i++) {
+            Array.set(array, i, convertListItem(list.get(i), component));
+        }
+        return array;
+    }
+
+    // ✅ Parse a JSON object in a single pass
+    private Map<String, Object> parseJsonMap(String json) {
+        return new JsonCursor(json, trace, symbols, limits).readRootObject(null);
     }
 
     private Map<String, Object> cleanJsonStrings(Map<String, Object> map) {
@@ -462,105 +950,310 @@ public class JsonParser {
 
     private Object convertValue(Class<?> type, Object value) {
         if (value == null) return null;
-        String strValueTrimmed = escapeJson(value.toString().replaceAll("^\"|\"$", "").replace("\\", "").trim());
-        String strValue = value.toString().replace("\"", "").trim();
 
-        // ✅ Handle Strings
-        if (type == String.class) return strValueTrimmed;
+        // ✅ Handle Strings (already unescaped by the parser)
+        if (type == String.class) return value.toString();
 
         // ✅ Handle Booleans
-        if (type == boolean.class || type == Boolean.class) return Boolean.parseBoolean(strValue);
-
-        // ✅ Handle Integer Numbers (Avoid "21.0" causing NumberFormatException)
-        if ((type == int.class || type == Integer.class) && strValue.matches("-?\\d+")) {
-            return Integer.parseInt(strValue);
-        }
-        if ((type == long.class || type == Long.class) && strValue.matches("-?\\d+")) {
-            return Long.parseLong(strValue);
+        if (type == boolean.class || type == Boolean.class) {
+            return value instanceof Boolean ? value : Boolean.parseBoolean(value.toString().replace("\"", "").trim());
         }
 
-        // ✅ Handle Floating Point Numbers (Avoid parsing issues)
-        String s = strValue.endsWith(".") ? strValue + "0" : strValue;
-        if ((type == double.class || type == Double.class) && strValue.matches("-?\\d+(\\.\\d+)?([eE][-+]?\\d+)?")) {
-            return Double.parseDouble(s);
-        }
-        if ((type == float.class || type == Float.class) && strValue.matches("-?\\d+(\\.\\d+)?([eE][-+]?\\d+)?")) {
-            return Float.parseFloat(s);
+        // ✅ Handle Numbers, decoded in place without regex or intermediate copies
+        if (value instanceof Number) {
+            Object converted = JsonNumbers.convert((Number) value, type);
+            if (converted != null) return converted;
+        } else if (value instanceof String) {
+            String str = (String) value;
+            int start = 0;
+            int end = str.length();
+            while (start < end && (str.charAt(start) <= ' ' || str.charAt(start) == '"')) start++;
+            while (end > start && (str.charAt(end - 1) <= ' ' || str.charAt(end - 1) == '"')) end--;
+            Object decoded = JsonNumbers.decode(str, start, end, type);
+            if (decoded != null) return decoded;
         }
 
         // ✅ Handle Enums Properly
         if (type.isEnum()) {
-            return Enum.valueOf((Class<? extends Enum>) type, strValue);
+            return Enum.valueOf((Class<? extends Enum>) type, value.toString().replace("\"", "").trim());
         }
         return value;
     }
 
-    private Object parseJsonValue(String value) {
-        value = value.trim();
+    static boolean isCustomClass(Class<?> clazz) {
+        return !(clazz.isPrimitive() || clazz.equals(String.class) || clazz.isAssignableFrom(String.class) || Number.class.isAssignableFrom(clazz) || clazz.equals(Boolean.class));
+    }
+
+    // ✅ Save JSON to File
+    public void saveToFile(File file, Object object) throws Exception {
+        saveToFile(file.toPath(), object);
+    }
+
+    // ✅ Save JSON to File as UTF-8, only the changes are appended if there is a journal
+    public void saveToFile(Path path, Object object) throws IOException {
+        if (journal != null) {
+            journal.save(path, object, this);
+            return;
+        }
+        JsonFiles.write(path, atomicWrite, writer -> serializeObject(object, writer));
+    }
+
+    // ✅ Load JSON from File
+    public Object loadFromFile(File file, Class<?> clazz) throws Exception {
+        return loadFromFile(file.toPath(), clazz);
+    }
+
+    // ✅ Load JSON from a UTF-8 File, with its journal replayed or through the document cache if there is one
+    public Object loadFromFile(Path path, Class<?> clazz) throws IOException {
+        if (journal != null && journal.hasRecords(path)) return journal.load(path, clazz, this);
+        if (documentCache != null) return documentCache.load(path, clazz, this);
+        return readFile(path, clazz);
+    }
+
+    Object readFile(Path path, Class<?> clazz) throws IOException {
+        if (!Files.exists(path)) return null;
+        try (JsonReader reader = new JsonReader(JsonFiles.newReader(path, memoryMapThreshold), symbols, limits)) {
+            Object value = deserializeObject(reader, clazz);
+            if (reader.peek() != JsonToken.END_DOCUMENT) {
+                throw new IllegalArgumentException("Unexpected trailing content at offset " + reader.position());
+            }
+            return value;
+        }
+    }
+
+    // ✅ Parse tree of a file for the document cache, numbers are decoded towards clazz like by readFile
+    Object readFileTree(Path path, Class<?> clazz) throws IOException {
+        try (JsonReader reader = new JsonReader(JsonFiles.newReader(path, memoryMapThreshold), symbols, limits)) {
+            long start = listener != null ? System.nanoTime() : 0;
+            try {
+                Object tree = reader.readTree(clazz, null);
+                if (reader.peek() != JsonToken.END_DOCUMENT) {
+                    throw new IllegalArgumentException("Unexpected trailing content at offset " + reader.position());
+                }
+                if (listener != null) listener.onParsed(clazz, reader.position(), System.nanoTime() - start);
+                return tree;
+            } catch (IOException | RuntimeException e) {
+                if (listener != null) listener.onError(e);
+                throw e;
+            }
+        }
+    }
+
+    // ✅ Binds a tree of readFileTree, the end of the document is used for error messages
+    Object bindFileTree(Object tree, Class<?> clazz, long end) {
+        return bindTree(tree, clazz, end);
+    }
+
+    // ✅ The value as the tree its JSON output parses into, for the journal to diff
+    Object toTree(Object value) {
+        try {
+            return new ValueWriter.Tree(base64Bytes, listener, accessorStrategy, limits).tree(value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // Nothing is written
+        }
+    }
+
+    // ✅ A journal record, compact JSON on one line
+    byte[] writeRecord(Object patch) {
+        StringBuilder sb = Buffers.takeStringBuilder();
+        try {
+            serializeValue(patch, new JsonWriter(sb, false), 0);
+            sb.append('\n');
+            return sb.toString().getBytes(StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // StringBuilder never throws
+        } finally {
+            Buffers.release(sb);
+        }
+    }
 
-        if (value.equals("null")) return null;
+    Object readRecord(byte[] journal, int off, int len) {
+        return new TapeCursor(journal, off, len, null, symbols, limits).readRoot(null);
+    }
+
+    void reportError(Throwable error) {
+        if (listener != null) listener.onError(error);
+    }
 
-        // ✅ Ensure object parsing
-        if (value.startsWith("{") && value.endsWith("}")) {
-            return parseJsonMap(value);
+    /**
+     * Streams the document and passes every value matching one of {@code paths} to
+     * {@code callback}, in document order. Non-matching objects and arrays are skipped
+     * without decoding them, and reading stops as soon as every path is single-valued
+     * and has been found. The stream is not closed.
+     */
+    public void extract(InputStream in, Collection<JsonPath> paths, BiConsumer<JsonPath, Object> callback) throws IOException {
+        extract(new JsonReader(new InputStreamReader(in, StandardCharsets.UTF_8), symbols, limits), paths, callback);
+    }
+
+    public void extract(Reader in, Collection<JsonPath> paths, BiConsumer<JsonPath, Object> callback) throws IOException {
+        extract(new JsonReader(in, symbols, limits), paths, callback);
+    }
+
+    public void extract(Path path, Collection<JsonPath> paths, BiConsumer<JsonPath, Object> callback) throws IOException {
+        try (JsonReader reader = new JsonReader(JsonFiles.newReader(path, memoryMapThreshold), symbols, limits)) {
+            extract(reader, paths, callback);
         }
-        if (value.startsWith("[") && value.endsWith("]")) {
-            return parseJsonList(parseJsonRawList(value), Object.class);
+    }
+
+    private void extract(JsonReader reader, Collection<JsonPath> paths, BiConsumer<JsonPath, Object> callback) throws IOException {
+        new PathExtractor(new ArrayList<>(paths), callback).extract(reader);
+    }
+
+    // ✅ Read newline-delimited JSON (one record per line, blank lines are skipped), the Stream must be closed
+    public <T> Stream<T> readLines(Path path, Class<T> clazz) throws IOException {
+        return readLines(path, clazz, 1, true);
+    }
+
+    /**
+     * Reads newline-delimited JSON, decoding batches of records on up to {@code parallelism}
+     * threads of the parser's {@link Builder#pool(ForkJoinPool) pool}.
+     * With {@code ordered} the records keep the order of the input, otherwise they are
+     * returned as soon as they are decoded.
+     */
+    public <T> Stream<T> readLines(Path path, Class<T> clazz, int parallelism, boolean ordered) throws IOException {
+        return readLines(JsonFiles.newReader(path, memoryMapThreshold), true, clazz, parallelism, ordered);
+    }
+
+    // ✅ Read newline-delimited JSON from a stream. The stream is not closed, not even by closing the Stream
+    public <T> Stream<T> readLines(InputStream in, Class<T> clazz) {
+        return readLines(in, clazz, 1, true);
+    }
+
+    /**
+     * Like {@link #readLines(Path, Class, int, boolean)}, from a UTF-8 stream. The stream is
+     * not closed; closing the returned Stream only stops the decoding threads.
+     */
+    public <T> Stream<T> readLines(InputStream in, Class<T> clazz, int parallelism, boolean ordered) {
+        return readLines(new InputStreamReader(in, StandardCharsets.UTF_8), false, clazz, parallelism, ordered);
+    }
+
+    private <T> Stream<T> readLines(Reader reader, boolean ownsReader, Class<T> clazz, int parallelism, boolean ordered) {
+        NdjsonReader<T> lines = new NdjsonReader<>(new BufferedReader(reader), ownsReader, line -> (T) deserializeObject(line, clazz), pool, parallelism, ordered);
+        return lines.stream();
+    }
+
+    // ✅ Write every record as compact JSON on its own line, the stream is flushed but not closed
+    public void writeLines(Iterable<?> records, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writeLines(records, writer);
+        writer.flush();
+    }
+
+    public void writeLines(Iterable<?> records, Path path) throws IOException {
+        JsonFiles.write(path, atomicWrite, writer -> writeLines(records, writer));
+    }
+
+    private void writeLines(Iterable<?> records, Writer writer) throws IOException {
+        JsonWriter out = new JsonWriter(writer, false); // NDJSON records must stay on one line
+        ValueWriter values = jsonWriter(out, 0);
+        for (Object record : records) {
+            values.write(record);
+            out.write('\n');
         }
+    }
 
-        // ✅ Fix: Ensure proper string parsing
-        if (value.startsWith("\"") && value.endsWith("\"")) {
-            return escapeJson(value.substring(1, value.length() - 1).replace("\"", "").replace("\\", ""));
+    // ✅ Serialize Object as CBOR (RFC 8949), the same object model as serializeObject
+    public byte[] serializeCbor(Object object) {
+        CborWriter out = new CborWriter();
+        try {
+            writeCbor(object, out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // No stream attached, never thrown
         }
+        return out.toByteArray();
+    }
 
-        // ✅ Boolean Handling
-        if (value.equals("true") || value.equals("false")) return Boolean.parseBoolean(value);
+    // ✅ Serialize Object as CBOR into an OutputStream, the stream is flushed but not closed
+    public void serializeCbor(Object object, OutputStream out) throws IOException {
+        CborWriter writer = new CborWriter(out);
+        writeCbor(object, writer);
+        writer.flush();
+    }
 
-        // ✅ Fix: Handle Floating Point Numbers Properly
-        if (value.matches("-?\\d+\\.\\d+")) {
-            return Double.parseDouble(value);
+    private void writeCbor(Object object, CborWriter out) throws IOException {
+        ValueWriter values = new ValueWriter.Cbor(out, listener, accessorStrategy, limits);
+        if (listener == null) {
+            values.write(object);
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            values.write(object);
+        } catch (IOException | RuntimeException e) {
+            listener.onError(e);
+            throw e;
         }
+        listener.onSerialized(typeOf(object), out.size(), System.nanoTime() - start);
+    }
+
+    /**
+     * Deserializes a CBOR data item written by {@link #serializeCbor(Object)} or any other
+     * CBOR encoder. Binding works exactly like for JSON.
+     */
+    public Object deserializeCbor(byte[] cbor, Class<?> clazz) {
+        return deserializeCbor(cbor, 0, cbor.length, clazz);
+    }
 
-        // ✅ Fix: Handle Integer Numbers
-        if (value.matches("-?\\d+")) {
-            return Integer.parseInt(value);
+    // ✅ Reads the remaining bytes of the buffer, its position is left unchanged
+    public Object deserializeCbor(ByteBuffer cbor, Class<?> clazz) {
+        if (cbor.hasArray()) {
+            return deserializeCbor(cbor.array(), cbor.arrayOffset() + cbor.position(), cbor.remaining(), clazz);
         }
+        byte[] bytes = new byte[cbor.remaining()];
+        cbor.duplicate().get(bytes);
+        return deserializeCbor(bytes, 0, bytes.length, clazz);
+    }
 
-        // ✅ Default Case (Return as String)
-        return value;
+    private Object deserializeCbor(byte[] cbor, int off, int len, Class<?> clazz) {
+        try {
+            return readCbor(new CborReader(cbor, off, len, symbols, limits), clazz, true);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // No stream attached, never thrown
+        }
     }
 
-    private String escapeJson(String str) {
-        return str.replace("\\", "\\\\")   // Escape backslashes
-                .replace("\"", "\\\"")   // Escape double quotes
-                .replace("\n", "\\n")    // Escape newlines
-                .replace("\r", "\\r")    // Escape carriage returns
-                .replace("\t", "\\t")    // Escape tabs
-                .replaceAll("\\\\+$", ""); // ✅ Remove trailing backslashes
+    /**
+     * Reads the next CBOR data item from the stream. Only the bytes of that item are
+     * consumed, so records written one after another can be read back the same way.
+     * Wrap unbuffered streams in a {@link BufferedInputStream}. The stream is not closed.
+     */
+    public Object deserializeCbor(InputStream in, Class<?> clazz) throws IOException {
+        return readCbor(new CborReader(in, symbols, limits), clazz, false);
     }
 
-    private boolean isCustomClass(Class<?> clazz) {
-        return !(clazz.isPrimitive() || clazz.equals(String.class) || clazz.isAssignableFrom(String.class) || Number.class.isAssignableFrom(clazz) || clazz.equals(Boolean.class));
+    private Object readCbor(CborReader reader, Class<?> clazz, boolean whole) throws IOException {
+        if (listener == null) return bindTree(readCborItem(reader, whole), clazz, reader.position());
+        long start = System.nanoTime();
+        try {
+            Object value = bindTree(readCborItem(reader, whole), clazz, reader.position());
+            listener.onParsed(clazz, reader.position(), System.nanoTime() - start);
+            return value;
+        } catch (IOException | RuntimeException e) {
+            listener.onError(e);
+            throw e;
+        }
     }
 
-    // ✅ Save JSON to File
-    public void saveToFile(File file, Object object) throws Exception {
-        String json = serializeObject(object);
-        try (FileWriter writer = new FileWriter(file)) {
-            writer.write(json);
+    // ✅ Next data item as a value tree, with whole the input must not hold anything after it
+    private static Object readCborItem(CborReader reader, boolean whole) throws IOException {
+        Object value = reader.readValue();
+        if (whole && !reader.atEnd()) {
+            throw new IllegalArgumentException("Unexpected trailing content at offset " + reader.position());
         }
+        return value;
     }
 
-    // ✅ Load JSON from File
-    public Object loadFromFile(File file, Class<?> clazz) throws Exception {
-        if (!file.exists()) return null;
-        StringBuilder jsonBuilder = new StringBuilder();
-        try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
-            String line;
-            while ((line = reader.readLine()) != null) {
-                jsonBuilder.append(line);
-            }
+    // ✅ Re-encode a JSON document as CBOR without binding it to a class
+    public byte[] jsonToCbor(String json) {
+        return serializeCbor(new JsonCursor(json, trace, symbols, limits).readRoot(null));
+    }
+
+    // ✅ Re-encode a CBOR data item as JSON without binding it to a class
+    public String cborToJson(byte[] cbor) {
+        try {
+            return serializeObject(readCborItem(new CborReader(cbor, 0, cbor.length, symbols, limits), true));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // No stream attached, never thrown
         }
-        return deserializeObject(jsonBuilder.toString(), clazz);
     }
-}
\ No newline at end of file
+}
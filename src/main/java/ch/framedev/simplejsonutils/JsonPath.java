@@ -0,0 +1,123 @@
+package ch.framedev.simplejsonutils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+ * ch.framedev.simplejsonutils
+ * =============================================
+ * This File was Created by FrameDev
+ * Please do not change anything without my consent!
+ * =============================================
+ * This Class was created at 17.10.2026 04:05
+ */
+
+/**
+ * Compiled path expression for {@link JsonParser#extract}. Supported are field names
+ * ({@code .name} or {@code ['name']}), array indices ({@code [3]}) and wildcards
+ * ({@code .*} or {@code [*]}), e.g. {@code $.items[*].id} or {@code $.meta.version}.
+ * <p>
+ * A path without wildcards matches at most one value and is single-valued.
+ */
+public final class JsonPath {
+
+    private final String expression;
+    // One entry per segment: a field name, or null with an index (-1 for a wildcard)
+    private final String[] names;
+    private final int[] indices;
+    private final boolean singleValued;
+
+    private JsonPath(String expression, String[] names, int[] indices) {
+        this.expression = expression;
+        this.names = names;
+        this.indices = indices;
+        boolean single = true;
+        for (int i = 0; i < names.length; i++) {
+            if (names[i] == null && indices[i] < 0) single = false;
+        }
+        this.singleValued = single;
+    }
+
+    public static JsonPath compile(String expression) {
+        if (expression.isEmpty() || expression.charAt(0) != '$') throw invalid(expression, 0, "Expected '$'");
+        List<String> names = new ArrayList<>();
+        List<Integer> indices = new ArrayList<>();
+        int pos = 1;
+        int length = expression.length();
+        while (pos < length) {
+            char c = expression.charAt(pos);
+            if (c == '.') {
+                int start = ++pos;
+                while (pos < length && expression.charAt(pos) != '.' && expression.charAt(pos) != '[') pos++;
+                if (pos == start) throw invalid(expression, start, "Expected field name");
+                String name = expression.substring(start, pos);
+                names.add(name.equals("*") ? null : name);
+                indices.add(-1);
+            } else if (c == '[') {
+                pos++;
+                if (pos < length && (expression.charAt(pos) == '\'' || expression.charAt(pos) == '"')) {
+                    char quote = expression.charAt(pos++);
+                    StringBuilder name = new StringBuilder();
+                    while (pos < length && expression.charAt(pos) != quote) {
+                        char n = expression.charAt(pos++);
+                        if (n == '\\' && pos < length) n = expression.charAt(pos++);
+                        name.append(n);
+                    }
+                    if (pos++ >= length) throw invalid(expression, pos - 1, "Unterminated field name");
+                    names.add(name.toString());
+                    indices.add(-1);
+                } else if (pos < length && expression.charAt(pos) == '*') {
+                    pos++;
+                    names.add(null);
+                    indices.add(-1);
+                } else {
+                    int start = pos;
+                    int index = 0;
+                    while (pos < length && expression.charAt(pos) >= '0' && expression.charAt(pos) <= '9') {
+                        if (index > (Integer.MAX_VALUE - 9) / 10) throw invalid(expression, start, "Index too large");
+                        index = index * 10 + (expression.charAt(pos++) - '0');
+                    }
+                    if (pos == start) throw invalid(expression, start, "Expected index, '*' or quoted field name");
+                    names.add(null);
+                    indices.add(index);
+                }
+                if (pos >= length || expression.charAt(pos) != ']') throw invalid(expression, pos, "Expected ']'");
+                pos++;
+            } else {
+                throw invalid(expression, pos, "Expected '.' or '['");
+            }
+        }
+
+        String[] nameArray = names.toArray(new String[0]);
+        int[] indexArray = new int[indices.size()];
+        for (int i = 0; i < indexArray.length; i++) indexArray[i] = indices.get(i);
+        return new JsonPath(expression, nameArray, indexArray);
+    }
+
+    private static IllegalArgumentException invalid(String expression, int offset, String message) {
+        return new IllegalArgumentException("Invalid JSON path '" + expression + "': " + message + " at offset " + offset);
+    }
+
+    public boolean isSingleValued() {
+        return singleValued;
+    }
+
+    int depth() {
+        return names.length;
+    }
+
+    // ✅ Does segment i accept the object field name
+    boolean matchesName(int i, String name) {
+        return names[i] != null ? names[i].equals(name) : indices[i] < 0;
+    }
+
+    // ✅ Does segment i accept the array element index
+    boolean matchesIndex(int i, int index) {
+        return names[i] == null && (indices[i] < 0 || indices[i] == index);
+    }
+
+    @Override
+    public String toString() {
+        return expression;
+    }
+}
@@ -0,0 +1,625 @@
+package ch.framedev.simplejsonutils;
+
+import ch.framedev.simplejsonutils.ClassDescriptor.FieldDescriptor;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/*
+ * ch.framedev.simplejsonutils
+ * =============================================
+ * This File was Created by FrameDev
+ * Please do not change anything without my consent!
+ * =============================================
+ * This Class was created at 17.10.2026 10:30
+ */
+
+/**
+ * Non-blocking parser for UTF-8 input that arrives in chunks, e.g. from an NIO channel.
+ * Every chunk is consumed completely, state that spans chunks (partial strings, escape
+ * sequences, UTF-8 sequences and numbers) is kept until the next one arrives. Values are
+ * bound and handed to the consumer inside the {@link #feed} call that completes them.
+ * <pre>{@code
+ * JsonPushParser<Order> parser = jsonParser.pushArrayParser(Order.class, this::handle);
+ * // for every chunk read from the channel
+ * parser.feed(buffer);
+ * // once the channel is at its end
+ * parser.endOfInput();
+ * }</pre>
+ * Instances are not thread-safe, use one per connection or request.
+ */
+public final class JsonPushParser<T> {
+
+    // Frame states: expected next token
+    private static final byte OBJECT_START = 0; // Field name or '}'
+    private static final byte OBJECT_KEY = 1; // Field name
+    private static final byte OBJECT_COLON = 2;
+    private static final byte OBJECT_VALUE = 3;
+    private static final byte OBJECT_NEXT = 4; // ',' or '}'
+    private static final byte ARRAY_START = 5; // Value or ']'
+    private static final byte ARRAY_VALUE = 6;
+    private static final byte ARRAY_NEXT = 7; // ',' or ']'
+
+    // Lexer modes
+    private static final int STRUCTURE = 0;
+    private static final int STRING = 1;
+    private static final int SCALAR = 2;
+
+    private final Class<T> type;
+    private final boolean arrayElements; // Emit the elements of a root array instead of root values
+    private final SymbolTable symbols;
+    private final Binder<T> binder;
+    private final Consumer<? super T> consumer;
+    private final JsonListener listener; // Timings and errors, or null
+    private final JsonLimits limits; // The input since the last reset() counts as one document
+
+    // Nesting stack, one slot per open object or array
+    private byte[] states = new byte[16];
+    private Object[] containers = new Object[16]; // Map, List, PrimitiveArrays.Buffer or null for an unwrapped root array
+    private ClassDescriptor[] descriptors = new ClassDescriptor[16];
+    private Class<?>[] elementTypes = new Class<?>[16];
+    private String[] keys = new String[16];
+    private Object[] nested = new Object[16]; // Nested objects are added after the other entries, like JsonCursor
+    private int depth;
+
+    private int mode = STRUCTURE;
+    private boolean stringIsKey;
+    private long stringStart; // Offset of the opening quote
+    private final StringBuilder text = new StringBuilder();
+    private final char[] escape = new char[5];
+    private final CharBuffer escapeView = CharBuffer.wrap(escape);
+    private int escapeLength = -1; // -1 outside of an escape sequence
+    private int utf8Remaining;
+    private int codePoint;
+    private byte[] scalar = new byte[32];
+    private int scalarLength;
+    private long scalarStart; // Offset of the first byte of the scalar
+    private Class<?> scalarTarget;
+    private final Ascii ascii = new Ascii();
+    private byte[] scratch; // Copy of direct buffers, allocated on first use
+
+    private long chunkBase; // Offset of index 0 of the current chunk array
+    private long position; // Bytes consumed
+    private long offset; // Offset of the byte being processed when a value completes
+    private long valueStart;
+    private long elements;
+    private boolean rootArraySeen;
+    private boolean ended;
+    private boolean inConsumer;
+    private RuntimeException failure;
+    private long feedStart;
+    private long valueNanos;
+
+    JsonPushParser(Class<T> type, boolean arrayElements, SymbolTable symbols, Binder<T> binder,
+                   Consumer<? super T> consumer, JsonListener listener, JsonLimits limits) {
+        this.type = type;
+        this.arrayElements = arrayElements;
+        this.symbols = symbols;
+        this.binder = binder;
+        this.consumer = consumer;
+        this.listener = listener;
+        this.limits = limits;
+    }
+
+    /**
+     * Binds a completed value tree.
+     */
+    interface Binder<T> {
+
+        /**
+         * @param offset input offset right after the value, for error messages
+         * @param size   length of the value in bytes
+         * @param nanos  time spent parsing the value, across all feed calls
+         */
+        T bind(Object tree, long offset, long size, long nanos);
+    }
+
+    // ✅ Consumes all remaining bytes of the chunk, its position is moved to its limit
+    public void feed(ByteBuffer chunk) {
+        ensureOpen();
+        begin();
+        try {
+            if (chunk.hasArray()) {
+                int off = chunk.arrayOffset() + chunk.position();
+                parse(chunk.array(), off, off + chunk.remaining());
+                chunk.position(chunk.limit());
+            } else {
+                if (scratch == null) scratch = new byte[Buffers.CHAR_BUFFER_SIZE];
+                while (chunk.hasRemaining()) {
+                    int length = Math.min(chunk.remaining(), scratch.length);
+                    chunk.get(scratch, 0, length);
+                    parse(scratch, 0, length);
+                }
+            }
+        } catch (RuntimeException e) {
+            fail(e);
+            throw e;
+        } finally {
+            end();
+        }
+    }
+
+    public void feed(byte[] bytes, int off, int len) {
+        if (off < 0 || len < 0 || off + len > bytes.length) throw new IndexOutOfBoundsException();
+        ensureOpen();
+        begin();
+        try {
+            parse(bytes, off, off + len);
+        } catch (RuntimeException e) {
+            fail(e);
+            throw e;
+        } finally {
+            end();
+        }
+    }
+
+    /**
+     * Signals that no more input follows. A trailing top-level number or literal is
+     * completed now, an unfinished value is an error.
+     */
+    public void endOfInput() {
+        ensureOpen();
+        ended = true;
+        begin();
+        try {
+            if (mode == SCALAR) {
+                mode = STRUCTURE;
+                offset = position;
+                endScalar();
+            }
+            if (mode == STRING || depth > 0) throw error("Unexpected end of JSON input", position);
+        } catch (RuntimeException e) {
+            fail(e);
+            throw e;
+        } finally {
+            end();
+        }
+    }
+
+    // ✅ Forget all state, so the parser can be reused for the next request
+    public void reset() {
+        Arrays.fill(containers, 0, depth, null);
+        Arrays.fill(descriptors, 0, depth, null);
+        Arrays.fill(elementTypes, 0, depth, null);
+        Arrays.fill(keys, 0, depth, null);
+        Arrays.fill(nested, 0, depth, null);
+        depth = 0;
+        mode = STRUCTURE;
+        text.setLength(0);
+        escapeLength = -1;
+        utf8Remaining = 0;
+        scalarLength = 0;
+        position = 0;
+        elements = 0;
+        rootArraySeen = false;
+        ended = false;
+        failure = null;
+        valueNanos = 0;
+    }
+
+    // Bytes consumed so far
+    public long position() {
+        return position;
+    }
+
+    // Number of objects and arrays that are currently open
+    public int depth() {
+        return depth;
+    }
+
+    private void ensureOpen() {
+        if (failure != null) throw new IllegalStateException("The parser failed earlier, call reset() to reuse it", failure);
+        if (ended) throw new IllegalStateException("endOfInput() was already called, call reset() to reuse the parser");
+    }
+
+    private void begin() {
+        if (listener != null) feedStart = System.nanoTime();
+    }
+
+    private void end() {
+        if (listener != null) valueNanos += System.nanoTime() - feedStart;
+    }
+
+    private void fail(RuntimeException e) {
+        failure = e;
+        if (listener != null && !inConsumer) listener.onError(e); // The consumer's own exceptions are not ours to report
+        inConsumer = false;
+    }
+
+    private void parse(byte[] b, int from, int to) {
+        boolean tooLong = to - from > limits.maxDocumentLength - position;
+        if (tooLong) to = from + (int) (limits.maxDocumentLength - position); // ✅ Values inside the limit are still handed over
+        chunkBase = position - from;
+        int i = from;
+        while (i < to) {
+            switch (mode) {
+                case STRING:
+                    i = readString(b, i, to);
+                    break;
+                case SCALAR:
+                    i = readScalar(b, i, to);
+                    break;
+                default:
+                    i = readStructure(b, i, to);
+            }
+        }
+        position += to - from;
+        if (tooLong) throw limits.documentTooLong();
+    }
+
+    private int readStructure(byte[] b, int i, int end) {
+        while (i < end) {
+            int c = b[i] & 0xFF;
+            if (c <= ' ') {
+                i++;
+                continue;
+            }
+            offset = chunkBase + i;
+            int state = depth > 0 ? states[depth - 1] : -1;
+            switch (c) {
+                case ',':
+                    if (state == OBJECT_NEXT) states[depth - 1] = OBJECT_KEY;
+                    else if (state == ARRAY_NEXT) states[depth - 1] = ARRAY_VALUE;
+                    else throw error("Unexpected ','", offset);
+                    i++;
+                    continue;
+                case ':':
+                    if (state != OBJECT_COLON) throw error("Unexpected ':'", offset);
+                    states[depth - 1] = OBJECT_VALUE;
+                    i++;
+                    continue;
+                case '}':
+                    if (state != OBJECT_START && state != OBJECT_NEXT) throw error("Unexpected '}'", offset);
+                    offset++;
+                    i++;
+                    closeObject();
+                    continue;
+                case ']':
+                    if (state != ARRAY_START && state != ARRAY_NEXT) throw error("Unexpected ']'", offset);
+                    offset++;
+                    i++;
+                    closeArray();
+                    continue;
+                case '"':
+                    if (state == OBJECT_START || state == OBJECT_KEY) {
+                        beginString(true);
+                        return i + 1;
+                    }
+                    break;
+                default:
+                    break;
+            }
+            if (state == OBJECT_START || state == OBJECT_KEY) throw error("Expected field name", offset);
+            if (state == OBJECT_COLON) throw error("Expected ':' after field name", offset);
+            if (state == OBJECT_NEXT) throw error("Expected ',' or '}'", offset);
+            if (state == ARRAY_NEXT) throw error("Expected ',' or ']'", offset);
+            if (beginValue(c)) i++;
+            if (mode != STRUCTURE) return i;
+        }
+        return i;
+    }
+
+    // ✅ A value starts at offset, returns false if the byte belongs to a scalar and is read again
+    private boolean beginValue(int c) {
+        if (depth == 0 && arrayElements) {
+            if (rootArraySeen) throw error("Unexpected trailing content", offset);
+            if (c != '[') throw error("Expected a JSON array", offset);
+            rootArraySeen = true;
+            push(ARRAY_START, null, null, type);
+            return true;
+        }
+        if (depth == (arrayElements ? 1 : 0)) valueStart = offset;
+        if (depth > 0 && ++elements > limits.maxElements) throw limits.tooManyElements(offset);
+
+        Class<?> target = null;
+        Class<?> elementType = null;
+        if (depth == 0) {
+            target = type;
+        } else if (states[depth - 1] == OBJECT_VALUE) {
+            ClassDescriptor descriptor = descriptors[depth - 1];
+            FieldDescriptor field = descriptor != null ? descriptor.getField(keys[depth - 1]) : null;
+            if (field != null) {
+                target = field.getType();
+                elementType = field.getElementType();
+            }
+        } else {
+            target = elementTypes[depth - 1];
+            if (containers[depth - 1] instanceof PrimitiveArrays.Buffer && (c == '{' || c == '[' || c == '"')) {
+                throw error("Invalid " + target.getName() + "[] element", offset);
+            }
+        }
+
+        switch (c) {
+            case '{':
+                boolean bindable = target != null && !Map.class.isAssignableFrom(target) && !target.isArray() && JsonParser.isCustomClass(target);
+                push(OBJECT_START, new LinkedHashMap<String, Object>(), bindable ? ClassDescriptor.of(target) : null, null);
+                return true;
+            case '[':
+                if (target != null && PrimitiveArrays.isPrimitiveArray(target) && target != char[].class) {
+                    Class<?> component = target.getComponentType();
+                    push(ARRAY_START, PrimitiveArrays.buffer(component), null, component);
+                } else {
+                    push(ARRAY_START, new ArrayList<>(), null, target != null && target.isArray() ? target.getComponentType() : elementType);
+                }
+                return true;
+            case '"':
+                beginString(false);
+                return true;
+            default:
+                mode = SCALAR;
+                scalarTarget = target;
+                scalarLength = 0;
+                scalarStart = offset;
+                return false;
+        }
+    }
+
+    private void push(byte state, Object container, ClassDescriptor descriptor, Class<?> elementType) {
+        if (depth >= limits.maxDepth) throw limits.tooDeep(offset);
+        if (depth == states.length) {
+            int capacity = depth * 2;
+            states = Arrays.copyOf(states, capacity);
+            containers = Arrays.copyOf(containers, capacity);
+            descriptors = Arrays.copyOf(descriptors, capacity);
+            elementTypes = Arrays.copyOf(elementTypes, capacity);
+            keys = Arrays.copyOf(keys, capacity);
+            nested = Arrays.copyOf(nested, capacity);
+        }
+        states[depth] = state;
+        containers[depth] = container;
+        descriptors[depth] = descriptor;
+        elementTypes[depth] = elementType;
+        depth++;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void closeObject() {
+        int top = --depth;
+        Map<String, Object> map = (Map<String, Object>) containers[top];
+        List<Object> nestedEntries = (List<Object>) nested[top];
+        if (nestedEntries != null) {
+            for (int i = 0; i < nestedEntries.size(); i += 2) {
+                map.put((String) nestedEntries.get(i), nestedEntries.get(i + 1));
+            }
+        }
+        clear(top);
+        complete(map);
+    }
+
+    private void closeArray() {
+        int top = --depth;
+        Object container = containers[top];
+        clear(top);
+        if (container == null) return; // End of the unwrapped root array, its elements were handed over already
+        complete(container instanceof PrimitiveArrays.Buffer ? ((PrimitiveArrays.Buffer) container).toArray() : container);
+    }
+
+    private void clear(int slot) {
+        containers[slot] = null;
+        descriptors[slot] = null;
+        elementTypes[slot] = null;
+        keys[slot] = null;
+        nested[slot] = null;
+    }
+
+    // ✅ Store a completed value in its parent, or hand it over when it is a root value
+    @SuppressWarnings("unchecked")
+    private void complete(Object value) {
+        if (depth == 0) {
+            emit(value);
+            return;
+        }
+        int top = depth - 1;
+        if (states[top] == OBJECT_VALUE) {
+            if (value instanceof Map) {
+                List<Object> nestedEntries = (List<Object>) nested[top];
+                if (nestedEntries == null) nested[top] = nestedEntries = new ArrayList<>();
+                nestedEntries.add(keys[top]);
+                nestedEntries.add(value);
+            } else {
+                ((Map<String, Object>) containers[top]).put(keys[top], value);
+            }
+            states[top] = OBJECT_NEXT;
+            return;
+        }
+        if (containers[top] == null) {
+            emit(value);
+        } else {
+            ((List<Object>) containers[top]).add(value);
+        }
+        states[top] = ARRAY_NEXT;
+    }
+
+    private void emit(Object tree) {
+        long nanos = 0;
+        if (listener != null) {
+            nanos = valueNanos + System.nanoTime() - feedStart;
+            valueNanos = 0;
+        }
+        T value = binder.bind(tree, offset, offset - valueStart, nanos);
+        inConsumer = true;
+        consumer.accept(value);
+        inConsumer = false;
+        if (listener != null) feedStart = System.nanoTime(); // The consumer's time is not parse time
+    }
+
+    private void beginString(boolean key) {
+        stringStart = offset;
+        mode = STRING;
+        stringIsKey = key;
+        text.setLength(0);
+    }
+
+    private int readString(byte[] b, int i, int end) {
+        while (i < end) {
+            int c = b[i];
+            if (escapeLength >= 0) {
+                escape[escapeLength++] = (char) (c & 0xFF);
+                i++;
+                if (escape[0] != 'u' || escapeLength == 5) {
+                    try {
+                        JsonStrings.unescape(escapeView, 0, escapeLength, text);
+                    } catch (IllegalArgumentException e) {
+                        throw error("Invalid escape sequence", chunkBase + i - escapeLength - 1);
+                    }
+                    escapeLength = -1;
+                }
+                continue;
+            }
+            if (utf8Remaining > 0) {
+                if ((c & 0xC0) != 0x80) { // Truncated sequence, the byte is read again
+                    text.append('\uFFFD');
+                    utf8Remaining = 0;
+                    continue;
+                }
+                codePoint = (codePoint << 6) | (c & 0x3F);
+                i++;
+                if (--utf8Remaining == 0) {
+                    if (codePoint > Character.MAX_CODE_POINT || (codePoint >= Character.MIN_SURROGATE && codePoint <= Character.MAX_SURROGATE)) {
+                        text.append('\uFFFD');
+                    } else {
+                        text.appendCodePoint(codePoint);
+                    }
+                }
+                continue;
+            }
+            if (c == '"') {
+                checkStringLength();
+                offset = chunkBase + i + 1;
+                mode = STRUCTURE;
+                endString();
+                return i + 1;
+            }
+            if (c == '\\') {
+                escapeLength = 0;
+                i++;
+                continue;
+            }
+            if (c >= 0) {
+                if (c < ' ') throw JsonStrings.controlCharacter(c, chunkBase + i);
+                // ✅ Runs of ASCII are copied without looking at each byte twice
+                int start = i;
+                while (i < end && b[i] >= ' ' && b[i] != '"' && b[i] != '\\') i++;
+                for (int k = start; k < i; k++) text.append((char) b[k]);
+                continue;
+            }
+            int lead = c & 0xFF;
+            if (lead >= 0xC2 && lead <= 0xDF) {
+                codePoint = lead & 0x1F;
+                utf8Remaining = 1;
+            } else if (lead >= 0xE0 && lead <= 0xEF) {
+                codePoint = lead & 0x0F;
+                utf8Remaining = 2;
+            } else if (lead >= 0xF0 && lead <= 0xF4) {
+                codePoint = lead & 0x07;
+                utf8Remaining = 3;
+            } else {
+                text.append('\uFFFD'); // Not a lead byte, replaced like new String(bytes, UTF_8) does
+            }
+            i++;
+        }
+        checkStringLength(); // ✅ Once per chunk, a string never grows past the limit by more than a chunk
+        return i;
+    }
+
+    private void checkStringLength() {
+        if (text.length() > limits.maxStringLength) throw limits.stringTooLong(stringStart);
+    }
+
+    private void endString() {
+        if (utf8Remaining > 0) {
+            text.append('\uFFFD');
+            utf8Remaining = 0;
+        }
+        if (stringIsKey) {
+            keys[depth - 1] = symbols != null ? symbols.key(text, 0, text.length()) : text.toString();
+            states[depth - 1] = OBJECT_COLON;
+        } else {
+            complete(symbols != null ? symbols.value(text, 0, text.length()) : text.toString());
+        }
+    }
+
+    private int readScalar(byte[] b, int i, int end) {
+        int start = i;
+        while (i < end) {
+            int c = b[i] & 0xFF;
+            if (c <= ' ' || c == ',' || c == '}' || c == ']' || c == '{' || c == '[' || c == '"' || c == ':') break;
+            i++;
+        }
+        // ✅ Once per chunk and before the buffer grows, an unquoted token is bounded like a string
+        if (scalarLength + i - start > limits.maxStringLength) throw limits.stringTooLong(scalarStart);
+        if (scalarLength + i - start > scalar.length) scalar = Arrays.copyOf(scalar, Math.max(scalar.length * 2, scalarLength + i - start));
+        System.arraycopy(b, start, scalar, scalarLength, i - start);
+        scalarLength += i - start;
+        if (i < end) {
+            mode = STRUCTURE;
+            offset = chunkBase + i;
+            endScalar();
+        }
+        return i;
+    }
+
+    private void endScalar() {
+        int top = depth - 1;
+        if (depth > 0 && containers[top] instanceof PrimitiveArrays.Buffer) {
+            if (!((PrimitiveArrays.Buffer) containers[top]).add(ascii, 0, scalarLength)) {
+                throw error("Invalid " + elementTypes[top].getName() + "[] element", offset - scalarLength);
+            }
+            states[top] = ARRAY_NEXT;
+            return;
+        }
+        complete(decodeScalar());
+    }
+
+    private Object decodeScalar() {
+        int len = scalarLength;
+        if (len == 4 && matches("null")) return null;
+        if (len == 4 && matches("true")) return Boolean.TRUE;
+        if (len == 5 && matches("false")) return Boolean.FALSE;
+
+        // ✅ Numbers are decoded in place, into the target type when it is a number type
+        if (scalarTarget != null) {
+            Object typed = JsonNumbers.decode(ascii, 0, len, scalarTarget);
+            if (typed != null) return typed;
+        }
+        Object number = JsonNumbers.decode(ascii, 0, len, null);
+        return number != null ? number : new String(scalar, 0, len, StandardCharsets.UTF_8);
+    }
+
+    private boolean matches(String literal) {
+        for (int i = 0; i < literal.length(); i++) {
+            if (scalar[i] != literal.charAt(i)) return false;
+        }
+        return true;
+    }
+
+    private static IllegalArgumentException error(String message, long offset) {
+        return new IllegalArgumentException(message + " at offset " + offset);
+    }
+
+    // Zero-copy view of the scalar bytes for the number scanner, which only looks at ASCII digits
+    private final class Ascii implements CharSequence {
+
+        @Override
+        public int length() {
+            return scalarLength;
+        }
+
+        @Override
+        public char charAt(int i) {
+            return (char) (scalar[i] & 0xFF);
+        }
+
+        @Override
+        public CharSequence subSequence(int from, int to) {
+            return new String(scalar, from, to - from, StandardCharsets.ISO_8859_1);
+        }
+    }
+}
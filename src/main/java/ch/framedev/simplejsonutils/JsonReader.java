@@ -0,0 +1,544 @@
+package ch.framedev.simplejsonutils;
+
+import ch.framedev.simplejsonutils.ClassDescriptor.FieldDescriptor;
+
+import java.io.*;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * ch.framedev.simplejsonutils
+ * =============================================
+ * This File was Created by FrameDev
+ * Please do not change anything without my consent!
+ * =============================================
+ * This Class was created at 16.10.2026 23:00
+ */
+
+/**
+ * Pull parser over a {@link Reader} with a fixed-size buffer, so arbitrarily large
+ * inputs can be walked in constant memory.
+ * <pre>{@code
+ * try (JsonReader reader = new JsonReader(inputStream)) {
+ *     reader.beginObject();
+ *     while (reader.hasNext()) {
+ *         String name = reader.nextName();
+ *         if (name.equals("id")) id = reader.nextLong();
+ *         else reader.skipValue();
+ *     }
+ *     reader.endObject();
+ * }
+ * }</pre>
+ * Several whitespace separated top-level values may follow each other, {@link JsonToken#END_DOCUMENT}
+ * is returned once the input is exhausted. Instances are not thread-safe.
+ */
+public class JsonReader implements Closeable {
+
+
+    // Scopes on the nesting stack
+    private static final int EMPTY_DOCUMENT = 0;
+    private static final int NONEMPTY_DOCUMENT = 1;
+    private static final int EMPTY_OBJECT = 2;
+    private static final int DANGLING_NAME = 3;
+    private static final int NONEMPTY_OBJECT = 4;
+    private static final int EMPTY_ARRAY = 5;
+    private static final int NONEMPTY_ARRAY = 6;
+
+    private final Reader in;
+    private final char[] buffer = Buffers.takeChars(); // Handed back to the pool on close()
+    private final CharBuffer bufferView = CharBuffer.wrap(buffer);
+    private boolean closed;
+    private int pos;
+    private int limit;
+    private long consumed; // Characters discarded before buffer[0], for error offsets
+
+    private int[] stack = new int[32];
+    private int stackSize = 1;
+
+    private JsonToken peeked;
+    private boolean peekedQuoted; // STRING token that still has to be read up to its closing quote
+    private final StringBuilder literal = new StringBuilder(); // Text of the peeked unquoted value
+    private final StringBuilder text = new StringBuilder(); // Reused for names and quoted strings
+    private final SymbolTable symbols; // Canonical names and short strings, or null
+    private final JsonLimits limits;
+    private long elements;
+
+    // Containers of readTree, one slot per open object or array
+    private Object[] treeContainers = new Object[16]; // Map or List
+    private ClassDescriptor[] treeDescriptors = new ClassDescriptor[16];
+    private Class<?>[] treeElementTypes = new Class<?>[16];
+    private String[] treeKeys = new String[16];
+    private Object[] treeNested = new Object[16]; // Nested objects are added after the other entries, like JsonCursor
+
+    // ✅ Nesting is limited to 1000 levels, see JsonParser.Builder for other limits
+    public JsonReader(Reader in) {
+        this(in, null, JsonLimits.DEFAULT);
+    }
+
+    JsonReader(Reader in, SymbolTable symbols, JsonLimits limits) {
+        this.in = in;
+        this.symbols = symbols;
+        this.limits = limits;
+        stack[0] = EMPTY_DOCUMENT;
+    }
+
+    // ✅ Reads UTF-8 from the stream
+    public JsonReader(InputStream in) {
+        this(new InputStreamReader(in, StandardCharsets.UTF_8));
+    }
+
+    public JsonToken peek() throws IOException {
+        if (peeked == null) peeked = doPeek();
+        return peeked;
+    }
+
+    public void beginObject() throws IOException {
+        expect(JsonToken.BEGIN_OBJECT);
+        push(EMPTY_OBJECT);
+        peeked = null;
+    }
+
+    public void endObject() throws IOException {
+        expect(JsonToken.END_OBJECT);
+        stackSize--;
+        peeked = null;
+    }
+
+    public void beginArray() throws IOException {
+        expect(JsonToken.BEGIN_ARRAY);
+        push(EMPTY_ARRAY);
+        peeked = null;
+    }
+
+    public void endArray() throws IOException {
+        expect(JsonToken.END_ARRAY);
+        stackSize--;
+        peeked = null;
+    }
+
+    // ✅ True while the current object or array has more elements
+    public boolean hasNext() throws IOException {
+        JsonToken token = peek();
+        return token != JsonToken.END_OBJECT && token != JsonToken.END_ARRAY && token != JsonToken.END_DOCUMENT;
+    }
+
+    public String nextName() throws IOException {
+        expect(JsonToken.NAME);
+        text.setLength(0);
+        readQuoted(text);
+        peeked = null;
+        return symbols != null ? symbols.key(text, 0, text.length()) : text.toString();
+    }
+
+    // ✅ Strings, and numbers as their source text
+    public String nextString() throws IOException {
+        JsonToken token = peek();
+        if (token != JsonToken.STRING && token != JsonToken.NUMBER) throw unexpected(JsonToken.STRING, token);
+        String value;
+        if (peekedQuoted) {
+            text.setLength(0);
+            readQuoted(text);
+            value = symbols != null ? symbols.value(text, 0, text.length()) : text.toString();
+        } else {
+            value = literal.toString();
+        }
+        peeked = null;
+        return value;
+    }
+
+    public boolean nextBoolean() throws IOException {
+        expect(JsonToken.BOOLEAN);
+        peeked = null;
+        return literal.charAt(0) == 't';
+    }
+
+    public void nextNull() throws IOException {
+        expect(JsonToken.NULL);
+        peeked = null;
+    }
+
+    public int nextInt() throws IOException {
+        return (Integer) nextNumber(int.class);
+    }
+
+    public long nextLong() throws IOException {
+        return (Long) nextNumber(long.class);
+    }
+
+    public double nextDouble() throws IOException {
+        return (Double) nextNumber(double.class);
+    }
+
+    // ✅ Integer, Long, BigInteger or Double depending on the value
+    public Number nextNumber() throws IOException {
+        return (Number) nextNumber(null);
+    }
+
+    private Object nextNumber(Class<?> target) throws IOException {
+        expect(JsonToken.NUMBER);
+        Object value = JsonNumbers.decode(literal, 0, literal.length(), target);
+        if (value == null) throw new NumberFormatException("Invalid number '" + literal + "' at offset " + position());
+        peeked = null;
+        return value;
+    }
+
+    // ✅ Skip the next value (a name is skipped together with its value) without decoding it
+    public void skipValue() throws IOException {
+        JsonToken token = peek();
+        if (token == JsonToken.NAME) {
+            readQuoted(null);
+            peeked = null;
+            token = peek(); // The value still follows
+        }
+        switch (token) {
+            case BEGIN_OBJECT:
+            case BEGIN_ARRAY:
+                peeked = null;
+                skipContainer();
+                break;
+            case END_OBJECT:
+                endObject();
+                break;
+            case END_ARRAY:
+                endArray();
+                break;
+            case END_DOCUMENT:
+                throw error("Unexpected end of JSON input");
+            default:
+                if (peekedQuoted) readQuoted(null);
+                peeked = null;
+        }
+    }
+
+    // ✅ Objects and arrays are skipped by counting brackets, only strings need to be followed
+    private void skipContainer() throws IOException {
+        int depth = 1;
+        while (pos < limit || fill()) {
+            char c = buffer[pos++];
+            if (c == '"') {
+                readQuoted(null);
+            } else if (c == '{' || c == '[') {
+                depth++;
+            } else if ((c == '}' || c == ']') && --depth == 0) {
+                return;
+            }
+        }
+        throw error("Unexpected end of JSON input");
+    }
+
+    // ✅ Read the next value as Map / List / String / Number / Boolean / null
+    public Object readValue() throws IOException {
+        return readTree(null, null);
+    }
+
+    /**
+     * Reads the next value as a tree, numbers are decoded into {@code target} (or the field
+     * types of a custom class target) like {@link JsonCursor} does. Objects and arrays are
+     * kept on an explicit stack instead of recursing into them.
+     */
+    Object readTree(Class<?> target, Class<?> elementType) throws IOException {
+        int depth = 0;
+        while (true) {
+            JsonToken token = peek();
+            if (token == JsonToken.BEGIN_OBJECT) {
+                boolean bindable = target != null && !Map.class.isAssignableFrom(target) && JsonParser.isCustomClass(target);
+                beginObject();
+                pushTree(depth++, new LinkedHashMap<String, Object>(), bindable ? ClassDescriptor.of(target) : null, null);
+            } else if (token == JsonToken.BEGIN_ARRAY) {
+                beginArray();
+                pushTree(depth++, new ArrayList<>(), null, elementType);
+            } else {
+                Object value = readScalarTree(token, target);
+                if (depth == 0) return value;
+                addTree(depth - 1, value);
+            }
+
+            // ✅ Close every container that ends here, then move on to the next entry
+            while (!hasNext()) {
+                Object value = popTree(--depth);
+                if (depth == 0) return value;
+                addTree(depth - 1, value);
+            }
+            int top = depth - 1;
+            if (treeContainers[top] instanceof Map) {
+                String key = nextName();
+                treeKeys[top] = key;
+                FieldDescriptor field = treeDescriptors[top] != null ? treeDescriptors[top].getField(key) : null;
+                target = field != null ? field.getType() : null;
+                elementType = field != null ? field.getElementType() : null;
+            } else {
+                target = treeElementTypes[top];
+                elementType = null;
+            }
+        }
+    }
+
+    private Object readScalarTree(JsonToken token, Class<?> target) throws IOException {
+        switch (token) {
+            case STRING:
+                return nextString();
+            case NUMBER:
+                Object number = target != null ? JsonNumbers.decode(literal, 0, literal.length(), target) : null;
+                if (number == null) number = JsonNumbers.decode(literal, 0, literal.length(), null);
+                if (number == null) return nextString(); // Lenient, like JsonCursor
+                peeked = null;
+                return number;
+            case BOOLEAN:
+                return nextBoolean();
+            case NULL:
+                nextNull();
+                return null;
+            default:
+                throw error("Expected a value but was " + token);
+        }
+    }
+
+    private void pushTree(int slot, Object container, ClassDescriptor descriptor, Class<?> elementType) {
+        if (slot == treeContainers.length) {
+            int capacity = slot * 2;
+            treeContainers = Arrays.copyOf(treeContainers, capacity);
+            treeDescriptors = Arrays.copyOf(treeDescriptors, capacity);
+            treeElementTypes = Arrays.copyOf(treeElementTypes, capacity);
+            treeKeys = Arrays.copyOf(treeKeys, capacity);
+            treeNested = Arrays.copyOf(treeNested, capacity);
+        }
+        treeContainers[slot] = container;
+        treeDescriptors[slot] = descriptor;
+        treeElementTypes[slot] = elementType;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void addTree(int slot, Object value) {
+        if (!(treeContainers[slot] instanceof Map)) {
+            ((List<Object>) treeContainers[slot]).add(value);
+        } else if (value instanceof Map) {
+            List<Object> entries = (List<Object>) treeNested[slot];
+            if (entries == null) treeNested[slot] = entries = new ArrayList<>();
+            entries.add(treeKeys[slot]);
+            entries.add(value);
+        } else {
+            ((Map<String, Object>) treeContainers[slot]).put(treeKeys[slot], value);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object popTree(int slot) throws IOException {
+        Object container = treeContainers[slot];
+        if (container instanceof Map) {
+            endObject();
+            List<Object> entries = (List<Object>) treeNested[slot];
+            if (entries != null) {
+                Map<String, Object> map = (Map<String, Object>) container;
+                for (int i = 0; i < entries.size(); i += 2) {
+                    map.put((String) entries.get(i), entries.get(i + 1));
+                }
+            }
+        } else {
+            endArray();
+        }
+        treeContainers[slot] = null;
+        treeDescriptors[slot] = null;
+        treeElementTypes[slot] = null;
+        treeKeys[slot] = null;
+        treeNested[slot] = null;
+        return container;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) return;
+        closed = true;
+        Buffers.release(buffer);
+        in.close();
+    }
+
+    // Offset of the next unread character in the input
+    long position() {
+        return consumed + pos;
+    }
+
+    private JsonToken doPeek() throws IOException {
+        int scope = stack[stackSize - 1];
+        int c;
+        switch (scope) {
+            case EMPTY_OBJECT:
+            case NONEMPTY_OBJECT:
+                c = nextNonWhitespace();
+                if (c == '}') return JsonToken.END_OBJECT;
+                if (scope == NONEMPTY_OBJECT) {
+                    if (c != ',') throw error("Expected ',' or '}'");
+                    c = nextNonWhitespace();
+                }
+                if (c != '"') throw error("Expected field name");
+                countElement();
+                stack[stackSize - 1] = DANGLING_NAME;
+                return JsonToken.NAME;
+            case DANGLING_NAME:
+                if (nextNonWhitespace() != ':') throw error("Expected ':' after field name");
+                stack[stackSize - 1] = NONEMPTY_OBJECT;
+                return peekValue(nextNonWhitespace());
+            case EMPTY_ARRAY:
+            case NONEMPTY_ARRAY:
+                c = nextNonWhitespace();
+                if (c == ']') return JsonToken.END_ARRAY;
+                if (scope == NONEMPTY_ARRAY) {
+                    if (c != ',') throw error("Expected ',' or ']'");
+                    c = nextNonWhitespace();
+                }
+                if (c != -1) countElement();
+                stack[stackSize - 1] = NONEMPTY_ARRAY;
+                return peekValue(c);
+            default:
+                c = nextNonWhitespace();
+                if (c == -1) {
+                    if (scope == EMPTY_DOCUMENT) throw error("Unexpected end of JSON input");
+                    return JsonToken.END_DOCUMENT;
+                }
+                stack[stackSize - 1] = NONEMPTY_DOCUMENT;
+                return peekValue(c);
+        }
+    }
+
+    private JsonToken peekValue(int c) throws IOException {
+        peekedQuoted = false;
+        switch (c) {
+            case -1:
+                throw error("Unexpected end of JSON input");
+            case '{':
+                return JsonToken.BEGIN_OBJECT;
+            case '[':
+                return JsonToken.BEGIN_ARRAY;
+            case '"':
+                peekedQuoted = true;
+                return JsonToken.STRING;
+            case '}':
+            case ']':
+            case ',':
+            case ':':
+                throw error("Unexpected character '" + (char) c + "'");
+            default:
+                pos--; // The literal starts with c
+                return readLiteral();
+        }
+    }
+
+    // ✅ Unquoted value: number, true, false, null (anything else is read leniently as a string)
+    private JsonToken readLiteral() throws IOException {
+        literal.setLength(0);
+        long start = position();
+        while (true) {
+            if (pos == limit && !fill()) break;
+            char c = buffer[pos];
+            if (c == ',' || c == '}' || c == ']' || c == ':' || c <= ' ') break;
+            if (literal.length() == limits.maxStringLength) throw limits.stringTooLong(start); // ✅ Same limit as a quoted string
+            literal.append(c);
+            pos++;
+        }
+        int length = literal.length();
+        if (length == 4 && "null".contentEquals(literal)) return JsonToken.NULL;
+        if ((length == 4 && "true".contentEquals(literal)) || (length == 5 && "false".contentEquals(literal))) return JsonToken.BOOLEAN;
+        char first = literal.charAt(0);
+        return first == '-' || (first >= '0' && first <= '9') ? JsonToken.NUMBER : JsonToken.STRING;
+    }
+
+    // ✅ Read up to the closing quote, into out or nowhere when skipping
+    private void readQuoted(StringBuilder out) throws IOException {
+        long open = position() - 1; // The opening quote was consumed by peek()
+        while (true) {
+            int start = pos;
+            while (pos < limit) {
+                char c = buffer[pos];
+                if (c == '"') {
+                    if (out != null) {
+                        out.append(buffer, start, pos - start);
+                        if (out.length() > limits.maxStringLength) throw limits.stringTooLong(open);
+                    }
+                    pos++;
+                    return;
+                }
+                if (c == '\\') {
+                    if (out != null) out.append(buffer, start, pos - start);
+                    pos++;
+                    ensure(5); // Longest escape is uXXXX
+                    if (out != null) {
+                        pos = JsonStrings.unescape(bufferView, pos, limit, out);
+                    } else if (pos < limit) {
+                        pos++; // Skipping: only the escaped quote or backslash matters
+                    }
+                    start = pos;
+                    continue;
+                }
+                if (c < ' ') throw JsonStrings.controlCharacter(c, position());
+                pos++;
+            }
+            if (out != null) {
+                out.append(buffer, start, pos - start);
+                if (out.length() > limits.maxStringLength) throw limits.stringTooLong(open); // ✅ Before the next chunk is read
+            }
+            if (!fill()) throw error("Unterminated string");
+        }
+    }
+
+    private int nextNonWhitespace() throws IOException {
+        while (pos < limit || fill()) {
+            char c = buffer[pos++];
+            if (c > ' ') return c;
+        }
+        return -1;
+    }
+
+    // ✅ Make at least n characters available if the input has them
+    private void ensure(int n) throws IOException {
+        while (limit - pos < n) {
+            if (!fill()) return;
+        }
+    }
+
+    // ✅ Move unread characters to the front and read more, false at end of input
+    private boolean fill() throws IOException {
+        if (pos > 0) {
+            consumed += pos;
+            limit -= pos;
+            System.arraycopy(buffer, pos, buffer, 0, limit);
+            pos = 0;
+        }
+        if (limit == buffer.length) return true;
+        int read = in.read(buffer, limit, buffer.length - limit);
+        if (read <= 0) return false;
+        limit += read;
+        if (consumed + limit > limits.maxDocumentLength) throw limits.documentTooLong();
+        return true;
+    }
+
+    private void push(int scope) {
+        if (stackSize > limits.maxDepth) throw limits.tooDeep(position() - 1); // stack[0] is the document
+        if (stackSize == stack.length) {
+            int[] grown = new int[stack.length * 2];
+            System.arraycopy(stack, 0, grown, 0, stackSize);
+            stack = grown;
+        }
+        stack[stackSize++] = scope;
+    }
+
+    private void expect(JsonToken expected) throws IOException {
+        JsonToken token = peek();
+        if (token != expected) throw unexpected(expected, token);
+    }
+
+    private IllegalStateException unexpected(JsonToken expected, JsonToken actual) {
+        return new IllegalStateException("Expected " + expected + " but was " + actual + " at offset " + position());
+    }
+
+    private void countElement() {
+        if (++elements > limits.maxElements) throw limits.tooManyElements(position() - 1);
+    }
+
+    private IllegalArgumentException error(String message) {
+        return new IllegalArgumentException(message + " at offset " + position());
+    }
+}
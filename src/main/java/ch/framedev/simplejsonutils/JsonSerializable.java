@@ -0,0 +1,30 @@
+package ch.framedev.simplejsonutils;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/*
+ * ch.framedev.simplejsonutils
+ * =============================================
+ * This File was Created by FrameDev
+ * Please do not change anything without my consent!
+ * =============================================
+ * This Class was created at 17.10.2026 08:45
+ */
+
+/**
+ * Marks a class for the SimpleJsonUtils-processor annotation processor, which generates a
+ * reflection-free {@link JsonCodec} named {@code <Class>JsonCodec} next to it. Without the
+ * processor on the compiler path the annotation has no effect.
+ * <p>
+ * The class needs a non-private no-arg constructor. Private fields need a getter
+ * ({@code getX}/{@code isX}) and a setter ({@code setX}), final fields are not supported.
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.TYPE)
+public @interface JsonSerializable {
+}
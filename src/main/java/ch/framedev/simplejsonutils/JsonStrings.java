@@ -0,0 +1,159 @@
+package ch.framedev.simplejsonutils;
+
+import java.io.IOException;
+
+/*
+ * ch.framedev.simplejsonutils
+ * =============================================
+ * This File was Created by FrameDev
+ * Please do not change anything without my consent!
+ * =============================================
+ * This Class was created at 16.10.2026 22:30
+ */
+
+/**
+ * Table-driven JSON string codec. Strings that need no escaping are passed through
+ * untouched after a single scan. The control characters U+0000 to U+001F are always
+ * escaped when writing and rejected when they appear unescaped in a string being read.
+ */
+final class JsonStrings {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    // Escape sequence for every ASCII character that needs one, null for all others
+    private static final String[] ESCAPES = new String[128];
+
+    static {
+        for (int c = 0; c < 0x20; c++) {
+            ESCAPES[c] = "\\u00" + HEX[c >> 4] + HEX[c & 0xF];
+        }
+        ESCAPES['"'] = "\\\"";
+        ESCAPES['\\'] = "\\\\";
+        ESCAPES['\b'] = "\\b";
+        ESCAPES['\f'] = "\\f";
+        ESCAPES['\n'] = "\\n";
+        ESCAPES['\r'] = "\\r";
+        ESCAPES['\t'] = "\\t";
+    }
+
+    private JsonStrings() {
+    }
+
+    // ✅ Index of the first character that needs escaping, or -1
+    private static int firstEscape(CharSequence s) {
+        for (int i = 0, length = s.length(); i < length; i++) {
+            char c = s.charAt(i);
+            if (c < 128 && ESCAPES[c] != null) return i;
+        }
+        return -1;
+    }
+
+    // ✅ Escape a string for use between quotes, returns the same instance if nothing needs escaping
+    static String escape(String s) {
+        int first = firstEscape(s);
+        if (first < 0) return s;
+        StringBuilder sb = new StringBuilder(s.length() + 16);
+        try {
+            appendEscaped(sb, s, first);
+        } catch (IOException e) {
+            throw new IllegalStateException(e); // StringBuilder never throws
+        }
+        return sb.toString();
+    }
+
+    // ✅ Append the escaped form of a string straight to the output
+    static void appendEscaped(Appendable out, CharSequence s) throws IOException {
+        int first = firstEscape(s);
+        if (first < 0) {
+            out.append(s);
+        } else {
+            appendEscaped(out, s, first);
+        }
+    }
+
+    private static void appendEscaped(Appendable out, CharSequence s, int first) throws IOException {
+        int start = 0;
+        for (int i = first, length = s.length(); i < length; i++) {
+            char c = s.charAt(i);
+            String escape = c < 128 ? ESCAPES[c] : null;
+            if (escape == null) continue;
+            if (i > start) out.append(s, start, i);
+            out.append(escape);
+            start = i + 1;
+        }
+        if (start < s.length()) out.append(s, start, s.length());
+    }
+
+    // ✅ Every reader reports a raw control character inside a string the same way
+    static IllegalArgumentException controlCharacter(int c, long offset) {
+        return new IllegalArgumentException(String.format("Unescaped control character U+%04X in string at offset %d", c, offset));
+    }
+
+    // ✅ Decode the body of a string (without its quotes), resolving the escape sequences in it
+    static String decode(CharSequence src, int start, int end) {
+        StringBuilder sb = Buffers.takeStringBuilder();
+        try {
+            int pos = start;
+            while (pos < end) {
+                char c = src.charAt(pos);
+                if (c == '\\') {
+                    pos = unescape(src, pos + 1, end, sb);
+                } else if (c < 0x20) {
+                    throw controlCharacter(c, pos);
+                } else {
+                    sb.append(c);
+                    pos++;
+                }
+            }
+            return sb.toString();
+        } finally {
+            Buffers.release(sb);
+        }
+    }
+
+    /**
+     * Decodes the escape sequence that starts right after a backslash at {@code pos}
+     * and appends the character(s) to {@code out}.
+     *
+     * @return the index after the escape sequence
+     */
+    static int unescape(CharSequence src, int pos, int end, StringBuilder out) {
+        if (pos >= end) throw new IllegalArgumentException("Unterminated escape sequence at offset " + pos);
+        char c = src.charAt(pos);
+        switch (c) {
+            case '"':
+            case '\\':
+            case '/':
+                out.append(c);
+                return pos + 1;
+            case 'b':
+                out.append('\b');
+                return pos + 1;
+            case 'f':
+                out.append('\f');
+                return pos + 1;
+            case 'n':
+                out.append('\n');
+                return pos + 1;
+            case 'r':
+                out.append('\r');
+                return pos + 1;
+            case 't':
+                out.append('\t');
+                return pos + 1;
+            case 'u':
+                // ✅ Surrogate pairs arrive as two consecutive \\uXXXX escapes and are kept as two chars
+                if (pos + 5 > end) throw new IllegalArgumentException("Incomplete unicode escape at offset " + pos);
+                int code = 0;
+                for (int i = pos + 1; i < pos + 5; i++) {
+                    int digit = Character.digit(src.charAt(i), 16);
+                    if (digit < 0) throw new IllegalArgumentException("Invalid unicode escape at offset " + pos);
+                    code = (code << 4) | digit;
+                }
+                out.append((char) code);
+                return pos + 5;
+            default:
+                throw new IllegalArgumentException("Invalid escape '\\" + c + "' at offset " + pos);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package ch.framedev.simplejsonutils;
+
+
+
+/*
+ * ch.framedev.simplejsonutils
+ * =============================================
+ * This File was Created by FrameDev
+ * Please do not change anything without my consent!
+ * =============================================
+ * This Class was created at 16.10.2026 23:00
+ */
+
+/**
+ * Tokens returned by {@link JsonReader#peek()}.
+ */
+public enum JsonToken {
+
+    /**
+     * Start of an object, consumed with {@link JsonReader#beginObject()}.
+     */
+    BEGIN_OBJECT,
+
+    /**
+     * End of an object, consumed with {@link JsonReader#endObject()}.
+     */
+    END_OBJECT,
+
+    /**
+     * Start of an array, consumed with {@link JsonReader#beginArray()}.
+     */
+    BEGIN_ARRAY,
+
+    /**
+     * End of an array, consumed with {@link JsonReader#endArray()}.
+     */
+    END_ARRAY,
+
+    /**
+     * A property name, consumed with {@link JsonReader#nextName()}.
+     */
+    NAME,
+
+    /**
+     * A string value, consumed with {@link JsonReader#nextString()}.
+     */
+    STRING,
+
+    /**
+     * A number value, consumed with {@link JsonReader#nextLong()}, {@link JsonReader#nextDouble()}, ...
+     */
+    NUMBER,
+
+    /**
+     * {@code true} or {@code false}, consumed with {@link JsonReader#nextBoolean()}.
+     */
+    BOOLEAN,
+
+    /**
+     * {@code null}, consumed with {@link JsonReader#nextNull()}.
+     */
+    NULL,
+
+    /**
+     * No more values in the input.
+     */
+    END_DOCUMENT;
+}
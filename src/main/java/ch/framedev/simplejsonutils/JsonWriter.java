@@ -0,0 +1,96 @@
+package ch.framedev.simplejsonutils;
+
+import java.io.IOException;
+
+/*
+ * ch.framedev.simplejsonutils
+ * =============================================
+ * This File was Created by FrameDev
+ * Please do not change anything without my consent!
+ * =============================================
+ * This Class was created at 16.10.2026 20:40
+ */
+
+/**
+ * Writes JSON tokens straight to an {@link Appendable}, so nested values are
+ * never built up as intermediate Strings.
+ */
+final class JsonWriter {
+
+    private static final String[] INDENTS = new String[32];
+
+    static {
+        StringBuilder sb = new StringBuilder("\n");
+        for (int i = 0; i < INDENTS.length; i++) {
+            INDENTS[i] = sb.toString();
+            sb.append("  ");
+        }
+    }
+
+    private final Appendable out;
+    private final boolean indent;
+
+    JsonWriter(Appendable out, boolean indent) {
+        this.out = out;
+        this.indent = indent;
+    }
+
+    // ✅ Line break plus indentation for the given level (only when pretty-printing)
+    void newline(int level) throws IOException {
+        if (!indent) return;
+        if (level < INDENTS.length) {
+            out.append(INDENTS[level]);
+            return;
+        }
+        out.append(INDENTS[INDENTS.length - 1]);
+        for (int i = INDENTS.length - 1; i < level; i++) out.append("  ");
+    }
+
+    void write(char c) throws IOException {
+        out.append(c);
+    }
+
+    void write(CharSequence s) throws IOException {
+        out.append(s);
+    }
+
+    // ✅ Primitive numbers go straight into a StringBuilder without an intermediate String
+    void number(long value) throws IOException {
+        if (out instanceof StringBuilder) {
+            ((StringBuilder) out).append(value);
+        } else {
+            out.append(Long.toString(value));
+        }
+    }
+
+    void number(double value) throws IOException {
+        if (out instanceof StringBuilder) {
+            ((StringBuilder) out).append(value);
+        } else {
+            out.append(Double.toString(value));
+        }
+    }
+
+    // Float.toString keeps the shortest float representation, e.g. 0.1 instead of 0.10000000149011612
+    void number(float value) throws IOException {
+        if (out instanceof StringBuilder) {
+            ((StringBuilder) out).append(value);
+        } else {
+            out.append(Float.toString(value));
+        }
+    }
+
+    // ✅ Field name including the quotes and separator, e.g. "name":
+    void name(CharSequence name) throws IOException {
+        out.append('"');
+        JsonStrings.appendEscaped(out, name);
+        out.append("\": ");
+    }
+
+    // ✅ Quoted string, escaped straight into the output
+    void string(CharSequence value) throws IOException {
+        out.append('"');
+        JsonStrings.appendEscaped(out, value);
+        out.append('"');
+    }
+}
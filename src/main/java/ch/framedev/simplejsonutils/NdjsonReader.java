@@ -0,0 +1,189 @@
+package ch.framedev.simplejsonutils;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.*;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/*
+ * ch.framedev.simplejsonutils
+ * =============================================
+ * This File was Created by FrameDev
+ * Please do not change anything without my consent!
+ * =============================================
+ * This Class was created at 17.10.2026 00:45
+ */
+
+/**
+ * Iterates the records of newline-delimited JSON. With a parallelism above one, batches
+ * of lines are decoded on the parser's {@link ForkJoinPool} while the caller consumes the
+ * previous ones; at most {@code parallelism} batches are in flight, so no more threads
+ * than that decode. The input is only closed when the reader opened it itself, the pool
+ * never.
+ */
+final class NdjsonReader<T> implements Iterator<T>, Closeable {
+
+    private static final int BATCH_SIZE = 256;
+
+    private final BufferedReader in;
+    private final boolean ownsInput; // Opened from a Path, a caller's stream is left open
+    private final Function<String, T> decoder;
+    private final int maxInFlight;
+    private final boolean ordered;
+    private final ForkJoinPool pool; // Shared, null when decoding on the calling thread
+
+    private final Deque<ForkJoinTask<List<T>>> pending = new ArrayDeque<>(); // Ordered mode
+    private final BlockingQueue<Object> completed = new LinkedBlockingQueue<>(); // Unordered mode: List<T> or Throwable
+    private int inFlight;
+
+    private long lineNumber;
+    private boolean inputDone;
+    private boolean closed;
+    private Iterator<T> current = Collections.emptyIterator();
+
+    NdjsonReader(BufferedReader in, boolean ownsInput, Function<String, T> decoder, ForkJoinPool pool, int parallelism, boolean ordered) {
+        if (parallelism < 1) throw new IllegalArgumentException("parallelism must be at least 1");
+        this.in = in;
+        this.ownsInput = ownsInput;
+        this.decoder = decoder;
+        this.ordered = ordered;
+        this.maxInFlight = parallelism;
+        this.pool = parallelism > 1 ? pool : null;
+    }
+
+    Stream<T> stream() {
+        int characteristics = ordered ? Spliterator.ORDERED : 0;
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, characteristics), false)
+                .onClose(() -> {
+                    try {
+                        close();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!current.hasNext()) {
+            List<T> batch = nextBatch();
+            if (batch == null) {
+                closeQuietly(); // ✅ Release an owned file as soon as the input is exhausted
+                return false;
+            }
+            current = batch.iterator();
+        }
+        return true;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) throw new NoSuchElementException();
+        return current.next();
+    }
+
+    private List<T> nextBatch() {
+        if (closed) return null;
+        if (pool == null) {
+            List<String> lines = readBatch();
+            return lines == null ? null : decodeBatch(lines, lineNumber - lines.size());
+        }
+
+        // ✅ Keep the read-ahead window full, then hand out the next finished batch
+        while (!inputDone && inFlight < maxInFlight) {
+            List<String> lines = readBatch();
+            if (lines == null) break;
+            long firstLine = lineNumber - lines.size();
+            if (ordered) {
+                pending.add(pool.submit(() -> decodeBatch(lines, firstLine)));
+            } else {
+                pool.execute(() -> {
+                    try {
+                        completed.add(decodeBatch(lines, firstLine));
+                    } catch (Throwable t) {
+                        completed.add(t);
+                    }
+                });
+            }
+            inFlight++;
+        }
+        if (inFlight == 0) return null;
+        inFlight--;
+
+        if (ordered) return pending.poll().join();
+        Object result;
+        try {
+            result = completed.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for decoded records", e);
+        }
+        if (result instanceof RuntimeException) throw (RuntimeException) result;
+        if (result instanceof Error) throw (Error) result;
+        if (result instanceof Throwable) throw new IllegalStateException((Throwable) result);
+        @SuppressWarnings("unchecked")
+        List<T> batch = (List<T>) result;
+        return batch;
+    }
+
+    // ✅ Next non-blank lines, null at the end of the input
+    private List<String> readBatch() {
+        if (inputDone) return null;
+        List<String> lines = new ArrayList<>(BATCH_SIZE);
+        try {
+            String line;
+            while (lines.size() < BATCH_SIZE && (line = in.readLine()) != null) {
+                lineNumber++;
+                if (line.trim().isEmpty()) {
+                    lines.add(null); // Keeps line numbers right, skipped when decoding
+                } else {
+                    lines.add(line);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (lines.size() < BATCH_SIZE) inputDone = true;
+        return lines.isEmpty() ? null : lines;
+    }
+
+    private List<T> decodeBatch(List<String> lines, long firstLine) {
+        List<T> records = new ArrayList<>(lines.size());
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i);
+            if (line == null) continue;
+            try {
+                records.add(decoder.apply(line));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("Invalid JSON record on line " + (firstLine + i + 1) + ": " + e.getMessage(), e);
+            }
+        }
+        return records;
+    }
+
+    private void closeQuietly() {
+        try {
+            close();
+        } catch (IOException ignored) {
+            // Nothing left to read anyway
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) return;
+        closed = true;
+        // ✅ Batches nobody will ask for again, ones already decoding finish and are dropped
+        for (ForkJoinTask<List<T>> task : pending) task.cancel(false);
+        pending.clear();
+        if (ownsInput) in.close();
+    }
+}
@@ -0,0 +1,135 @@
+package ch.framedev.simplejsonutils;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/*
+ * ch.framedev.simplejsonutils
+ * =============================================
+ * This File was Created by FrameDev
+ * Please do not change anything without my consent!
+ * =============================================
+ * This Class was created at 17.10.2026 04:30
+ */
+
+/**
+ * Streams a document through a {@link JsonReader} and hands the values matching a set
+ * of {@link JsonPath}s to a callback. Only matched values are decoded, everything else is
+ * skipped by bracket counting. Once every path is single-valued and has been found the
+ * rest of the input is not read.
+ */
+final class PathExtractor {
+
+    private final JsonPath[] paths;
+    private final BiConsumer<JsonPath, Object> callback;
+    private final boolean[] found;
+    private int remaining; // Single-valued paths not found yet, -1 when a wildcard path needs the whole input
+
+    PathExtractor(List<JsonPath> paths, BiConsumer<JsonPath, Object> callback) {
+        this.paths = paths.toArray(new JsonPath[0]);
+        this.callback = callback;
+        this.found = new boolean[this.paths.length];
+        this.remaining = this.paths.length;
+        for (JsonPath path : this.paths) {
+            if (!path.isSingleValued()) remaining = -1;
+        }
+    }
+
+    void extract(JsonReader reader) throws IOException {
+        if (paths.length == 0) return;
+        int[] active = new int[paths.length];
+        for (int i = 0; i < active.length; i++) active[i] = i;
+        visit(reader, active, active.length, 0);
+    }
+
+    /**
+     * Visits the next value, {@code active} holds the paths whose first {@code depth}
+     * segments lead to it.
+     *
+     * @return true once nothing is left to find
+     */
+    private boolean visit(JsonReader reader, int[] active, int count, int depth) throws IOException {
+        // ✅ Values matched by a complete path are decoded once, deeper paths then continue on that value
+        boolean complete = false;
+        for (int i = 0; i < count; i++) {
+            if (paths[active[i]].depth() == depth) complete = true;
+        }
+        if (complete) {
+            Object value = reader.readValue();
+            for (int i = 0; i < count; i++) {
+                matchTree(active[i], value, depth);
+            }
+            return remaining == 0;
+        }
+
+        JsonToken token = count == 0 ? null : reader.peek();
+        if (token == JsonToken.BEGIN_OBJECT) {
+            reader.beginObject();
+            int[] next = new int[count];
+            while (reader.hasNext()) {
+                String name = reader.nextName();
+                int nextCount = 0;
+                for (int i = 0; i < count; i++) {
+                    int p = active[i];
+                    if (!found[p] && paths[p].matchesName(depth, name)) next[nextCount++] = p;
+                }
+                if (nextCount == 0) {
+                    reader.skipValue();
+                } else if (visit(reader, next, nextCount, depth + 1)) {
+                    return true;
+                }
+            }
+            reader.endObject();
+        } else if (token == JsonToken.BEGIN_ARRAY) {
+            reader.beginArray();
+            int[] next = new int[count];
+            for (int index = 0; reader.hasNext(); index++) {
+                int nextCount = 0;
+                for (int i = 0; i < count; i++) {
+                    int p = active[i];
+                    if (!found[p] && paths[p].matchesIndex(depth, index)) next[nextCount++] = p;
+                }
+                if (nextCount == 0) {
+                    reader.skipValue();
+                } else if (visit(reader, next, nextCount, depth + 1)) {
+                    return true;
+                }
+            }
+            reader.endArray();
+        } else {
+            reader.skipValue();
+        }
+        return false;
+    }
+
+    // ✅ Continue matching path p inside an already decoded value
+    private void matchTree(int p, Object value, int depth) {
+        JsonPath path = paths[p];
+        if (found[p]) return;
+        if (path.depth() == depth) {
+            deliver(p, value);
+            return;
+        }
+        if (value instanceof Map) {
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                if (path.matchesName(depth, (String) entry.getKey())) matchTree(p, entry.getValue(), depth + 1);
+            }
+        } else if (value instanceof List) {
+            List<?> list = (List<?>) value;
+            for (int i = 0; i < list.size(); i++) {
+                if (path.matchesIndex(depth, i)) matchTree(p, list.get(i), depth + 1);
+            }
+        }
+    }
+
+    private void deliver(int p, Object value) {
+        JsonPath path = paths[p];
+        if (path.isSingleValued()) {
+            found[p] = true;
+            if (remaining > 0) remaining--;
+        }
+        callback.accept(path, value);
+    }
+}
@@ -0,0 +1,353 @@
+package ch.framedev.simplejsonutils;
+
+import java.io.IOException;
+import java.nio.CharBuffer;
+import java.util.Arrays;
+import java.util.List;
+
+/*
+ * ch.framedev.simplejsonutils
+ * =============================================
+ * This File was Created by FrameDev
+ * Please do not change anything without my consent!
+ * =============================================
+ * This Class was created at 17.10.2026 09:10
+ */
+
+/**
+ * Codecs for int[], long[], short[], byte[], double[], float[], boolean[] and char[].
+ * Elements are written straight from the array and parsed into growable primitive
+ * buffers, so a numeric series is never boxed in either direction. char[] is a JSON
+ * string.
+ */
+final class PrimitiveArrays {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private PrimitiveArrays() {
+    }
+
+    static boolean isPrimitiveArray(Class<?> type) {
+        return type.isArray() && type.getComponentType().isPrimitive();
+    }
+
+    // ✅ Same layout as a List of the boxed values
+    static void write(Object array, JsonWriter out, int indentLevel) throws IOException {
+        if (array instanceof char[]) {
+            out.string(CharBuffer.wrap((char[]) array));
+            return;
+        }
+        out.write('[');
+        if (array instanceof int[]) {
+            int[] values = (int[]) array;
+            for (int i = 0; i < values.length; i++) {
+                separator(out, i, indentLevel);
+                out.number(values[i]);
+            }
+        } else if (array instanceof long[]) {
+            long[] values = (long[]) array;
+            for (int i = 0; i < values.length; i++) {
+                separator(out, i, indentLevel);
+                out.number(values[i]);
+            }
+        } else if (array instanceof double[]) {
+            double[] values = (double[]) array;
+            for (int i = 0; i < values.length; i++) {
+                separator(out, i, indentLevel);
+                out.number(values[i]);
+            }
+        } else if (array instanceof float[]) {
+            float[] values = (float[]) array;
+            for (int i = 0; i < values.length; i++) {
+                separator(out, i, indentLevel);
+                out.number(values[i]);
+            }
+        } else if (array instanceof short[]) {
+            short[] values = (short[]) array;
+            for (int i = 0; i < values.length; i++) {
+                separator(out, i, indentLevel);
+                out.number(values[i]);
+            }
+        } else if (array instanceof byte[]) {
+            byte[] values = (byte[]) array;
+            for (int i = 0; i < values.length; i++) {
+                separator(out, i, indentLevel);
+                out.number(values[i]);
+            }
+        } else {
+            boolean[] values = (boolean[]) array;
+            for (int i = 0; i < values.length; i++) {
+                separator(out, i, indentLevel);
+                out.write(values[i] ? "true" : "false");
+            }
+        }
+        out.newline(indentLevel);
+        out.write(']');
+    }
+
+    private static void separator(JsonWriter out, int index, int indentLevel) throws IOException {
+        if (index > 0) out.write(',');
+        out.newline(indentLevel + 1);
+    }
+
+    // ✅ CBOR arrays of the element values
+    static void writeCbor(Object array, CborWriter out) throws IOException {
+        if (array instanceof byte[]) {
+            out.bytes((byte[]) array); // ✅ Native byte string
+        } else if (array instanceof char[]) {
+            out.text(new String((char[]) array));
+        } else if (array instanceof int[]) {
+            int[] values = (int[]) array;
+            out.beginArray(values.length);
+            for (int value : values) out.number(value);
+        } else if (array instanceof long[]) {
+            long[] values = (long[]) array;
+            out.beginArray(values.length);
+            for (long value : values) out.number(value);
+        } else if (array instanceof double[]) {
+            double[] values = (double[]) array;
+            out.beginArray(values.length);
+            for (double value : values) out.number(value);
+        } else if (array instanceof float[]) {
+            float[] values = (float[]) array;
+            out.beginArray(values.length);
+            for (float value : values) out.number(value);
+        } else if (array instanceof short[]) {
+            short[] values = (short[]) array;
+            out.beginArray(values.length);
+            for (short value : values) out.number(value);
+        } else {
+            boolean[] values = (boolean[]) array;
+            out.beginArray(values.length);
+            for (boolean value : values) out.bool(value);
+        }
+    }
+
+    // ✅ Array of an already parsed list, used by the readers that do not decode arrays themselves
+    static Object fromList(List<?> list, Class<?> component) {
+        Buffer buffer = buffer(component);
+        for (Object item : list) {
+            if (!buffer.add(item)) {
+                throw new IllegalArgumentException("Can not store " + item + " in a " + component.getName() + "[]");
+            }
+        }
+        return buffer.toArray();
+    }
+
+    // ✅ Growable buffer for the given component type, char is not supported
+    static Buffer buffer(Class<?> component) {
+        if (component == int.class) return new Ints(Integer.MIN_VALUE, Integer.MAX_VALUE);
+        if (component == long.class) return new Longs();
+        if (component == double.class) return new Doubles();
+        if (component == float.class) return new Floats();
+        if (component == short.class) return new Ints(Short.MIN_VALUE, Short.MAX_VALUE);
+        if (component == byte.class) return new Ints(Byte.MIN_VALUE, Byte.MAX_VALUE);
+        if (component == boolean.class) return new Booleans();
+        throw new IllegalArgumentException("Unsupported array type: " + component.getName() + "[]");
+    }
+
+    /**
+     * Collects the elements of one array while it is parsed.
+     */
+    abstract static class Buffer {
+
+        int size;
+
+        /**
+         * Decodes the JSON scalar in {@code s[start, end)} and appends it.
+         *
+         * @return false if the scalar is not a value of the component type
+         */
+        abstract boolean add(CharSequence s, int start, int end);
+
+        // ✅ Already decoded value, e.g. from CBOR or the streaming reader
+        abstract boolean add(Object value);
+
+        // ✅ Array of exactly the collected elements
+        abstract Object toArray();
+
+        final int grow(int capacity) {
+            return capacity + Math.max(capacity >> 1, INITIAL_CAPACITY);
+        }
+    }
+
+    // int[], short[] and byte[], narrowed when the array is built
+    private static final class Ints extends Buffer {
+
+        private final int min;
+        private final int max;
+        private int[] values = new int[INITIAL_CAPACITY];
+
+        private Ints(int min, int max) {
+            this.min = min;
+            this.max = max;
+        }
+
+        @Override
+        boolean add(CharSequence s, int start, int end) {
+            long value;
+            try {
+                value = JsonNumbers.parseLong(s, start, end);
+            } catch (NumberFormatException e) {
+                return false;
+            }
+            return add(value);
+        }
+
+        @Override
+        boolean add(Object value) {
+            if (!(value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte)) return false;
+            return add(((Number) value).longValue());
+        }
+
+        private boolean add(long value) {
+            if (value < min || value > max) return false;
+            if (size == values.length) values = Arrays.copyOf(values, grow(size));
+            values[size++] = (int) value;
+            return true;
+        }
+
+        @Override
+        Object toArray() {
+            if (max == Integer.MAX_VALUE) return Arrays.copyOf(values, size);
+            if (max == Short.MAX_VALUE) {
+                short[] shorts = new short[size];
+                for (int i = 0; i < size; i++) shorts[i] = (short) values[i];
+                return shorts;
+            }
+            byte[] bytes = new byte[size];
+            for (int i = 0; i < size; i++) bytes[i] = (byte) values[i];
+            return bytes;
+        }
+    }
+
+    private static final class Longs extends Buffer {
+
+        private long[] values = new long[INITIAL_CAPACITY];
+
+        @Override
+        boolean add(CharSequence s, int start, int end) {
+            try {
+                add(JsonNumbers.parseLong(s, start, end));
+                return true;
+            } catch (NumberFormatException e) {
+                return false;
+            }
+        }
+
+        @Override
+        boolean add(Object value) {
+            if (!(value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte)) return false;
+            add(((Number) value).longValue());
+            return true;
+        }
+
+        private void add(long value) {
+            if (size == values.length) values = Arrays.copyOf(values, grow(size));
+            values[size++] = value;
+        }
+
+        @Override
+        Object toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+
+    private static final class Doubles extends Buffer {
+
+        private double[] values = new double[INITIAL_CAPACITY];
+
+        @Override
+        boolean add(CharSequence s, int start, int end) {
+            double value = JsonNumbers.parseDouble(s, start, end);
+            if (Double.isNaN(value)) return false;
+            add(value);
+            return true;
+        }
+
+        @Override
+        boolean add(Object value) {
+            if (!(value instanceof Number)) return false;
+            add(((Number) value).doubleValue());
+            return true;
+        }
+
+        private void add(double value) {
+            if (size == values.length) values = Arrays.copyOf(values, grow(size));
+            values[size++] = value;
+        }
+
+        @Override
+        Object toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+
+    // Rounded through double, which differs from a direct float parse only for values right at a rounding boundary
+    private static final class Floats extends Buffer {
+
+        private float[] values = new float[INITIAL_CAPACITY];
+
+        @Override
+        boolean add(CharSequence s, int start, int end) {
+            double value = JsonNumbers.parseDouble(s, start, end);
+            if (Double.isNaN(value)) return false;
+            add((float) value);
+            return true;
+        }
+
+        @Override
+        boolean add(Object value) {
+            if (!(value instanceof Number)) return false;
+            add(((Number) value).floatValue());
+            return true;
+        }
+
+        private void add(float value) {
+            if (size == values.length) values = Arrays.copyOf(values, grow(size));
+            values[size++] = value;
+        }
+
+        @Override
+        Object toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+
+    private static final class Booleans extends Buffer {
+
+        private boolean[] values = new boolean[INITIAL_CAPACITY];
+
+        @Override
+        boolean add(CharSequence s, int start, int end) {
+            int len = end - start;
+            if (len == 4 && s.charAt(start) == 't' && s.charAt(start + 1) == 'r' && s.charAt(start + 2) == 'u' && s.charAt(start + 3) == 'e') {
+                add(true);
+                return true;
+            }
+            if (len == 5 && s.charAt(start) == 'f' && s.charAt(start + 1) == 'a' && s.charAt(start + 2) == 'l'
+                    && s.charAt(start + 3) == 's' && s.charAt(start + 4) == 'e') {
+                add(false);
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        boolean add(Object value) {
+            if (!(value instanceof Boolean)) return false;
+            add(((Boolean) value).booleanValue());
+            return true;
+        }
+
+        private void add(boolean value) {
+            if (size == values.length) values = Arrays.copyOf(values, grow(size));
+            values[size++] = value;
+        }
+
+        @Override
+        Object toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
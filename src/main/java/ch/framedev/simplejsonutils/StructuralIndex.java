@@ -0,0 +1,153 @@
+package ch.framedev.simplejsonutils;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+/*
+ * ch.framedev.simplejsonutils
+ * =============================================
+ * This File was Created by FrameDev
+ * Please do not change anything without my consent!
+ * =============================================
+ * This Class was created at 17.10.2026 02:15
+ */
+
+/**
+ * Stage 1 of the byte[] parser: finds the structural positions of a UTF-8 document
+ * 64 bytes at a time. Every 8-byte word is classified with SWAR bit tricks into
+ * quote, backslash, structural and whitespace masks, string interiors are resolved
+ * with a prefix-xor over the quote mask.
+ * <p>
+ * The tape holds, in document order, the position of every {@code { } [ ] : ,} outside
+ * of strings, every unescaped quote (opening and closing) and the first byte of every
+ * scalar ({@code true}, numbers, ...).
+ */
+final class StructuralIndex {
+
+    private static final VarHandle LONGS = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private static final long ONES = 0x0101010101010101L;
+    private static final long LOW7 = 0x7F7F7F7F7F7F7F7FL;
+    private static final long HIGH = 0x8080808080808080L;
+    private static final long GATHER = 0x0102040810204080L;
+
+    private static final long QUOTES = ONES * '"';
+    private static final long BACKSLASHES = ONES * '\\';
+    private static final long SPACES = ONES * 0x20;
+    private static final long OPEN_BRACKETS = ONES * '{'; // '[' | 0x20 == '{'
+    private static final long CLOSE_BRACKETS = ONES * '}'; // ']' | 0x20 == '}'
+    private static final long COLONS = ONES * ':';
+    private static final long COMMAS = ONES * ',';
+    private static final long WHITESPACE_BIAS = ONES * (0x7F - 0x20);
+
+    private final int[] positions;
+    private final int size;
+
+    private StructuralIndex(int[] positions, int size) {
+        this.positions = positions;
+        this.size = size;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int position(int index) {
+        return positions[index];
+    }
+
+    /**
+     * Indexes {@code json[off, off + len)}. Positions on the tape are indices into {@code json}.
+     *
+     * @throws IllegalArgumentException if the document ends inside a string
+     */
+    static StructuralIndex of(byte[] json, int off, int len) {
+        int end = off + len;
+        int[] tape = new int[Math.max(64, len / 4)];
+        int size = 0;
+
+        long prevInString = 0; // All ones while a string continues into the next block
+        long prevScalar = 0; // 1 when the previous block ended inside a scalar
+        long prevEscaped = 0; // 1 when the first byte of the next block is escaped
+        byte[] tail = null;
+
+        for (int block = off; block < end; block += 64) {
+            byte[] src = json;
+            int base = block;
+            if (end - block < 64) {
+                // ✅ Last partial block, zero padding is classified as whitespace
+                tail = new byte[64];
+                System.arraycopy(json, block, tail, 0, end - block);
+                src = tail;
+                base = 0;
+            }
+
+            long quote = 0, backslash = 0, structural = 0, whitespace = 0;
+            for (int w = 0; w < 8; w++) {
+                long x = (long) LONGS.get(src, base + w * 8);
+                long lowered = x | SPACES;
+                int shift = w * 8;
+                quote |= gather(equal(x, QUOTES)) << shift;
+                backslash |= gather(equal(x, BACKSLASHES)) << shift;
+                structural |= gather(equal(lowered, OPEN_BRACKETS) | equal(lowered, CLOSE_BRACKETS)
+                        | equal(x, COLONS) | equal(x, COMMAS)) << shift;
+                // ✅ Bytes <= 0x20 with the high bit clear, same rule as JsonCursor
+                whitespace |= gather(~(((x & LOW7) + WHITESPACE_BIAS) | x) & HIGH) << shift;
+            }
+
+            // ✅ Escaped characters, backslashes are rare so their runs are resolved bit by bit
+            long escaped = prevEscaped;
+            prevEscaped = 0;
+            for (long b = backslash; b != 0; b &= b - 1) {
+                int bit = Long.numberOfTrailingZeros(b);
+                if ((escaped & (1L << bit)) != 0) continue; // An escaped backslash escapes nothing
+                if (bit == 63) {
+                    prevEscaped = 1;
+                } else {
+                    escaped |= 1L << (bit + 1);
+                }
+            }
+            quote &= ~escaped;
+
+            long inString = prefixXor(quote) ^ prevInString; // Opening quote and string body
+            prevInString = inString >> 63;
+
+            long scalar = ~(structural | whitespace | quote | inString);
+            long scalarStarts = scalar & ~((scalar << 1) | prevScalar);
+            prevScalar = scalar >>> 63;
+
+            long marks = (structural & ~inString) | quote | scalarStarts;
+            if (size + 64 > tape.length) tape = Arrays.copyOf(tape, tape.length * 2);
+            for (; marks != 0; marks &= marks - 1) {
+                tape[size++] = block + Long.numberOfTrailingZeros(marks);
+            }
+        }
+
+        if (prevInString != 0) throw new IllegalArgumentException("Unterminated string at offset " + len);
+        return new StructuralIndex(tape, size);
+    }
+
+    // High bit set in every byte of x that equals the byte repeated in pattern
+    private static long equal(long x, long pattern) {
+        long t = x ^ pattern;
+        return ~(((t & LOW7) + LOW7) | t | LOW7);
+    }
+
+    // Moves the high bit of each byte into one bit per byte, byte i becomes bit i
+    private static long gather(long highBits) {
+        return ((highBits >>> 7) * GATHER) >>> 56;
+    }
+
+    // Bit i becomes the xor of bits 0..i, so everything from an opening quote up to the closing one is set
+    private static long prefixXor(long x) {
+        x ^= x << 1;
+        x ^= x << 2;
+        x ^= x << 4;
+        x ^= x << 8;
+        x ^= x << 16;
+        x ^= x << 32;
+        return x;
+    }
+}
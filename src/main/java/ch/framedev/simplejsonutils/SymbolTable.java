@@ -0,0 +1,118 @@
+package ch.framedev.simplejsonutils;
+
+import java.nio.charset.StandardCharsets;
+
+/*
+ * ch.framedev.simplejsonutils
+ * =============================================
+ * This File was Created by FrameDev
+ * Please do not change anything without my consent!
+ * =============================================
+ * This Class was created at 17.10.2026 08:15
+ */
+
+/**
+ * Bounded cache of canonical String instances for field names and, optionally, short string
+ * values. The characters are hashed and compared where they are, so a hit returns the cached
+ * String without allocating anything. The table is direct-mapped: a miss replaces whatever
+ * occupied the slot, so memory stays bounded however many distinct strings pass through.
+ * <p>
+ * The slots belong to the thread, like the pooled scratch buffers: every parser used on a
+ * thread shares that thread's slots, and a parser only holds its configuration. Creating
+ * a parser per request therefore allocates no table.
+ */
+final class SymbolTable {
+
+    static final int MAX_KEY_LENGTH = 64;
+    private static final int SLOTS = 4096; // Power of two
+
+    private static final ThreadLocal<String[]> SLOTS_PER_THREAD = ThreadLocal.withInitial(() -> new String[SLOTS]);
+
+    private final boolean keys;
+    private final int maxValueLength;
+
+    SymbolTable(boolean keys, int maxValueLength) {
+        this.keys = keys;
+        this.maxValueLength = maxValueLength;
+    }
+
+    // ✅ Null when neither keys nor values are canonicalized
+    static SymbolTable create(boolean keys, int maxValueLength) {
+        return keys || maxValueLength > 0 ? new SymbolTable(keys, maxValueLength) : null;
+    }
+
+    // ✅ Field name src[start, end)
+    String key(CharSequence src, int start, int end) {
+        if (!keys || end - start > MAX_KEY_LENGTH) return src.subSequence(start, end).toString();
+        return lookup(src, start, end);
+    }
+
+    // ✅ String value src[start, end), only short ones are canonicalized
+    String value(CharSequence src, int start, int end) {
+        if (end - start > maxValueLength) return src.subSequence(start, end).toString();
+        return lookup(src, start, end);
+    }
+
+    // ✅ Field name from UTF-8 bytes, only ASCII names are canonicalized
+    String key(byte[] src, int start, int end) {
+        if (!keys || end - start > MAX_KEY_LENGTH) return new String(src, start, end - start, StandardCharsets.UTF_8);
+        return lookup(src, start, end);
+    }
+
+    String value(byte[] src, int start, int end) {
+        if (end - start > maxValueLength) return new String(src, start, end - start, StandardCharsets.UTF_8);
+        return lookup(src, start, end);
+    }
+
+    private String lookup(CharSequence src, int start, int end) {
+        int length = end - start;
+        int hash = 0;
+        for (int i = start; i < end; i++) hash = 31 * hash + src.charAt(i);
+        String[] slots = SLOTS_PER_THREAD.get();
+        int slot = slot(hash);
+        String candidate = slots[slot];
+        if (candidate != null && candidate.length() == length && matches(candidate, src, start)) return candidate;
+
+        String symbol = src.subSequence(start, end).toString();
+        slots[slot] = symbol;
+        return symbol;
+    }
+
+    private static boolean matches(String candidate, CharSequence src, int start) {
+        if (src instanceof String) return ((String) src).regionMatches(start, candidate, 0, candidate.length());
+        for (int i = 0, length = candidate.length(); i < length; i++) {
+            if (candidate.charAt(i) != src.charAt(start + i)) return false;
+        }
+        return true;
+    }
+
+    private String lookup(byte[] src, int start, int end) {
+        int length = end - start;
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            byte b = src[i];
+            if (b < 0) return new String(src, start, length, StandardCharsets.UTF_8); // Not ASCII
+            hash = 31 * hash + b;
+        }
+        String[] slots = SLOTS_PER_THREAD.get();
+        int slot = slot(hash);
+        String candidate = slots[slot];
+        if (candidate != null && candidate.length() == length && matches(candidate, src, start)) return candidate;
+
+        String symbol = new String(src, start, length, StandardCharsets.ISO_8859_1);
+        slots[slot] = symbol;
+        return symbol;
+    }
+
+    private static boolean matches(String candidate, byte[] src, int start) {
+        for (int i = 0, length = candidate.length(); i < length; i++) {
+            if (candidate.charAt(i) != src[start + i]) return false;
+        }
+        return true;
+    }
+
+    // Same hash as String.hashCode(), spread so that similar names land in different slots
+    private static int slot(int hash) {
+        return (hash ^ (hash >>> 16)) & (SLOTS - 1);
+    }
+}
@@ -0,0 +1,338 @@
+package ch.framedev.simplejsonutils;
+
+import ch.framedev.simplejsonutils.ClassDescriptor.FieldDescriptor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * ch.framedev.simplejsonutils
+ * =============================================
+ * This File was Created by FrameDev
+ * Please do not change anything without my consent!
+ * =============================================
+ * This Class was created at 17.10.2026 02:40
+ */
+
+/**
+ * Stage 2 of the byte[] parser: walks the tape of a {@link StructuralIndex} instead of
+ * looking at every byte. Produces the same values as {@link JsonCursor}.
+ */
+final class TapeCursor {
+
+    private static final int INITIAL_DEPTH = 16;
+
+    private final byte[] json;
+    private final int start;
+    private final int end;
+    private final JsonListener trace; // Receives every parsed entry, or null
+    private final SymbolTable symbols; // Canonical keys and short values, or null
+    private final JsonLimits limits;
+    private final StructuralIndex tape;
+    private final Ascii ascii = new Ascii();
+    private int index; // Next tape entry
+    private long elements;
+
+    // Open objects and arrays, one slot per level, so nesting never grows the thread stack
+    private Object[] containers = new Object[INITIAL_DEPTH]; // Map or List
+    private ClassDescriptor[] descriptors = new ClassDescriptor[INITIAL_DEPTH];
+    private Class<?>[] elementTypes = new Class<?>[INITIAL_DEPTH];
+    private String[] keys = new String[INITIAL_DEPTH];
+    private Object[] nested = new Object[INITIAL_DEPTH]; // Nested objects are added after the other entries, like the previous parser did
+    private int[] valueStarts = new int[INITIAL_DEPTH];
+    private int depth;
+
+    // Types of the value read next, set when a container moves on to its next entry
+    private Class<?> nextTarget;
+    private Class<?> nextElementType;
+
+    TapeCursor(byte[] json, int off, int len, JsonListener trace, SymbolTable symbols, JsonLimits limits) {
+        limits.checkDocumentLength(len); // Before the index is built
+        this.json = json;
+        this.start = off;
+        this.end = off + len;
+        this.trace = trace;
+        this.symbols = symbols;
+        this.limits = limits;
+        this.tape = StructuralIndex.of(json, off, len);
+    }
+
+    // ✅ Read a complete document holding any single value
+    Object readRoot(Class<?> target) {
+        Object value = readValue(target, null);
+        if (index < tape.size()) throw error("Unexpected trailing content", tape.position(index));
+        return value;
+    }
+
+    /**
+     * Reads the next value. {@code target} is the type the value will be bound to and
+     * {@code elementType} the element type for lists, both may be {@code null}. Objects
+     * and arrays are kept on an explicit stack instead of recursing into them.
+     */
+    private Object readValue(Class<?> target, Class<?> elementType) {
+        while (true) {
+            Object value;
+            char c = peek();
+            if (c == '{') {
+                boolean bindable = target != null && !Map.class.isAssignableFrom(target) && JsonParser.isCustomClass(target);
+                push(new LinkedHashMap<String, Object>(), bindable ? ClassDescriptor.of(target) : null, null);
+                index++;
+                if (peek() != '}') {
+                    nextKey();
+                    target = nextTarget;
+                    elementType = nextElementType;
+                    continue;
+                }
+                index++;
+                value = pop();
+            } else if (c == '[') {
+                if (target != null && PrimitiveArrays.isPrimitiveArray(target) && target != char[].class) {
+                    value = readPrimitiveArray(target.getComponentType());
+                } else {
+                    push(new ArrayList<>(), null, target != null && target.isArray() ? target.getComponentType() : elementType);
+                    index++;
+                    if (peek() != ']') {
+                        nextElement();
+                        target = nextTarget;
+                        elementType = nextElementType;
+                        continue;
+                    }
+                    index++;
+                    value = pop();
+                }
+            } else if (c == '"') {
+                value = readString(false);
+            } else if (c == '}' || c == ']' || c == ',' || c == ':') {
+                throw error("Unexpected character '" + c + "'"); // ✅ A structural character where a value belongs
+            } else {
+                value = readScalar(target);
+            }
+
+            // ✅ Store the value in its container and close every container that ends with it
+            while (depth > 0) {
+                int top = depth - 1;
+                boolean object = containers[top] instanceof Map;
+                add(top, value);
+                c = peek();
+                index++;
+                if (c == ',') {
+                    if (object) nextKey();
+                    else nextElement();
+                    break;
+                }
+                if (object && c != '}') throw error("Expected ',' or '}'", tape.position(index - 1));
+                if (!object && c != ']') throw error("Expected ',' or ']'", tape.position(index - 1));
+                value = pop();
+            }
+            if (depth == 0) return value;
+            target = nextTarget;
+            elementType = nextElementType;
+        }
+    }
+
+    // ✅ Read the next field name of the innermost object up to its value
+    private void nextKey() {
+        int top = depth - 1;
+        countElement();
+        if (peek() != '"') throw error("Expected field name");
+        String key = readString(true);
+        if (peek() != ':') throw error("Expected ':' after field name");
+        index++;
+
+        keys[top] = key;
+        valueStarts[top] = currentPosition();
+        FieldDescriptor field = descriptors[top] != null ? descriptors[top].getField(key) : null;
+        nextTarget = field != null ? field.getType() : null;
+        nextElementType = field != null ? field.getElementType() : null;
+    }
+
+    private void nextElement() {
+        countElement();
+        nextTarget = elementTypes[depth - 1];
+        nextElementType = null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void add(int top, Object value) {
+        if (!(containers[top] instanceof Map)) {
+            ((List<Object>) containers[top]).add(value);
+            return;
+        }
+        if (trace != null) {
+            int valueStart = valueStarts[top];
+            trace.onEntry(keys[top], new String(json, valueStart, currentPosition() - valueStart, StandardCharsets.UTF_8).trim());
+        }
+        if (value instanceof Map) {
+            List<Object> entries = (List<Object>) nested[top];
+            if (entries == null) nested[top] = entries = new ArrayList<>();
+            entries.add(keys[top]);
+            entries.add(value);
+        } else {
+            ((Map<String, Object>) containers[top]).put(keys[top], value);
+        }
+    }
+
+    private void push(Object container, ClassDescriptor descriptor, Class<?> elementType) {
+        checkDepth();
+        if (depth == containers.length) {
+            int capacity = depth * 2;
+            containers = Arrays.copyOf(containers, capacity);
+            descriptors = Arrays.copyOf(descriptors, capacity);
+            elementTypes = Arrays.copyOf(elementTypes, capacity);
+            keys = Arrays.copyOf(keys, capacity);
+            nested = Arrays.copyOf(nested, capacity);
+            valueStarts = Arrays.copyOf(valueStarts, capacity);
+        }
+        containers[depth] = container;
+        descriptors[depth] = descriptor;
+        elementTypes[depth] = elementType;
+        depth++;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object pop() {
+        int top = --depth;
+        Object container = containers[top];
+        List<Object> entries = (List<Object>) nested[top];
+        if (entries != null) {
+            Map<String, Object> map = (Map<String, Object>) container;
+            for (int i = 0; i < entries.size(); i += 2) {
+                map.put((String) entries.get(i), entries.get(i + 1));
+            }
+        }
+        containers[top] = null;
+        descriptors[top] = null;
+        elementTypes[top] = null;
+        keys[top] = null;
+        nested[top] = null;
+        return container;
+    }
+
+    private void checkDepth() {
+        if (depth >= limits.maxDepth) throw limits.tooDeep(currentPosition() - start);
+    }
+
+    private void countElement() {
+        if (++elements > limits.maxElements) throw limits.tooManyElements(currentPosition() - start);
+    }
+
+    // ✅ Every element is a scalar entry of the tape, decoded straight into a primitive buffer
+    private Object readPrimitiveArray(Class<?> component) {
+        checkDepth();
+        index++; // Skip '['
+        PrimitiveArrays.Buffer buffer = PrimitiveArrays.buffer(component);
+        if (peek() == ']') {
+            index++;
+            return buffer.toArray();
+        }
+
+        while (true) {
+            countElement();
+            int scalarStart = tape.position(index++);
+            int scalarEnd = index < tape.size() ? tape.position(index) : end;
+            while (scalarEnd > scalarStart && (json[scalarEnd - 1] & 0xFF) <= ' ') scalarEnd--;
+            if (!buffer.add(ascii, scalarStart, scalarEnd)) {
+                throw error("Invalid " + component.getName() + "[] element", scalarStart);
+            }
+            char c = peek();
+            index++;
+            if (c == ']') return buffer.toArray();
+            if (c != ',') throw error("Expected ',' or ']'", tape.position(index - 1));
+        }
+    }
+
+    // ✅ The closing quote is the next tape entry, so the body is never scanned for its end
+    private String readString(boolean key) {
+        int open = tape.position(index);
+        int close = tape.position(index + 1); // Always present, the index rejects unterminated strings
+        if (close - open - 1 > limits.maxStringLength) throw limits.stringTooLong(open - start);
+        index += 2;
+
+        boolean ascii = true;
+        boolean escapes = false;
+        for (int i = open + 1; i < close; i++) {
+            byte b = json[i];
+            if (b < 0) ascii = false;
+            else if (b == '\\') escapes = true;
+            else if (b < ' ') throw JsonStrings.controlCharacter(b, i - start);
+        }
+        if (!escapes) {
+            if (symbols != null) {
+                return key ? symbols.key(json, open + 1, close) : symbols.value(json, open + 1, close);
+            }
+            return new String(json, open + 1, close - open - 1, ascii ? StandardCharsets.ISO_8859_1 : StandardCharsets.UTF_8);
+        }
+
+        String raw = new String(json, open + 1, close - open - 1, StandardCharsets.UTF_8);
+        return JsonStrings.decode(raw, 0, raw.length());
+    }
+
+    private Object readScalar(Class<?> target) {
+        int scalarStart = tape.position(index++);
+        int scalarEnd = index < tape.size() ? tape.position(index) : end;
+        while (scalarEnd > scalarStart && (json[scalarEnd - 1] & 0xFF) <= ' ') scalarEnd--;
+        return decodeScalar(scalarStart, scalarEnd, target);
+    }
+
+    private Object decodeScalar(int from, int to, Class<?> target) {
+        int len = to - from;
+        if (len == 4 && matches(from, "null")) return null;
+        if (len == 4 && matches(from, "true")) return Boolean.TRUE;
+        if (len == 5 && matches(from, "false")) return Boolean.FALSE;
+
+        // ✅ Numbers are decoded in place, into the target type when it is a number type
+        if (target != null) {
+            Object typed = JsonNumbers.decode(ascii, from, to, target);
+            if (typed != null) return typed;
+        }
+        Object number = JsonNumbers.decode(ascii, from, to, null);
+        return number != null ? number : new String(json, from, len, StandardCharsets.UTF_8);
+    }
+
+    private boolean matches(int from, String literal) {
+        for (int i = 0; i < literal.length(); i++) {
+            if (json[from + i] != literal.charAt(i)) return false;
+        }
+        return true;
+    }
+
+    private char peek() {
+        if (index >= tape.size()) throw error("Unexpected end of JSON input", end);
+        return (char) (json[tape.position(index)] & 0xFF);
+    }
+
+    private int currentPosition() {
+        return index < tape.size() ? tape.position(index) : end;
+    }
+
+    private IllegalArgumentException error(String message) {
+        return error(message, currentPosition());
+    }
+
+    private IllegalArgumentException error(String message, int position) {
+        return new IllegalArgumentException(message + " at offset " + (position - start));
+    }
+
+    // Zero-copy view of the document bytes for the number scanner, which only looks at ASCII digits
+    private final class Ascii implements CharSequence {
+
+        @Override
+        public int length() {
+            return end;
+        }
+
+        @Override
+        public char charAt(int i) {
+            return (char) (json[i] & 0xFF);
+        }
+
+        @Override
+        public CharSequence subSequence(int from, int to) {
+            return new String(json, from, to - from, StandardCharsets.ISO_8859_1);
+        }
+    }
+}
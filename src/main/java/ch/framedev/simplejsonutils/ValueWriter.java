@@ -0,0 +1,657 @@
+package ch.framedev.simplejsonutils;
+
+import ch.framedev.simplejsonutils.ClassDescriptor.FieldDescriptor;
+
+import java.io.IOException;
+import java.lang.reflect.Array;
+import java.util.*;
+
+/*
+ * ch.framedev.simplejsonutils
+ * =============================================
+ * This File was Created by FrameDev
+ * Please do not change anything without my consent!
+ * =============================================
+ * This Class was created at 17.10.2026 12:20
+ */
+
+/**
+ * Writes a value tree without recursion. Every open Map, List, object array and object
+ * is a frame on an explicit stack, so the nesting depth is only bounded by
+ * {@link JsonLimits#maxDepth}, never by the thread stack. Frames are reused once their
+ * container is closed. The subclasses decide what the entries look like in JSON and CBOR,
+ * or build the tree of the JSON document in memory.
+ */
+abstract class ValueWriter {
+
+    // Frame kinds
+    static final int MAP = 0;
+    static final int LIST = 1; // Lists and object arrays
+    static final int FIELDS = 2; // Object read through its accessors
+    static final int CODEC = 3; // Object read by its generated codec
+
+    final JsonListener listener; // Receives warnings, or null
+    private final AccessorStrategy accessorStrategy;
+    private final JsonLimits limits;
+    private Frame[] frames = new Frame[8];
+    int depth; // Open frames
+    private Object pending; // Value of the entry next() moved to
+
+    ValueWriter(JsonListener listener, AccessorStrategy accessorStrategy, JsonLimits limits) {
+        this.listener = listener;
+        this.accessorStrategy = accessorStrategy;
+        this.limits = limits;
+    }
+
+    final void write(Object value) throws IOException {
+        while (true) {
+            open(value);
+            // ✅ Close every container that is complete, then continue with the next entry
+            while (true) {
+                if (depth == 0) return;
+                Frame frame = frames[depth - 1];
+                if (next(frame)) break;
+                close(frame);
+                frame.clear();
+                depth--;
+            }
+            value = pending;
+            pending = null;
+        }
+    }
+
+    // ✅ Write a scalar completely, or a container up to its first entry and push() its frame
+    abstract void open(Object value) throws IOException;
+
+    // ✅ Called with the frame still open, after its last entry
+    abstract void close(Frame frame) throws IOException;
+
+    // ✅ Everything in front of the value of a Map entry
+    abstract void key(Frame frame, String key) throws IOException;
+
+    // ✅ Everything in front of the value of an object field
+    abstract void field(Frame frame, FieldDescriptor field) throws IOException;
+
+    // ✅ Everything in front of a List element
+    abstract void element(Frame frame) throws IOException;
+
+    // ✅ A Map entry with a null key was skipped
+    abstract void nullKey(Map<?, ?> map);
+
+    abstract void number(long value) throws IOException;
+
+    abstract void number(double value) throws IOException;
+
+    abstract void bool(boolean value) throws IOException;
+
+    // ✅ A cyclic object graph ends up here as well, instead of in a StackOverflowError
+    final void checkDepth(Object container) {
+        if (depth >= limits.maxDepth) throw limits.tooDeep(container.getClass());
+    }
+
+    final void push(int kind, Object source, Iterator<?> items) {
+        if (depth == frames.length) frames = Arrays.copyOf(frames, depth * 2);
+        Frame frame = frames[depth];
+        if (frame == null) frames[depth] = frame = new Frame();
+        depth++;
+        frame.kind = kind;
+        frame.source = source;
+        frame.items = items;
+        frame.next = 0;
+        frame.first = true;
+    }
+
+    // ✅ Frame for an object with declared fields, a codec passes all its values in before the first one is written
+    final void pushObject(Object obj, ClassDescriptor descriptor) throws IOException {
+        push(descriptor.getCodec() != null ? CODEC : FIELDS, obj, null);
+        Frame frame = frames[depth - 1];
+        frame.fields = descriptor.getFields();
+        if (descriptor.getCodec() != null) descriptor.getCodec().write(obj, frame.codecValues());
+    }
+
+    // ✅ Move the frame to its next entry and write everything up to the entry's value, false when there is none
+    private boolean next(Frame frame) throws IOException {
+        switch (frame.kind) {
+            case MAP:
+                while (frame.items.hasNext()) {
+                    Map.Entry<?, ?> entry = (Map.Entry<?, ?>) frame.items.next();
+                    if (entry.getKey() == null) {
+                        nullKey((Map<?, ?>) frame.source);
+                        continue; // ✅ Skip the entry
+                    }
+                    key(frame, entry.getKey().toString());
+                    pending = entry.getValue();
+                    return true;
+                }
+                return false;
+            case LIST:
+                if (!frame.items.hasNext()) return false;
+                element(frame);
+                pending = frame.items.next();
+                return true;
+            case FIELDS:
+                return nextField(frame);
+            default:
+                return nextCodecValue(frame);
+        }
+    }
+
+    // ✅ Primitive fields are read without boxing and written right away
+    private boolean nextField(Frame frame) throws IOException {
+        Object obj = frame.source;
+        while (frame.next < frame.fields.size()) {
+            FieldDescriptor field = frame.fields.get(frame.next++);
+            FieldAccessor accessor = field.getAccessor(accessorStrategy);
+            Object fieldValue = null;
+            long number = 0;
+            double decimal = 0;
+            try {
+                switch (field.getKind()) {
+                    case INT:
+                        number = accessor.getInt(obj);
+                        break;
+                    case LONG:
+                        number = accessor.getLong(obj);
+                        break;
+                    case DOUBLE:
+                        decimal = accessor.getDouble(obj);
+                        break;
+                    case BOOLEAN:
+                        number = accessor.getBoolean(obj) ? 1 : 0;
+                        break;
+                    default:
+                        fieldValue = accessor.get(obj);
+                }
+            } catch (Exception e) {
+                if (listener != null) listener.onInaccessibleField(obj.getClass(), field.getName(), e);
+                continue;
+            }
+            field(frame, field);
+            switch (field.getKind()) {
+                case INT:
+                case LONG:
+                    number(number);
+                    break;
+                case DOUBLE:
+                    number(decimal);
+                    break;
+                case BOOLEAN:
+                    bool(number != 0);
+                    break;
+                default:
+                    pending = fieldValue;
+                    return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean nextCodecValue(Frame frame) throws IOException {
+        CodecValues values = frame.codecValues;
+        while (frame.next < values.count) {
+            int i = frame.next++;
+            field(frame, frame.fields.get(values.indexes[i]));
+            switch (values.kinds[i]) {
+                case INT:
+                case LONG:
+                    number(values.bits[i]);
+                    break;
+                case DOUBLE:
+                    number(Double.longBitsToDouble(values.bits[i]));
+                    break;
+                case BOOLEAN:
+                    bool(values.bits[i] != 0);
+                    break;
+                default:
+                    pending = values.objects[i];
+                    return true;
+            }
+        }
+        return false;
+    }
+
+    // One open container
+    static final class Frame {
+
+        int kind;
+        Object source; // The Map or object
+        Iterator<?> items; // Map entries or elements
+        List<FieldDescriptor> fields;
+        int next; // Next field or codec value
+        boolean first; // No entry written yet
+        CodecValues codecValues; // Created for the first codec object at this depth
+
+        CodecValues codecValues() {
+            if (codecValues == null) codecValues = new CodecValues();
+            return codecValues;
+        }
+
+        void clear() {
+            source = null;
+            items = null;
+            fields = null;
+            if (codecValues != null) codecValues.clear();
+        }
+    }
+
+    /**
+     * Keeps the values a generated codec passes in, so its frame can write them one at a
+     * time. Primitive values are stored unboxed.
+     */
+    static final class CodecValues implements JsonCodec.Output {
+
+        int[] indexes = new int[8];
+        FieldDescriptor.Kind[] kinds = new FieldDescriptor.Kind[8];
+        long[] bits = new long[8]; // int, long and boolean values, doubles as their raw bits
+        Object[] objects = new Object[8];
+        int count;
+
+        @Override
+        public void field(int index, int value) {
+            add(index, FieldDescriptor.Kind.INT, value, null);
+        }
+
+        @Override
+        public void field(int index, long value) {
+            add(index, FieldDescriptor.Kind.LONG, value, null);
+        }
+
+        @Override
+        public void field(int index, double value) {
+            add(index, FieldDescriptor.Kind.DOUBLE, Double.doubleToRawLongBits(value), null);
+        }
+
+        @Override
+        public void field(int index, boolean value) {
+            add(index, FieldDescriptor.Kind.BOOLEAN, value ? 1 : 0, null);
+        }
+
+        @Override
+        public void field(int index, Object value) {
+            add(index, FieldDescriptor.Kind.OBJECT, 0, value);
+        }
+
+        private void add(int index, FieldDescriptor.Kind kind, long value, Object object) {
+            if (count == indexes.length) {
+                int capacity = count * 2;
+                indexes = Arrays.copyOf(indexes, capacity);
+                kinds = Arrays.copyOf(kinds, capacity);
+                bits = Arrays.copyOf(bits, capacity);
+                objects = Arrays.copyOf(objects, capacity);
+            }
+            indexes[count] = index;
+            kinds[count] = kind;
+            bits[count] = value;
+            objects[count] = object;
+            count++;
+        }
+
+        void clear() {
+            Arrays.fill(objects, 0, count, null);
+            count = 0;
+        }
+    }
+
+    /**
+     * JSON text, compact or indented.
+     */
+    static final class Json extends ValueWriter {
+
+        private final JsonWriter out;
+        private final int indentLevel; // Level of the value passed to write()
+        private final boolean base64Bytes;
+
+        Json(JsonWriter out, int indentLevel, boolean base64Bytes, JsonListener listener, AccessorStrategy accessorStrategy, JsonLimits limits) {
+            super(listener, accessorStrategy, limits);
+            this.out = out;
+            this.indentLevel = indentLevel;
+            this.base64Bytes = base64Bytes;
+        }
+
+        @Override
+        void open(Object value) throws IOException {
+            if (value == null) {
+                out.write("null");
+            } else if (value instanceof Map) {
+                Map<?, ?> map = (Map<?, ?>) value;
+                checkDepth(map);
+                if (map.isEmpty()) {
+                    out.write("{}"); // ✅ Handle empty maps safely
+                } else {
+                    out.write('{');
+                    push(MAP, map, map.entrySet().iterator());
+                }
+            } else if (value instanceof Number || value instanceof Boolean) {
+                out.write(value.toString());
+            } else if (value instanceof List) {
+                checkDepth(value);
+                out.write('[');
+                push(LIST, value, ((List<?>) value).iterator());
+            } else if (value.getClass().isArray()) {
+                openArray(value);
+            } else if (JsonParser.isCustomClass(value.getClass())) {
+                checkDepth(value);
+                ClassDescriptor descriptor = ClassDescriptor.of(value.getClass());
+                if (!descriptor.hasDeclaredFields()) {
+                    out.write("{}"); // ✅ Handle empty objects
+                } else {
+                    out.write('{');
+                    pushObject(value, descriptor);
+                }
+            } else if (value instanceof String) {
+                out.string((String) value);
+            } else {
+                throw new IllegalArgumentException("Unsupported data type: " + value.getClass().getSimpleName());
+            }
+        }
+
+        // ✅ Primitive arrays are written straight from the array, object arrays like a List
+        private void openArray(Object array) throws IOException {
+            if (base64Bytes && array instanceof byte[]) {
+                out.write('"');
+                out.write(Base64.getEncoder().encodeToString((byte[]) array));
+                out.write('"');
+                return;
+            }
+            if (!(array instanceof char[])) checkDepth(array); // char[] is a string
+            if (array instanceof Object[]) {
+                out.write('[');
+                push(LIST, array, Arrays.asList((Object[]) array).iterator());
+            } else {
+                PrimitiveArrays.write(array, out, indentLevel + depth);
+            }
+        }
+
+        @Override
+        void close(Frame frame) throws IOException {
+            out.newline(indentLevel + depth - 1); // ✅ Ensure proper alignment
+            out.write(frame.kind == LIST ? ']' : '}');
+        }
+
+        @Override
+        void key(Frame frame, String key) throws IOException {
+            separator(frame);
+            out.name(key); // ✅ Properly quote the key
+        }
+
+        @Override
+        void field(Frame frame, FieldDescriptor field) throws IOException {
+            separator(frame);
+            out.write(field.getNameToken());
+        }
+
+        @Override
+        void element(Frame frame) throws IOException {
+            separator(frame);
+        }
+
+        private void separator(Frame frame) throws IOException {
+            if (!frame.first) out.write(','); // ✅ No trailing comma
+            frame.first = false;
+            out.newline(indentLevel + depth);
+        }
+
+        @Override
+        void nullKey(Map<?, ?> map) {
+            if (listener != null) listener.onNullKey(map);
+        }
+
+        @Override
+        void number(long value) throws IOException {
+            out.number(value);
+        }
+
+        @Override
+        void number(double value) throws IOException {
+            out.number(value);
+        }
+
+        @Override
+        void bool(boolean value) throws IOException {
+            out.write(value ? "true" : "false");
+        }
+    }
+
+    /**
+     * CBOR data items. Maps and lists have a definite length, objects are written as
+     * indefinite-length maps so a field that cannot be read is simply left out.
+     */
+    static final class Cbor extends ValueWriter {
+
+        private final CborWriter out;
+
+        Cbor(CborWriter out, JsonListener listener, AccessorStrategy accessorStrategy, JsonLimits limits) {
+            super(listener, accessorStrategy, limits);
+            this.out = out;
+        }
+
+        @Override
+        void open(Object value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+            } else if (value instanceof Map) {
+                Map<?, ?> map = (Map<?, ?>) value;
+                checkDepth(map);
+                int size = 0;
+                for (Object key : map.keySet()) {
+                    if (key != null) size++;
+                }
+                if (size < map.size() && listener != null) listener.onNullKey(map);
+                out.beginMap(size);
+                push(MAP, map, map.entrySet().iterator());
+            } else if (value instanceof Number) {
+                out.number((Number) value);
+            } else if (value instanceof Boolean) {
+                out.bool((Boolean) value);
+            } else if (value instanceof List) {
+                checkDepth(value);
+                List<?> list = (List<?>) value;
+                out.beginArray(list.size());
+                push(LIST, list, list.iterator());
+            } else if (value instanceof Object[]) {
+                checkDepth(value);
+                Object[] array = (Object[]) value;
+                out.beginArray(array.length);
+                push(LIST, array, Arrays.asList(array).iterator());
+            } else if (value.getClass().isArray()) {
+                if (!(value instanceof byte[] || value instanceof char[])) checkDepth(value); // Byte and text strings
+                PrimitiveArrays.writeCbor(value, out);
+            } else if (JsonParser.isCustomClass(value.getClass())) {
+                checkDepth(value);
+                ClassDescriptor descriptor = ClassDescriptor.of(value.getClass());
+                if (!descriptor.hasDeclaredFields()) {
+                    out.beginMap(0);
+                } else {
+                    out.beginMap();
+                    pushObject(value, descriptor);
+                }
+            } else if (value instanceof String) {
+                out.text((String) value);
+            } else {
+                throw new IllegalArgumentException("Unsupported data type: " + value.getClass().getSimpleName());
+            }
+        }
+
+        @Override
+        void close(Frame frame) throws IOException {
+            if (frame.kind == FIELDS || frame.kind == CODEC) out.end();
+        }
+
+        @Override
+        void key(Frame frame, String key) throws IOException {
+            out.text(key);
+        }
+
+        @Override
+        void field(Frame frame, FieldDescriptor field) throws IOException {
+            out.raw(field.getCborName());
+        }
+
+        @Override
+        void element(Frame frame) {
+        }
+
+        @Override
+        void nullKey(Map<?, ?> map) {
+            // Reported once when the map was opened, its size had to leave the entry out already
+        }
+
+        @Override
+        void number(long value) throws IOException {
+            out.number(value);
+        }
+
+        @Override
+        void number(double value) throws IOException {
+            out.number(value);
+        }
+
+        @Override
+        void bool(boolean value) throws IOException {
+            out.bool(value);
+        }
+    }
+
+    /**
+     * The tree of Maps, Lists and scalars the JSON output would parse back into, for
+     * comparing two states of an object. Members with a null value are left out, a JSON
+     * Merge Patch (RFC 7386) can not tell them from removed members.
+     */
+    static final class Tree extends ValueWriter {
+
+        private final boolean base64Bytes;
+        private Object[] containers = new Object[8]; // Map or List of each open frame
+        private String[] keys = new String[8]; // Key of the next value of each open Map or object
+        private Object root;
+
+        Tree(boolean base64Bytes, JsonListener listener, AccessorStrategy accessorStrategy, JsonLimits limits) {
+            super(listener, accessorStrategy, limits);
+            this.base64Bytes = base64Bytes;
+        }
+
+        Object tree(Object value) throws IOException {
+            write(value);
+            Object tree = root;
+            root = null;
+            return tree;
+        }
+
+        @Override
+        void open(Object value) throws IOException {
+            if (value == null) {
+                add(null);
+            } else if (value instanceof Map) {
+                Map<?, ?> map = (Map<?, ?>) value;
+                checkDepth(map);
+                openContainer(MAP, map, map.entrySet().iterator(), new LinkedHashMap<String, Object>());
+            } else if (value instanceof Number || value instanceof Boolean || value instanceof String) {
+                add(value);
+            } else if (value instanceof List) {
+                checkDepth(value);
+                List<?> list = (List<?>) value;
+                openContainer(LIST, list, list.iterator(), new ArrayList<>(list.size()));
+            } else if (value.getClass().isArray()) {
+                openArray(value);
+            } else if (JsonParser.isCustomClass(value.getClass())) {
+                checkDepth(value);
+                ClassDescriptor descriptor = ClassDescriptor.of(value.getClass());
+                Map<String, Object> object = new LinkedHashMap<>();
+                add(object);
+                if (descriptor.hasDeclaredFields()) {
+                    pushObject(value, descriptor);
+                    container(object);
+                }
+            } else {
+                throw new IllegalArgumentException("Unsupported data type: " + value.getClass().getSimpleName());
+            }
+        }
+
+        // ✅ Primitive arrays become Lists of their boxed elements, like they would be parsed
+        private void openArray(Object array) throws IOException {
+            if (base64Bytes && array instanceof byte[]) {
+                add(Base64.getEncoder().encodeToString((byte[]) array));
+            } else if (array instanceof char[]) {
+                add(new String((char[]) array));
+            } else if (array instanceof Object[]) {
+                checkDepth(array);
+                Object[] elements = (Object[]) array;
+                openContainer(LIST, array, Arrays.asList(elements).iterator(), new ArrayList<>(elements.length));
+            } else {
+                checkDepth(array);
+                int length = Array.getLength(array);
+                List<Object> list = new ArrayList<>(length);
+                for (int i = 0; i < length; i++) list.add(Array.get(array, i));
+                add(list);
+            }
+        }
+
+        private void openContainer(int kind, Object source, Iterator<?> items, Object container) {
+            add(container);
+            push(kind, source, items);
+            container(container);
+        }
+
+        // ✅ Remember the container of the frame push() just opened
+        private void container(Object container) {
+            if (depth > containers.length) {
+                containers = Arrays.copyOf(containers, depth * 2);
+                keys = Arrays.copyOf(keys, depth * 2);
+            }
+            containers[depth - 1] = container;
+        }
+
+        @SuppressWarnings("unchecked")
+        private void add(Object value) {
+            if (depth == 0) {
+                root = value;
+                return;
+            }
+            Object parent = containers[depth - 1];
+            if (parent instanceof List) {
+                ((List<Object>) parent).add(value);
+            } else if (value != null) {
+                ((Map<String, Object>) parent).put(keys[depth - 1], value);
+            }
+        }
+
+        @Override
+        void close(Frame frame) {
+            containers[depth - 1] = null;
+            keys[depth - 1] = null;
+        }
+
+        @Override
+        void key(Frame frame, String key) {
+            keys[depth - 1] = key;
+        }
+
+        @Override
+        void field(Frame frame, FieldDescriptor field) {
+            keys[depth - 1] = field.getName();
+        }
+
+        @Override
+        void element(Frame frame) {
+        }
+
+        @Override
+        void nullKey(Map<?, ?> map) {
+            if (listener != null) listener.onNullKey(map);
+        }
+
+        @Override
+        void number(long value) {
+            add(value);
+        }
+
+        @Override
+        void number(double value) {
+            add(value);
+        }
+
+        @Override
+        void bool(boolean value) {
+            add(value);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package ch.framedev.simplejsonutils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/*
+ * ch.framedev.simplejsonutils
+ * =============================================
+ * This File was Created by FrameDev
+ * Please do not change anything without my consent!
+ * =============================================
+ * This Class was created at 17.10.2026 15:50
+ */
+
+/**
+ * A root object field that can not be bound fails deserializing, with or without a
+ * listener; a listener only sees the error.
+ */
+class BindErrorTest {
+
+    static class Pair {
+        int first;
+        int second;
+        String third;
+    }
+
+    private static final String JSON = "{\"first\":1,\"second\":\"two\",\"third\":\"3\"}";
+
+    @Test
+    void withoutListenerTheFailureIsThrown() {
+        JsonParser parser = new JsonParser();
+        RuntimeException e = assertThrows(RuntimeException.class, () -> parser.deserializeObject(JSON, Pair.class));
+        assertTrue(e.getMessage().contains(Pair.class.getName()), e.getMessage());
+        assertNotNull(e.getCause());
+    }
+
+    @Test
+    void withListenerTheFailureIsReportedOnceAndStillThrown() {
+        List<Throwable> errors = new ArrayList<>();
+        JsonParser parser = JsonParser.builder().listener(new JsonListener() {
+            @Override
+            public void onError(Throwable error) {
+                errors.add(error);
+            }
+        }).build();
+
+        RuntimeException e = assertThrows(RuntimeException.class, () -> parser.deserializeObject(JSON, Pair.class));
+        assertEquals(1, errors.size());
+        assertSame(e, errors.get(0));
+    }
+
+    @Test
+    void passiveListenersDoNotChangeTheResult() {
+        JsonParser parser = JsonParser.builder().listener(JsonListener.compose(new JsonMetrics(), new JfrListener())).build();
+        assertThrows(RuntimeException.class, () -> parser.deserializeObject(JSON, Pair.class));
+    }
+}
@@ -0,0 +1,139 @@
+package ch.framedev.simplejsonutils;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/*
+ * ch.framedev.simplejsonutils
+ * =============================================
+ * This File was Created by FrameDev
+ * Please do not change anything without my consent!
+ * =============================================
+ * This Class was created at 17.10.2026 19:15
+ */
+
+/**
+ * CBOR round trips through every input type, the encodings of RFC 8949 appendix A, and
+ * malformed input failing at the offset of the damage.
+ */
+class CborTest {
+
+    private final JsonParser parser = new JsonParser();
+
+    public static class Reading {
+        public long id;
+        public String sensor;
+        public double value;
+        public boolean valid;
+        public List<Integer> samples;
+        public byte[] raw;
+        public BigInteger total;
+        public BigDecimal price;
+        public Map<String, Object> meta;
+        public Reading previous;
+    }
+
+    private static Reading reading() {
+        Reading reading = new Reading();
+        reading.id = Long.MIN_VALUE;
+        reading.sensor = "Temperatur °C 😀";
+        reading.value = 0.1;
+        reading.valid = true;
+        reading.samples = Arrays.asList(0, 23, 24, 255, 256, 65536, -1, -25);
+        reading.raw = new byte[]{0, -1, 42};
+        reading.total = new BigInteger("-123456789012345678901234567890");
+        reading.price = new BigDecimal("12.345");
+        reading.meta = new LinkedHashMap<>();
+        reading.meta.put("half", 1.5);
+        reading.meta.put("none", null);
+        reading.previous = new Reading();
+        reading.previous.sensor = "";
+        return reading;
+    }
+
+    private static byte[] hex(String hex) {
+        byte[] bytes = new byte[hex.length() / 2];
+        for (int i = 0; i < bytes.length; i++) bytes[i] = (byte) Integer.parseInt(hex.substring(2 * i, 2 * i + 2), 16);
+        return bytes;
+    }
+
+    @Test
+    void objectsRoundTripThroughEveryInputType() throws Exception {
+        byte[] cbor = parser.serializeCbor(reading());
+        String json = parser.serializeObject(reading());
+
+        assertEquals(json, parser.serializeObject(parser.deserializeCbor(cbor, Reading.class)));
+        assertEquals(json, parser.serializeObject(parser.deserializeCbor(ByteBuffer.wrap(cbor), Reading.class)));
+        assertEquals(json, parser.serializeObject(parser.deserializeCbor(new ByteArrayInputStream(cbor), Reading.class)));
+        Reading back = (Reading) parser.deserializeCbor(cbor, Reading.class);
+        assertArrayEquals(new byte[]{0, -1, 42}, back.raw);
+        assertEquals(new BigDecimal("12.345"), back.price);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        parser.serializeCbor(reading(), out);
+        assertArrayEquals(cbor, out.toByteArray());
+    }
+
+    @Test
+    void jsonAndCborConvertIntoEachOther() {
+        String json = "{\"a\":[1,-2,3.25,\"x\",null,true],\"b\":{\"c\":100000000000000000000}}";
+        assertEquals(parser.deserializeObject(json, Map.class), parser.deserializeCbor(parser.jsonToCbor(json), Map.class));
+        assertEquals(parser.serializeObject(parser.deserializeObject(json, Map.class)), parser.cborToJson(parser.jsonToCbor(json)));
+    }
+
+    @Test
+    void encodingsMatchTheSpecification() {
+        String[][] vectors = {{"0", "00"}, {"23", "17"}, {"24", "1818"}, {"1000000", "1a000f4240"}, {"-1", "20"},
+                {"1.5", "fa3fc00000"}, {"0.1", "fb3fb999999999999a"}, {"\"a\"", "6161"}, {"[1,[2,3]]", "8201820203"},
+                {"{\"a\":1}", "a1616101"}, {"true", "f5"}, {"null", "f6"}, {"100000000000000000000", "c249056bc75e2d63100000"}};
+        for (String[] vector : vectors) assertArrayEquals(hex(vector[1]), parser.jsonToCbor(vector[0]), vector[0]);
+
+        // ✅ Forms only other encoders write: half floats, indefinite lengths, unknown tags, decimal fractions
+        assertEquals(1.0, parser.deserializeCbor(hex("f93c00"), Object.class));
+        assertEquals(Arrays.asList(1, Arrays.asList(2, 3), Arrays.asList(4, 5)), parser.deserializeCbor(hex("9f018202039f0405ffff"), List.class));
+        assertEquals("ab", parser.deserializeCbor(hex("7f61616162ff"), Object.class));
+        assertEquals(1363896240, parser.deserializeCbor(hex("c11a514b67b0"), Object.class));
+        assertEquals(new BigDecimal("0.01"), parser.deserializeCbor(hex("c482211a00000001"), Object.class));
+    }
+
+    @Test
+    void malformedCborIsRejectedAtTheOffsetOfTheDamage() {
+        String[][] cases = {
+                {"1a0000", "Unexpected end of CBOR input at offset 1"},
+                {"ff", "Unexpected break at offset 0"},
+                {"1c", "Invalid additional information 28 at offset 0"},
+                {"a18001", "Unsupported CBOR map key at offset 1"},
+                {"c201", "Bignum must be a byte string at offset 1"},
+                {"5bffffffffffffffff", "Length 18446744073709551615 too large at offset 0"},
+                {"0001", "Unexpected trailing content at offset 1"},
+                {"bf6161", "Unexpected end of CBOR input at offset 3"},
+                {"7f01ff", "Invalid chunk in indefinite-length string at offset 1"}};
+        for (String[] malformed : cases) {
+            assertEquals(malformed[1], assertThrows(IllegalArgumentException.class,
+                    () -> parser.deserializeCbor(hex(malformed[0]), Object.class), malformed[0]).getMessage());
+        }
+    }
+
+    @Test
+    void streamsAreReadOneItemAtATime() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (int i = 0; i < 3; i++) parser.serializeCbor(Map.of("record", i), out);
+        BufferedInputStream in = new BufferedInputStream(new ByteArrayInputStream(out.toByteArray()));
+        for (int i = 0; i < 3; i++) assertEquals(Map.of("record", i), parser.deserializeCbor(in, Map.class));
+        assertEquals(-1, in.read());
+    }
+}
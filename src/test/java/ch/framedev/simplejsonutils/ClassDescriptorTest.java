@@ -0,0 +1,95 @@
+package ch.framedev.simplejsonutils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/*
+ * ch.framedev.simplejsonutils
+ * =============================================
+ * This File was Created by FrameDev
+ * Please do not change anything without my consent!
+ * =============================================
+ * This Class was created at 17.10.2026 18:00
+ */
+
+/**
+ * One {@link ClassDescriptor} per class for all threads, describing what the reflective
+ * binding used to look up per object.
+ */
+class ClassDescriptorTest {
+
+    public static class Described {
+        public static String shared = "static";
+        public String name;
+        public List<String> tags;
+        public Map<String, Integer> counts;
+        @SuppressWarnings("rawtypes")
+        public List raw;
+        public Nested nested;
+        public int number;
+    }
+
+    public static class Nested {
+        public Map<String, Object> attributes;
+    }
+
+    public static class NoDefaultConstructor {
+        public final int value;
+
+        public NoDefaultConstructor(int value) {
+            this.value = value;
+        }
+    }
+
+    private static List<String> names(ClassDescriptor descriptor) {
+        List<String> names = new ArrayList<>();
+        for (ClassDescriptor.FieldDescriptor field : descriptor.getFields()) names.add(field.getName());
+        return names;
+    }
+
+    @Test
+    void oneDescriptorPerClassForAllThreads() throws Exception {
+        ClassDescriptor descriptor = ClassDescriptor.of(Described.class);
+        assertSame(descriptor, ClassDescriptor.of(Described.class));
+        assertSame(descriptor, CompletableFuture.supplyAsync(() -> ClassDescriptor.of(Described.class)).get());
+    }
+
+    @Test
+    void instanceFieldsInDeclarationOrderWithTheirTokensAndElementTypes() {
+        ClassDescriptor descriptor = ClassDescriptor.of(Described.class);
+        assertEquals(List.of("name", "tags", "counts", "raw", "nested", "number"), names(descriptor));
+        assertNull(descriptor.getField("shared"));
+        assertEquals("\"tags\": ", descriptor.getField("tags").getNameToken());
+        assertEquals(String.class, descriptor.getField("tags").getElementType());
+        assertEquals(String.class, descriptor.getField("counts").getElementType());
+        assertNull(descriptor.getField("raw").getElementType());
+        assertEquals(ClassDescriptor.FieldDescriptor.Kind.INT, descriptor.getField("number").getKind());
+        assertEquals(2, descriptor.getField("counts").getIndex());
+    }
+
+    @Test
+    void staticFieldsAreNeitherWrittenNorBound() {
+        JsonParser parser = new JsonParser();
+        Described described = (Described) parser.deserializeObject("{\"shared\":\"changed\",\"name\":\"n\","
+                + "\"nested\":{\"attributes\":{\"a\":1}}}", Described.class);
+        assertEquals("static", Described.shared);
+        assertEquals("n", described.name);
+        assertEquals(Map.of("a", 1), described.nested.attributes);
+        assertEquals(-1, parser.serializeObject(described).indexOf("shared"));
+    }
+
+    @Test
+    void classesWithoutANoArgConstructorFailWithTheirName() {
+        ReflectiveOperationException e = assertThrows(NoSuchMethodException.class, () -> ClassDescriptor.of(NoDefaultConstructor.class).newInstance());
+        assertEquals("No accessible no-arg constructor in " + NoDefaultConstructor.class.getName(), e.getMessage());
+    }
+}
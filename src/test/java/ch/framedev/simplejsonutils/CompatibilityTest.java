@@ -0,0 +1,154 @@
+package ch.framedev.simplejsonutils;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/*
+ * ch.framedev.simplejsonutils
+ * =============================================
+ * This File was Created by FrameDev
+ * Please do not change anything without my consent!
+ * =============================================
+ * This Class was created at 17.10.2026 14:00
+ */
+
+/**
+ * Output of the cursor parser and the serializer compared with the output of the original
+ * substring parser (1.0.6-RELEASE) for the documented, well-formed inputs. The expected
+ * values were recorded with that release.
+ */
+class CompatibilityTest {
+
+    private static final String PERSON_JSON = "{\"name\": \"Alice Smith\",\"age\": 30,\"id\": 1234567,\"score\": 98.5,\"active\": true,"
+            + "\"tags\": [\"admin\",\"user\"],\"attributes\": {\"level\": 3,\"team\": \"core\"},\"address\": {\"street\": \"Main Street\",\"number\": 42}}";
+
+    private static final String PERSON_PRETTY = "{\n"
+            + "  \"name\": \"Alice Smith\",\n"
+            + "  \"age\": 30,\n"
+            + "  \"id\": 1234567,\n"
+            + "  \"score\": 98.5,\n"
+            + "  \"active\": true,\n"
+            + "  \"tags\": [\n"
+            + "    \"admin\",\n"
+            + "    \"user\"\n"
+            + "  ],\n"
+            + "  \"attributes\": {\n"
+            + "    \"level\": 3,\n"
+            + "    \"team\": \"core\"\n"
+            + "  },\n"
+            + "  \"address\": {\n"
+            + "    \"street\": \"Main Street\",\n"
+            + "    \"number\": 42\n"
+            + "  }\n"
+            + "}";
+
+    private static final String PERSON_FIELDS = "Alice Smith|30|1234567|98.5|true|[admin, user]|{level=3, team=core}|Main Street/42";
+
+    private final JsonParser parser = new JsonParser();
+    private final JsonParser pretty = new JsonParser(Flag.PRETTY_PRINT);
+
+    public static class Address {
+        public String street;
+        public int number;
+    }
+
+    public static class Person {
+        public String name;
+        public int age;
+        public long id;
+        public double score;
+        public boolean active;
+        public List<String> tags;
+        public Map<String, Object> attributes;
+        public Address address;
+    }
+
+    static Person person() {
+        Person person = new Person();
+        person.name = "Alice Smith";
+        person.age = 30;
+        person.id = 1234567L;
+        person.score = 98.5;
+        person.active = true;
+        person.tags = new ArrayList<>(Arrays.asList("admin", "user"));
+        person.attributes = new LinkedHashMap<>();
+        person.attributes.put("level", 3);
+        person.attributes.put("team", "core");
+        person.address = new Address();
+        person.address.street = "Main Street";
+        person.address.number = 42;
+        return person;
+    }
+
+    private static String fields(Object value) {
+        Person p = (Person) value;
+        return p.name + "|" + p.age + "|" + p.id + "|" + p.score + "|" + p.active + "|" + p.tags + "|" + p.attributes
+                + "|" + (p.address == null ? null : p.address.street + "/" + p.address.number);
+    }
+
+    @Test
+    void parsesMapsLikeTheSubstringParser() {
+        assertMap("{a=1, b=two, c=true, d=null}", "{\"a\":1,\"b\":\"two\",\"c\":true,\"d\":null}");
+        assertMap("{int=42, neg=-7, dec=3.25}", "{\"int\":42,\"neg\":-7,\"dec\":3.25}");
+        assertMap("{spaced=value with spaces, n=1}", "{ \"spaced\" : \"value with spaces\" , \"n\" : 1 }");
+        assertMap("{after=2, nested={x=1, y={z=deep}}}", "{\"nested\":{\"x\":1,\"y\":{\"z\":\"deep\"}},\"after\":2}");
+        assertMap("{list=[1, 2, 3], strings=[a, b], empty=[]}", "{\"list\":[1,2,3],\"strings\":[\"a\",\"b\"],\"empty\":[]}");
+        assertMap("{emptyString=, emptyObject={}}", "{\"emptyObject\":{},\"emptyString\":\"\"}");
+        assertMap("{}", "{}");
+    }
+
+    private void assertMap(String expected, String json) {
+        assertEquals(expected, parser.deserializeObject(json, Map.class).toString(), json);
+        assertEquals(expected, parser.deserializeObject(json.getBytes(StandardCharsets.UTF_8), Map.class).toString(), json);
+    }
+
+    @Test
+    void parsesListsLikeTheSubstringParser() {
+        assertEquals("[1, 2, 3]", parser.deserializeObject("[1,2,3]", List.class).toString());
+        assertEquals("[a, b, c]", parser.deserializeObject("[\"a\",\"b\",\"c\"]", List.class).toString());
+        assertEquals("[true, false, null]", parser.deserializeObject("[true,false,null]", List.class).toString());
+        assertEquals("[1.5, -2, x]", parser.deserializeObject("[1.5,-2,\"x\"]", List.class).toString());
+        assertEquals("[]", parser.deserializeObject("[]", List.class).toString());
+    }
+
+    @Test
+    void serializesLikeTheSubstringParser() {
+        assertEquals(PERSON_JSON, parser.serializeObject(person()));
+        assertEquals(PERSON_PRETTY, pretty.serializeObject(person()));
+
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("name", "map");
+        map.put("count", 2);
+        map.put("items", Arrays.asList("x", "y"));
+        map.put("inner", Collections.singletonMap("k", "v"));
+        assertEquals("{\"name\": \"map\",\"count\": 2,\"items\": [\"x\",\"y\"],\"inner\": {\"k\": \"v\"}}", parser.serializeObject(map));
+        assertEquals("{\n  \"name\": \"map\",\n  \"count\": 2,\n  \"items\": [\n    \"x\",\n    \"y\"\n  ],\n  \"inner\": {\n    \"k\": \"v\"\n  }\n}",
+                pretty.serializeObject(map));
+        assertEquals("[1,\"two\",3.5,true]", parser.serializeObject(Arrays.asList(1, "two", 3.5, true)));
+    }
+
+    @Test
+    void bindsObjectsLikeTheSubstringParser() {
+        assertEquals(PERSON_FIELDS, fields(parser.deserializeObject(PERSON_JSON, Person.class)));
+        assertEquals(PERSON_FIELDS, fields(parser.deserializeObject(PERSON_PRETTY, Person.class)));
+        assertEquals(PERSON_FIELDS, fields(parser.deserializeObject(PERSON_JSON.getBytes(StandardCharsets.UTF_8), Person.class)));
+    }
+
+    @Test
+    void savesAndLoadsFilesLikeTheSubstringParser() throws Exception {
+        File file = File.createTempFile("compat", ".json");
+        try {
+            parser.saveToFile(file, person());
+            assertEquals(PERSON_JSON, new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8));
+            assertEquals(PERSON_FIELDS, fields(parser.loadFromFile(file, Person.class)));
+        } finally {
+            Files.deleteIfExists(file.toPath());
+        }
+    }
+}
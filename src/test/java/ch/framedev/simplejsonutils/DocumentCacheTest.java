@@ -0,0 +1,48 @@
+package ch.framedev.simplejsonutils;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/*
+ * ch.framedev.simplejsonutils
+ * =============================================
+ * This File was Created by FrameDev
+ * Please do not change anything without my consent!
+ * =============================================
+ * This Class was created at 17.10.2026 15:40
+ */
+
+/**
+ * Staleness checks of {@link DocumentCache} in stat mode.
+ */
+class DocumentCacheTest {
+
+    @Test
+    void rewriteWithinTheSameMillisecondIsNotServedStale() throws Exception {
+        Path file = Files.createTempFile("cache", ".json");
+        try (DocumentCache cache = DocumentCache.builder().build()) {
+            JsonParser parser = JsonParser.builder().documentCache(cache).build();
+            Instant written = Instant.parse("2026-10-17T12:00:00.000100Z");
+            Files.write(file, "{\"v\":\"a\"}".getBytes(StandardCharsets.UTF_8));
+            Files.setLastModifiedTime(file, FileTime.from(written));
+            assertEquals("a", ((Map<?, ?>) parser.loadFromFile(file, Map.class)).get("v"));
+
+            // Same size, 100 microseconds later
+            Files.write(file, "{\"v\":\"b\"}".getBytes(StandardCharsets.UTF_8));
+            Files.setLastModifiedTime(file, FileTime.from(written.plusNanos(100_000)));
+            if (Files.getLastModifiedTime(file).equals(FileTime.from(written))) return; // The file system keeps milliseconds only
+            assertEquals("b", ((Map<?, ?>) parser.loadFromFile(file, Map.class)).get("v"));
+            assertEquals(2, cache.getMisses());
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package ch.framedev.simplejsonutils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/*
+ * ch.framedev.simplejsonutils
+ * =============================================
+ * This File was Created by FrameDev
+ * Please do not change anything without my consent!
+ * =============================================
+ * This Class was created at 17.10.2026 18:10
+ */
+
+/**
+ * Method handle accessors read and write exactly what plain reflection does, including
+ * private fields and the primitive kinds that are accessed without boxing.
+ */
+class FieldAccessorTest {
+
+    public static class Sample {
+        private int count;
+        private long id;
+        private double ratio;
+        private boolean active;
+        private String name;
+        private Integer boxed;
+        private List<Integer> values;
+        private Sample child;
+
+        public Sample() {
+        }
+    }
+
+    private static Sample sample() {
+        Sample sample = new Sample();
+        sample.count = -7;
+        sample.id = Long.MAX_VALUE;
+        sample.ratio = 0.1;
+        sample.active = true;
+        sample.name = "sample";
+        sample.values = Arrays.asList(1, 2, 3);
+        sample.child = new Sample();
+        sample.child.name = "child";
+        return sample;
+    }
+
+    private static JsonParser parser(AccessorStrategy strategy) {
+        return JsonParser.builder().accessorStrategy(strategy).build();
+    }
+
+    @Test
+    void bothStrategiesWriteAndBindTheSameValues() {
+        String reflective = parser(AccessorStrategy.REFLECTION).serializeObject(sample());
+        assertEquals(reflective, parser(AccessorStrategy.METHOD_HANDLE).serializeObject(sample()));
+
+        for (AccessorStrategy strategy : AccessorStrategy.values()) {
+            Sample bound = (Sample) parser(strategy).deserializeObject(reflective, Sample.class);
+            assertEquals(-7, bound.count, strategy.name());
+            assertEquals(Long.MAX_VALUE, bound.id);
+            assertEquals(0.1, bound.ratio, 0.0);
+            assertTrue(bound.active);
+            assertEquals("sample", bound.name);
+            assertNull(bound.boxed);
+            assertEquals(Arrays.asList(1, 2, 3), bound.values);
+            assertEquals("child", bound.child.name);
+            assertFalse(bound.child.active);
+        }
+    }
+
+    @Test
+    void typedAccessNeedsNoBoxedValues() throws Exception {
+        ClassDescriptor descriptor = ClassDescriptor.of(Sample.class);
+        for (AccessorStrategy strategy : AccessorStrategy.values()) {
+            Sample sample = new Sample();
+            descriptor.getField("count").getAccessor(strategy).setInt(sample, 42);
+            descriptor.getField("id").getAccessor(strategy).setLong(sample, -1L);
+            descriptor.getField("ratio").getAccessor(strategy).setDouble(sample, 2.5);
+            descriptor.getField("active").getAccessor(strategy).setBoolean(sample, true);
+            assertEquals(42, descriptor.getField("count").getAccessor(strategy).getInt(sample), strategy.name());
+            assertEquals(-1L, descriptor.getField("id").getAccessor(strategy).getLong(sample));
+            assertEquals(2.5, descriptor.getField("ratio").getAccessor(strategy).getDouble(sample), 0.0);
+            assertTrue(descriptor.getField("active").getAccessor(strategy).getBoolean(sample));
+            assertEquals(42, descriptor.getField("count").getAccessor(strategy).get(sample));
+        }
+    }
+
+    @Test
+    void methodHandleAccessorsAreCreatedOncePerField() {
+        ClassDescriptor.FieldDescriptor field = ClassDescriptor.of(Sample.class).getField("name");
+        FieldAccessor accessor = field.getAccessor(AccessorStrategy.METHOD_HANDLE);
+        assertSame(accessor, field.getAccessor(AccessorStrategy.METHOD_HANDLE));
+        assertEquals("MethodHandleAccessor", accessor.getClass().getSimpleName());
+        assertEquals("ReflectiveAccessor", field.getAccessor(AccessorStrategy.REFLECTION).getClass().getSimpleName());
+    }
+}
@@ -0,0 +1,136 @@
+package ch.framedev.simplejsonutils;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/*
+ * ch.framedev.simplejsonutils
+ * =============================================
+ * This File was Created by FrameDev
+ * Please do not change anything without my consent!
+ * =============================================
+ * This Class was created at 17.10.2026 16:30
+ */
+
+/**
+ * Atomic saves replace the target through a temporary file: a failing save leaves the old
+ * content and no temporary file behind, and who can read the file does not change. Both
+ * read paths decode the same text.
+ */
+class JsonFilesTest {
+
+    private final JsonParser atomic = JsonParser.builder().atomicWrite(true).build();
+
+    private static boolean posix(Path directory) {
+        return Files.getFileAttributeView(directory, PosixFileAttributeView.class) != null;
+    }
+
+    private static Set<PosixFilePermission> permissions(Path path) throws IOException {
+        return Files.getPosixFilePermissions(path);
+    }
+
+    @Test
+    void atomicSavesKeepThePermissionsOfAnExistingFile() throws Exception {
+        Path directory = Files.createTempDirectory("json-files");
+        if (!posix(directory)) return;
+        Path file = directory.resolve("config.json");
+        Files.write(file, "{}".getBytes(StandardCharsets.UTF_8));
+        for (String mode : new String[]{"rw-r--r--", "rw-rw----", "r--r--r--"}) {
+            Files.setPosixFilePermissions(file, PosixFilePermissions.fromString(mode));
+            atomic.saveToFile(file, Collections.singletonMap("mode", mode));
+            assertEquals(mode, PosixFilePermissions.toString(permissions(file)));
+        }
+        assertEquals(Collections.singletonMap("mode", "r--r--r--"), atomic.loadFromFile(file, java.util.Map.class));
+    }
+
+    @Test
+    void atomicSavesCreateNewFilesWithDefaultPermissions() throws Exception {
+        Path directory = Files.createTempDirectory("json-files");
+        if (!posix(directory)) return;
+        Path plain = Files.createFile(directory.resolve("plain.json"));
+        Path saved = directory.resolve("saved.json");
+        atomic.saveToFile(saved, Collections.singletonMap("a", 1));
+        assertEquals(permissions(plain), permissions(saved));
+    }
+
+    @Test
+    void droppingAJournalPrefixKeepsItsPermissions() throws Exception {
+        Path directory = Files.createTempDirectory("json-files");
+        if (!posix(directory)) return;
+        Path file = directory.resolve("state.json.journal");
+        Files.write(file, "{\"a\":1}\n{\"b\":2}\n".getBytes(StandardCharsets.UTF_8));
+        Files.setPosixFilePermissions(file, PosixFilePermissions.fromString("rw-r-----"));
+        JsonFiles.dropPrefix(file, 8);
+        assertEquals("{\"b\":2}\n", new String(Files.readAllBytes(file), StandardCharsets.UTF_8));
+        assertEquals("rw-r-----", PosixFilePermissions.toString(permissions(file)));
+    }
+
+    private static List<Path> list(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(Path::getFileName).sorted().collect(Collectors.toList());
+        }
+    }
+
+    @Test
+    void aFailingAtomicSaveKeepsTheOldContent() throws Exception {
+        Path directory = Files.createTempDirectory("json-files");
+        Path file = directory.resolve("config.json");
+        atomic.saveToFile(file, Collections.singletonMap("version", 1));
+        String saved = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+
+        IOException failure = assertThrows(IOException.class, () -> JsonFiles.write(file, true, writer -> {
+            writer.write("{\"version\": 2, \"half");
+            throw new IOException("disk full");
+        }));
+        assertEquals("disk full", failure.getMessage());
+        assertEquals(saved, new String(Files.readAllBytes(file), StandardCharsets.UTF_8));
+
+        // ✅ Serialization failing halfway, a cycle running into the depth limit
+        List<Object> cycle = new ArrayList<>();
+        cycle.add(cycle);
+        JsonParser shallow = JsonParser.builder().atomicWrite(true).maxDepth(16).build();
+        assertThrows(IllegalArgumentException.class, () -> shallow.saveToFile(file, Collections.singletonMap("cycle", cycle)));
+        assertEquals(saved, new String(Files.readAllBytes(file), StandardCharsets.UTF_8));
+        assertEquals(List.of(file.getFileName()), list(directory));
+    }
+
+    @Test
+    void mappedAndBufferedReadsDecodeTheSameText() throws Exception {
+        Path directory = Files.createTempDirectory("json-files");
+        Path file = directory.resolve("large.json");
+        Map<String, String> document = new LinkedHashMap<>();
+        // ✅ Well past the 64 KB read buffer, multi-byte sequences end up split across reads
+        for (int i = 0; i < 5_000; i++) document.put("key" + i, "ä€😀 value " + i);
+        new JsonParser().saveToFile(file, document);
+
+        for (long threshold : new long[]{0, Long.MAX_VALUE}) {
+            JsonParser parser = JsonParser.builder().memoryMapThreshold(threshold).build();
+            assertEquals(document, parser.loadFromFile(file, Map.class));
+            StringBuilder text = new StringBuilder();
+            try (Reader reader = JsonFiles.newReader(file, threshold)) {
+                char[] chunk = new char[777];
+                for (int n; (n = reader.read(chunk)) > 0; ) text.append(chunk, 0, n);
+            }
+            assertEquals(new String(Files.readAllBytes(file), StandardCharsets.UTF_8), text.toString());
+        }
+    }
+}
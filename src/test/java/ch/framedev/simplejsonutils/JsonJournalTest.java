@@ -0,0 +1,140 @@
+package ch.framedev.simplejsonutils;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/*
+ * ch.framedev.simplejsonutils
+ * =============================================
+ * This File was Created by FrameDev
+ * Please do not change anything without my consent!
+ * =============================================
+ * This Class was created at 17.10.2026 20:15
+ */
+
+/**
+ * Saves through a {@link JsonJournal} append merge patches, survive a restart and a torn
+ * last record, and compact back into a plain snapshot.
+ */
+class JsonJournalTest {
+
+    private static Map<String, Object> state(int count) {
+        Map<String, Object> state = new LinkedHashMap<>();
+        state.put("name", "counter");
+        state.put("count", count);
+        state.put("tags", Arrays.asList("a", "b"));
+        Map<String, Object> nested = new LinkedHashMap<>();
+        nested.put("x", 1);
+        nested.put("y", 2);
+        state.put("nested", nested);
+        return state;
+    }
+
+    private static List<String> records(Path file) throws Exception {
+        return Files.readAllLines(JsonJournal.journalOf(file), StandardCharsets.UTF_8);
+    }
+
+    private static JsonParser parser(JsonJournal journal) {
+        return JsonParser.builder().journal(journal).atomicWrite(true).build();
+    }
+
+    @Test
+    void laterSavesAppendOnlyTheChanges() throws Exception {
+        Path file = Files.createTempDirectory("journal").resolve("state.json");
+        try (JsonJournal journal = JsonJournal.builder().build()) {
+            JsonParser parser = parser(journal);
+            Map<String, Object> state = state(1);
+            parser.saveToFile(file, state);
+            assertFalse(Files.exists(JsonJournal.journalOf(file)));
+
+            state.put("count", 2);
+            ((Map<String, Object>) state.get("nested")).remove("y");
+            parser.saveToFile(file, state);
+            parser.saveToFile(file, state); // ✅ Unchanged, nothing is appended
+            state.put("tags", Arrays.asList("c"));
+            parser.saveToFile(file, state);
+
+            assertEquals(Arrays.asList("{\"count\": 2,\"nested\": {\"y\": null}}", "{\"tags\": [\"c\"]}"), records(file));
+            assertEquals(2, journal.getRecords());
+            assertEquals(1, journal.getSnapshots());
+            assertEquals(state, parser.loadFromFile(file, Map.class));
+        }
+    }
+
+    @Test
+    void aRestartedJournalContinuesAndDropsATornRecord() throws Exception {
+        Path file = Files.createTempDirectory("journal").resolve("state.json");
+        try (JsonJournal journal = JsonJournal.builder().build()) {
+            parser(journal).saveToFile(file, state(1));
+            parser(journal).saveToFile(file, state(2));
+        }
+        // ✅ A crash in the middle of appending the next record
+        Files.write(JsonJournal.journalOf(file), "{\"count\":".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        try (JsonJournal journal = JsonJournal.builder().build()) {
+            JsonParser parser = parser(journal);
+            assertEquals(state(2), parser.loadFromFile(file, Map.class));
+            parser.saveToFile(file, state(3));
+            assertEquals(Arrays.asList("{\"count\": 2}", "{\"count\": 3}"), records(file));
+            assertEquals(0, journal.getSnapshots());
+            assertEquals(state(3), parser.loadFromFile(file, Map.class));
+        }
+        // ✅ A parser without a journal only sees the snapshot
+        assertEquals(state(1), new JsonParser().loadFromFile(file, Map.class));
+    }
+
+    @Test
+    void compactionWritesASnapshotAndTrimsTheJournal() throws Exception {
+        Path file = Files.createTempDirectory("journal").resolve("state.json");
+        JsonJournal journal = JsonJournal.builder().compactAfterBytes(64).build();
+        JsonParser parser = parser(journal);
+        for (int count = 0; count < 50; count++) parser.saveToFile(file, state(count));
+        journal.close(); // Waits for the compaction in flight
+
+        assertTrue(journal.getCompactions() > 0, journal.toString());
+        long journalLength = Files.exists(JsonJournal.journalOf(file)) ? Files.size(JsonJournal.journalOf(file)) : 0;
+        assertTrue(journalLength < journal.getRecordBytes(), journalLength + " bytes left, " + journal.getRecordBytes() + " written");
+        try (JsonJournal restarted = JsonJournal.builder().build()) {
+            assertEquals(state(49), parser(restarted).loadFromFile(file, Map.class));
+        }
+    }
+
+    // ✅ Wrapped in an array so scalar documents parse too
+    private static Object value(JsonParser parser, String json) {
+        return ((List<?>) parser.deserializeObject("[" + json + "]", List.class)).get(0);
+    }
+
+    // ✅ The examples of RFC 7386 section 3
+    @Test
+    void diffAndMergeFollowTheMergePatchRules() {
+        JsonParser parser = new JsonParser();
+        String[][] examples = {
+                {"{\"a\":\"b\"}", "{\"a\":\"c\"}", "{\"a\":\"c\"}"},
+                {"{\"a\":\"b\"}", "{\"b\":\"c\"}", "{\"a\":\"b\",\"b\":\"c\"}"},
+                {"{\"a\":\"b\"}", "{\"a\":null}", "{}"},
+                {"{\"a\":\"b\",\"b\":\"c\"}", "{\"a\":null}", "{\"b\":\"c\"}"},
+                {"{\"a\":[\"b\"]}", "{\"a\":\"c\"}", "{\"a\":\"c\"}"},
+                {"{\"a\":{\"b\":\"c\"}}", "{\"a\":{\"b\":\"d\",\"c\":null}}", "{\"a\":{\"b\":\"d\"}}"},
+                {"{\"a\":[{\"b\":\"c\"}]}", "{\"a\":[1]}", "{\"a\":[1]}"},
+                {"[\"a\",\"b\"]", "[\"c\",\"d\"]", "[\"c\",\"d\"]"},
+                {"{\"a\":\"foo\"}", "\"bar\"", "\"bar\""}};
+        for (String[] example : examples) {
+            Object merged = JsonJournal.merge(value(parser, example[0]), value(parser, example[1]));
+            assertEquals(value(parser, example[2]), merged, example[0] + " + " + example[1]);
+            Object patch = JsonJournal.diff(value(parser, example[0]), value(parser, example[2]));
+            assertEquals(value(parser, example[2]), JsonJournal.merge(value(parser, example[0]), patch), "diff of " + example[0]);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package ch.framedev.simplejsonutils;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/*
+ * ch.framedev.simplejsonutils
+ * =============================================
+ * This File was Created by FrameDev
+ * Please do not change anything without my consent!
+ * =============================================
+ * This Class was created at 17.10.2026 16:05
+ */
+
+/**
+ * The limits of {@link JsonParser.Builder} hold on every input path: unquoted tokens are
+ * bounded like quoted strings on the streaming paths, parallel list parsing counts the whole
+ * document, and lazy nodes check what they read.
+ */
+class JsonLimitsTest {
+
+    private final JsonParser parser = JsonParser.builder().maxStringLength(16).build();
+
+    private List<Object> extract(String json) throws IOException {
+        List<Object> values = new ArrayList<>();
+        parser.extract(new StringReader(json), Collections.singletonList(JsonPath.compile("$.a")), (path, value) -> values.add(value));
+        return values;
+    }
+
+    @Test
+    void bareTokensUpToTheLimitAreRead() throws IOException {
+        assertEquals(Collections.singletonList(1234567890123456L), extract("{\"a\":1234567890123456}"));
+        assertEquals(Collections.singletonList(true), extract("{\"a\":true}"));
+    }
+
+    @Test
+    void longBareTokensFailLikeLongQuotedStrings() {
+        String expected = "String longer than the maximum length of 16 at offset 5";
+        String run = String.join("", Collections.nCopies(100_000, "x")); // Spans several buffer fills
+        assertEquals(expected, assertThrows(IllegalArgumentException.class, () -> extract("{\"a\":\"" + run + "\"}")).getMessage());
+        assertEquals(expected, assertThrows(IllegalArgumentException.class, () -> extract("{\"a\":" + run + "}")).getMessage());
+        assertEquals(expected, assertThrows(IllegalArgumentException.class, () -> extract("{\"a\":12345678901234567}")).getMessage());
+    }
+
+    // ✅ 100 objects that each stay below maxElements, but not together
+    @Test
+    void parallelListsCountTheWholeDocumentLikeTheSequentialPath() {
+        JsonParser limited = JsonParser.builder().maxElements(200).build();
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < 100; i++) {
+            json.append(i == 0 ? "{" : ",{");
+            for (int j = 0; j < 150; j++) json.append(j == 0 ? "" : ",").append("\"a_longer_field_name_").append(j).append("\":").append(j);
+            json.append('}');
+        }
+        String document = json.append(']').toString();
+        assertTrue(document.length() > 256 * 1024, "Must take the parallel path");
+
+        String sequential = assertThrows(IllegalArgumentException.class, () -> limited.deserializeList(document, Map.class, 1)).getMessage();
+        String parallel = assertThrows(IllegalArgumentException.class, () -> limited.deserializeList(document, Map.class, 4)).getMessage();
+        assertEquals(sequential, parallel);
+    }
+
+    @Test
+    void lazyNodesApplyTheParserLimits() {
+        JsonParser tight = JsonParser.builder().maxDocumentLength(64).maxDepth(2).maxStringLength(4).maxElements(3).build();
+        assertEquals("Document longer than the maximum length of 64 at offset 64",
+                assertThrows(IllegalArgumentException.class, () -> tight.parseNode(String.join("", Collections.nCopies(65, " ")) + "1")).getMessage());
+
+        JsonNode nested = tight.parseNode("[[[1]]]");
+        assertEquals(1, nested.get(0).size());
+        String eager = assertThrows(IllegalArgumentException.class, () -> tight.deserializeObject("[[[1]]]", List.class)).getMessage();
+        assertEquals("Maximum nesting depth of 2 exceeded at offset 2", eager);
+        assertEquals(eager, assertThrows(IllegalArgumentException.class, () -> nested.get(0).get(0)).getMessage());
+        assertEquals(eager, assertThrows(IllegalArgumentException.class, () -> nested.toValue()).getMessage());
+
+        String document = "{\"ok\":\"abcd\",\"n\":{\"long\":\"abcde\"}}";
+        JsonNode strings = tight.parseNode(document);
+        assertEquals("abcd", strings.get("ok").asText());
+        String tooLong = assertThrows(IllegalArgumentException.class, () -> tight.deserializeObject(document, Map.class)).getMessage();
+        assertEquals("String longer than the maximum length of 4 at offset 25", tooLong);
+        assertEquals(tooLong, assertThrows(IllegalArgumentException.class, () -> strings.get("n").get("long")).getMessage());
+        assertEquals("String longer than the maximum length of 4 at offset 0", assertThrows(IllegalArgumentException.class, () -> tight.parseNode("\"abcde\"").asText()).getMessage());
+
+        JsonNode elements = tight.parseNode("[[1,2],[3]]");
+        assertEquals(2, elements.get(0).size());
+        String tooMany = assertThrows(IllegalArgumentException.class, () -> tight.deserializeObject("[[1,2],[3]]", List.class)).getMessage();
+        assertEquals(tooMany, assertThrows(IllegalArgumentException.class, () -> elements.get(1)).getMessage());
+    }
+
+    // ✅ Fed in small chunks, so the token grows across many feed calls
+    private static void feed(JsonPushParser<?> push, String json) {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        for (int i = 0; i < bytes.length; i += 7) push.feed(bytes, i, Math.min(7, bytes.length - i));
+        push.endOfInput();
+    }
+
+    @Test
+    void pushParserBoundsUnquotedTokensLikeQuotedStrings() {
+        List<Object> values = new ArrayList<>();
+        feed(parser.pushArrayParser(Object.class, values::add), "[1234567890123456,true,\"abcdefghijklmnop\"]");
+        assertEquals(Arrays.asList(1234567890123456L, true, "abcdefghijklmnop"), values);
+
+        String expected = "String longer than the maximum length of 16 at offset 5";
+        String run = String.join("", Collections.nCopies(100_000, "x"));
+        assertEquals(expected, assertThrows(IllegalArgumentException.class, () -> feed(parser.pushParser(Map.class, value -> { }), "{\"a\":\"" + run + "\"}")).getMessage());
+        assertEquals(expected, assertThrows(IllegalArgumentException.class, () -> feed(parser.pushParser(Map.class, value -> { }), "{\"a\":" + run + "}")).getMessage());
+        assertEquals(expected, assertThrows(IllegalArgumentException.class, () -> feed(parser.pushParser(Map.class, value -> { }), "{\"a\":12345678901234567}")).getMessage());
+    }
+}
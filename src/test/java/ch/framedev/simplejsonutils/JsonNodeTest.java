@@ -0,0 +1,62 @@
+package ch.framedev.simplejsonutils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/*
+ * ch.framedev.simplejsonutils
+ * =============================================
+ * This File was Created by FrameDev
+ * Please do not change anything without my consent!
+ * =============================================
+ * This Class was created at 17.10.2026 17:10
+ */
+
+/**
+ * {@link JsonNode} answers like the eager Map, including for duplicate names, and only
+ * looks at the parts of the document it is asked about.
+ */
+class JsonNodeTest {
+
+    private final JsonParser parser = new JsonParser();
+
+    @Test
+    void duplicateNamesResolveLikeTheEagerMap() {
+        String json = "{\"a\":1,\"b\":\"first\",\"a\":2,\"c\":null,\"b\":\"last\"}";
+        Map<?, ?> eager = (Map<?, ?>) parser.deserializeObject(json, Map.class);
+        JsonNode node = parser.parseNode(json);
+
+        assertEquals(2, node.get("a").asInt());
+        assertEquals("last", node.get("b").asText());
+        assertEquals(eager.get("a"), node.get("a").asNumber());
+        assertEquals(eager.get("b"), node.get("b").asText());
+        assertEquals(new ArrayList<>(eager.keySet()), node.fieldNames());
+        assertEquals(eager.size(), node.size());
+        assertEquals(eager, node.toValue());
+        assertEquals("last", node.at("/b").asText());
+    }
+
+    @Test
+    void escapedDuplicateNamesAreTheSameName() {
+        JsonNode node = parser.parseNode("{\"name\":1,\"n\\u0061me\":2}");
+        assertEquals(2, node.get("name").asInt());
+        assertEquals(List.of("name"), node.fieldNames());
+    }
+
+    @Test
+    void lookupsOnlyValidateWhatTheyVisit() {
+        JsonNode node = parser.parseNode("{\"id\":7,\"skipped\":{\"deep\":{\"x\" 1}},\"items\":[{\"id\":1},{\"id\":2}]}");
+        assertEquals(7, node.get("id").asInt());
+        assertEquals(2, node.get("items").get(1).get("id").asLong());
+        assertTrue(node.get("items").get(2).isMissing());
+        assertTrue(node.get("nope").get("deeper").isMissing());
+        assertThrows(IllegalArgumentException.class, () -> node.get("skipped").toValue());
+    }
+}
@@ -0,0 +1,98 @@
+package ch.framedev.simplejsonutils;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/*
+ * ch.framedev.simplejsonutils
+ * =============================================
+ * This File was Created by FrameDev
+ * Please do not change anything without my consent!
+ * =============================================
+ * This Class was created at 17.10.2026 18:20
+ */
+
+/**
+ * {@link JsonNumbers} decodes in place what {@link Double#parseDouble(String)} and the
+ * boxed parse methods would, into the narrowest or the requested type.
+ */
+class JsonNumbersTest {
+
+    private static Object decode(String number, Class<?> target) {
+        return JsonNumbers.decode(number, 0, number.length(), target);
+    }
+
+    // ✅ Fast path, slow path and the boundaries between them, bit for bit like the JDK
+    @Test
+    void doublesMatchTheJdkBitForBit() {
+        String[] edges = {"0.1", "-0.0", "1e22", "1e23", "9007199254740993.0", "123456789012345.67", "1234567890123456.7",
+                "5e-324", "4.9e-324", "2.2250738585072014E-308", "1.7976931348623157e308", "3.14159265358979323846", "1E+2", "1e-5"};
+        for (String edge : edges) assertEquals(Double.parseDouble(edge), decode(edge, double.class), edge);
+
+        Random random = new Random(42);
+        for (int i = 0; i < 100_000; i++) {
+            String number;
+            switch (i % 3) {
+                case 0:
+                    number = Double.toString(Double.longBitsToDouble(random.nextLong() & 0x7FEFFFFFFFFFFFFFL));
+                    break;
+                case 1:
+                    number = (random.nextInt(2_000_000) - 1_000_000) + "." + random.nextInt(1_000_000);
+                    break;
+                default:
+                    number = random.nextInt(100_000) + "e" + (random.nextInt(60) - 30);
+            }
+            assertEquals(Double.parseDouble(number), decode(number, double.class), number);
+            assertEquals(Double.parseDouble(number), decode(number, null), number);
+        }
+    }
+
+    @Test
+    void untypedIntegersTakeTheNarrowestType() {
+        assertEquals(1, decode("1", null));
+        assertEquals(Integer.MIN_VALUE, decode("-2147483648", null));
+        assertEquals(2147483648L, decode("2147483648", null));
+        assertEquals(Long.MIN_VALUE, decode("-9223372036854775808", null));
+        assertEquals(new BigInteger("9223372036854775808"), decode("9223372036854775808", Number.class));
+        assertEquals(100000.0, decode("1e5", Object.class));
+    }
+
+    @Test
+    void typedTargetsAreDecodedDirectly() {
+        assertEquals((short) 300, decode("300", short.class));
+        assertEquals(300.0f, decode("300", float.class));
+        assertEquals(new BigDecimal("0.10"), decode("0.10", BigDecimal.class));
+        assertEquals(Long.MAX_VALUE, decode("9223372036854775807", long.class));
+        assertEquals("Value out of range for int: 2147483648",
+                assertThrows(NumberFormatException.class, () -> decode("2147483648", int.class)).getMessage());
+        assertThrows(NumberFormatException.class, () -> decode("300", byte.class));
+        assertNull(decode("1.5", int.class));
+        assertNull(decode("300", String.class));
+    }
+
+    @Test
+    void malformedNumbersAreNotNumbers() {
+        for (String invalid : new String[]{"", "-", "1.", ".5", "1e", "--1", "+1", "0x10", "NaN", "Infinity", " 1"}) {
+            assertNull(decode(invalid, null), invalid);
+            assertNull(decode(invalid, double.class), invalid);
+        }
+    }
+
+    @Test
+    void literalsAreOnlyRecognizedWhole() {
+        Map<?, ?> map = (Map<?, ?>) new JsonParser().deserializeObject("{\"a\":true,\"b\":false,\"c\":null,\"d\":nulls,\"e\":tru}", Map.class);
+        assertEquals(Boolean.TRUE, map.get("a"));
+        assertEquals(Boolean.FALSE, map.get("b"));
+        assertNull(map.get("c"));
+        assertEquals("nulls", map.get("d"));
+        assertEquals("tru", map.get("e"));
+    }
+}
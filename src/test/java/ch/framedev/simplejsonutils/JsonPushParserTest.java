@@ -0,0 +1,132 @@
+package ch.framedev.simplejsonutils;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/*
+ * ch.framedev.simplejsonutils
+ * =============================================
+ * This File was Created by FrameDev
+ * Please do not change anything without my consent!
+ * =============================================
+ * This Class was created at 17.10.2026 20:00
+ */
+
+/**
+ * {@link JsonPushParser} gives the result of parsing the whole document at once, however
+ * the input is split into chunks.
+ */
+class JsonPushParserTest {
+
+    private final JsonParser parser = new JsonParser();
+
+    // ✅ Multi-byte UTF-8 of every length, escapes, numbers and literals, all of which can be cut
+    private static String document() {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < 40; i++) {
+            if (i > 0) json.append(",\n ");
+            json.append("{\"id\":").append(i * 7919L * 1_000_003L)
+                    .append(",\"name\":\"é€😀 \\u00e9\\uD83D\\uDE00 \\\"q\\\" \\\\ \\n ").append(i).append('"')
+                    .append(",\"ratio\":-").append(i).append(".25e-3")
+                    .append(",\"flags\":[true,false,null]")
+                    .append(",\"nested\":{\"deep\":[[").append(i).append("],{}],\"empty\":\"\"}}");
+        }
+        return json.append(']').toString();
+    }
+
+    private List<Object> push(byte[] bytes, int[] cuts, boolean direct) {
+        List<Object> values = new ArrayList<>();
+        JsonPushParser<Object> push = parser.pushArrayParser(Object.class, values::add);
+        int from = 0;
+        for (int cut : cuts) {
+            if (direct) {
+                ByteBuffer chunk = ByteBuffer.allocateDirect(cut - from);
+                chunk.put(bytes, from, cut - from).flip();
+                push.feed(chunk);
+            } else {
+                push.feed(bytes, from, cut - from);
+            }
+            from = cut;
+        }
+        push.endOfInput();
+        return values;
+    }
+
+    @Test
+    void randomChunkSplitsGiveTheWholeDocumentResult() {
+        String json = document();
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        List<?> expected = (List<?>) parser.deserializeObject(json, List.class);
+
+        Random random = new Random(2026);
+        for (int round = 0; round < 300; round++) {
+            int[] cuts = new int[1 + random.nextInt(40)];
+            for (int i = 0; i < cuts.length - 1; i++) cuts[i] = random.nextInt(bytes.length + 1);
+            cuts[cuts.length - 1] = bytes.length;
+            Arrays.sort(cuts); // Equal cuts are empty chunks
+            assertEquals(expected, push(bytes, cuts, round % 2 == 0), "round " + round);
+        }
+
+        // ✅ Every byte on its own
+        int[] single = new int[bytes.length];
+        for (int i = 0; i < single.length; i++) single[i] = i + 1;
+        assertEquals(expected, push(bytes, single, false));
+    }
+
+    @Test
+    void rootValuesAreEmittedAsTheyComplete() {
+        List<Object> values = new ArrayList<>();
+        JsonPushParser<Object> push = parser.pushParser(Object.class, values::add);
+        byte[] bytes = "{\"a\":1} [2] 42".getBytes(StandardCharsets.UTF_8);
+        push.feed(bytes, 0, 9);
+        assertEquals(List.of(Map.of("a", 1)), values);
+        push.feed(bytes, 9, bytes.length - 9);
+        assertEquals(List.of(Map.of("a", 1), List.of(2)), values);
+        push.endOfInput(); // ✅ Only now is the number known to be complete
+        assertEquals(List.of(Map.of("a", 1), List.of(2), 42), values);
+        assertEquals(bytes.length, push.position());
+    }
+
+    @Test
+    void aFailedParserMustBeResetBeforeReuse() {
+        List<Object> values = new ArrayList<>();
+        JsonPushParser<Object> push = parser.pushParser(Object.class, values::add);
+        byte[] truncated = "{\"a\":[1,".getBytes(StandardCharsets.UTF_8);
+        push.feed(truncated, 0, truncated.length);
+        assertEquals(2, push.depth());
+        assertEquals("Unexpected end of JSON input at offset 8", assertThrows(IllegalArgumentException.class, push::endOfInput).getMessage());
+        assertEquals("The parser failed earlier, call reset() to reuse it",
+                assertThrows(IllegalStateException.class, () -> push.feed(truncated, 0, 1)).getMessage());
+
+        push.reset();
+        byte[] next = "\"x\"".getBytes(StandardCharsets.UTF_8);
+        push.feed(next, 0, next.length);
+        push.endOfInput();
+        assertEquals(List.of("x"), values);
+    }
+
+    @Test
+    void malformedInputFailsInTheFeedThatContainsIt() {
+        JsonPushParser<Object> push = parser.pushParser(Object.class, value -> { });
+        byte[] bytes = "{\"a\" 1}".getBytes(StandardCharsets.UTF_8);
+        push.feed(bytes, 0, 4);
+        assertEquals("Expected ':' after field name at offset 5",
+                assertThrows(IllegalArgumentException.class, () -> push.feed(bytes, 4, bytes.length - 4)).getMessage());
+
+        JsonPushParser<Object> elements = parser.pushArrayParser(Object.class, value -> { });
+        byte[] object = "{}".getBytes(StandardCharsets.UTF_8);
+        assertTrue(assertThrows(IllegalArgumentException.class, () -> elements.feed(object, 0, object.length)).getMessage()
+                .startsWith("Expected a JSON array"));
+    }
+}
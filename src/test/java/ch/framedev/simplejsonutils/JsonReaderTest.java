@@ -0,0 +1,173 @@
+package ch.framedev.simplejsonutils;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/*
+ * ch.framedev.simplejsonutils
+ * =============================================
+ * This File was Created by FrameDev
+ * Please do not change anything without my consent!
+ * =============================================
+ * This Class was created at 17.10.2026 18:30
+ */
+
+/**
+ * {@link JsonReader} hands out the tokens of a document in order, independent of how the
+ * input is split into reads, and gives its buffer back exactly once.
+ */
+class JsonReaderTest {
+
+    private static final String DOCUMENT = "{\"id\":7,\"name\":\"a \\\"b\\\"\",\"tags\":[true,null,-1.5e2],\"empty\":{}} [1] \"tail\"";
+
+    // ✅ Returns at most one character per read, so every token crosses a read boundary
+    private static final class TrickleReader extends Reader {
+
+        private final String text;
+        private int pos;
+        private boolean closed;
+
+        private TrickleReader(String text) {
+            this.text = text;
+        }
+
+        @Override
+        public int read(char[] cbuf, int off, int len) {
+            if (pos == text.length()) return -1;
+            cbuf[off] = text.charAt(pos++);
+            return 1;
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+
+    // ✅ Every token with the value it carries
+    private static List<String> tokens(JsonReader reader) throws IOException {
+        List<String> tokens = new ArrayList<>();
+        while (true) {
+            JsonToken token = reader.peek();
+            switch (token) {
+                case BEGIN_OBJECT:
+                    reader.beginObject();
+                    tokens.add("{");
+                    break;
+                case END_OBJECT:
+                    reader.endObject();
+                    tokens.add("}");
+                    break;
+                case BEGIN_ARRAY:
+                    reader.beginArray();
+                    tokens.add("[");
+                    break;
+                case END_ARRAY:
+                    reader.endArray();
+                    tokens.add("]");
+                    break;
+                case NAME:
+                    tokens.add("name:" + reader.nextName());
+                    break;
+                case STRING:
+                    tokens.add("string:" + reader.nextString());
+                    break;
+                case NUMBER:
+                    tokens.add("number:" + reader.nextNumber());
+                    break;
+                case BOOLEAN:
+                    tokens.add("boolean:" + reader.nextBoolean());
+                    break;
+                case NULL:
+                    reader.nextNull();
+                    tokens.add("null");
+                    break;
+                default:
+                    return tokens;
+            }
+        }
+    }
+
+    @Test
+    void tokensComeInDocumentOrder() throws IOException {
+        List<String> expected = Arrays.asList("{", "name:id", "number:7", "name:name", "string:a \"b\"", "name:tags", "[",
+                "boolean:true", "null", "number:-150.0", "]", "name:empty", "{", "}", "}", "[", "number:1", "]", "string:tail");
+        try (JsonReader reader = new JsonReader(new StringReader(DOCUMENT))) {
+            assertEquals(expected, tokens(reader));
+            assertEquals(JsonToken.END_DOCUMENT, reader.peek());
+        }
+        try (JsonReader reader = new JsonReader(new TrickleReader(DOCUMENT))) {
+            assertEquals(expected, tokens(reader));
+        }
+    }
+
+    @Test
+    void valuesLongerThanTheBufferAreReadWhole() throws IOException {
+        String longString = String.join("", Collections.nCopies(Buffers.CHAR_BUFFER_SIZE * 3, "x\\u00e9"));
+        String json = "{\"skipped\":[\"" + longString + "\",{\"a\":[1]}],\"kept\":\"" + longString + "\"}";
+        try (JsonReader reader = new JsonReader(new StringReader(json))) {
+            reader.beginObject();
+            assertEquals("skipped", reader.nextName());
+            reader.skipValue();
+            assertEquals("kept", reader.nextName());
+            assertEquals(Buffers.CHAR_BUFFER_SIZE * 6, reader.nextString().length());
+            assertFalse(reader.hasNext());
+            reader.endObject();
+        }
+    }
+
+    @Test
+    void readValueBuildsTheSameTreeAsTheParser() throws IOException {
+        String json = "{\"a\":[1,{\"b\":null}],\"c\":\"d\"}";
+        try (JsonReader reader = new JsonReader(new StringReader(json))) {
+            assertEquals(new JsonParser().deserializeObject(json, Map.class), reader.readValue());
+        }
+    }
+
+    @Test
+    void unexpectedTokensNameWhatWasFound() throws IOException {
+        try (JsonReader reader = new JsonReader(new StringReader("[\"x\"]"))) {
+            reader.beginArray();
+            String message = assertThrows(IllegalStateException.class, reader::nextInt).getMessage();
+            assertTrue(message.startsWith("Expected NUMBER but was STRING at offset "), message);
+        }
+    }
+
+    private static char[] buffer(JsonReader reader) throws ReflectiveOperationException {
+        Field buffer = JsonReader.class.getDeclaredField("buffer");
+        buffer.setAccessible(true);
+        return (char[]) buffer.get(reader);
+    }
+
+    @Test
+    void closeReleasesTheBufferOnceAndClosesTheInput() throws Exception {
+        TrickleReader input = new TrickleReader("[]");
+        JsonReader reader = new JsonReader(input);
+        char[] buffer = buffer(reader);
+        reader.close();
+        assertTrue(input.closed);
+
+        // ✅ The next reader on this thread reuses it, a second close must not hand it out again
+        JsonReader next = new JsonReader(new StringReader("[]"));
+        assertSame(buffer, buffer(next));
+        reader.close();
+        assertNotSame(buffer, buffer(new JsonReader(new StringReader("[]"))));
+        next.close();
+    }
+}
@@ -0,0 +1,97 @@
+package ch.framedev.simplejsonutils;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/*
+ * ch.framedev.simplejsonutils
+ * =============================================
+ * This File was Created by FrameDev
+ * Please do not change anything without my consent!
+ * =============================================
+ * This Class was created at 17.10.2026 17:30
+ */
+
+/**
+ * The escape table writes every string so that each reader gives it back unchanged, and
+ * all readers reject the control characters it would have escaped.
+ */
+class JsonStringsTest {
+
+    private final JsonParser parser = new JsonParser();
+
+    // ✅ Every ASCII character, some Latin-1, BMP and a surrogate pair
+    private static String allKinds() {
+        StringBuilder sb = new StringBuilder();
+        for (char c = 0; c < 128; c++) sb.append(c);
+        return sb.append("äöü € 中文 \uD83D\uDE00 \u2028").toString();
+    }
+
+    // ✅ One parse function per reader, all answering with the decoded value of "a"
+    private List<Function<String, Object>> readers() {
+        List<Function<String, Object>> readers = new ArrayList<>();
+        readers.add(json -> ((Map<?, ?>) parser.deserializeObject(json, Map.class)).get("a"));
+        readers.add(json -> ((Map<?, ?>) parser.deserializeObject(json.getBytes(StandardCharsets.UTF_8), Map.class)).get("a"));
+        readers.add(json -> parser.parseNode(json).get("a").asText());
+        readers.add(json -> {
+            try {
+                return ((Map<?, ?>) parser.deserializeObject(new JsonReader(new StringReader(json)), Map.class)).get("a");
+            } catch (java.io.IOException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        readers.add(json -> {
+            List<Map> values = new ArrayList<>();
+            JsonPushParser<Map> push = parser.pushParser(Map.class, values::add);
+            byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+            for (int i = 0; i < bytes.length; i += 3) push.feed(bytes, i, Math.min(3, bytes.length - i));
+            push.endOfInput();
+            return values.get(0).get("a");
+        });
+        return readers;
+    }
+
+    private static Throwable rootCause(Throwable e) {
+        while (e.getCause() != null) e = e.getCause();
+        return e;
+    }
+
+    @Test
+    void escapedStringsReadBackUnchangedEverywhere() {
+        String value = allKinds();
+        String json = parser.serializeObject(Collections.singletonMap("a", value));
+        for (char c = 0; c < 0x20; c++) assertFalse(json.indexOf(c) >= 0, "raw U+" + (int) c + " in " + json);
+        for (Function<String, Object> reader : readers()) assertEquals(value, reader.apply(json));
+    }
+
+    @Test
+    void theShortEscapesAreUsedWhereJsonHasThem() {
+        assertEquals("\\b\\f\\n\\r\\t\\\"\\\\\\u0001\\u001f/\u007f", JsonStrings.escape("\b\f\n\r\t\"\\\u0001\u001f/\u007f"));
+        String plain = "nothing to escape, not even é or /";
+        assertSame(plain, JsonStrings.escape(plain));
+    }
+
+    @Test
+    void rawControlCharactersAreRejectedByEveryReader() {
+        String fast = "{\"a\":\"x\u0001y\"}";
+        String afterEscape = "{\"a\":\"\\n\ty\"}";
+        for (Function<String, Object> reader : readers()) {
+            assertEquals("Unescaped control character U+0001 in string at offset 7",
+                    rootCause(assertThrows(RuntimeException.class, () -> reader.apply(fast))).getMessage());
+            assertEquals("Unescaped control character U+0009 in string at offset 8",
+                    rootCause(assertThrows(RuntimeException.class, () -> reader.apply(afterEscape))).getMessage());
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package ch.framedev.simplejsonutils;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/*
+ * ch.framedev.simplejsonutils
+ * =============================================
+ * This File was Created by FrameDev
+ * Please do not change anything without my consent!
+ * =============================================
+ * This Class was created at 17.10.2026 15:20
+ */
+
+/**
+ * Streams passed to {@link JsonParser#readLines(java.io.InputStream, Class)} stay open,
+ * whether the records are read to the end or the Stream is closed early. Records are
+ * decoded on the parser's pool, which outlives every Stream.
+ */
+class NdjsonReaderTest {
+
+    private final JsonParser parser = new JsonParser();
+
+    private static final class TrackingInputStream extends ByteArrayInputStream {
+
+        private boolean closed;
+
+        private TrackingInputStream(String content) {
+            super(content.getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+
+    @Test
+    void callersStreamIsNotClosedWhenExhausted() {
+        for (int parallelism : new int[]{1, 4}) {
+            TrackingInputStream in = new TrackingInputStream("{\"a\":1}\n\n{\"a\":2}\n");
+            List<Map> records = parser.readLines(in, Map.class, parallelism, true).collect(Collectors.toList());
+            assertEquals(2, records.size());
+            assertFalse(in.closed, "parallelism " + parallelism);
+        }
+    }
+
+    @Test
+    void callersStreamIsNotClosedWithTheStream() {
+        TrackingInputStream in = new TrackingInputStream("{\"a\":1}\n{\"a\":2}\n");
+        try (Stream<Map> records = parser.readLines(in, Map.class)) {
+            assertEquals(1, records.limit(1).count());
+        }
+        assertFalse(in.closed);
+    }
+
+    private static final Set<Thread> DECODING_THREADS = ConcurrentHashMap.newKeySet();
+
+    public static class Record {
+        public int a;
+
+        public Record() {
+            DECODING_THREADS.add(Thread.currentThread());
+        }
+    }
+
+    private static String records(int count) {
+        StringBuilder lines = new StringBuilder();
+        for (int i = 0; i < count; i++) lines.append("{\"a\":").append(i).append("}\n");
+        return lines.toString();
+    }
+
+    @Test
+    void recordsAreDecodedOnTheParsersPoolWhichStaysUsable() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            JsonParser pooled = JsonParser.builder().pool(pool).build();
+            for (boolean ordered : new boolean[]{true, false}) {
+                DECODING_THREADS.clear();
+                List<Record> records = pooled.readLines(new TrackingInputStream(records(5_000)), Record.class, 4, ordered)
+                        .collect(Collectors.toList());
+                assertEquals(5_000, records.size());
+                if (ordered) {
+                    for (int i = 0; i < records.size(); i++) assertEquals(i, records.get(i).a);
+                }
+                for (Thread thread : DECODING_THREADS) {
+                    assertTrue(thread instanceof ForkJoinWorkerThread && ((ForkJoinWorkerThread) thread).getPool() == pool, thread.getName());
+                }
+            }
+
+            // ✅ Closing a Stream early leaves the pool to the next one
+            try (Stream<Record> early = pooled.readLines(new TrackingInputStream(records(5_000)), Record.class, 4, true)) {
+                assertEquals(1, early.limit(1).count());
+            }
+            assertFalse(pool.isShutdown());
+            assertEquals(5_000, pooled.readLines(new TrackingInputStream(records(5_000)), Record.class, 4, true).count());
+            assertTrue(pool.getPoolSize() <= 4, pool.getPoolSize() + " pool threads");
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
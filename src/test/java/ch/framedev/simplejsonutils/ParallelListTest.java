@@ -0,0 +1,112 @@
+package ch.framedev.simplejsonutils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/*
+ * ch.framedev.simplejsonutils
+ * =============================================
+ * This File was Created by FrameDev
+ * Please do not change anything without my consent!
+ * =============================================
+ * This Class was created at 17.10.2026 15:00
+ */
+
+/**
+ * {@link JsonParser#deserializeList(String, Class, int)} at 1, 2, 4, 8 and 16 threads: the
+ * same elements in the same order as the single-threaded path, bound on at most
+ * {@code parallelism} threads.
+ */
+class ParallelListTest {
+
+    private static final int[] PARALLELISM = {1, 2, 4, 8, 16};
+
+    private static final Set<Thread> BINDING_THREADS = ConcurrentHashMap.newKeySet();
+
+    public static class Element {
+        public int index;
+        public String name;
+        public List<Integer> values;
+
+        public Element() {
+            BINDING_THREADS.add(Thread.currentThread());
+        }
+    }
+
+    private final JsonParser parser = new JsonParser();
+
+    // ✅ A top-level array well above the 256 KB threshold of the parallel path
+    private static String largeArray(int count) {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < count; i++) {
+            if (i > 0) json.append(',');
+            json.append("{\"index\":").append(i).append(",\"name\":\"element \\\"").append(i)
+                    .append("\\\" [with, brackets]\",\"values\":[").append(i).append(',').append(i + 1).append("]}");
+        }
+        return json.append(']').toString();
+    }
+
+    @Test
+    void everyParallelismGivesTheSingleThreadedResult() {
+        String json = largeArray(20_000);
+        assertTrue(json.length() > 256 * 1024);
+        List<Map> expected = parser.deserializeList(json, Map.class, 1);
+        assertEquals(20_000, expected.size());
+        for (int parallelism : PARALLELISM) {
+            assertEquals(expected, parser.deserializeList(json, Map.class, parallelism), "parallelism " + parallelism);
+        }
+    }
+
+    @Test
+    void elementsKeepTheirOrderAndAreBoundOnAtMostParallelismThreads() {
+        String json = largeArray(20_000);
+        for (int parallelism : PARALLELISM) {
+            BINDING_THREADS.clear();
+            List<Element> elements = parser.deserializeList(json, Element.class, parallelism);
+            assertEquals(20_000, elements.size());
+            for (int i = 0; i < elements.size(); i++) {
+                Element element = elements.get(i);
+                assertEquals(i, element.index);
+                assertEquals("element \"" + i + "\" [with, brackets]", element.name);
+                assertEquals(List.of(i, i + 1), element.values);
+            }
+            assertTrue(BINDING_THREADS.size() <= parallelism, parallelism + " threads allowed, " + BINDING_THREADS.size() + " used");
+        }
+    }
+
+    @Test
+    void elementsAreBoundOnTheParsersPoolWithoutNewThreadsPerCall() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            JsonParser pooled = JsonParser.builder().pool(pool).build();
+            String json = largeArray(20_000);
+            BINDING_THREADS.clear();
+            for (int call = 0; call < 10; call++) pooled.deserializeList(json, Element.class, 4);
+            for (Thread thread : BINDING_THREADS) {
+                assertTrue(thread instanceof ForkJoinWorkerThread && ((ForkJoinWorkerThread) thread).getPool() == pool, thread.getName());
+            }
+            assertTrue(pool.getPoolSize() <= 4, pool.getPoolSize() + " pool threads");
+            assertFalse(pool.isShutdown());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void smallArraysStayOnTheCallingThread() {
+        BINDING_THREADS.clear();
+        List<Element> elements = parser.deserializeList(largeArray(100), Element.class, 16);
+        assertEquals(100, elements.size());
+        assertEquals(Set.of(Thread.currentThread()), BINDING_THREADS);
+    }
+}
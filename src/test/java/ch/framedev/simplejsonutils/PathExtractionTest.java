@@ -0,0 +1,115 @@
+package ch.framedev.simplejsonutils;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/*
+ * ch.framedev.simplejsonutils
+ * =============================================
+ * This File was Created by FrameDev
+ * Please do not change anything without my consent!
+ * =============================================
+ * This Class was created at 17.10.2026 18:45
+ */
+
+/**
+ * {@link JsonParser#extract} reports matches in document order and stops reading once
+ * every single-valued path has been found.
+ */
+class PathExtractionTest {
+
+    private final JsonParser parser = new JsonParser();
+
+    private static final String DOCUMENT = "{\"items\":[{\"id\":1,\"name\":\"a\"},{\"id\":2},{\"id\":3,\"name\":\"c\"}],"
+            + "\"skipped\":{\"id\":99,\"items\":[{\"id\":98}]},\"meta\":{\"version\":4}}";
+
+    private List<String> extract(String json, String... expressions) throws IOException {
+        List<JsonPath> paths = new ArrayList<>();
+        for (String expression : expressions) paths.add(JsonPath.compile(expression));
+        List<String> matches = new ArrayList<>();
+        parser.extract(new StringReader(json), paths, (path, value) -> matches.add(path + "=" + value));
+        return matches;
+    }
+
+    @Test
+    void matchesArriveInDocumentOrder() throws IOException {
+        assertEquals(Arrays.asList("$.items[*].id=1", "$.items[*].name=a", "$.items[*].id=2", "$.items[1]={id=2}",
+                        "$.items[*].id=3", "$.items[*].name=c", "$.meta.version=4"),
+                extract(DOCUMENT, "$.meta.version", "$.items[*].id", "$.items[*].name", "$.items[1]"));
+    }
+
+    @Test
+    void pathsMatchExactlyTheirSegments() throws IOException {
+        assertEquals(Arrays.asList("$['skipped'].items[0].id=98"), extract(DOCUMENT, "$['skipped'].items[0].id"));
+        assertEquals(Arrays.asList("$.*.id=99"), extract(DOCUMENT, "$.*.id"));
+        assertTrue(extract(DOCUMENT, "$.items[5]", "$.nope", "$.meta.version.deeper").isEmpty());
+        assertEquals(Arrays.asList("$={items=[1]}"), extract("{\"items\":[1]}", "$"));
+    }
+
+    // ✅ Counts what the reader pulled from the stream
+    private static final class CountingInputStream extends ByteArrayInputStream {
+
+        private long read;
+
+        private CountingInputStream(byte[] bytes) {
+            super(bytes);
+        }
+
+        @Override
+        public synchronized int read(byte[] b, int off, int len) {
+            int n = super.read(b, off, len);
+            if (n > 0) read += n;
+            return n;
+        }
+    }
+
+    @Test
+    void readingStopsOnceEverySingleValuedPathIsFound() throws IOException {
+        StringBuilder json = new StringBuilder("{\"meta\":{\"version\":4},\"data\":[");
+        for (int i = 0; i < 100_000; i++) json.append(i == 0 ? "" : ",").append("{\"id\":").append(i).append('}');
+        byte[] bytes = json.append("]}").toString().getBytes(StandardCharsets.UTF_8);
+
+        CountingInputStream in = new CountingInputStream(bytes);
+        List<Object> versions = new ArrayList<>();
+        parser.extract(in, List.of(JsonPath.compile("$.meta.version")), (path, value) -> versions.add(value));
+        assertEquals(List.of(4), versions);
+        assertTrue(in.read < 64 * 1024, in.read + " of " + bytes.length + " bytes read");
+
+        // ✅ A wildcard needs the whole input
+        CountingInputStream all = new CountingInputStream(bytes);
+        List<Object> ids = new ArrayList<>();
+        parser.extract(all, List.of(JsonPath.compile("$.data[*].id"), JsonPath.compile("$.meta.version")), (path, value) -> ids.add(value));
+        assertEquals(100_001, ids.size());
+        assertEquals(bytes.length, all.read);
+    }
+
+    @Test
+    void pathsAreValidatedWhenCompiled() {
+        assertEquals("Invalid JSON path 'items': Expected '$' at offset 0",
+                assertThrows(IllegalArgumentException.class, () -> JsonPath.compile("items")).getMessage());
+        assertEquals("Invalid JSON path '$.a[x]': Expected index, '*' or quoted field name at offset 4",
+                assertThrows(IllegalArgumentException.class, () -> JsonPath.compile("$.a[x]")).getMessage());
+        assertTrue(JsonPath.compile("$.a[3]['b']").isSingleValued());
+        assertFalse(JsonPath.compile("$.a[*].b").isSingleValued());
+    }
+
+    @Test
+    void valuesAreTheSameAsFromTheTree() throws IOException {
+        List<Object> values = new ArrayList<>();
+        parser.extract(new StringReader(DOCUMENT), List.of(JsonPath.compile("$.skipped")), (path, value) -> values.add(value));
+        assertEquals(((Map<?, ?>) parser.deserializeObject(DOCUMENT, Map.class)).get("skipped"), values.get(0));
+    }
+}
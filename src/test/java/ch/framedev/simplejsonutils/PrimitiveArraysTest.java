@@ -0,0 +1,127 @@
+package ch.framedev.simplejsonutils;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/*
+ * ch.framedev.simplejsonutils
+ * =============================================
+ * This File was Created by FrameDev
+ * Please do not change anything without my consent!
+ * =============================================
+ * This Class was created at 17.10.2026 19:45
+ */
+
+/**
+ * Primitive and object arrays are written as JSON arrays (char[] as a string, byte[]
+ * optionally as base64) and come back from every reader with the same elements.
+ */
+class PrimitiveArraysTest {
+
+    public static class AllArrays {
+        public int[] ints = {1, -2, Integer.MAX_VALUE};
+        public long[] longs = {Long.MIN_VALUE, 0};
+        public short[] shorts = {Short.MIN_VALUE, -1};
+        public byte[] bytes = {Byte.MIN_VALUE, 0, Byte.MAX_VALUE};
+        public double[] doubles = {1e300, -0.5, 0.1};
+        public float[] floats = {0.1f, -3.5f};
+        public boolean[] booleans = {true, false};
+        public char[] chars = {'h', 'i', '"'};
+        public String[] strings = {"a", null};
+        public long[][] nested = {{1}, {2, 3}, {}};
+        public int[] empty = {};
+    }
+
+    private static void assertSameArrays(AllArrays expected, AllArrays actual, String reader) {
+        assertArrayEquals(expected.ints, actual.ints);
+        assertTrue(Arrays.equals(expected.longs, actual.longs), reader);
+        assertTrue(Arrays.equals(expected.shorts, actual.shorts), reader);
+        assertArrayEquals(expected.bytes, actual.bytes, reader);
+        assertTrue(Arrays.equals(expected.doubles, actual.doubles), reader);
+        assertTrue(Arrays.equals(expected.floats, actual.floats), reader);
+        assertTrue(Arrays.equals(expected.booleans, actual.booleans), reader);
+        assertTrue(Arrays.equals(expected.chars, actual.chars), reader);
+        assertTrue(Arrays.equals(expected.strings, actual.strings), reader);
+        assertTrue(Arrays.deepEquals(expected.nested, actual.nested), reader);
+        assertEquals(0, actual.empty.length);
+    }
+
+    private static List<Function<String, Object>> readers(JsonParser parser) {
+        List<Function<String, Object>> readers = new ArrayList<>();
+        readers.add(json -> parser.deserializeObject(json, AllArrays.class));
+        readers.add(json -> parser.deserializeObject(json.getBytes(StandardCharsets.UTF_8), AllArrays.class));
+        readers.add(json -> {
+            try {
+                return parser.deserializeObject(new JsonReader(new StringReader(json)), AllArrays.class);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        readers.add(json -> parser.deserializeCbor(parser.jsonToCbor(json), AllArrays.class));
+        readers.add(json -> {
+            List<AllArrays> values = new ArrayList<>();
+            JsonPushParser<AllArrays> push = parser.pushParser(AllArrays.class, values::add);
+            byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+            for (int i = 0; i < bytes.length; i += 5) push.feed(bytes, i, Math.min(5, bytes.length - i));
+            push.endOfInput();
+            return values.get(0);
+        });
+        return readers;
+    }
+
+    @Test
+    void arraysAreWrittenAsJsonArrays() {
+        String json = new JsonParser().serializeObject(new AllArrays());
+        assertTrue(json.contains("\"ints\": [1,-2,2147483647]"), json);
+        assertTrue(json.contains("\"bytes\": [-128,0,127]"), json);
+        assertTrue(json.contains("\"chars\": \"hi\\\"\""), json);
+        assertTrue(json.contains("\"nested\": [[1],[2,3],[]]"), json);
+        assertTrue(JsonParser.builder().base64Bytes(true).build().serializeObject(new AllArrays()).contains("\"bytes\": \"gAB/\""));
+    }
+
+    @Test
+    void everyReaderGivesTheSameElementsBack() {
+        AllArrays expected = new AllArrays();
+        for (JsonParser writer : new JsonParser[]{new JsonParser(), JsonParser.builder().base64Bytes(true).build()}) {
+            String json = writer.serializeObject(expected);
+            List<Function<String, Object>> readers = readers(new JsonParser());
+            for (int i = 0; i < readers.size(); i++) assertSameArrays(expected, (AllArrays) readers.get(i).apply(json), "reader " + i);
+        }
+        AllArrays fromCbor = (AllArrays) new JsonParser().deserializeCbor(new JsonParser().serializeCbor(expected), AllArrays.class);
+        assertSameArrays(expected, fromCbor, "CBOR");
+    }
+
+    @Test
+    void topLevelArraysBindDirectly() {
+        JsonParser parser = new JsonParser();
+        assertArrayEquals(new int[]{1, 2}, (int[]) parser.deserializeObject("[1,2]", int[].class));
+        assertArrayEquals(new byte[]{1, 2}, (byte[]) parser.deserializeObject("[1,2]".getBytes(StandardCharsets.UTF_8), byte[].class));
+        assertTrue(Arrays.equals(new double[]{0.5}, (double[]) parser.deserializeObject("[0.5]", double[].class)));
+    }
+
+    @Test
+    void elementsThatDoNotFitAreRejectedWithTheirOffset() {
+        JsonParser parser = new JsonParser();
+        String[][] cases = {{"{\"bytes\":[128]}", "Invalid byte[] element at offset 10"}, {"{\"ints\":[1.5]}", "Invalid int[] element at offset 9"},
+                {"{\"booleans\":[1]}", "Invalid boolean[] element at offset 13"}, {"{\"shorts\":[40000]}", "Invalid short[] element at offset 11"}};
+        for (String[] bad : cases) {
+            Throwable e = assertThrows(RuntimeException.class, () -> parser.deserializeObject(bad[0], AllArrays.class));
+            while (e.getCause() != null) e = e.getCause();
+            assertEquals(bad[1], e.getMessage());
+        }
+        assertEquals("Invalid byte[] element at offset 1",
+                assertThrows(IllegalArgumentException.class, () -> parser.deserializeObject("[128]".getBytes(StandardCharsets.UTF_8), byte[].class)).getMessage());
+    }
+}
@@ -0,0 +1,139 @@
+package ch.framedev.simplejsonutils;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/*
+ * ch.framedev.simplejsonutils
+ * =============================================
+ * This File was Created by FrameDev
+ * Please do not change anything without my consent!
+ * =============================================
+ * This Class was created at 17.10.2026 14:40
+ */
+
+/**
+ * 64 threads share one {@link JsonParser}, so class descriptors and the parser's
+ * configuration are used concurrently. Every result must match the single-threaded one.
+ * Scratch buffers and symbol tables belong to the threads, so a parser per request must
+ * cost no more than the parser object itself.
+ */
+class SharedParserStressTest {
+
+    private static final int THREADS = 64;
+    private static final int ITERATIONS = 200;
+
+    public static class Order {
+        public String id;
+        public int quantity;
+        public double price;
+        public boolean paid;
+        public List<String> tags;
+        public Map<String, Object> attributes;
+        public Line line;
+    }
+
+    public static class Line {
+        public String sku;
+        public long amount;
+    }
+
+    private static Order order(int thread) {
+        Order order = new Order();
+        order.id = "order-" + thread;
+        order.quantity = thread;
+        order.price = thread * 1.25;
+        order.paid = thread % 2 == 0;
+        order.tags = Arrays.asList("t" + thread, "shared");
+        order.attributes = new LinkedHashMap<>();
+        order.attributes.put("region", "eu-" + (thread % 4));
+        order.attributes.put("priority", thread % 3);
+        order.line = new Line();
+        order.line.sku = "sku-" + thread;
+        order.line.amount = thread * 1000L;
+        return order;
+    }
+
+    @Test
+    void sharedInstanceGivesCorrectOutputOnEveryThread() throws Exception {
+        JsonParser shared = new JsonParser();
+        String[] expected = new String[THREADS];
+        for (int t = 0; t < THREADS; t++) expected[t] = new JsonParser().serializeObject(order(t));
+
+        run(() -> shared, expected);
+    }
+
+    @Test
+    void aParserPerRequestAllocatesNoTablesOrBuffers() throws Exception {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        if (!threads.isThreadAllocatedMemorySupported()) return;
+        threads.setThreadAllocatedMemoryEnabled(true);
+        String[] expected = new String[THREADS];
+        for (int t = 0; t < THREADS; t++) expected[t] = new JsonParser().serializeObject(order(t));
+
+        JsonParser shared = new JsonParser();
+        run(() -> shared, expected); // Warm up both variants before measuring
+        run(JsonParser::new, expected);
+        long sharedBytes = run(() -> shared, expected);
+        long perRequestBytes = run(JsonParser::new, expected);
+        // A 4096-slot symbol table alone would be 16 KB per parser
+        long perParser = (perRequestBytes - sharedBytes) / ((long) THREADS * ITERATIONS);
+        assertTrue(perParser < 1024, perParser + " bytes per extra parser (shared " + sharedBytes + ", per request " + perRequestBytes + ")");
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    void deprecatedSettersStillChangeTheConfiguration() {
+        JsonParser parser = new JsonParser();
+        String compact = parser.serializeObject(Collections.singletonMap("a", 1));
+        parser.setIndent(true);
+        assertTrue(parser.isIndent());
+        assertTrue(parser.serializeObject(Collections.singletonMap("a", 1)).length() > compact.length());
+        parser.setDebug(true);
+        assertTrue(parser.isDebug());
+        parser.setDebug(false);
+        assertEquals(false, parser.isDebug());
+    }
+
+    // ✅ Every thread serializes and parses its own order ITERATIONS times, returns the bytes the threads allocated
+    private static long run(Supplier<JsonParser> parsers, String[] expected) throws Exception {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CyclicBarrier start = new CyclicBarrier(THREADS);
+        AtomicLong allocated = new AtomicLong();
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                int thread = t;
+                results.add(pool.submit(() -> {
+                    start.await();
+                    long before = threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+                    for (int i = 0; i < ITERATIONS; i++) {
+                        JsonParser parser = parsers.get();
+                        String json = parser.serializeObject(order(thread));
+                        assertEquals(expected[thread], json);
+                        Order fromString = (Order) parser.deserializeObject(json, Order.class);
+                        assertEquals(expected[thread], parser.serializeObject(fromString));
+                        Order fromBytes = (Order) parser.deserializeObject(json.getBytes(StandardCharsets.UTF_8), Order.class);
+                        assertEquals(expected[thread], parser.serializeObject(fromBytes));
+                    }
+                    allocated.addAndGet(threads.getThreadAllocatedBytes(Thread.currentThread().getId()) - before);
+                    return null;
+                }));
+            }
+            for (Future<?> result : results) result.get(2, TimeUnit.MINUTES);
+        } finally {
+            pool.shutdownNow();
+        }
+        return allocated.get();
+    }
+}
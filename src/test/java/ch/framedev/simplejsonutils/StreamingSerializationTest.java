@@ -0,0 +1,120 @@
+package ch.framedev.simplejsonutils;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/*
+ * ch.framedev.simplejsonutils
+ * =============================================
+ * This File was Created by FrameDev
+ * Please do not change anything without my consent!
+ * =============================================
+ * This Class was created at 17.10.2026 17:45
+ */
+
+/**
+ * Writing to an {@link Appendable} or an {@link java.io.OutputStream} gives exactly the
+ * String that {@link JsonParser#serializeObject(Object)} returns, token by token.
+ */
+class StreamingSerializationTest {
+
+    public static class Item {
+        public String name = "Grüße \"quoted\" 😀";
+        public int count = 3;
+        public List<Double> values = Arrays.asList(1.5, -2.0);
+        public Map<String, Object> extra = new LinkedHashMap<>();
+    }
+
+    private static Map<String, Object> document() {
+        Map<String, Object> document = new LinkedHashMap<>();
+        Item item = new Item();
+        item.extra.put("nested", Arrays.asList(true, null, "x"));
+        document.put("item", item);
+        document.put("items", Arrays.asList(new Item(), new Item()));
+        document.put("empty", new ArrayList<>());
+        return document;
+    }
+
+    // ✅ Counts the calls, a sink that only gets the finished document sees one
+    private static final class CountingAppendable implements Appendable {
+
+        private final StringBuilder out = new StringBuilder();
+        private int calls;
+
+        @Override
+        public Appendable append(CharSequence csq) {
+            calls++;
+            out.append(csq);
+            return this;
+        }
+
+        @Override
+        public Appendable append(CharSequence csq, int start, int end) {
+            calls++;
+            out.append(csq, start, end);
+            return this;
+        }
+
+        @Override
+        public Appendable append(char c) {
+            calls++;
+            out.append(c);
+            return this;
+        }
+    }
+
+    private static final class TrackingOutputStream extends ByteArrayOutputStream {
+
+        private boolean flushed;
+        private boolean closed;
+
+        @Override
+        public void flush() {
+            flushed = true;
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+
+    @Test
+    void sinksReceiveTheSameTextAsTheStringResult() throws Exception {
+        for (JsonParser parser : new JsonParser[]{new JsonParser(), JsonParser.builder().indent(true).build()}) {
+            String expected = parser.serializeObject(document());
+
+            CountingAppendable appendable = new CountingAppendable();
+            parser.serializeObject(document(), appendable);
+            assertEquals(expected, appendable.out.toString());
+            assertTrue(appendable.calls > 10, appendable.calls + " appends");
+
+            TrackingOutputStream stream = new TrackingOutputStream();
+            parser.serializeObject(document(), stream);
+            assertEquals(expected, new String(stream.toByteArray(), StandardCharsets.UTF_8));
+            assertTrue(stream.flushed);
+            assertFalse(stream.closed);
+        }
+    }
+
+    @Test
+    void aNullKeyIsLeftOutWithoutADanglingComma() {
+        Map<String, Object> map = new HashMap<>();
+        map.put(null, 1);
+        map.put("a", 2);
+        String json = new JsonParser().serializeObject(map);
+        assertEquals(Map.of("a", 2), new JsonParser().deserializeObject(json, Map.class));
+    }
+}
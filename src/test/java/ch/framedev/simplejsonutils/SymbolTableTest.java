@@ -0,0 +1,116 @@
+package ch.framedev.simplejsonutils;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/*
+ * ch.framedev.simplejsonutils
+ * =============================================
+ * This File was Created by FrameDev
+ * Please do not change anything without my consent!
+ * =============================================
+ * This Class was created at 17.10.2026 19:30
+ */
+
+/**
+ * Every reader hands out one String instance per field name, and short values when asked
+ * to, without ever changing what is parsed.
+ */
+class SymbolTableTest {
+
+    private static final String RECORDS = "[{\"status\":\"open\",\"description\":\"a longer text value\"},"
+            + "{\"status\":\"open\",\"description\":\"a longer text value\"}]";
+
+    // ✅ The key instance itself, Map.get would hide a copy
+    private static Object key(Object map, String name) {
+        for (Object key : ((Map<?, ?>) map).keySet()) {
+            if (key.equals(name)) return key;
+        }
+        throw new AssertionError("No key " + name);
+    }
+
+    private static List<Function<JsonParser, List<?>>> readers() {
+        List<Function<JsonParser, List<?>>> readers = new ArrayList<>();
+        readers.add(parser -> (List<?>) parser.deserializeObject(RECORDS, List.class));
+        readers.add(parser -> (List<?>) parser.deserializeObject(RECORDS.getBytes(StandardCharsets.UTF_8), List.class));
+        readers.add(parser -> {
+            try {
+                Path file = Files.createTempFile("symbols", ".json");
+                Files.write(file, RECORDS.getBytes(StandardCharsets.UTF_8));
+                return (List<?>) parser.loadFromFile(file, List.class); // Through a JsonReader
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        readers.add(parser -> (List<?>) parser.deserializeCbor(parser.jsonToCbor(RECORDS), List.class));
+        return readers;
+    }
+
+    @Test
+    void namesAreSharedByEveryReader() {
+        JsonParser parser = new JsonParser();
+        for (Function<JsonParser, List<?>> reader : readers()) {
+            List<?> records = reader.apply(parser);
+            assertSame(key(records.get(0), "status"), key(records.get(1), "status"));
+            assertNotSame(((Map<?, ?>) records.get(0)).get("status"), ((Map<?, ?>) records.get(1)).get("status"));
+        }
+    }
+
+    @Test
+    void shortValuesAreSharedWhenEnabled() {
+        JsonParser parser = JsonParser.builder().canonicalValues(8).build();
+        for (Function<JsonParser, List<?>> reader : readers()) {
+            List<?> records = reader.apply(parser);
+            Map<?, ?> first = (Map<?, ?>) records.get(0);
+            Map<?, ?> second = (Map<?, ?>) records.get(1);
+            assertSame(first.get("status"), second.get("status"));
+            assertNotSame(first.get("description"), second.get("description"));
+        }
+    }
+
+    @Test
+    void namesAreCopiesWhenDisabled() {
+        JsonParser parser = JsonParser.builder().canonicalKeys(false).build();
+        List<?> records = (List<?>) parser.deserializeObject(RECORDS, List.class);
+        assertNotSame(key(records.get(0), "status"), key(records.get(1), "status"));
+    }
+
+    @Test
+    void charactersAndBytesHashToTheSameSlot() {
+        SymbolTable symbols = new SymbolTable(true, 0);
+        String fromChars = symbols.key("[name]", 1, 5);
+        assertSame(fromChars, symbols.key("{\"name\"".getBytes(StandardCharsets.US_ASCII), 2, 6));
+        assertEquals("name", fromChars);
+    }
+
+    // ✅ Far more names than slots, long names and non-ASCII names, all still parsed as written
+    @Test
+    void evictionNeverChangesWhatIsParsed() {
+        StringBuilder json = new StringBuilder("{");
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) names.add("field" + i);
+        names.add("x".repeat(SymbolTable.MAX_KEY_LENGTH + 1));
+        names.add("größe");
+        for (int i = 0; i < names.size(); i++) json.append(i == 0 ? "" : ",").append('"').append(names.get(i)).append("\":").append(i);
+        String document = json.append('}').toString();
+
+        JsonParser parser = new JsonParser();
+        for (int round = 0; round < 2; round++) {
+            assertEquals(names, new ArrayList<>(((Map<?, ?>) parser.deserializeObject(document, Map.class)).keySet()));
+            assertEquals(names, new ArrayList<>(((Map<?, ?>) parser.deserializeObject(document.getBytes(StandardCharsets.UTF_8), Map.class)).keySet()));
+        }
+    }
+}
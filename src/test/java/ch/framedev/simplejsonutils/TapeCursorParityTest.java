@@ -0,0 +1,63 @@
+package ch.framedev.simplejsonutils;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/*
+ * ch.framedev.simplejsonutils
+ * =============================================
+ * This File was Created by FrameDev
+ * Please do not change anything without my consent!
+ * =============================================
+ * This Class was created at 17.10.2026 14:20
+ */
+
+/**
+ * The byte[] path (structural index and tape) must accept and reject exactly what the
+ * String path does, with the same values and the same error messages.
+ */
+class TapeCursorParityTest {
+
+    private final JsonParser parser = new JsonParser();
+
+    @Test
+    void wellFormedDocumentsGiveTheSameValues() {
+        String[] documents = {
+                "{\"a\":1,\"b\":\"two\",\"c\":true,\"d\":null,\"e\":-2.5}",
+                "{\"nested\":{\"x\":[1,{\"y\":\"z\"}]},\"after\":[]}",
+                "{\"escaped\":\"q\\\" b\\\\ u\\u00e9 \\ud83d\\ude00\",\"long\":12345678901}",
+                "  {\"spaced\" : [ 1 , 2 ] , \"empty\" : { } }  ",
+                "[1,\"two\",[3,[4]],{\"k\":\"v\"},false]",
+                "[]",
+        };
+        for (String json : documents) {
+            Class<?> type = json.trim().startsWith("[") ? List.class : Map.class;
+            assertEquals(parser.deserializeObject(json, type), parser.deserializeObject(bytes(json), type), json);
+        }
+    }
+
+    @Test
+    void malformedDocumentsFailWithTheSameMessage() {
+        String[] documents = {
+                "[1,}]", "[}]", "[,]", "[:]", "[1,:]", "[1,]]",
+                "{\"a\":}", "{\"a\":,}", "{\"a\"::1}", "{\"a\":]}",
+                "{\"a\":1,}", "{\"a\" 1}", "[1 2]", "{\"a\":[1,2}", "{\"a\":1]",
+        };
+        for (String json : documents) {
+            Class<?> type = json.startsWith("[") ? List.class : Map.class;
+            IllegalArgumentException expected = assertThrows(IllegalArgumentException.class, () -> parser.deserializeObject(json, type), json);
+            IllegalArgumentException actual = assertThrows(IllegalArgumentException.class, () -> parser.deserializeObject(bytes(json), type), json);
+            assertEquals(expected.getMessage(), actual.getMessage(), json);
+        }
+    }
+
+    private static byte[] bytes(String json) {
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+}